@@ -4,6 +4,7 @@ import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.avro.schema.AvroSchemaCompiler;
 import com.nhl.dflib.avro.types.SingleSchemaConversion;
 import com.nhl.dflib.avro.types.SingletonLogicalTypeFactory;
+import com.nhl.dflib.dataset.DatasetLoader;
 import org.apache.avro.LogicalType;
 import org.apache.avro.LogicalTypes;
 import org.apache.avro.Schema;
@@ -64,6 +65,26 @@ public class Avro {
         return new AvroLoader();
     }
 
+    /**
+     * Returns a loader of a dataset stored as multiple Avro files under a common directory, possibly partitioned
+     * Hive-style.
+     *
+     * @since 0.11
+     */
+    public static DatasetLoader datasetLoader() {
+        return datasetLoader(loader());
+    }
+
+    /**
+     * Returns a loader of a dataset stored as multiple Avro files under a common directory, possibly partitioned
+     * Hive-style. Each file is loaded with the provided Avro loader.
+     *
+     * @since 0.11
+     */
+    public static DatasetLoader datasetLoader(AvroLoader fileLoader) {
+        return new DatasetLoader(fileLoader::load);
+    }
+
 
     public static Schema loadSchema(Path path) {
         return schemaLoader().load(path);
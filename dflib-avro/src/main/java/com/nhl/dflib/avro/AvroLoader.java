@@ -74,7 +74,12 @@ public class AvroLoader {
         Schema schema = reader.getExpected();
 
         Index index = createIndex(schema);
-        DataFrameByRowBuilder dfb = DataFrame.newFrame(index).byRow(mapColumns(schema));
+        Accumulator<?>[] columns = mapColumns(schema);
+        DataFrameByRowBuilder dfb = DataFrame.newFrame(index).byRow(columns);
+
+        if (inReader.hasNext()) {
+            sizeHint(columns, inReader, in.length());
+        }
 
         // reusing both Avro record and rowHolder flyweights..
         GenericRecord record = null;
@@ -89,6 +94,26 @@ public class AvroLoader {
         return fromAvroTypes(df, schema);
     }
 
+    /**
+     * Estimates the number of records in the file from the record count and the byte size of the first block, and
+     * passes it to the accumulators as a size hint.
+     *
+     * @since 0.11
+     */
+    protected void sizeHint(Accumulator<?>[] columns, DataFileReader<?> inReader, long inputLength) {
+
+        long blockSize = inReader.getBlockSize();
+        if (blockSize <= 0 || inputLength <= 0) {
+            return;
+        }
+
+        long estimate = inReader.getBlockCount() * inputLength / blockSize;
+        int hint = (int) Math.min(estimate, Integer.MAX_VALUE - 8);
+        for (Accumulator<?> c : columns) {
+            c.sizeHint(hint);
+        }
+    }
+
     protected Object[] recordToRow(GenericRecord record, Object[] rowHolder) {
 
         for (int i = 0; i < rowHolder.length; i++) {
@@ -0,0 +1,145 @@
+package com.nhl.dflib.benchmark.speed;
+
+import com.nhl.dflib.csv.Csv;
+import com.nhl.dflib.csv.CsvLoader;
+import com.nhl.dflib.io.Compression;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static com.nhl.dflib.Exp.$int;
+
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class CsvLoad {
+
+    @Param("50000")
+    public int rows;
+
+    @Param("400")
+    public int columns;
+
+    @Param("12")
+    public int selectedColumns;
+
+    private File file;
+    private File gzFile;
+    private int[] selection;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        file = File.createTempFile("dflib-benchmark-", ".csv");
+
+        try (Writer out = new FileWriter(file)) {
+
+            for (int j = 0; j < columns; j++) {
+                out.write(j > 0 ? ",c" : "c");
+                out.write(String.valueOf(j));
+            }
+            out.write('\n');
+
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < columns; j++) {
+
+                    if (j > 0) {
+                        out.write(',');
+                    }
+
+                    // a mix of numbers, plain strings and quoted strings
+                    switch (j % 3) {
+                        case 0:
+                            out.write(String.valueOf(i + j));
+                            break;
+                        case 1:
+                            out.write("s");
+                            out.write(String.valueOf(i));
+                            break;
+                        default:
+                            out.write("\"q, ");
+                            out.write(String.valueOf(j));
+                            out.write('"');
+                    }
+                }
+                out.write('\n');
+            }
+        }
+
+        gzFile = File.createTempFile("dflib-benchmark-", ".csv.gz");
+        try (OutputStream out = Compression.GZIP.compress(Files.newOutputStream(gzFile.toPath()))) {
+            Files.copy(file.toPath(), out);
+        }
+
+        // spreading selected columns over the width of the CSV. With the default params they are all numeric
+        selection = new int[selectedColumns];
+        int step = columns / selectedColumns;
+        for (int i = 0; i < selectedColumns; i++) {
+            selection[i] = i * step;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+        gzFile.delete();
+    }
+
+    @Benchmark
+    public Object loadAllColumns() {
+        return Csv.loader().load(file);
+    }
+
+    @Benchmark
+    public Object loadAllColumns_Gzip() {
+        return Csv.loader().load(gzFile);
+    }
+
+    @Benchmark
+    public Object loadSelectedColumns() {
+        return Csv.loader().selectColumns(selection).load(file);
+    }
+
+    @Benchmark
+    public Object loadSelectedColumns_Int() {
+
+        CsvLoader loader = Csv.loader().selectColumns(selection);
+        for (int s : selection) {
+            loader.intColumn(s);
+        }
+
+        return loader.load(file);
+    }
+
+    // the filters below keep ~2% of the rows, referencing 2 columns, only one of which is selected
+
+    @Benchmark
+    public Object loadSelectedRows_Predicates() {
+        return Csv.loader()
+                .selectColumns(selection)
+                .intColumn(0)
+                .intColumn(3)
+                .selectRows(0, (Integer i) -> i % 100 < 4)
+                .selectRows(3, (Integer i) -> i > rows / 2)
+                .load(file);
+    }
+
+    @Benchmark
+    public Object loadSelectedRows_Condition() {
+        return Csv.loader()
+                .selectColumns(selection)
+                .intColumn(0)
+                .intColumn(3)
+                .selectRows($int(0).mod(100).lt(4).and($int(3).gt(rows / 2)))
+                .load(file);
+    }
+}
@@ -0,0 +1,63 @@
+package com.nhl.dflib.benchmark.speed;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.benchmark.ValueMaker;
+import com.nhl.dflib.csv.Csv;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class CsvSave {
+
+    @Param("1000000")
+    public int rows;
+
+    private DataFrame df;
+    private File file;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        IntSeries c0 = ValueMaker.intSeq().intSeries(rows);
+        DoubleSeries c1 = ValueMaker.randomDoubleSeq().doubleSeries(rows);
+        Series<String> c2 = ValueMaker.stringSeq().series(rows);
+        IntSeries c3 = ValueMaker.randomIntSeq(rows / 2).intSeries(rows);
+
+        df = DataFrame.newFrame("c0", "c1", "c2", "c3").columns(c0, c1, c2, c3);
+        file = File.createTempFile("dflib-benchmark-", ".csv");
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public Object save() {
+        Csv.saver().save(df, file);
+        return file;
+    }
+
+    @Benchmark
+    public Object saveParallel() {
+        Csv.saver().parallel().save(df, file);
+        return file;
+    }
+
+    @Benchmark
+    public Object saveParallel_Gzip() {
+        Csv.saver().parallel().gzip().save(df, file);
+        return file;
+    }
+}
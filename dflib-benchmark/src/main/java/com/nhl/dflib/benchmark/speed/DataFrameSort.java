@@ -10,6 +10,7 @@ import org.openjdk.jmh.annotations.*;
 import java.util.concurrent.TimeUnit;
 
 import static com.nhl.dflib.Exp.$int;
+import static com.nhl.dflib.Exp.$str;
 
 // in my tests time for iteration #3 time spikes (why?), so make sure it happens during warmup
 @Warmup(iterations = 3, time = 1)
@@ -76,4 +77,26 @@ public class DataFrameSort {
     public Object sortIntByExp() {
         return df.sort($int("c4").asc()).materialize().iterator();
     }
+
+    @Benchmark
+    public Object sortStringByExp() {
+        return df.sort($str("c1").asc()).materialize().iterator();
+    }
+
+    @Benchmark
+    public Object sortStringStringByColumns() {
+        return df.sort(new String[]{"c1", "c3"}, new boolean[]{true, false})
+                .materialize()
+                .iterator();
+    }
+
+    @Benchmark
+    public Object sortStringIntByExp() {
+        return df.sort($str("c1").asc(), $int("c4").desc()).materialize().iterator();
+    }
+
+    @Benchmark
+    public Object sortIntegerStringIntByExp() {
+        return df.sort($int("c0").asc(), $str("c1").desc(), $int("c4").asc()).materialize().iterator();
+    }
 }
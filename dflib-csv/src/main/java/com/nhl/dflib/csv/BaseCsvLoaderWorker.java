@@ -4,30 +4,83 @@ import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Index;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.csv.loader.ColumnBuilder;
-import org.apache.commons.csv.CSVRecord;
+import com.nhl.dflib.csv.loader.CsvRecordCursor;
 
-import java.util.Iterator;
 
 class BaseCsvLoaderWorker implements CsvLoaderWorker {
 
+    // the number of rows to read before estimating the total number of rows from the input length
+    static final int SIZE_HINT_ROWS = 1000;
+
     protected ColumnBuilder<?>[] columnAccumulators;
     protected Index columnIndex;
+    protected long inputLength;
 
     BaseCsvLoaderWorker(Index columnIndex, ColumnBuilder<?>[] columnAccumulators) {
+        this(columnIndex, columnAccumulators, -1);
+    }
+
+    /**
+     * @param inputLength approximate length of the CSV in characters, or a negative number if unknown
+     */
+    BaseCsvLoaderWorker(Index columnIndex, ColumnBuilder<?>[] columnAccumulators, long inputLength) {
         this.columnIndex = columnIndex;
         this.columnAccumulators = columnAccumulators;
+        this.inputLength = inputLength;
     }
 
     @Override
-    public DataFrame load(Iterator<CSVRecord> it) {
-        consumeCSV(it);
+    public DataFrame load(CsvRecordCursor cursor) {
+        consumeCSV(cursor);
         return toDataFrame();
     }
 
-    protected void consumeCSV(Iterator<CSVRecord> it) {
+    /**
+     * Loads up to "batchSize" rows from the cursor into a DataFrame, returning null if the cursor has no more rows to
+     * load. Unlike {@link #load(CsvRecordCursor)}, leaves the remaining records in the cursor.
+     *
+     * @since 0.11
+     */
+    DataFrame loadBatch(CsvRecordCursor cursor, int batchSize) {
+
+        for (ColumnBuilder<?> a : columnAccumulators) {
+            a.sizeHint(batchSize);
+        }
+
         int width = columnIndex.size();
-        while (it.hasNext()) {
-            addRow(width, it.next());
+        int rows = 0;
+        while (rows < batchSize && cursor.next()) {
+            if (addRow(width, cursor)) {
+                rows++;
+            }
+        }
+
+        return rows > 0 ? toDataFrame() : null;
+    }
+
+    protected void consumeCSV(CsvRecordCursor cursor) {
+        int width = columnIndex.size();
+        int rows = 0;
+        while (cursor.next()) {
+            addRow(width, cursor);
+
+            if (++rows == SIZE_HINT_ROWS && inputLength > 0) {
+                sizeHint(rows, cursor.getCharacterPosition());
+            }
+        }
+    }
+
+    // extrapolates the number of rows from the number of characters consumed so far
+    protected void sizeHint(int rows, long consumed) {
+
+        if (consumed <= 0) {
+            return;
+        }
+
+        long estimate = inputLength * rows / consumed;
+        int hint = (int) Math.min(estimate + estimate / 10, Integer.MAX_VALUE - 8);
+        for (ColumnBuilder<?> a : columnAccumulators) {
+            a.sizeHint(hint);
         }
     }
 
@@ -41,9 +94,14 @@ class BaseCsvLoaderWorker implements CsvLoaderWorker {
         return DataFrame.newFrame(columnIndex).columns(columns);
     }
 
-    protected void addRow(int width, CSVRecord row) {
+    /**
+     * @return whether the row was added
+     */
+    protected boolean addRow(int width, CsvRecordCursor row) {
         for (int i = 0; i < width; i++) {
             columnAccumulators[i].add(row);
         }
+
+        return true;
     }
 }
@@ -0,0 +1,270 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.Condition;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.csv.loader.ColumnBuilder;
+import com.nhl.dflib.csv.loader.ColumnConfig;
+import com.nhl.dflib.csv.loader.CsvRecordCursor;
+import com.nhl.dflib.plan.ColumnUsage;
+import com.nhl.dflib.series.SingleValueSeries;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * A cursor that only returns the records matching a {@link Condition}. The condition is evaluated over batches of
+ * records. For each batch, the cursor first reads the records with only the fields referenced by the condition
+ * selected, converting them to the column types and evaluating the condition over the resulting columns. Then it
+ * seeks back to the matching records, and reads them again with the fields selected by the caller. So the fields that
+ * are not referenced by the condition are only converted (and the records are only parsed twice) for the matching
+ * records.
+ *
+ * <p>The columns referenced by the condition are determined upfront via {@link ColumnUsage}. If they can't be
+ * determined, all CSV columns are converted to evaluate the condition.</p>
+ *
+ * @since 0.11
+ */
+class ConditionFilteringCursor extends CsvRecordCursor {
+
+    static final int BATCH_SIZE = 1024;
+
+    private final CsvRecordCursor delegate;
+    private final Condition condition;
+    private final Index csvHeader;
+    private final ColumnConfig[] csvColumns;
+    private final int batchSize;
+
+    private boolean[] selectedFields;
+    private final boolean[] conditionFields;
+
+    private BooleanSeries batchMatches;
+    private int batchRows;
+    private int batchPosition;
+
+    // the number of the batch record the delegate is at
+    private int delegateRecord;
+
+    ConditionFilteringCursor(
+            CsvRecordCursor delegate,
+            Condition condition,
+            Index csvHeader,
+            ColumnConfig[] csvColumns,
+            boolean[] selectedFields) {
+
+        this(delegate, condition, csvHeader, csvColumns, selectedFields, BATCH_SIZE);
+    }
+
+    ConditionFilteringCursor(
+            CsvRecordCursor delegate,
+            Condition condition,
+            Index csvHeader,
+            ColumnConfig[] csvColumns,
+            boolean[] selectedFields,
+            int batchSize) {
+
+        this.delegate = delegate;
+        this.condition = condition;
+        this.csvHeader = csvHeader;
+        this.csvColumns = csvColumns;
+        this.selectedFields = selectedFields;
+        this.conditionFields = conditionFields(condition, csvHeader, csvColumns);
+        this.batchSize = batchSize;
+    }
+
+    private static boolean[] conditionFields(Condition condition, Index csvHeader, ColumnConfig[] csvColumns) {
+
+        int width = csvHeader.size();
+        boolean[] fields = new boolean[width];
+
+        // evaluating the condition over empty columns of the right types
+        Series<?>[] empty = new Series[width];
+        for (int i = 0; i < width; i++) {
+            empty[i] = csvColumns[i].createAccumulatorColumn(i).toColumn();
+        }
+
+        ColumnUsage usage = ColumnUsage.of(DataFrame.newFrame(csvHeader).columns(empty), condition);
+        if (!usage.isResolved()) {
+            Arrays.fill(fields, true);
+            return fields;
+        }
+
+        for (String label : usage.getLabels()) {
+            if (csvHeader.hasLabel(label)) {
+                fields[csvHeader.position(label)] = true;
+            }
+        }
+
+        return fields;
+    }
+
+    @Override
+    public void selectFields(boolean[] fields) {
+        this.selectedFields = fields;
+
+        // in the middle of returning the matching records of a batch
+        if (batchMatches != null) {
+            delegate.selectFields(fields);
+        }
+    }
+
+    @Override
+    protected boolean advance() {
+
+        while (true) {
+
+            if (batchMatches != null) {
+
+                while (batchPosition < batchRows) {
+                    int record = batchPosition++;
+                    if (batchMatches.getBoolean(record)) {
+                        moveTo(record);
+                        return true;
+                    }
+                }
+
+                // the next batch starts after the last record of this batch
+                moveTo(batchRows - 1);
+                batchMatches = null;
+            }
+
+            if (!readBatch()) {
+                return false;
+            }
+        }
+    }
+
+    private void moveTo(int record) {
+
+        if (record == delegateRecord) {
+            return;
+        }
+
+        if (record != delegateRecord + 1) {
+            delegate.seek(record);
+        }
+
+        delegate.next();
+        delegateRecord = record;
+    }
+
+    // evaluates the condition for the next batch of records, and seeks back to the beginning of the batch if any of
+    // the records match. Returns false if there are no more records
+    private boolean readBatch() {
+
+        delegate.selectFields(conditionFields);
+        delegate.mark();
+
+        while (true) {
+
+            int width = conditionFields.length;
+            ColumnBuilder<?>[] columns = new ColumnBuilder[width];
+            for (int i = 0; i < width; i++) {
+                if (conditionFields[i]) {
+                    columns[i] = csvColumns[i].createAccumulatorColumn(i);
+                    columns[i].sizeHint(batchSize);
+                }
+            }
+
+            int rows = 0;
+            while (rows < batchSize && delegate.next()) {
+                for (int i = 0; i < width; i++) {
+                    if (columns[i] != null) {
+                        columns[i].add(delegate);
+                    }
+                }
+
+                rows++;
+            }
+
+            if (rows == 0) {
+                return false;
+            }
+
+            BooleanSeries matches = condition.eval(batchFrame(columns, rows));
+
+            // no need to read the batch again if nothing matches, as the delegate is already at the end of the batch
+            if (matches.countTrue() == 0) {
+                delegate.mark();
+                continue;
+            }
+
+            delegate.selectFields(selectedFields);
+
+            this.batchMatches = matches;
+            this.batchRows = rows;
+            this.batchPosition = 0;
+
+            // forcing a seek to the first matching record
+            this.delegateRecord = rows;
+            return true;
+        }
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public String get(int field) {
+        return delegate.get(field);
+    }
+
+    @Override
+    public long getCharacterPosition() {
+        return delegate.getCharacterPosition();
+    }
+
+    @Override
+    public boolean isNullOrEmpty(int field) {
+        return delegate.isNullOrEmpty(field);
+    }
+
+    @Override
+    public int getInt(int field) {
+        return delegate.getInt(field);
+    }
+
+    @Override
+    public long getLong(int field) {
+        return delegate.getLong(field);
+    }
+
+    @Override
+    public double getDouble(int field) {
+        return delegate.getDouble(field);
+    }
+
+    @Override
+    public boolean getBoolean(int field) {
+        return delegate.getBoolean(field);
+    }
+
+    @Override
+    public LocalDate getDate(int field) {
+        return delegate.getDate(field);
+    }
+
+    @Override
+    public LocalDateTime getDateTime(int field) {
+        return delegate.getDateTime(field);
+    }
+
+    // a DataFrame of a batch with all CSV columns, only some of which are loaded. The rest are never read by the
+    // condition, and have placeholders, so that the batch has the right height and column positions
+    private DataFrame batchFrame(ColumnBuilder<?>[] columns, int rows) {
+
+        Series<?> notLoaded = new SingleValueSeries<>(null, rows);
+
+        Series<?>[] series = new Series[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            series[i] = columns[i] != null ? columns[i].toColumn() : notLoaded;
+        }
+
+        return DataFrame.newFrame(csvHeader).columns(series);
+    }
+}
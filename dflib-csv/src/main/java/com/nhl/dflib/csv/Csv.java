@@ -1,6 +1,7 @@
 package com.nhl.dflib.csv;
 
 import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.dataset.DatasetLoader;
 
 import java.io.File;
 import java.io.Reader;
@@ -34,6 +35,26 @@ public class Csv {
         return new CsvLoader();
     }
 
+    /**
+     * Returns a loader of a dataset stored as multiple CSV files under a common directory, possibly partitioned
+     * Hive-style.
+     *
+     * @since 0.11
+     */
+    public static DatasetLoader datasetLoader() {
+        return datasetLoader(loader());
+    }
+
+    /**
+     * Returns a loader of a dataset stored as multiple CSV files under a common directory, possibly partitioned
+     * Hive-style. Each file is loaded with the provided CSV loader.
+     *
+     * @since 0.11
+     */
+    public static DatasetLoader datasetLoader(CsvLoader fileLoader) {
+        return new DatasetLoader(fileLoader::load);
+    }
+
     /**
      * @since 0.11
      */
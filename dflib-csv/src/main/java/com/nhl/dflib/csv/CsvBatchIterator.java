@@ -0,0 +1,53 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.csv.loader.CsvRecordCursor;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * Iterates over a CSV in DataFrames of a fixed number of rows. Each batch is loaded with a fresh worker, as the
+ * Series of the previously returned DataFrames are backed by the storage of their workers' accumulators.
+ *
+ * @since 0.11
+ */
+class CsvBatchIterator implements Iterator<DataFrame> {
+
+    private final CsvRecordCursor cursor;
+    private final Supplier<BaseCsvLoaderWorker> workerFactory;
+    private final int batchSize;
+
+    private DataFrame next;
+    private boolean exhausted;
+
+    CsvBatchIterator(CsvRecordCursor cursor, Supplier<BaseCsvLoaderWorker> workerFactory, int batchSize) {
+        this.cursor = cursor;
+        this.workerFactory = workerFactory;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        if (next == null && !exhausted) {
+            next = workerFactory.get().loadBatch(cursor, batchSize);
+            exhausted = next == null;
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public DataFrame next() {
+
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more CSV rows");
+        }
+
+        DataFrame batch = next;
+        next = null;
+        return batch;
+    }
+}
@@ -0,0 +1,243 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.io.Compression;
+import com.nhl.dflib.io.WriteBehindOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.stream.IntStream;
+
+/**
+ * Writes CSV rows in blocks of a fixed number of rows. Each block is formatted into a reusable char buffer and
+ * written to the output as a whole. In parallel mode, a number of consecutive blocks are formatted (as well as
+ * encoded and gzipped when writing bytes) in parallel, and then written in order. A gzipped output in parallel mode is a
+ * sequence of gzip members, one per block, which is a valid gzip stream. Otherwise, compression is done on a separate
+ * thread, overlapping with formatting.
+ *
+ * @since 0.11
+ */
+class CsvBlockWriter {
+
+    private final CsvRowFormatter formatter;
+    private final boolean printHeader;
+    private final int height;
+    private final int blockSize;
+    private final boolean parallel;
+
+    CsvBlockWriter(CsvRowFormatter formatter, boolean printHeader, int height, int blockSize, boolean parallel) {
+        this.formatter = formatter;
+        this.printHeader = printHeader;
+        this.height = height;
+        this.blockSize = blockSize;
+        this.parallel = parallel;
+    }
+
+    void write(Appendable out) throws IOException {
+
+        if (!parallel) {
+            Block block = new Block();
+            for (int i = 0; i < blockCount(); i++) {
+                out.append(block.format(i));
+            }
+
+            return;
+        }
+
+        Block[] blocks = createBlocks();
+        for (int i = 0; i < blockCount(); i += blocks.length) {
+
+            int wave = i;
+            int len = Math.min(blocks.length, blockCount() - i);
+            IntStream.range(0, len).parallel().forEach(j -> blocks[j].format(wave + j));
+
+            for (int j = 0; j < len; j++) {
+                out.append(blocks[j].chars);
+            }
+        }
+    }
+
+    void write(OutputStream out, Charset charset, Compression compression) throws IOException {
+
+        // in parallel mode, gzip is applied to each block separately and in parallel. Otherwise, the data is
+        // compressed on a separate thread, while the next blocks are being formatted
+        boolean compressBlocks = parallel && compression == Compression.GZIP;
+        OutputStream target = compression == Compression.NONE || compressBlocks
+                ? out
+                : new WriteBehindOutputStream(compression.compress(out));
+
+        try {
+            writeBlocks(target, charset, compressBlocks);
+        } catch (IOException | RuntimeException e) {
+            if (target != out) {
+                try {
+                    target.close();
+                } catch (IOException closeError) {
+                    e.addSuppressed(closeError);
+                }
+            }
+
+            throw e;
+        }
+
+        // finishes the compressed stream
+        if (target != out) {
+            target.close();
+        }
+    }
+
+    private void writeBlocks(OutputStream out, Charset charset, boolean compressBlocks) throws IOException {
+
+        if (!parallel) {
+
+            Block block = new Block();
+            for (int i = 0; i < blockCount(); i++) {
+                block.format(i);
+                ByteBuffer bytes = block.encode(charset);
+                out.write(bytes.array(), 0, bytes.limit());
+            }
+
+            return;
+        }
+
+        Block[] blocks = createBlocks();
+        for (int i = 0; i < blockCount(); i += blocks.length) {
+
+            int wave = i;
+            int len = Math.min(blocks.length, blockCount() - i);
+            IntStream.range(0, len).parallel().forEach(j -> blocks[j].formatAndEncode(wave + j, charset, compressBlocks));
+
+            for (int j = 0; j < len; j++) {
+                blocks[j].writeTo(out);
+            }
+        }
+    }
+
+    // there's always at least one block, as the header is written with the first block
+    private int blockCount() {
+        return Math.max(1, (height + blockSize - 1) / blockSize);
+    }
+
+    // the blocks are reused between the waves of parallel formatting, each keeping its own buffers
+    private Block[] createBlocks() {
+
+        int len = Math.min(blockCount(), Runtime.getRuntime().availableProcessors() * 2);
+        Block[] blocks = new Block[len];
+        for (int i = 0; i < len; i++) {
+            blocks[i] = new Block();
+        }
+
+        return blocks;
+    }
+
+    private class Block {
+
+        final StringBuilder chars = new StringBuilder();
+
+        private char[] charArray = new char[0];
+        private ByteBuffer bytes = ByteBuffer.allocate(0);
+        private CharsetEncoder encoder;
+        private ByteArrayOutputStream compressed;
+        private boolean isCompressed;
+
+        StringBuilder format(int block) {
+            chars.setLength(0);
+
+            if (block == 0) {
+                formatter.formatHeader(chars, printHeader);
+            }
+
+            int from = block * blockSize;
+            formatter.formatRows(from, Math.min(from + blockSize, height), chars);
+            return chars;
+        }
+
+        void formatAndEncode(int block, Charset charset, boolean compress) {
+
+            format(block);
+            encode(charset);
+
+            isCompressed = compress;
+            if (compress) {
+                compress();
+            }
+        }
+
+        ByteBuffer encode(Charset charset) {
+
+            if (encoder == null) {
+
+                // same error handling as in OutputStreamWriter
+                encoder = charset.newEncoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            }
+
+            // copying to an array, as encoders are much faster with array-backed buffers
+            int len = chars.length();
+            if (charArray.length < len) {
+                charArray = new char[len + len / 4];
+            }
+            chars.getChars(0, len, charArray, 0);
+
+            int maxBytes = (int) Math.min(Integer.MAX_VALUE - 8, (long) (len * (double) encoder.maxBytesPerChar()) + 16);
+            if (bytes.capacity() < maxBytes) {
+                bytes = ByteBuffer.allocate(maxBytes);
+            }
+
+            CharBuffer in = CharBuffer.wrap(charArray, 0, len);
+            bytes.clear();
+            encoder.reset();
+
+            CoderResult result = encoder.encode(in, bytes, true);
+            if (!result.isUnderflow()) {
+                throwCodingError(result);
+            }
+
+            result = encoder.flush(bytes);
+            if (!result.isUnderflow()) {
+                throwCodingError(result);
+            }
+
+            bytes.flip();
+            return bytes;
+        }
+
+        private void compress() {
+
+            if (compressed == null) {
+                compressed = new ByteArrayOutputStream(bytes.limit() / 4 + 64);
+            }
+
+            compressed.reset();
+            try (OutputStream gzipOut = Compression.GZIP.compress(compressed)) {
+                gzipOut.write(bytes.array(), 0, bytes.limit());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            if (isCompressed) {
+                compressed.writeTo(out);
+            } else {
+                out.write(bytes.array(), 0, bytes.limit());
+            }
+        }
+
+        private void throwCodingError(CoderResult result) {
+            try {
+                result.throwException();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error encoding CSV", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.nhl.dflib.csv;
+
+import org.apache.commons.csv.CSVFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Splits a CSV file into byte ranges that start and end at record boundaries, so that each range can be parsed
+ * independently. The file bytes are scanned with a state machine that recognizes quoted values the same way the
+ * CSV parser does, so line breaks within quoted values are not mistaken for record boundaries. Works for the charsets
+ * where the delimiter, the quote and the line break chars are single bytes that never occur within multibyte chars.
+ *
+ * @since 0.11
+ */
+class CsvChunkSplitter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+
+    private final int delimiter;
+    private final int quote;
+    private final int escape;
+    private final boolean ignoreSurroundingSpaces;
+    private final boolean ignoreEmptyLines;
+
+    private CsvChunkSplitter(
+            int delimiter,
+            int quote,
+            int escape,
+            boolean ignoreSurroundingSpaces,
+            boolean ignoreEmptyLines) {
+
+        this.delimiter = delimiter;
+        this.quote = quote;
+        this.escape = escape;
+        this.ignoreSurroundingSpaces = ignoreSurroundingSpaces;
+        this.ignoreEmptyLines = ignoreEmptyLines;
+    }
+
+    /**
+     * Returns a splitter for the format and charset, or null if the file in this format can not be split reliably.
+     */
+    static CsvChunkSplitter create(CSVFormat format, Charset charset) {
+
+        if (!StandardCharsets.UTF_8.equals(charset)
+                && !StandardCharsets.US_ASCII.equals(charset)
+                && !StandardCharsets.ISO_8859_1.equals(charset)) {
+            return null;
+        }
+
+        // comment lines may contain unbalanced quotes; and with an explicit header in the format, the parser of each
+        // chunk would treat its first record as a header
+        if (format.isCommentMarkerSet() || format.getHeader() != null || format.getSkipHeaderRecord()) {
+            return null;
+        }
+
+        int delimiter = format.getDelimiter();
+        int quote = format.isQuoteCharacterSet() ? format.getQuoteCharacter() : -1;
+        int escape = format.isEscapeCharacterSet() ? format.getEscapeCharacter() : -1;
+
+        if (!isSingleByte(delimiter) || !isSingleByte(quote) || !isSingleByte(escape)) {
+            return null;
+        }
+
+        return new CsvChunkSplitter(
+                delimiter,
+                quote,
+                escape,
+                format.getIgnoreSurroundingSpaces(),
+                format.getIgnoreEmptyLines());
+    }
+
+    private static boolean isSingleByte(int c) {
+        return c < 0x80 && c != '\n' && c != '\r';
+    }
+
+    /**
+     * Opens a stream over a range of the file bytes. The stream reads the file with positional reads, so multiple
+     * streams can share the same channel.
+     */
+    static InputStream openRange(FileChannel channel, long from, long to) {
+        return new RangeInputStream(channel, from, to);
+    }
+
+    /**
+     * Scans the file and returns an array of record boundaries. The first element is the start of the first record
+     * after the skipped records, the last is the file length. Each pair of adjacent elements defines a chunk, that,
+     * except for the last one, is at least "chunkSize" bytes long.
+     */
+    long[] split(FileChannel channel, int skipRecords, long chunkSize) throws IOException {
+
+        long length = channel.size();
+        Boundaries boundaries = new Boundaries(skipRecords, chunkSize, length);
+
+        int state = FIELD_START;
+        boolean escaped = false;
+        boolean emptyRecord = true;
+        boolean afterCR = false;
+
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        byte[] bytes = buffer.array();
+        long offset = 0;
+
+        while (offset < length) {
+
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                break;
+            }
+
+            for (int i = 0; i < read; i++) {
+
+                int b = bytes[i] & 0xFF;
+                long position = offset + i;
+
+                // a record boundary after "\r" is only known after checking whether it is followed by "\n"
+                if (afterCR) {
+                    afterCR = false;
+
+                    if (b == '\n') {
+                        boundaries.recordEnd(position + 1);
+                        continue;
+                    }
+
+                    boundaries.recordEnd(position);
+                }
+
+                if (escaped) {
+                    escaped = false;
+                    continue;
+                }
+
+                if (state == QUOTED) {
+                    if (b == escape) {
+                        escaped = true;
+                    } else if (b == quote) {
+                        state = QUOTE_IN_QUOTED;
+                    }
+
+                    continue;
+                }
+
+                if (state == QUOTE_IN_QUOTED && b == quote) {
+                    // a doubled quote within a quoted value
+                    state = QUOTED;
+                    continue;
+                }
+
+                if (b == '\n' || b == '\r') {
+
+                    if (!emptyRecord || !ignoreEmptyLines) {
+                        boundaries.records++;
+                    }
+
+                    state = FIELD_START;
+                    emptyRecord = true;
+
+                    if (b == '\r') {
+                        afterCR = true;
+                    } else {
+                        boundaries.recordEnd(position + 1);
+                    }
+
+                    continue;
+                }
+
+                emptyRecord = false;
+
+                if (b == delimiter) {
+                    state = FIELD_START;
+                } else if (state == FIELD_START && ignoreSurroundingSpaces && Character.isWhitespace(b)) {
+                    // leading spaces are skipped, so the value may still start with a quote
+                } else if (state == FIELD_START && b == quote) {
+                    state = QUOTED;
+                } else {
+                    escaped = b == escape;
+                    state = UNQUOTED;
+                }
+            }
+
+            offset += read;
+        }
+
+        return boundaries.toArray();
+    }
+
+    private static class Boundaries {
+
+        final int skipRecords;
+        final long chunkSize;
+        final long length;
+
+        long[] data;
+        int size;
+        int records;
+        long nextSplit;
+
+        Boundaries(int skipRecords, long chunkSize, long length) {
+            this.skipRecords = skipRecords;
+            this.chunkSize = chunkSize;
+            this.length = length;
+            this.data = new long[16];
+
+            if (skipRecords == 0) {
+                add(0);
+            }
+        }
+
+        void recordEnd(long boundary) {
+
+            if (size == 0) {
+                if (records == skipRecords) {
+                    add(boundary);
+                }
+            } else if (boundary >= nextSplit && boundary < length) {
+                add(boundary);
+            }
+        }
+
+        long[] toArray() {
+
+            // all the records were skipped
+            if (size == 0) {
+                add(length);
+            }
+
+            long[] array = new long[size + 1];
+            System.arraycopy(data, 0, array, 0, size);
+            array[size] = length;
+            return array;
+        }
+
+        private void add(long boundary) {
+
+            if (size == data.length) {
+                long[] newData = new long[size * 2];
+                System.arraycopy(data, 0, newData, 0, size);
+                data = newData;
+            }
+
+            data[size++] = boundary;
+            nextSplit = boundary + chunkSize;
+        }
+    }
+
+    private static class RangeInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long position;
+        private final long end;
+
+        RangeInputStream(FileChannel channel, long from, long to) {
+            this.channel = channel;
+            this.position = from;
+            this.end = to;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            this.buffer.flip();
+        }
+
+        @Override
+        public int read() throws IOException {
+            return fill() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+
+            if (len == 0) {
+                return 0;
+            }
+
+            if (!fill()) {
+                return -1;
+            }
+
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        private boolean fill() throws IOException {
+
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+
+            if (position >= end) {
+                return false;
+            }
+
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                buffer.limit(0);
+                return false;
+            }
+
+            position += read;
+            buffer.flip();
+            return true;
+        }
+    }
+}
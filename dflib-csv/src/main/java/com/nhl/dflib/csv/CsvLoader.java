@@ -3,25 +3,59 @@ package com.nhl.dflib.csv;
 import com.nhl.dflib.*;
 import com.nhl.dflib.csv.loader.ColumnBuilder;
 import com.nhl.dflib.csv.loader.ColumnConfig;
+import com.nhl.dflib.csv.loader.CommonsCsvCursor;
 import com.nhl.dflib.csv.loader.CsvCell;
+import com.nhl.dflib.csv.loader.CsvRecordCursor;
+import com.nhl.dflib.csv.loader.CsvTokenizer;
+import com.nhl.dflib.csv.loader.InferredColumnBuilder;
 import com.nhl.dflib.csv.loader.RowFilterConfig;
+import com.nhl.dflib.io.Compression;
+import com.nhl.dflib.io.ReadAheadInputStream;
 import com.nhl.dflib.sample.Sampler;
+import com.nhl.dflib.series.ChunkedSeries;
 import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVRecord;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class CsvLoader {
 
+    /**
+     * A default minimal size in bytes of a file chunk parsed by a single thread in parallel mode.
+     *
+     * @since 0.11
+     */
+    public static final int DEFAULT_PARALLEL_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * A default number of leading CSV rows used to infer column types.
+     *
+     * @since 0.11
+     */
+    public static final int DEFAULT_INFERENCE_SAMPLE_SIZE = 1000;
+
     private int skipRows;
     private Index header;
 
@@ -36,6 +70,10 @@ public class CsvLoader {
 
     private List<ColumnConfig> columns;
     private List<RowFilterConfig> rowFilters;
+    private Condition rowCondition;
+
+    private int parallelChunkSize;
+    private int inferenceSampleSize;
 
     public CsvLoader() {
         this.format = CSVFormat.DEFAULT;
@@ -58,8 +96,7 @@ public class CsvLoader {
     /**
      * Configures CSV loader to select a sample of the rows of a CSV. Unlike {@link DataFrame#sampleRows(int, Random)},
      * this method will prevent the full CSV from loading in memory, and hence can be used on potentially very large
-     * CSVs. If you are executing multiple sampling runs in parallel, consider using {@link #sampleRows(int, Random)},
-     * as this method is using a shared {@link Random} instance with synchronization.
+     * CSVs. To get a reproducible sample, use {@link #sampleRows(int, Random)} with a seeded Random.
      *
      * @param size the size of the sample. Can be bigger than the CSV size (as the CSV size is not known upfront).
      * @return this loader instance
@@ -113,6 +150,24 @@ public class CsvLoader {
         return this;
     }
 
+    /**
+     * Configures CSV loader to only include rows that are matching the provided condition. Unlike the single column
+     * predicates, the condition may reference any number of columns. It is evaluated over batches of rows, with only
+     * the columns referenced by the condition converted upfront (according to the configured column types), and the
+     * rest of the DataFrame columns converted just for the matching rows. Column names and positions in the condition
+     * refer to the CSV columns, regardless of whether those are included in the DataFrame. If called more than once, or
+     * combined with other row filters, the rows must match all of them.
+     *
+     * @param condition a condition that needs to be fulfilled for the row to be included in the resulting DataFrame.
+     * @return this loader instance
+     * @since 0.11
+     */
+    public CsvLoader selectRows(Condition condition) {
+        Objects.requireNonNull(condition);
+        this.rowCondition = rowCondition != null ? rowCondition.and(condition) : condition;
+        return this;
+    }
+
     /**
      * Configures CSV loader to only include rows that are matching the provided criterion. Applying the condition
      * during load would allow to extract relevant data from very large CSVs.
@@ -216,7 +271,7 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader intColumn(int column, int forNull) {
-        columns.add(ColumnConfig.intColumn(column, IntValueMapper.fromString(forNull)));
+        columns.add(ColumnConfig.intColumn(column, forNull));
         return this;
     }
 
@@ -224,7 +279,7 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader intColumn(String column, int forNull) {
-        columns.add(ColumnConfig.intColumn(column, IntValueMapper.fromString(forNull)));
+        columns.add(ColumnConfig.intColumn(column, forNull));
         return this;
     }
 
@@ -248,7 +303,7 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader longColumn(int column, long forNull) {
-        columns.add(ColumnConfig.longColumn(column, LongValueMapper.fromString(forNull)));
+        columns.add(ColumnConfig.longColumn(column, forNull));
         return this;
     }
 
@@ -256,7 +311,7 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader longColumn(String column, long forNull) {
-        columns.add(ColumnConfig.longColumn(column, LongValueMapper.fromString(forNull)));
+        columns.add(ColumnConfig.longColumn(column, forNull));
         return this;
     }
 
@@ -280,7 +335,7 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader doubleColumn(int column, double forNull) {
-        columns.add(ColumnConfig.doubleColumn(column, DoubleValueMapper.fromString(forNull)));
+        columns.add(ColumnConfig.doubleColumn(column, forNull));
         return this;
     }
 
@@ -288,7 +343,7 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader doubleColumn(String column, double forNull) {
-        columns.add(ColumnConfig.doubleColumn(column, DoubleValueMapper.fromString(forNull)));
+        columns.add(ColumnConfig.doubleColumn(column, forNull));
         return this;
     }
 
@@ -359,28 +414,32 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader dateColumn(int column) {
-        return columnType(column, ValueMapper.stringToDate());
+        columns.add(ColumnConfig.dateColumn(column));
+        return this;
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader dateColumn(String column) {
-        return columnType(column, ValueMapper.stringToDate());
+        columns.add(ColumnConfig.dateColumn(column));
+        return this;
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader dateTimeColumn(int column) {
-        return columnType(column, ValueMapper.stringToDateTime());
+        columns.add(ColumnConfig.dateTimeColumn(column));
+        return this;
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader dateTimeColumn(String column) {
-        return columnType(column, ValueMapper.stringToDateTime());
+        columns.add(ColumnConfig.dateTimeColumn(column));
+        return this;
     }
 
     /**
@@ -411,6 +470,39 @@ public class CsvLoader {
         return columnType(column, ValueMapper.stringToDateTime(formatter));
     }
 
+    /**
+     * Configures the loader to infer the types of the columns that have no explicit type configuration, based on the
+     * first {@link #DEFAULT_INFERENCE_SAMPLE_SIZE} rows of the CSV.
+     *
+     * @return this loader instance
+     * @see #inferColumnTypes(int)
+     * @since 0.11
+     */
+    public CsvLoader inferColumnTypes() {
+        return inferColumnTypes(DEFAULT_INFERENCE_SAMPLE_SIZE);
+    }
+
+    /**
+     * Configures the loader to infer the types of the columns that have no explicit type configuration, based on the
+     * specified number of leading rows of the CSV. Recognized types are int, long, double, boolean ("true" or "false"
+     * in any case), ISO dates and ISO date-times, with all other columns loaded as Strings. Numeric and boolean columns
+     * without empty values in the sample are loaded as primitive columns, and empty values in typed columns are loaded
+     * as nulls. If a value after the sample doesn't fit the inferred type, the column is converted to a type that fits
+     * all values (e.g. from int to long or double, or to String), and the loading continues.
+     *
+     * @param sampleSize the number of rows to infer the column types from
+     * @return this loader instance
+     * @since 0.11
+     */
+    public CsvLoader inferColumnTypes(int sampleSize) {
+        if (sampleSize <= 0) {
+            throw new IllegalArgumentException("Sample size must be positive: " + sampleSize);
+        }
+
+        this.inferenceSampleSize = sampleSize;
+        return this;
+    }
+
     /**
      * Optionally sets the style or format of the imported CSV. CSVFormat comes from "commons-csv" library and
      * contains a number of predefined formats, such as CSVFormat.MYSQL, etc. It also allows to customize the format
@@ -434,6 +526,40 @@ public class CsvLoader {
         return this;
     }
 
+    /**
+     * Configures the loader to parse large files in multiple threads. The file is split into chunks of at least
+     * {@link #DEFAULT_PARALLEL_CHUNK_SIZE} bytes that start and end at record boundaries. Each chunk is parsed
+     * independently, and the resulting columns are concatenated in the file order. Only applies to loading from files
+     * and paths. Files that can't be split reliably (e.g. compressed files, files with the default charset other than
+     * UTF-8, US-ASCII or ISO-8859-1, or with comments in the CSV format), and row sampling, are processed in a single
+     * thread.
+     *
+     * @return this loader instance
+     * @since 0.11
+     */
+    public CsvLoader parallel() {
+        return parallel(DEFAULT_PARALLEL_CHUNK_SIZE);
+    }
+
+    /**
+     * Configures the loader to parse large files in multiple threads, splitting them in chunks of at least the
+     * specified size.
+     *
+     * @param chunkSize minimal size in bytes of a file chunk parsed by a single thread
+     * @return this loader instance
+     * @see #parallel()
+     * @since 0.11
+     */
+    public CsvLoader parallel(int chunkSize) {
+
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+
+        this.parallelChunkSize = chunkSize;
+        return this;
+    }
+
     /**
      * @since 0.11
      */
@@ -441,48 +567,367 @@ public class CsvLoader {
         return load(filePath.toFile());
     }
 
+    /**
+     * Loads a DataFrame from a CSV file. Files compressed with gzip or deflate are detected by their first bytes or
+     * their extension, and are decompressed on a separate thread while the CSV is being parsed.
+     */
     public DataFrame load(File file) {
-        try (Reader r = new FileReader(file)) {
-            return load(r);
+
+        Compression compression = compression(file);
+
+        // FileReader uses the default charset
+        CsvChunkSplitter splitter = compression == Compression.NONE
+                && parallelChunkSize > 0
+                && rowSampleSize <= 0
+                && file.length() > parallelChunkSize
+                ? CsvChunkSplitter.create(format, Charset.defaultCharset())
+                : null;
+
+        if (splitter != null) {
+            return loadInParallel(file, splitter);
+        }
+
+        // the size of a compressed file is not useful for estimating the number of rows
+        long size = compression == Compression.NONE ? file.length() : -1;
+
+        try (Reader r = openReader(file, compression)) {
+            return load(r, size);
         } catch (IOException e) {
             throw new RuntimeException("Error reading file: " + file, e);
         }
     }
 
     public DataFrame load(String filePath) {
-        try (Reader r = new FileReader(filePath)) {
-            return load(r);
+        return load(new File(filePath));
+    }
+
+    public DataFrame load(Reader reader) {
+        return load(reader, -1);
+    }
+
+    /**
+     * Returns a stream of DataFrames with up to "batchSize" rows each, read sequentially from the CSV file. All
+     * DataFrames have the same columns, and unlike {@link #load(File)}, only one batch needs to be in memory at any
+     * given time, so this method can process files of any size. Row filters are applied before batching, so each
+     * batch except the last one has exactly "batchSize" rows. The stream reads from an open file, and must be closed
+     * after use. Row sampling and parallel loading are not supported in this mode.
+     *
+     * @since 0.11
+     */
+    public Stream<DataFrame> loadBatches(File file, int batchSize) {
+
+        Reader reader;
+        try {
+            reader = openReader(file, compression(file));
         } catch (IOException e) {
-            throw new RuntimeException("Error reading file: " + filePath, e);
+            throw new RuntimeException("Error reading file: " + file, e);
+        }
+
+        try {
+            return loadBatches(reader, batchSize).onClose(() -> {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Error closing file: " + file, e);
+                }
+            });
+        } catch (RuntimeException e) {
+            try {
+                reader.close();
+            } catch (IOException closeError) {
+                e.addSuppressed(closeError);
+            }
+
+            throw e;
         }
     }
 
-    public DataFrame load(Reader reader) {
+    /**
+     * @see #loadBatches(File, int)
+     * @since 0.11
+     */
+    public Stream<DataFrame> loadBatches(String filePath, int batchSize) {
+        return loadBatches(new File(filePath), batchSize);
+    }
+
+    /**
+     * Returns a stream of DataFrames with up to "batchSize" rows each, read sequentially from the Reader. The Reader
+     * is not closed by the stream.
+     *
+     * @see #loadBatches(File, int)
+     * @since 0.11
+     */
+    public Stream<DataFrame> loadBatches(Reader reader, int batchSize) {
+        Iterator<DataFrame> batches = batchIterator(reader, batchSize);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Reads the CSV file in DataFrames with up to "batchSize" rows each, passing each DataFrame to the consumer.
+     *
+     * @see #loadBatches(File, int)
+     * @since 0.11
+     */
+    public void loadBatches(File file, int batchSize, Consumer<DataFrame> consumer) {
+        try (Stream<DataFrame> batches = loadBatches(file, batchSize)) {
+            batches.forEach(consumer);
+        }
+    }
+
+    /**
+     * @see #loadBatches(File, int, Consumer)
+     * @since 0.11
+     */
+    public void loadBatches(Reader reader, int batchSize, Consumer<DataFrame> consumer) {
+        batchIterator(reader, batchSize).forEachRemaining(consumer);
+    }
+
+    /**
+     * Reads the CSV file in DataFrames with up to "batchSize" rows each, combining them one by one into a result. E.g.
+     * can be used to calculate aggregates over files that do not fit in memory.
+     *
+     * @param initial the initial value of the result
+     * @param folder  a function that combines the result so far with the next batch
+     * @see #loadBatches(File, int)
+     * @since 0.11
+     */
+    public <T> T foldBatches(File file, int batchSize, T initial, BiFunction<T, DataFrame, T> folder) {
+        try (Stream<DataFrame> batches = loadBatches(file, batchSize)) {
+            return fold(batches.iterator(), initial, folder);
+        }
+    }
+
+    /**
+     * @see #foldBatches(File, int, Object, BiFunction)
+     * @since 0.11
+     */
+    public <T> T foldBatches(Reader reader, int batchSize, T initial, BiFunction<T, DataFrame, T> folder) {
+        return fold(batchIterator(reader, batchSize), initial, folder);
+    }
+
+    private static <T> T fold(Iterator<DataFrame> batches, T initial, BiFunction<T, DataFrame, T> folder) {
+
+        T result = initial;
+        while (batches.hasNext()) {
+            result = folder.apply(result, batches.next());
+        }
+
+        return result;
+    }
+
+    private Iterator<DataFrame> batchIterator(Reader reader, int batchSize) {
+
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+
+        if (rowSampleSize > 0) {
+            throw new IllegalStateException("Row sampling is not supported when loading in batches");
+        }
+
         try {
+            CsvRecordCursor cursor = createRecordCursor(reader);
+            ColumnMap columnMap = createColumnMap(cursor);
+            cursor.selectFields(columnMap.csvSelection);
+
+            SampleReplayingCursor sample = null;
+            if (inferenceSampleSize > 0) {
+                sample = sample(cursor, columnMap);
+                cursor = sample;
+            }
 
-            Iterator<CSVRecord> it = createRecordIterator(reader);
-            ColumnMap columnMap = createColumnMap(it);
+            // column configs are shared by all batches, so the batches have the same column types (except for
+            // inferred columns converted to a wider type because of the values in a given batch)
+            ColumnConfig[] csvColumns = createColumnConfigs(columnMap, sample);
+            CsvRecordCursor filtered = filterRecords(cursor, columnMap, csvColumns);
+            return new CsvBatchIterator(filtered, () -> noSamplingWorker(columnMap, csvColumns, -1), batchSize);
 
-            if (!it.hasNext()) {
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading CSV", e);
+        }
+    }
+
+    // "inputLength" is used to estimate the number of rows to preallocate column storage
+    private DataFrame load(Reader reader, long inputLength) {
+        try {
+
+            CsvRecordCursor cursor = createRecordCursor(reader);
+            ColumnMap columnMap = createColumnMap(cursor);
+            cursor.selectFields(columnMap.csvSelection);
+
+            SampleReplayingCursor sample = null;
+            if (inferenceSampleSize > 0) {
+                sample = sample(cursor, columnMap);
+                cursor = sample;
+            }
+
+            ColumnConfig[] unfilteredColumns = createColumnConfigs(columnMap, sample);
+            cursor = filterRecords(cursor, columnMap, unfilteredColumns);
+
+            if (!cursor.next()) {
                 return DataFrame.newFrame(columnMap.dfHeader).empty();
             }
 
-            ColumnConfig[] unfilteredColumns = ColumnConfig.normalize(columnMap.csvHeader, this.columns);
+            cursor.pushBack();
 
             CsvLoaderWorker worker = rowSampleSize > 0
                     ? samplingWorker(columnMap, unfilteredColumns)
-                    : noSamplingWorker(columnMap, unfilteredColumns);
+                    : noSamplingWorker(columnMap, unfilteredColumns, inputLength);
 
-            return worker.load(it);
+            return worker.load(cursor);
 
         } catch (IOException e) {
             throw new RuntimeException("Error reading CSV", e);
         }
     }
 
-    private CsvLoaderWorker noSamplingWorker(ColumnMap columnMap, ColumnConfig[] csvColumns) {
+    private static Compression compression(File file) {
+        try {
+            return Compression.of(file.toPath());
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading file: " + file, e);
+        }
+    }
+
+    private static Reader openReader(File file, Compression compression) throws IOException {
+
+        if (compression == Compression.NONE) {
+            return new FileReader(file);
+        }
+
+        // decompressing on a separate thread, so that inflating the data overlaps with parsing it
+        InputStream in = new FileInputStream(file);
+        try {
+            return new InputStreamReader(new ReadAheadInputStream(compression.decompress(in)), Charset.defaultCharset());
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    private DataFrame loadInParallel(File file, CsvChunkSplitter splitter) {
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+
+            // the header is a record to skip, unless it is defined explicitly
+            int skipRecords = header != null ? skipRows : skipRows + 1;
+            long[] boundaries = splitter.split(channel, skipRecords, parallelChunkSize);
+
+            // processing the skipped records and the header the same way as the sequential load does
+            CsvRecordCursor headerCursor = createRecordCursor(new StringReader(readString(channel, boundaries[0])));
+            ColumnMap columnMap = createColumnMap(headerCursor);
+
+            int chunks = boundaries.length - 1;
+            if (boundaries[0] == boundaries[chunks]) {
+                return DataFrame.newFrame(columnMap.dfHeader).empty();
+            }
+
+            // the types are inferred from the beginning of the first chunk, and the chunks that run into values that
+            // don't fit the inferred types are reconciled after loading
+            SampleReplayingCursor sample = inferenceSampleSize > 0
+                    ? sample(openChunkCursor(channel, boundaries[0], boundaries[1], columnMap), columnMap)
+                    : null;
+
+            ColumnConfig[] csvColumns = createColumnConfigs(columnMap, sample);
+
+            DataFrame[] loaded = IntStream.range(0, chunks)
+                    .parallel()
+                    .mapToObj(i -> loadChunk(channel, boundaries[i], boundaries[i + 1], columnMap, csvColumns))
+                    .toArray(DataFrame[]::new);
+
+            int width = columnMap.dfHeader.size();
+            Series<?>[] columns = new Series[width];
+            for (int i = 0; i < width; i++) {
+
+                Series<?>[] columnChunks = new Series[chunks];
+                for (int j = 0; j < chunks; j++) {
+                    columnChunks[j] = loaded[j].getColumn(i);
+                }
+
+                columns[i] = csvColumns[columnMap.csvPositions[i]].isInferred()
+                        ? InferredColumnBuilder.combineChunks(columnChunks)
+                        : ChunkedSeries.of(columnChunks);
+            }
+
+            return DataFrame.newFrame(columnMap.dfHeader).columns(columns);
+
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Error reading file: " + file, e);
+        }
+    }
+
+    private DataFrame loadChunk(FileChannel channel, long from, long to, ColumnMap columnMap, ColumnConfig[] csvColumns) {
+
+        // each chunk gets its own parser and its own set of column builders
+        CsvRecordCursor cursor = filterRecords(openChunkCursor(channel, from, to, columnMap), columnMap, csvColumns);
+        return noSamplingWorker(columnMap, csvColumns, to - from).load(cursor);
+    }
+
+    private CsvRecordCursor openChunkCursor(FileChannel channel, long from, long to, ColumnMap columnMap) {
+
+        Reader reader = new InputStreamReader(CsvChunkSplitter.openRange(channel, from, to), Charset.defaultCharset());
+
+        try {
+            CsvRecordCursor cursor = openRecordCursor(reader);
+            cursor.selectFields(columnMap.csvSelection);
+            return cursor;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private SampleReplayingCursor sample(CsvRecordCursor cursor, ColumnMap columnMap) {
+
+        // the columns referenced by the row condition are not known upfront, and their types may need to be inferred,
+        // so sampling all columns in this case
+        boolean[] fields = columnMap.csvSelection;
+        if (rowCondition != null) {
+            fields = new boolean[fields.length];
+            Arrays.fill(fields, true);
+            cursor.selectFields(fields);
+        }
+
+        return new SampleReplayingCursor(cursor, fields, inferenceSampleSize);
+    }
+
+    private CsvRecordCursor filterRecords(CsvRecordCursor cursor, ColumnMap columnMap, ColumnConfig[] csvColumns) {
+        return rowCondition != null
+                ? new ConditionFilteringCursor(cursor, rowCondition, columnMap.csvHeader, csvColumns, columnMap.csvSelection)
+                : cursor;
+    }
+
+    private ColumnConfig[] createColumnConfigs(ColumnMap columnMap, SampleReplayingCursor sample) {
+
+        if (sample == null) {
+            return ColumnConfig.normalize(columnMap.csvHeader, this.columns);
+        }
+
+        // columns without explicit configuration get the types inferred from the sample, except for the columns that
+        // are not loaded, and therefore have no sample values
+        return ColumnConfig.normalize(columnMap.csvHeader, this.columns, i -> {
+            String[] values = sample.getSample(i);
+            return values != null ? ColumnConfig.inferredColumn(i, values) : ColumnConfig.objectColumn(i, v -> v);
+        });
+    }
+
+    private static String readString(FileChannel channel, long length) throws IOException {
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+
+        buffer.flip();
+        return Charset.defaultCharset().decode(buffer).toString();
+    }
+
+    private BaseCsvLoaderWorker noSamplingWorker(ColumnMap columnMap, ColumnConfig[] csvColumns, long inputLength) {
         return rowFilters.isEmpty()
-                ? new BaseCsvLoaderWorker(columnMap.dfHeader, columnMap.createAccumulators(csvColumns))
+                ? new BaseCsvLoaderWorker(columnMap.dfHeader, columnMap.createAccumulators(csvColumns), inputLength)
                 : new FilteringCsvLoaderWorker(columnMap.dfHeader, columnMap.createAccumulators(csvColumns), columnMap.createValueHolders(csvColumns), createRowFilter(columnMap.csvHeader));
     }
 
@@ -492,18 +937,27 @@ public class CsvLoader {
                 : new FilteringSamplingCsvLoaderWorker(columnMap.dfHeader, columnMap.createAccumulators(csvColumns), columnMap.createValueHolders(csvColumns), createRowFilter(columnMap.csvHeader), rowSampleSize, rowsSampleRandom);
     }
 
-    private Iterator<CSVRecord> createRecordIterator(Reader reader) throws IOException {
+    private CsvRecordCursor openRecordCursor(Reader reader) throws IOException {
+
+        // using the built-in tokenizer when possible, as it is much faster than commons-csv, and only falling back to
+        // commons-csv for the formats not supported by the tokenizer
+        return CsvTokenizer.supports(format)
+                ? new CsvTokenizer(reader, format)
+                : new CommonsCsvCursor(format.parse(reader).iterator());
+    }
 
-        Iterator<CSVRecord> it = format.parse(reader).iterator();
-        for (int i = 0; i < skipRows && it.hasNext(); i++) {
-            it.next();
+    private CsvRecordCursor createRecordCursor(Reader reader) throws IOException {
+
+        CsvRecordCursor cursor = openRecordCursor(reader);
+        for (int i = 0; i < skipRows && cursor.next(); i++) {
+            // skipping rows
         }
 
-        return it;
+        return cursor;
     }
 
-    private ColumnMap createColumnMap(Iterator<CSVRecord> it) {
-        return createColumnMap(createCsvHeader(it));
+    private ColumnMap createColumnMap(CsvRecordCursor cursor) {
+        return createColumnMap(createCsvHeader(cursor));
     }
 
     private ColumnMap createColumnMap(Index csvHeader) {
@@ -516,7 +970,7 @@ public class CsvLoader {
                 positions[i] = i;
             }
 
-            return new ColumnMap(csvHeader, csvHeader, positions);
+            return new ColumnMap(csvHeader, csvHeader, positions, csvSelection(csvHeader, positions));
         }
 
         List<String> columns = new ArrayList<>(uw);
@@ -560,18 +1014,35 @@ public class CsvLoader {
             csvPositions[i] = positions.get(i);
         }
 
-        return new ColumnMap(csvHeader, dfHeader, csvPositions);
+        return new ColumnMap(csvHeader, dfHeader, csvPositions, csvSelection(csvHeader, csvPositions));
     }
 
-    private Index createCsvHeader(Iterator<CSVRecord> it) {
-        if (it.hasNext()) {
-            return header != null ? header : loadCsvHeader(it.next());
-        } else {
-            return header != null ? header : Index.forLabels();
+    // CSV columns that need to be parsed, i.e. the columns included in the DataFrame and the columns used by row
+    // filters. The rest of the columns are skipped by the parser
+    private boolean[] csvSelection(Index csvHeader, int[] csvPositions) {
+
+        boolean[] selection = new boolean[csvHeader.size()];
+
+        for (int p : csvPositions) {
+            selection[p] = true;
         }
+
+        for (RowFilterConfig<?> f : rowFilters) {
+            selection[f.getColumnPosition(csvHeader)] = true;
+        }
+
+        return selection;
     }
 
-    private Index loadCsvHeader(CSVRecord header) {
+    private Index createCsvHeader(CsvRecordCursor cursor) {
+        if (header != null) {
+            return header;
+        }
+
+        return cursor.next() ? loadCsvHeader(cursor) : Index.forLabels();
+    }
+
+    private Index loadCsvHeader(CsvRecordCursor header) {
 
         int width = header.size();
         String[] columnNames = new String[width];
@@ -602,11 +1073,13 @@ public class CsvLoader {
         Index csvHeader;
         Index dfHeader;
         int[] csvPositions;
+        boolean[] csvSelection;
 
-        ColumnMap(Index csvHeader, Index dfHeader, int[] csvPositions) {
+        ColumnMap(Index csvHeader, Index dfHeader, int[] csvPositions, boolean[] csvSelection) {
             this.csvHeader = csvHeader;
             this.dfHeader = dfHeader;
             this.csvPositions = csvPositions;
+            this.csvSelection = csvSelection;
         }
 
         ColumnBuilder[] createAccumulators(ColumnConfig[] csvColumns) {
@@ -627,7 +1100,11 @@ public class CsvLoader {
             CsvCell<?>[] holders = new CsvCell[w];
 
             for (int i = 0; i < w; i++) {
-                holders[i] = csvColumns[i].createValueHolderColumn(i);
+
+                // no need to convert the values that are neither included in the DataFrame nor filtered on
+                if (csvSelection[i]) {
+                    holders[i] = csvColumns[i].createValueHolderColumn(i);
+                }
             }
 
             return holders;
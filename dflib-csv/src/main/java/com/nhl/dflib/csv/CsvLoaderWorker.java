@@ -1,11 +1,10 @@
 package com.nhl.dflib.csv;
 
 import com.nhl.dflib.DataFrame;
-import org.apache.commons.csv.CSVRecord;
+import com.nhl.dflib.csv.loader.CsvRecordCursor;
 
-import java.util.Iterator;
 
 interface CsvLoaderWorker {
 
-    DataFrame load(Iterator<CSVRecord> it);
+    DataFrame load(CsvRecordCursor cursor);
 }
@@ -0,0 +1,149 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.QuoteMode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Formats DataFrame rows as CSV text, producing the same output as {@link CSVPrinter}. Values of primitive columns are
+ * appended to the output directly from the primitive Series, without boxing and without quoting checks, when the
+ * format guarantees that they wouldn't be quoted or escaped. All other values are printed via
+ * {@link CSVFormat#print(Object, Appendable, boolean)}. Formatting of different row ranges is thread-safe.
+ *
+ * @since 0.11
+ */
+class CsvRowFormatter {
+
+    private final CSVFormat format;
+    private final Index columnsIndex;
+    private final CellFormatter[] cells;
+
+    CsvRowFormatter(DataFrame df, CSVFormat format) {
+        this.format = format;
+        this.columnsIndex = df.getColumnsIndex();
+
+        int width = columnsIndex.size();
+        this.cells = new CellFormatter[width];
+        for (int i = 0; i < width; i++) {
+            cells[i] = cellFormatter(df.getColumn(i));
+        }
+    }
+
+    /**
+     * Appends the text preceding the rows, i.e. the header comments and the header of the format (as they would be
+     * printed by {@link CSVPrinter}), followed by an optional header with DataFrame column labels.
+     */
+    void formatHeader(StringBuilder out, boolean printLabels) {
+
+        try {
+            new CSVPrinter(out, format);
+
+            if (printLabels) {
+                String[] labels = columnsIndex.getLabels();
+                for (int i = 0; i < labels.length; i++) {
+                    format.print(labels[i], out, i == 0);
+                }
+
+                format.println(out);
+            }
+        } catch (IOException e) {
+            // not expected when appending to a StringBuilder
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void formatRows(int fromRow, int toRow, StringBuilder out) {
+
+        int width = cells.length;
+
+        try {
+            for (int i = fromRow; i < toRow; i++) {
+                for (int j = 0; j < width; j++) {
+                    cells[j].format(i, out, j == 0);
+                }
+
+                format.println(out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CellFormatter cellFormatter(Series<?> column) {
+
+        char delimiter = format.getDelimiter();
+
+        if (column instanceof IntSeries && printedAsIs(true)) {
+            IntSeries ints = (IntSeries) column;
+            return (row, out, newRecord) -> delimit(out, newRecord, delimiter).append(ints.getInt(row));
+        }
+
+        if (column instanceof LongSeries && printedAsIs(true)) {
+            LongSeries longs = (LongSeries) column;
+            return (row, out, newRecord) -> delimit(out, newRecord, delimiter).append(longs.getLong(row));
+        }
+
+        // StringBuilder.append(double) produces the same text as Double.toString(..)
+        if (column instanceof DoubleSeries && printedAsIs(true)) {
+            DoubleSeries doubles = (DoubleSeries) column;
+            return (row, out, newRecord) -> delimit(out, newRecord, delimiter).append(doubles.getDouble(row));
+        }
+
+        if (column instanceof BooleanSeries && printedAsIs(false)) {
+            BooleanSeries booleans = (BooleanSeries) column;
+            return (row, out, newRecord) -> delimit(out, newRecord, delimiter).append(booleans.getBoolean(row));
+        }
+
+        return (row, out, newRecord) -> format.print(column.get(row), out, newRecord);
+    }
+
+    private static StringBuilder delimit(StringBuilder out, boolean newRecord, char delimiter) {
+        return newRecord ? out : out.append(delimiter);
+    }
+
+    // checks whether the format would print the String form of primitive values (made of letters, digits, "-" and
+    // ".") as is, without quoting or escaping
+    private boolean printedAsIs(boolean numeric) {
+
+        if (format.isQuoteCharacterSet()) {
+
+            QuoteMode mode = format.getQuoteMode();
+            if (mode == QuoteMode.ALL || mode == QuoteMode.ALL_NON_NULL) {
+                return false;
+            }
+
+            if (mode == QuoteMode.NON_NUMERIC && !numeric) {
+                return false;
+            }
+
+            if (isValueChar(format.getQuoteCharacter())) {
+                return false;
+            }
+        }
+
+        if (format.isEscapeCharacterSet() && isValueChar(format.getEscapeCharacter())) {
+            return false;
+        }
+
+        return !isValueChar(format.getDelimiter());
+    }
+
+    private static boolean isValueChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '.';
+    }
+
+    @FunctionalInterface
+    private interface CellFormatter {
+        void format(int row, StringBuilder out, boolean newRecord) throws IOException;
+    }
+}
@@ -1,26 +1,40 @@
 package com.nhl.dflib.csv;
 
 import com.nhl.dflib.DataFrame;
-import com.nhl.dflib.Index;
-import com.nhl.dflib.row.RowProxy;
+import com.nhl.dflib.io.Compression;
 import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVPrinter;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 public class CsvSaver {
 
+    /**
+     * A default number of rows in a block formatted by a single thread in parallel mode.
+     *
+     * @since 0.11
+     */
+    public static final int DEFAULT_PARALLEL_BLOCK_SIZE = 10_000;
+
     private CSVFormat format;
     private boolean createMissingDirs;
     private boolean printHeader;
+    private int blockSize;
+    private boolean parallel;
+    private boolean gzip;
 
     public CsvSaver() {
         this.format = CSVFormat.DEFAULT;
         this.printHeader = true;
+        this.blockSize = DEFAULT_PARALLEL_BLOCK_SIZE;
     }
 
     /**
@@ -59,6 +73,49 @@ public class CsvSaver {
         return this;
     }
 
+    /**
+     * Instructs the saver to format and encode blocks of rows in parallel, using the default block size. The blocks
+     * are still written in order, so the output is the same as with a sequential save (except for compressed output,
+     * which is written as a sequence of gzip members). Parallel saving only pays off for large DataFrames.
+     *
+     * @return this saver instance
+     * @since 0.11
+     */
+    public CsvSaver parallel() {
+        return parallel(DEFAULT_PARALLEL_BLOCK_SIZE);
+    }
+
+    /**
+     * Instructs the saver to format and encode blocks of rows in parallel.
+     *
+     * @param blockSize the number of rows in a block formatted by a single thread
+     * @return this saver instance
+     * @since 0.11
+     */
+    public CsvSaver parallel(int blockSize) {
+
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+
+        this.parallel = true;
+        this.blockSize = blockSize;
+        return this;
+    }
+
+    /**
+     * Instructs the saver to compress the files it writes with gzip, using the fastest compression level.
+     * Has no effect when saving to an Appendable. Files with ".gz" or ".deflate" extensions are compressed with the
+     * matching format even without this setting.
+     *
+     * @return this saver instance
+     * @since 0.11
+     */
+    public CsvSaver gzip() {
+        this.gzip = true;
+        return this;
+    }
+
     public void save(DataFrame df, File file) {
 
         if (createMissingDirs) {
@@ -68,9 +125,18 @@ public class CsvSaver {
             }
         }
 
-        try (FileWriter out = new FileWriter(file)) {
-            save(df, out);
-        } catch (IOException e) {
+        // writing large blocks straight to the channel, so no extra buffering is needed
+        try (FileChannel channel = FileChannel.open(
+                file.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+
+            OutputStream out = Channels.newOutputStream(channel);
+            Compression compression = gzip ? Compression.GZIP : Compression.ofFileName(file.getName());
+            blockWriter(df).write(out, Charset.defaultCharset(), compression);
+
+        } catch (IOException | UncheckedIOException e) {
             throw new RuntimeException("Error writing CSV to " + file + ": " + e.getMessage(), e);
         }
     }
@@ -89,17 +155,8 @@ public class CsvSaver {
     public void save(DataFrame df, Appendable out) {
 
         try {
-            CSVPrinter printer = new CSVPrinter(out, format);
-            if (printHeader) {
-                printHeader(printer, df.getColumnsIndex());
-            }
-
-            int len = df.width();
-            for (RowProxy r : df) {
-                printRow(printer, r, len);
-            }
-
-        } catch (IOException e) {
+            blockWriter(df).write(out);
+        } catch (IOException | UncheckedIOException e) {
             throw new RuntimeException("Error writing CSV: " + e.getMessage(), e);
         }
     }
@@ -111,17 +168,7 @@ public class CsvSaver {
         return out.toString();
     }
 
-    private void printHeader(CSVPrinter printer, Index index) throws IOException {
-        for (String label : index.getLabels()) {
-            printer.print(label);
-        }
-        printer.println();
-    }
-
-    private void printRow(CSVPrinter printer, RowProxy row, int len) throws IOException {
-        for (int i = 0; i < len; i++) {
-            printer.print(row.get(i));
-        }
-        printer.println();
+    private CsvBlockWriter blockWriter(DataFrame df) {
+        return new CsvBlockWriter(new CsvRowFormatter(df, format), printHeader, df.height(), blockSize, parallel);
     }
 }
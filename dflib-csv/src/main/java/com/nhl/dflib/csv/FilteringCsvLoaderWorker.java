@@ -3,7 +3,7 @@ package com.nhl.dflib.csv;
 import com.nhl.dflib.Index;
 import com.nhl.dflib.csv.loader.ColumnBuilder;
 import com.nhl.dflib.csv.loader.CsvCell;
-import org.apache.commons.csv.CSVRecord;
+import com.nhl.dflib.csv.loader.CsvRecordCursor;
 
 import java.util.function.Predicate;
 
@@ -25,12 +25,15 @@ class FilteringCsvLoaderWorker extends BaseCsvLoaderWorker {
     }
 
     @Override
-    protected void addRow(int width, CSVRecord row) {
+    protected boolean addRow(int width, CsvRecordCursor row) {
 
-        // 1. fill the buffer for condition evaluation. All values will be converted to the right data types
+        // 1. fill the buffer for condition evaluation. Only the columns that are either selected or filtered on
+        // have cells, and their values will be converted to the right data types
         int csvWidth = csvRow.length;
         for (int i = 0; i < csvWidth; i++) {
-            csvRow[i].set(row);
+            if (csvRow[i] != null) {
+                csvRow[i].set(row);
+            }
         }
 
         // 2. eval filters
@@ -41,6 +44,9 @@ class FilteringCsvLoaderWorker extends BaseCsvLoaderWorker {
                 columnAccumulators[i].add(csvRow);
             }
 
+            return true;
         }
+
+        return false;
     }
 }
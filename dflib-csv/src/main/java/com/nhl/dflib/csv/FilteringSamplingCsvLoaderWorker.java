@@ -3,9 +3,8 @@ package com.nhl.dflib.csv;
 import com.nhl.dflib.Index;
 import com.nhl.dflib.csv.loader.ColumnBuilder;
 import com.nhl.dflib.csv.loader.CsvCell;
-import org.apache.commons.csv.CSVRecord;
+import com.nhl.dflib.csv.loader.CsvRecordCursor;
 
-import java.util.Iterator;
 import java.util.Random;
 import java.util.function.Predicate;
 
@@ -28,20 +27,21 @@ class FilteringSamplingCsvLoaderWorker extends SamplingCsvLoaderWorker {
     }
 
     @Override
-    protected void consumeCSV(Iterator<CSVRecord> it) {
+    protected void consumeCSV(CsvRecordCursor cursor) {
         int width = columnIndex.size();
 
         int i = 0;
-        while (it.hasNext()) {
-
-            CSVRecord row = it.next();
+        while (cursor.next()) {
 
             // perform filtering in a separate buffer before sampling....
 
-            // 1. fill the buffer for condition evaluation. All values will be converted to the right data types
+            // 1. fill the buffer for condition evaluation. Only the columns that are either selected or filtered on
+            // have cells, and their values will be converted to the right data types
             int csvWidth = csvRow.length;
             for (int j = 0; j < csvWidth; j++) {
-                csvRow[j].set(row);
+                if (csvRow[j] != null) {
+                    csvRow[j].set(cursor);
+                }
             }
 
             // 2. eval filters
@@ -0,0 +1,185 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.csv.loader.CsvRecordCursor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A cursor that reads the first records of a CSV into memory, so that they can be examined (e.g. to infer column
+ * types) before the loading starts. Iterates over the buffered records first, and then continues with the underlying
+ * cursor.
+ *
+ * @since 0.11
+ */
+class SampleReplayingCursor extends CsvRecordCursor {
+
+    private final CsvRecordCursor delegate;
+
+    // sample values by column, with nulls for the columns not selected
+    private final String[][] sample;
+    private final int[] sizes;
+    private final long[] positions;
+    private final int sampleSize;
+
+    private int current;
+    private int markedCurrent;
+
+    SampleReplayingCursor(CsvRecordCursor delegate, boolean[] selectedFields, int maxSampleSize) {
+        this.delegate = delegate;
+
+        int width = selectedFields.length;
+        String[][] sample = new String[width][];
+        int[] sizes = new int[maxSampleSize];
+        long[] positions = new long[maxSampleSize];
+
+        for (int i = 0; i < width; i++) {
+            if (selectedFields[i]) {
+                sample[i] = new String[maxSampleSize];
+            }
+        }
+
+        int rows = 0;
+        while (rows < maxSampleSize && delegate.next()) {
+
+            int size = delegate.size();
+            for (int i = 0; i < width && i < size; i++) {
+                if (sample[i] != null) {
+                    sample[i][rows] = delegate.get(i);
+                }
+            }
+
+            sizes[rows] = size;
+            positions[rows] = delegate.getCharacterPosition();
+            rows++;
+        }
+
+        this.sample = sample;
+        this.sizes = sizes;
+        this.positions = positions;
+        this.sampleSize = rows;
+        this.current = -1;
+    }
+
+    int getSampleSize() {
+        return sampleSize;
+    }
+
+    /**
+     * Returns sample values of a CSV column, or null if the column was not selected.
+     */
+    String[] getSample(int column) {
+
+        String[] values = sample[column];
+        if (values == null || values.length == sampleSize) {
+            return values;
+        }
+
+        String[] trimmed = new String[sampleSize];
+        System.arraycopy(values, 0, trimmed, 0, sampleSize);
+        return trimmed;
+    }
+
+    @Override
+    public void selectFields(boolean[] fields) {
+        delegate.selectFields(fields);
+    }
+
+    @Override
+    public void mark() {
+        markedCurrent = current;
+        delegate.mark();
+    }
+
+    @Override
+    public void seek(int record) {
+
+        // the number of sample records after the mark
+        int markedInSample = Math.max(sampleSize - 1 - markedCurrent, 0);
+
+        if (record < markedInSample) {
+            current = markedCurrent + record;
+            delegate.seek(0);
+        } else {
+            current = sampleSize;
+            delegate.seek(record - markedInSample);
+        }
+    }
+
+    @Override
+    protected boolean advance() {
+
+        if (current < sampleSize) {
+            current++;
+        }
+
+        return current < sampleSize || delegate.next();
+    }
+
+    private boolean replaying() {
+        return current < sampleSize;
+    }
+
+    @Override
+    public int size() {
+        return replaying() ? sizes[current] : delegate.size();
+    }
+
+    @Override
+    public String get(int field) {
+
+        if (!replaying()) {
+            return delegate.get(field);
+        }
+
+        if (field >= sizes[current]) {
+            throw new ArrayIndexOutOfBoundsException(field);
+        }
+
+        if (field >= sample.length || sample[field] == null) {
+            throw new IllegalStateException("Field " + field + " was not selected");
+        }
+
+        return sample[field][current];
+    }
+
+    @Override
+    public long getCharacterPosition() {
+        return replaying() ? positions[current] : delegate.getCharacterPosition();
+    }
+
+    @Override
+    public boolean isNullOrEmpty(int field) {
+        return replaying() ? super.isNullOrEmpty(field) : delegate.isNullOrEmpty(field);
+    }
+
+    @Override
+    public int getInt(int field) {
+        return replaying() ? super.getInt(field) : delegate.getInt(field);
+    }
+
+    @Override
+    public long getLong(int field) {
+        return replaying() ? super.getLong(field) : delegate.getLong(field);
+    }
+
+    @Override
+    public double getDouble(int field) {
+        return replaying() ? super.getDouble(field) : delegate.getDouble(field);
+    }
+
+    @Override
+    public boolean getBoolean(int field) {
+        return replaying() ? super.getBoolean(field) : delegate.getBoolean(field);
+    }
+
+    @Override
+    public LocalDate getDate(int field) {
+        return replaying() ? super.getDate(field) : delegate.getDate(field);
+    }
+
+    @Override
+    public LocalDateTime getDateTime(int field) {
+        return replaying() ? super.getDateTime(field) : delegate.getDateTime(field);
+    }
+}
@@ -5,10 +5,9 @@ import com.nhl.dflib.Index;
 import com.nhl.dflib.IntSeries;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.csv.loader.ColumnBuilder;
+import com.nhl.dflib.csv.loader.CsvRecordCursor;
 import com.nhl.dflib.accumulator.IntAccumulator;
-import org.apache.commons.csv.CSVRecord;
 
-import java.util.Iterator;
 import java.util.Random;
 
 /**
@@ -38,8 +37,8 @@ class SamplingCsvLoaderWorker implements CsvLoaderWorker {
     }
 
     @Override
-    public DataFrame load(Iterator<CSVRecord> it) {
-        consumeCSV(it);
+    public DataFrame load(CsvRecordCursor cursor) {
+        consumeCSV(cursor);
         return toDataFrame();
     }
 
@@ -62,16 +61,15 @@ class SamplingCsvLoaderWorker implements CsvLoaderWorker {
         return sampledUnsorted.selectRows(sortIndex);
     }
 
-    protected void consumeCSV(Iterator<CSVRecord> it) {
+    protected void consumeCSV(CsvRecordCursor cursor) {
         int width = columnIndex.size();
         int i = 0;
-        while (it.hasNext()) {
-            CSVRecord row = it.next();
-            sampleRow(i++, width, row);
+        while (cursor.next()) {
+            sampleRow(i++, width, cursor);
         }
     }
 
-    protected void sampleRow(int rowNumber, int width, CSVRecord row) {
+    protected void sampleRow(int rowNumber, int width, CsvRecordCursor row) {
 
         // Reservoir sampling algorithm per https://en.wikipedia.org/wiki/Reservoir_sampling
 
@@ -90,13 +88,13 @@ class SamplingCsvLoaderWorker implements CsvLoaderWorker {
         }
     }
 
-    protected void addRow(int width, CSVRecord record) {
+    protected void addRow(int width, CsvRecordCursor record) {
         for (int i = 0; i < width; i++) {
             columnAccumulators[i].add(record);
         }
     }
 
-    protected void replaceRow(int pos, int width, CSVRecord record) {
+    protected void replaceRow(int pos, int width, CsvRecordCursor record) {
         for (int i = 0; i < width; i++) {
             columnAccumulators[i].set(pos, record);
         }
@@ -0,0 +1,27 @@
+package com.nhl.dflib.csv.loader;
+
+import com.nhl.dflib.accumulator.Accumulator;
+import com.nhl.dflib.accumulator.ValueHolder;
+
+/**
+ * Parses fields as primitive booleans. Same as {@link Boolean#parseBoolean(String)}, nulls are parsed as "false".
+ *
+ * @since 0.11
+ */
+class BooleanFieldParser implements FieldParser<Boolean> {
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, ValueHolder<Boolean> holder) {
+        holder.setBoolean(record.getBoolean(field));
+    }
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, Accumulator<Boolean> accumulator) {
+        accumulator.addBoolean(record.getBoolean(field));
+    }
+
+    @Override
+    public void parseAndStore(int pos, CsvRecordCursor record, int field, Accumulator<Boolean> accumulator) {
+        accumulator.setBoolean(pos, record.getBoolean(field));
+    }
+}
@@ -3,7 +3,6 @@ package com.nhl.dflib.csv.loader;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.accumulator.Accumulator;
 import com.nhl.dflib.accumulator.ValueConverter;
-import org.apache.commons.csv.CSVRecord;
 
 /**
  * A mutable accumulator of column values for the DataFrame built from CSV.
@@ -12,18 +11,37 @@ import org.apache.commons.csv.CSVRecord;
  */
 public class ColumnBuilder<T> {
 
-    private ValueConverter<String, T> converter;
+    private FieldParser<T> parser;
     private Accumulator<T> accumulator;
     private int csvColumnPosition;
 
     public ColumnBuilder(ValueConverter<String, T> converter, Accumulator<T> accumulator, int csvColumnPosition) {
-        this.converter = converter;
+        this(new ConvertingFieldParser<>(converter), accumulator, csvColumnPosition);
+    }
+
+    /**
+     * @since 0.11
+     */
+    public ColumnBuilder(FieldParser<T> parser, Accumulator<T> accumulator, int csvColumnPosition) {
+        this.parser = parser;
         this.accumulator = accumulator;
         this.csvColumnPosition = csvColumnPosition;
     }
 
-    public void add(CSVRecord record) {
-        converter.convertAndStore(record.get(csvColumnPosition), accumulator);
+    /**
+     * A constructor for subclasses that manage the parsing and storage of values on their own.
+     *
+     * @since 0.11
+     */
+    protected ColumnBuilder(int csvColumnPosition) {
+        this.csvColumnPosition = csvColumnPosition;
+    }
+
+    /**
+     * @since 0.11
+     */
+    public void add(CsvRecordCursor record) {
+        parser.parseAndStore(record, csvColumnPosition, accumulator);
     }
 
     public void add(CsvCell<?>[] values) {
@@ -32,8 +50,11 @@ public class ColumnBuilder<T> {
         vhColumn.store(accumulator);
     }
 
-    public void set(int pos, CSVRecord record) {
-        converter.convertAndStore(pos, record.get(csvColumnPosition), accumulator);
+    /**
+     * @since 0.11
+     */
+    public void set(int pos, CsvRecordCursor record) {
+        parser.parseAndStore(pos, record, csvColumnPosition, accumulator);
     }
 
     public void set(int pos, CsvCell<?>[] values) {
@@ -42,6 +63,13 @@ public class ColumnBuilder<T> {
         vhColumn.store(pos, accumulator);
     }
 
+    /**
+     * @since 0.11
+     */
+    public void sizeHint(int expectedSize) {
+        accumulator.sizeHint(expectedSize);
+    }
+
     public Series<T> toColumn() {
         return accumulator.toSeries();
     }
@@ -1,13 +1,11 @@
 package com.nhl.dflib.csv.loader;
 
-import com.nhl.dflib.BooleanValueMapper;
 import com.nhl.dflib.DoubleValueMapper;
 import com.nhl.dflib.Index;
 import com.nhl.dflib.IntValueMapper;
 import com.nhl.dflib.LongValueMapper;
 import com.nhl.dflib.ValueMapper;
 import com.nhl.dflib.accumulator.BooleanAccumulator;
-import com.nhl.dflib.accumulator.BooleanConverter;
 import com.nhl.dflib.accumulator.BooleanHolder;
 import com.nhl.dflib.accumulator.DoubleAccumulator;
 import com.nhl.dflib.accumulator.DoubleConverter;
@@ -23,6 +21,7 @@ import com.nhl.dflib.accumulator.ObjectConverter;
 import com.nhl.dflib.accumulator.ObjectHolder;
 
 import java.util.List;
+import java.util.function.IntFunction;
 
 /**
  * A encapsulates user-provided configuration for {@link com.nhl.dflib.csv.CsvLoader}.
@@ -34,18 +33,39 @@ public class ColumnConfig {
     private int columnPosition;
     private String columnName;
     private ColumnType type;
-
-    private ObjectConverter<String, ?> objectConverter;
-    private IntConverter<String> intConverter;
-    private LongConverter<String> longConverter;
-    private DoubleConverter<String> doubleConverter;
-    private BooleanConverter<String> booleanConverter;
+    private FieldParser<?> parser;
+    private InferredType inferredType;
+    private boolean inferredNullable;
 
     private ColumnConfig() {
         columnPosition = -1;
     }
 
+    private static ColumnConfig create(int pos, ColumnType type, FieldParser<?> parser) {
+        ColumnConfig config = new ColumnConfig();
+        config.type = type;
+        config.columnPosition = pos;
+        config.parser = parser;
+        return config;
+    }
+
+    private static ColumnConfig create(String name, ColumnType type, FieldParser<?> parser) {
+        ColumnConfig config = new ColumnConfig();
+        config.type = type;
+        config.columnName = name;
+        config.parser = parser;
+        return config;
+    }
+
     public static ColumnConfig[] normalize(Index columns, List<ColumnConfig> configs) {
+        return normalize(columns, configs, i -> objectColumn(i, v -> v));
+    }
+
+    /**
+     * @param defaultConfig a function that creates configs for the columns without explicit configuration
+     * @since 0.11
+     */
+    public static ColumnConfig[] normalize(Index columns, List<ColumnConfig> configs, IntFunction<ColumnConfig> defaultConfig) {
         int w = columns.size();
         ColumnConfig[] normalized = new ColumnConfig[w];
 
@@ -58,7 +78,7 @@ public class ColumnConfig {
         // fill empty positions
         for (int i = 0; i < w; i++) {
             if (normalized[i] == null) {
-                normalized[i] = objectColumn(i, v -> v);
+                normalized[i] = defaultConfig.apply(i);
             }
         }
 
@@ -66,109 +86,173 @@ public class ColumnConfig {
     }
 
     public static ColumnConfig objectColumn(int pos, ValueMapper<String, ?> mapper) {
-        ColumnConfig config = new ColumnConfig();
-        config.type = ColumnType.object;
-        config.columnPosition = pos;
-        config.objectConverter = new ObjectConverter<>(mapper);
-        return config;
+        return create(pos, ColumnType.object, new ConvertingFieldParser<>(new ObjectConverter<>(mapper)));
     }
 
     public static ColumnConfig objectColumn(String name, ValueMapper<String, ?> mapper) {
-        ColumnConfig config = new ColumnConfig();
-        config.type = ColumnType.object;
-        config.columnName = name;
-        config.objectConverter = new ObjectConverter<>(mapper);
-        return config;
+        return create(name, ColumnType.object, new ConvertingFieldParser<>(new ObjectConverter<>(mapper)));
     }
 
     public static ColumnConfig intColumn(int pos) {
-        return intColumn(pos, IntValueMapper.fromString());
+        return create(pos, ColumnType.intPrimitive, IntFieldParser.create());
     }
 
     public static ColumnConfig intColumn(String name) {
-        return intColumn(name, IntValueMapper.fromString());
+        return create(name, ColumnType.intPrimitive, IntFieldParser.create());
+    }
+
+    /**
+     * @since 0.11
+     */
+    public static ColumnConfig intColumn(int pos, int forNull) {
+        return create(pos, ColumnType.intPrimitive, IntFieldParser.create(forNull));
+    }
+
+    /**
+     * @since 0.11
+     */
+    public static ColumnConfig intColumn(String name, int forNull) {
+        return create(name, ColumnType.intPrimitive, IntFieldParser.create(forNull));
     }
 
     public static ColumnConfig intColumn(int pos, IntValueMapper<String> mapper) {
-        ColumnConfig config = new ColumnConfig();
-        config.type = ColumnType.intPrimitive;
-        config.columnPosition = pos;
-        config.intConverter = new IntConverter<>(mapper);
-        return config;
+        return create(pos, ColumnType.intPrimitive, new ConvertingFieldParser<>(new IntConverter<>(mapper)));
     }
 
     public static ColumnConfig intColumn(String name, IntValueMapper<String> mapper) {
-        ColumnConfig config = new ColumnConfig();
-        config.type = ColumnType.intPrimitive;
-        config.columnName = name;
-        config.intConverter = new IntConverter<>(mapper);
-        return config;
+        return create(name, ColumnType.intPrimitive, new ConvertingFieldParser<>(new IntConverter<>(mapper)));
     }
 
     public static ColumnConfig longColumn(int pos) {
-        return longColumn(pos, LongValueMapper.fromString());
+        return create(pos, ColumnType.longPrimitive, LongFieldParser.create());
     }
 
     public static ColumnConfig longColumn(String name) {
-        return longColumn(name, LongValueMapper.fromString());
+        return create(name, ColumnType.longPrimitive, LongFieldParser.create());
+    }
+
+    /**
+     * @since 0.11
+     */
+    public static ColumnConfig longColumn(int pos, long forNull) {
+        return create(pos, ColumnType.longPrimitive, LongFieldParser.create(forNull));
+    }
+
+    /**
+     * @since 0.11
+     */
+    public static ColumnConfig longColumn(String name, long forNull) {
+        return create(name, ColumnType.longPrimitive, LongFieldParser.create(forNull));
     }
 
     public static ColumnConfig longColumn(int pos, LongValueMapper<String> mapper) {
-        ColumnConfig config = new ColumnConfig();
-        config.type = ColumnType.longPrimitive;
-        config.columnPosition = pos;
-        config.longConverter = new LongConverter<>(mapper);
-        return config;
+        return create(pos, ColumnType.longPrimitive, new ConvertingFieldParser<>(new LongConverter<>(mapper)));
     }
 
     public static ColumnConfig longColumn(String name, LongValueMapper<String> mapper) {
-        ColumnConfig config = new ColumnConfig();
-        config.type = ColumnType.longPrimitive;
-        config.columnName = name;
-        config.longConverter = new LongConverter<>(mapper);
-        return config;
+        return create(name, ColumnType.longPrimitive, new ConvertingFieldParser<>(new LongConverter<>(mapper)));
     }
 
     public static ColumnConfig doubleColumn(int pos) {
-        return doubleColumn(pos, DoubleValueMapper.fromString());
+        return create(pos, ColumnType.doublePrimitive, DoubleFieldParser.create());
     }
 
     public static ColumnConfig doubleColumn(String name) {
-        return doubleColumn(name, DoubleValueMapper.fromString());
+        return create(name, ColumnType.doublePrimitive, DoubleFieldParser.create());
+    }
+
+    /**
+     * @since 0.11
+     */
+    public static ColumnConfig doubleColumn(int pos, double forNull) {
+        return create(pos, ColumnType.doublePrimitive, DoubleFieldParser.create(forNull));
+    }
+
+    /**
+     * @since 0.11
+     */
+    public static ColumnConfig doubleColumn(String name, double forNull) {
+        return create(name, ColumnType.doublePrimitive, DoubleFieldParser.create(forNull));
     }
 
     public static ColumnConfig doubleColumn(int pos, DoubleValueMapper<String> mapper) {
-        ColumnConfig config = new ColumnConfig();
-        config.type = ColumnType.doublePrimitive;
-        config.columnPosition = pos;
-        config.doubleConverter = new DoubleConverter<>(mapper);
-        return config;
+        return create(pos, ColumnType.doublePrimitive, new ConvertingFieldParser<>(new DoubleConverter<>(mapper)));
     }
 
     public static ColumnConfig doubleColumn(String name, DoubleValueMapper<String> mapper) {
-        ColumnConfig config = new ColumnConfig();
-        config.type = ColumnType.doublePrimitive;
-        config.columnName = name;
-        config.doubleConverter = new DoubleConverter<>(mapper);
-        return config;
+        return create(name, ColumnType.doublePrimitive, new ConvertingFieldParser<>(new DoubleConverter<>(mapper)));
     }
 
     public static ColumnConfig booleanColumn(int pos) {
-        ColumnConfig config = new ColumnConfig();
-        config.type = ColumnType.booleanPrimitive;
-        config.columnPosition = pos;
-        config.booleanConverter = new BooleanConverter<>(BooleanValueMapper.fromString());
-        return config;
+        return create(pos, ColumnType.booleanPrimitive, new BooleanFieldParser());
     }
 
     public static ColumnConfig booleanColumn(String name) {
-        ColumnConfig config = new ColumnConfig();
-        config.type = ColumnType.booleanPrimitive;
-        config.columnName = name;
-        config.booleanConverter = new BooleanConverter<>(BooleanValueMapper.fromString());
+        return create(name, ColumnType.booleanPrimitive, new BooleanFieldParser());
+    }
+
+    /**
+     * @since 0.11
+     */
+    public static ColumnConfig dateColumn(int pos) {
+        return create(pos, ColumnType.object, new DateFieldParser());
+    }
+
+    /**
+     * @since 0.11
+     */
+    public static ColumnConfig dateColumn(String name) {
+        return create(name, ColumnType.object, new DateFieldParser());
+    }
+
+    /**
+     * @since 0.11
+     */
+    public static ColumnConfig dateTimeColumn(int pos) {
+        return create(pos, ColumnType.object, new DateTimeFieldParser());
+    }
+
+    /**
+     * @since 0.11
+     */
+    public static ColumnConfig dateTimeColumn(String name) {
+        return create(name, ColumnType.object, new DateTimeFieldParser());
+    }
+
+    /**
+     * Creates a config for a column with the type inferred from a sample of the column values. Columns with sample
+     * values of different types, or with no non-empty values, are loaded as Strings.
+     *
+     * @since 0.11
+     */
+    public static ColumnConfig inferredColumn(int pos, String[] sample) {
+
+        InferredType type = InferredType.infer(sample);
+        if (type == null || type == InferredType.STRING) {
+            return objectColumn(pos, v -> v);
+        }
+
+        boolean nullable = false;
+        for (String v : sample) {
+            if (v == null || v.isEmpty()) {
+                nullable = true;
+                break;
+            }
+        }
+
+        ColumnConfig config = create(pos, ColumnType.inferred, new InferredFieldParser(type));
+        config.inferredType = type;
+        config.inferredNullable = nullable;
         return config;
     }
 
+    /**
+     * @since 0.11
+     */
+    public boolean isInferred() {
+        return type == ColumnType.inferred;
+    }
+
     public ColumnBuilder<?> createAccumulatorColumn(int columnPosition) {
 
         // using externally passed "columnPosition", as "this.columnPosition" may not be initialized (when column name
@@ -176,15 +260,17 @@ public class ColumnConfig {
 
         switch (type) {
             case intPrimitive:
-                return new ColumnBuilder<>(intConverter, new IntAccumulator(), columnPosition);
+                return new ColumnBuilder<>((FieldParser<Integer>) parser, new IntAccumulator(), columnPosition);
             case longPrimitive:
-                return new ColumnBuilder<>(longConverter, new LongAccumulator(), columnPosition);
+                return new ColumnBuilder<>((FieldParser<Long>) parser, new LongAccumulator(), columnPosition);
             case doublePrimitive:
-                return new ColumnBuilder<>(doubleConverter, new DoubleAccumulator(), columnPosition);
+                return new ColumnBuilder<>((FieldParser<Double>) parser, new DoubleAccumulator(), columnPosition);
             case booleanPrimitive:
-                return new ColumnBuilder<>(booleanConverter, new BooleanAccumulator(), columnPosition);
+                return new ColumnBuilder<>((FieldParser<Boolean>) parser, new BooleanAccumulator(), columnPosition);
+            case inferred:
+                return new InferredColumnBuilder(inferredType, inferredNullable, columnPosition);
             default:
-                return new ColumnBuilder(objectConverter, new ObjectAccumulator<>(), columnPosition);
+                return new ColumnBuilder(parser, new ObjectAccumulator<>(), columnPosition);
         }
     }
 
@@ -195,19 +281,19 @@ public class ColumnConfig {
 
         switch (type) {
             case intPrimitive:
-                return new CsvCell<>(intConverter, new IntHolder(), columnPosition);
+                return new CsvCell<>((FieldParser<Integer>) parser, new IntHolder(), columnPosition);
             case longPrimitive:
-                return new CsvCell<>(longConverter, new LongHolder(), columnPosition);
+                return new CsvCell<>((FieldParser<Long>) parser, new LongHolder(), columnPosition);
             case doublePrimitive:
-                return new CsvCell<>(doubleConverter, new DoubleHolder(), columnPosition);
+                return new CsvCell<>((FieldParser<Double>) parser, new DoubleHolder(), columnPosition);
             case booleanPrimitive:
-                return new CsvCell<>(booleanConverter, new BooleanHolder(), columnPosition);
+                return new CsvCell<>((FieldParser<Boolean>) parser, new BooleanHolder(), columnPosition);
             default:
-                return new CsvCell(objectConverter, new ObjectHolder(), columnPosition);
+                return new CsvCell(parser, new ObjectHolder(), columnPosition);
         }
     }
 
     enum ColumnType {
-        intPrimitive, longPrimitive, doublePrimitive, booleanPrimitive, object
+        intPrimitive, longPrimitive, doublePrimitive, booleanPrimitive, object, inferred
     }
 }
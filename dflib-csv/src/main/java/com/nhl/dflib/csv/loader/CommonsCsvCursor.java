@@ -0,0 +1,88 @@
+package com.nhl.dflib.csv.loader;
+
+import org.apache.commons.csv.CSVRecord;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A {@link CsvRecordCursor} over commons-csv records. Used for the CSV formats not supported by {@link CsvTokenizer}.
+ *
+ * @since 0.11
+ */
+public class CommonsCsvCursor extends CsvRecordCursor {
+
+    private final Iterator<CSVRecord> records;
+    private CSVRecord record;
+
+    // records read since the last mark (null if not marked), and the position of the next record to replay
+    private List<CSVRecord> marked;
+    private int replayPosition;
+
+    public CommonsCsvCursor(Iterator<CSVRecord> records) {
+        this.records = records;
+    }
+
+    @Override
+    public void mark() {
+
+        // keeping the records that were read before, but not yet replayed after the previous seek
+        this.marked = marked != null
+                ? new ArrayList<>(marked.subList(replayPosition, marked.size()))
+                : new ArrayList<>();
+        this.replayPosition = 0;
+    }
+
+    @Override
+    public void seek(int record) {
+
+        if (marked == null) {
+            throw new IllegalStateException("The cursor was not marked");
+        }
+
+        if (record < 0 || record > marked.size()) {
+            throw new IllegalArgumentException("Record " + record + " was not read since the mark");
+        }
+
+        this.replayPosition = record;
+    }
+
+    @Override
+    protected boolean advance() {
+
+        if (marked != null && replayPosition < marked.size()) {
+            record = marked.get(replayPosition++);
+            return true;
+        }
+
+        if (records.hasNext()) {
+            record = records.next();
+
+            if (marked != null) {
+                marked.add(record);
+                replayPosition++;
+            }
+
+            return true;
+        }
+
+        record = null;
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return record.size();
+    }
+
+    @Override
+    public String get(int field) {
+        return record.get(field);
+    }
+
+    @Override
+    public long getCharacterPosition() {
+        return record.getCharacterPosition();
+    }
+}
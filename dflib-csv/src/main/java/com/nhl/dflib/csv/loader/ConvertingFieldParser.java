@@ -0,0 +1,34 @@
+package com.nhl.dflib.csv.loader;
+
+import com.nhl.dflib.accumulator.Accumulator;
+import com.nhl.dflib.accumulator.ValueConverter;
+import com.nhl.dflib.accumulator.ValueHolder;
+
+/**
+ * A {@link FieldParser} that reads the field as a String and passes it to a {@link ValueConverter}.
+ *
+ * @since 0.11
+ */
+class ConvertingFieldParser<T> implements FieldParser<T> {
+
+    private final ValueConverter<String, T> converter;
+
+    ConvertingFieldParser(ValueConverter<String, T> converter) {
+        this.converter = converter;
+    }
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, ValueHolder<T> holder) {
+        converter.convertAndStore(record.get(field), holder);
+    }
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, Accumulator<T> accumulator) {
+        converter.convertAndStore(record.get(field), accumulator);
+    }
+
+    @Override
+    public void parseAndStore(int pos, CsvRecordCursor record, int field, Accumulator<T> accumulator) {
+        converter.convertAndStore(pos, record.get(field), accumulator);
+    }
+}
@@ -3,7 +3,6 @@ package com.nhl.dflib.csv.loader;
 import com.nhl.dflib.accumulator.Accumulator;
 import com.nhl.dflib.accumulator.ValueConverter;
 import com.nhl.dflib.accumulator.ValueHolder;
-import org.apache.commons.csv.CSVRecord;
 
 /**
  * An intermediary holder of CSV values that allows to do conversion and filtering before accumulating values for
@@ -13,18 +12,28 @@ import org.apache.commons.csv.CSVRecord;
  */
 public class CsvCell<T> {
 
-    private ValueConverter<String, T> converter;
+    private FieldParser<T> parser;
     private ValueHolder<T> holder;
     private int csvColumnPosition;
 
     public CsvCell(ValueConverter<String, T> converter, ValueHolder<T> holder, int csvColumnPosition) {
-        this.converter = converter;
+        this(new ConvertingFieldParser<>(converter), holder, csvColumnPosition);
+    }
+
+    /**
+     * @since 0.11
+     */
+    public CsvCell(FieldParser<T> parser, ValueHolder<T> holder, int csvColumnPosition) {
+        this.parser = parser;
         this.holder = holder;
         this.csvColumnPosition = csvColumnPosition;
     }
 
-    public void set(CSVRecord record) {
-        converter.convertAndStore(record.get(csvColumnPosition), holder);
+    /**
+     * @since 0.11
+     */
+    public void set(CsvRecordCursor record) {
+        parser.parseAndStore(record, csvColumnPosition, holder);
     }
 
     public void store(Accumulator<T> accumulator) {
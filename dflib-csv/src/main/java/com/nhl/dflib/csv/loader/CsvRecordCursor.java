@@ -0,0 +1,121 @@
+package com.nhl.dflib.csv.loader;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A forward-only cursor over CSV records that provides access to the fields of the current record. Besides returning
+ * field values as Strings, it can parse them as primitives and dates. Subclasses may override the parsing methods to
+ * read values without creating intermediate Strings. Parsing methods must produce the same results (and throw the
+ * same exceptions) as the corresponding JDK methods applied to the field String.
+ *
+ * @since 0.11
+ */
+public abstract class CsvRecordCursor {
+
+    private boolean pushedBack;
+
+    /**
+     * Advances the cursor to the next record.
+     *
+     * @return false if there are no more records
+     */
+    public boolean next() {
+
+        if (pushedBack) {
+            pushedBack = false;
+            return true;
+        }
+
+        return advance();
+    }
+
+    /**
+     * Makes the next call to {@link #next()} return the current record again. Allows to check whether there are any
+     * records without consuming the first one.
+     */
+    public void pushBack() {
+        pushedBack = true;
+    }
+
+    /**
+     * Tells the cursor which fields of the following records will be read. Values of the fields that are not selected
+     * may become unavailable, allowing the cursor to skip them without parsing. The default implementation does
+     * nothing.
+     *
+     * @param fields a flag per field position, with missing positions at the end treated as not selected
+     */
+    public void selectFields(boolean[] fields) {
+        // do nothing by default
+    }
+
+    /**
+     * Marks the current position of the cursor, so that the records following the current record can be read again
+     * via {@link #seek(int)}, until the next call to this method. Field selection is not a part of the mark, so the
+     * records can be read again with a different set of selected fields. The default implementation throws
+     * UnsupportedOperationException.
+     */
+    public void mark() {
+        throw new UnsupportedOperationException("Mark is not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Rewinds the cursor to a record read since the last call to {@link #mark()}, so that the next call to
+     * {@link #next()} returns that record. The default implementation throws UnsupportedOperationException.
+     *
+     * @param record a zero-based number of the record counted from the mark. Zero can be used even if no records were
+     *               read since the mark.
+     */
+    public void seek(int record) {
+        throw new UnsupportedOperationException("Seek is not supported by " + getClass().getSimpleName());
+    }
+
+    protected abstract boolean advance();
+
+    /**
+     * Returns the number of fields in the current record.
+     */
+    public abstract int size();
+
+    /**
+     * Returns a String value of the field of the current record, or null if the field matches the format "null
+     * String".
+     *
+     * @throws ArrayIndexOutOfBoundsException if the field is outside the current record
+     */
+    public abstract String get(int field);
+
+    /**
+     * Returns the position of the first character of the current record in the input.
+     */
+    public abstract long getCharacterPosition();
+
+    public boolean isNullOrEmpty(int field) {
+        String s = get(field);
+        return s == null || s.length() == 0;
+    }
+
+    public int getInt(int field) {
+        return Integer.parseInt(get(field));
+    }
+
+    public long getLong(int field) {
+        return Long.parseLong(get(field));
+    }
+
+    public double getDouble(int field) {
+        return Double.parseDouble(get(field));
+    }
+
+    public boolean getBoolean(int field) {
+        return Boolean.parseBoolean(get(field));
+    }
+
+    public LocalDate getDate(int field) {
+        return LocalDate.parse(get(field));
+    }
+
+    public LocalDateTime getDateTime(int field) {
+        return LocalDateTime.parse(get(field));
+    }
+}
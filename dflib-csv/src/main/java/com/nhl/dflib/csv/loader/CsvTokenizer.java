@@ -0,0 +1,856 @@
+package com.nhl.dflib.csv.loader;
+
+import org.apache.commons.csv.CSVFormat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.util.Arrays;
+
+/**
+ * A CSV parser that reads the input into a char buffer and splits records into fields in place. Unlike commons-csv
+ * parser, it doesn't create a String for every field. Numbers, booleans and dates are parsed directly from the buffer,
+ * and Strings are only created when requested via {@link #get(int)}. For the supported formats (see
+ * {@link #supports(CSVFormat)}) produces the same records as commons-csv.
+ *
+ * @since 0.11
+ */
+public class CsvTokenizer extends CsvRecordCursor {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    // powers of ten that are exactly representable as doubles
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final Reader reader;
+    private final char delimiter;
+    private final int quote;
+    private final boolean ignoreEmptyLines;
+    private final boolean trim;
+    private final boolean trailingDelimiter;
+    private final char[] nullString;
+
+    private char[] buffer;
+    private int bufferEnd;
+    private int position;
+    private boolean eof;
+    private boolean done;
+
+    // the marked position (or -1 if not marked), the positions where the reading of the records after the mark
+    // started, and the number of the next record counted from the mark
+    private int mark;
+    private boolean markDone;
+    private int[] markedRecords;
+    private int markedCount;
+    private int nextMarkedRecord;
+
+    // the number of chars consumed before the start of the buffer
+    private long bufferOffset;
+
+    private int recordStart;
+    private int[] starts;
+    private int[] ends;
+    private boolean[] escapes;
+    private int size;
+    private boolean lastFieldEmpty;
+
+    // fields that need to be captured (null if all), and the number of leading fields that may need capturing. The
+    // fields past the limit are not stored at all
+    private boolean[] selectedFields;
+    private int fieldLimit;
+
+    public CsvTokenizer(Reader reader, CSVFormat format) {
+        this(reader, format, DEFAULT_BUFFER_SIZE);
+    }
+
+    CsvTokenizer(Reader reader, CSVFormat format, int bufferSize) {
+
+        if (!supports(format)) {
+            throw new IllegalArgumentException("CSV format is not supported by the tokenizer: " + format);
+        }
+
+        this.reader = reader;
+        this.delimiter = format.getDelimiter();
+        this.quote = format.isQuoteCharacterSet() ? format.getQuoteCharacter() : -1;
+        this.ignoreEmptyLines = format.getIgnoreEmptyLines();
+        this.trim = format.getTrim();
+        this.trailingDelimiter = format.getTrailingDelimiter();
+        this.nullString = format.getNullString() != null ? format.getNullString().toCharArray() : null;
+
+        this.buffer = new char[bufferSize];
+        this.starts = new int[16];
+        this.ends = new int[16];
+        this.escapes = new boolean[16];
+        this.fieldLimit = Integer.MAX_VALUE;
+        this.mark = -1;
+    }
+
+    /**
+     * Returns whether the tokenizer can parse the CSV format. Formats with comments, escapes, ignored surrounding
+     * spaces or a header are not supported.
+     */
+    public static boolean supports(CSVFormat format) {
+        return !format.isCommentMarkerSet()
+                && !format.isEscapeCharacterSet()
+                && !format.getIgnoreSurroundingSpaces()
+                && format.getHeader() == null
+                && !format.getSkipHeaderRecord();
+    }
+
+    /**
+     * Makes the tokenizer skip the fields that are not selected, only finding where they end without unescaping or
+     * trimming them, and without storing their positions. Fields after the last selected field are scanned for the
+     * record end only.
+     */
+    @Override
+    public void selectFields(boolean[] fields) {
+
+        int limit = fields.length;
+        while (limit > 0 && !fields[limit - 1]) {
+            limit--;
+        }
+
+        this.selectedFields = Arrays.copyOf(fields, limit);
+        this.fieldLimit = limit;
+    }
+
+    @Override
+    protected boolean advance() {
+        try {
+            return readRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading CSV", e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getCharacterPosition() {
+        return bufferOffset + recordStart;
+    }
+
+    /**
+     * Remembers the current position, so that the records following the current record can be read again via
+     * {@link #seek(int)}. The input consumed after the mark is kept in memory until the next call to this method.
+     */
+    @Override
+    public void mark() {
+        this.mark = position;
+        this.markDone = done;
+        this.markedCount = 0;
+        this.nextMarkedRecord = 0;
+
+        if (markedRecords == null) {
+            markedRecords = new int[16];
+        }
+    }
+
+    @Override
+    public void seek(int record) {
+
+        if (mark < 0) {
+            throw new IllegalStateException("The tokenizer was not marked");
+        }
+
+        if (record < 0 || (record > 0 && record >= markedCount)) {
+            throw new IllegalArgumentException("Record " + record + " was not read since the mark");
+        }
+
+        // a record that was read before is not past the end of the input, unless the input ended right at the mark
+        this.position = record > 0 ? markedRecords[record] : mark;
+        this.done = record > 0 ? false : markDone;
+        this.recordStart = position;
+        this.nextMarkedRecord = record;
+        this.size = 0;
+    }
+
+    @Override
+    public String get(int field) {
+        int start = start(field);
+        int len = ends[field] - start;
+
+        if (escapes[field]) {
+            String s = unescape(start, ends[field]);
+            return nullString != null && s.equals(String.valueOf(nullString)) ? null : s;
+        }
+
+        return isNullString(start, len) ? null : new String(buffer, start, len);
+    }
+
+    @Override
+    public boolean isNullOrEmpty(int field) {
+        int start = start(field);
+        int len = ends[field] - start;
+
+        if (escapes[field]) {
+            return super.isNullOrEmpty(field);
+        }
+
+        return len == 0 || isNullString(start, len);
+    }
+
+    @Override
+    public int getInt(int field) {
+
+        int start = start(field);
+        int end = ends[field];
+
+        if (escapes[field]) {
+            return super.getInt(field);
+        }
+
+        // at most 10 digits and a sign can be accumulated in a long without an overflow
+        if (end - start <= 11 && !isNullString(start, end - start)) {
+            long v = parseLong(start, end);
+            if (v >= Integer.MIN_VALUE && v <= Integer.MAX_VALUE) {
+                return (int) v;
+            }
+        }
+
+        // let the JDK parse or report an error
+        return super.getInt(field);
+    }
+
+    @Override
+    public long getLong(int field) {
+
+        int start = start(field);
+        int end = ends[field];
+
+        if (escapes[field]) {
+            return super.getLong(field);
+        }
+
+        // at most 18 digits can be accumulated without an overflow
+        if (end - start <= 18 && !isNullString(start, end - start)) {
+            long v = parseLong(start, end);
+            if (v != Long.MIN_VALUE) {
+                return v;
+            }
+        }
+
+        return super.getLong(field);
+    }
+
+    @Override
+    public double getDouble(int field) {
+
+        int start = start(field);
+        int end = ends[field];
+
+        if (escapes[field]) {
+            return super.getDouble(field);
+        }
+
+        if (!isNullString(start, end - start)) {
+            double v = parseDouble(start, end);
+            if (!Double.isNaN(v)) {
+                return v;
+            }
+        }
+
+        return super.getDouble(field);
+    }
+
+    @Override
+    public boolean getBoolean(int field) {
+
+        int start = start(field);
+        int len = ends[field] - start;
+
+        if (escapes[field]) {
+            return super.getBoolean(field);
+        }
+
+        // replicating Boolean.parseBoolean(..), i.e. "equalsIgnoreCase"
+        return len == 4
+                && !isNullString(start, len)
+                && equalsIgnoreCase(buffer[start], 't')
+                && equalsIgnoreCase(buffer[start + 1], 'r')
+                && equalsIgnoreCase(buffer[start + 2], 'u')
+                && equalsIgnoreCase(buffer[start + 3], 'e');
+    }
+
+    @Override
+    public LocalDate getDate(int field) {
+
+        int start = start(field);
+
+        if (escapes[field]) {
+            return super.getDate(field);
+        }
+
+        if (ends[field] - start == 10 && !isNullString(start, 10)) {
+            LocalDate date = parseDate(start);
+            if (date != null) {
+                return date;
+            }
+        }
+
+        return super.getDate(field);
+    }
+
+    @Override
+    public LocalDateTime getDateTime(int field) {
+
+        int start = start(field);
+        int len = ends[field] - start;
+
+        if (escapes[field]) {
+            return super.getDateTime(field);
+        }
+
+        if (len >= 16 && !isNullString(start, len)) {
+            LocalDateTime dateTime = parseDateTime(start, len);
+            if (dateTime != null) {
+                return dateTime;
+            }
+        }
+
+        return super.getDateTime(field);
+    }
+
+    private int start(int field) {
+        if (field >= size) {
+            throw new ArrayIndexOutOfBoundsException(field);
+        }
+
+        int start = field < fieldLimit ? starts[field] : -1;
+        if (start < 0) {
+            throw new IllegalStateException("Field " + field + " was not selected");
+        }
+
+        return start;
+    }
+
+    // replaces doubled quotes with single quote chars
+    private String unescape(int start, int end) {
+
+        char[] chars = new char[end - start];
+        int len = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = buffer[i];
+            chars[len++] = c;
+
+            if (c == quote) {
+                i++;
+            }
+        }
+
+        return new String(chars, 0, len);
+    }
+
+    private boolean isNullString(int start, int len) {
+
+        if (nullString == null || nullString.length != len) {
+            return false;
+        }
+
+        for (int i = 0; i < len; i++) {
+            if (buffer[start + i] != nullString[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // parses an optionally signed sequence of decimal digits; returns Long.MIN_VALUE if the chars are not a plain
+    // number, leaving it to the JDK to handle it
+    private long parseLong(int start, int end) {
+
+        int p = start;
+        boolean negative = false;
+
+        if (p < end && (buffer[p] == '-' || buffer[p] == '+')) {
+            negative = buffer[p] == '-';
+            p++;
+        }
+
+        if (p == end) {
+            return Long.MIN_VALUE;
+        }
+
+        long v = 0;
+        for (; p < end; p++) {
+            int d = buffer[p] - '0';
+            if (d < 0 || d > 9) {
+                return Long.MIN_VALUE;
+            }
+
+            v = v * 10 + d;
+        }
+
+        return negative ? -v : v;
+    }
+
+    // parses decimal numbers that can be converted to double exactly, i.e. with at most 15 significant digits and a
+    // small decimal exponent; returns NaN for anything else, leaving it to the JDK to parse
+    private double parseDouble(int start, int end) {
+
+        int p = start;
+        boolean negative = false;
+
+        if (p < end && (buffer[p] == '-' || buffer[p] == '+')) {
+            negative = buffer[p] == '-';
+            p++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean hasDigits = false;
+        boolean fraction = false;
+
+        for (; p < end; p++) {
+            char c = buffer[p];
+
+            if (c == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+
+            int d = c - '0';
+            if (d < 0 || d > 9) {
+                break;
+            }
+
+            hasDigits = true;
+            if (mantissa != 0 || d != 0) {
+                if (++significantDigits > 15) {
+                    return Double.NaN;
+                }
+            }
+
+            mantissa = mantissa * 10 + d;
+            if (fraction) {
+                fractionDigits++;
+            }
+        }
+
+        if (!hasDigits) {
+            return Double.NaN;
+        }
+
+        int exponent = 0;
+        if (p < end && (buffer[p] == 'e' || buffer[p] == 'E')) {
+            p++;
+
+            boolean negativeExponent = false;
+            if (p < end && (buffer[p] == '-' || buffer[p] == '+')) {
+                negativeExponent = buffer[p] == '-';
+                p++;
+            }
+
+            if (p == end || end - p > 3) {
+                return Double.NaN;
+            }
+
+            for (; p < end; p++) {
+                int d = buffer[p] - '0';
+                if (d < 0 || d > 9) {
+                    return Double.NaN;
+                }
+
+                exponent = exponent * 10 + d;
+            }
+
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+
+        if (p != end) {
+            return Double.NaN;
+        }
+
+        // the mantissa and the power of ten are exact, so a single multiplication or division gives a correctly
+        // rounded result
+        int e10 = exponent - fractionDigits;
+        double v;
+        if (mantissa == 0) {
+            v = 0.;
+        } else if (e10 >= 0 && e10 < POWERS_OF_TEN.length) {
+            v = mantissa * POWERS_OF_TEN[e10];
+        } else if (e10 < 0 && -e10 < POWERS_OF_TEN.length) {
+            v = mantissa / POWERS_OF_TEN[-e10];
+        } else {
+            return Double.NaN;
+        }
+
+        return negative ? -v : v;
+    }
+
+    // parses "yyyy-MM-dd" dates; returns null for anything else, leaving it to the JDK to parse or report an error
+    private LocalDate parseDate(int start) {
+
+        if (buffer[start + 4] != '-' || buffer[start + 7] != '-') {
+            return null;
+        }
+
+        int y = digits(start, 4);
+        int m = digits(start + 5, 2);
+        int d = digits(start + 8, 2);
+
+        if (y < 0 || m < 1 || m > 12 || d < 1 || d > Month.of(m).length(Year.isLeap(y))) {
+            return null;
+        }
+
+        return LocalDate.of(y, m, d);
+    }
+
+    // parses "yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]]" date-times; returns null for anything else
+    private LocalDateTime parseDateTime(int start, int len) {
+
+        if (buffer[start + 10] != 'T' || buffer[start + 13] != ':') {
+            return null;
+        }
+
+        LocalDate date = parseDate(start);
+        int h = digits(start + 11, 2);
+        int min = digits(start + 14, 2);
+
+        if (date == null || h < 0 || h > 23 || min < 0 || min > 59) {
+            return null;
+        }
+
+        int s = 0;
+        int nanos = 0;
+
+        if (len > 16) {
+
+            if (len < 19 || buffer[start + 16] != ':' || len == 20 || len > 29) {
+                return null;
+            }
+
+            s = digits(start + 17, 2);
+            if (s < 0 || s > 59) {
+                return null;
+            }
+
+            if (len > 19) {
+
+                if (buffer[start + 19] != '.') {
+                    return null;
+                }
+
+                int fractionDigits = len - 20;
+                int fraction = digits(start + 20, fractionDigits);
+                if (fraction < 0) {
+                    return null;
+                }
+
+                nanos = fraction;
+                for (int i = fractionDigits; i < 9; i++) {
+                    nanos *= 10;
+                }
+            }
+        }
+
+        return LocalDateTime.of(date.getYear(), date.getMonth(), date.getDayOfMonth(), h, min, s, nanos);
+    }
+
+    // returns a non-negative number made of "len" digits or -1 if there are non-digit chars
+    private int digits(int start, int len) {
+        int v = 0;
+        for (int i = 0; i < len; i++) {
+            int d = buffer[start + i] - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+
+            v = v * 10 + d;
+        }
+
+        return v;
+    }
+
+    // the same char comparison as done by String.equalsIgnoreCase
+    private static boolean equalsIgnoreCase(char c, char lowerCase) {
+
+        if (c == lowerCase) {
+            return true;
+        }
+
+        char u1 = Character.toUpperCase(c);
+        char u2 = Character.toUpperCase(lowerCase);
+        return u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2);
+    }
+
+    private boolean readRecord() throws IOException {
+
+        // the previous record is no longer needed
+        size = 0;
+        recordStart = position;
+
+        // when reading the records after a seek, their positions are already known
+        if (mark >= 0 && nextMarkedRecord == markedCount) {
+            if (markedCount == markedRecords.length) {
+                markedRecords = Arrays.copyOf(markedRecords, markedCount * 2);
+            }
+
+            // stored before reading the record, so that it is shifted together with the buffer contents
+            markedRecords[markedCount] = position;
+        }
+
+        if (done || !ensureAvailable()) {
+            return false;
+        }
+
+        if (ignoreEmptyLines) {
+            while (buffer[position] == '\n' || buffer[position] == '\r') {
+                skipEndOfLine();
+                recordStart = position;
+
+                if (!ensureAvailable()) {
+                    return false;
+                }
+            }
+        }
+
+        while (!readField()) {
+            // keep reading fields until the end of record
+        }
+
+        // same as commons-csv, ignoring an empty last value when the trailing delimiter is expected
+        if (trailingDelimiter && lastFieldEmpty) {
+            size--;
+
+            // commons-csv treats a record with no values as the end of the input
+            if (size == 0) {
+                done = true;
+                return false;
+            }
+        }
+
+        if (mark >= 0) {
+            if (nextMarkedRecord++ == markedCount) {
+                markedCount++;
+            }
+        }
+
+        return true;
+    }
+
+    // reads a field and returns true if it was the last field of the record
+    private boolean readField() throws IOException {
+
+        boolean capture = size < fieldLimit && (selectedFields == null || selectedFields[size]);
+
+        // EOF right after a delimiter is an empty field
+        if (!ensureAvailable()) {
+            addField(position, position, capture, false);
+            return true;
+        }
+
+        if (buffer[position] == quote) {
+            return readQuotedField(capture);
+        }
+
+        int start = position;
+        while (true) {
+
+            if (position == bufferEnd) {
+                start -= fill();
+                if (position == bufferEnd) {
+                    addField(start, position, capture, false);
+                    return true;
+                }
+            }
+
+            char c = buffer[position];
+            if (c == delimiter) {
+                addField(start, position, capture, false);
+                position++;
+                return false;
+            }
+
+            if (c == '\n' || c == '\r') {
+                addField(start, position, capture, false);
+                skipEndOfLine();
+                return true;
+            }
+
+            position++;
+        }
+    }
+
+    // finds the end of a quoted field. The value is not unescaped in place, so that the record can be read again
+    // after a seek. Instead, the fields with doubled quotes are flagged and unescaped when accessed
+    private boolean readQuotedField(boolean capture) throws IOException {
+
+        // skip the opening quote
+        position++;
+
+        int start = position;
+        boolean escaped = false;
+
+        while (true) {
+
+            if (position == bufferEnd) {
+                start -= fill();
+                if (position == bufferEnd) {
+                    throw new IOException("EOF reached before encapsulated token finished");
+                }
+            }
+
+            if (buffer[position++] == quote) {
+
+                if (position == bufferEnd) {
+                    start -= fill();
+                }
+
+                // a doubled quote is a quote char within the value
+                if (position == bufferEnd || buffer[position] != quote) {
+                    break;
+                }
+
+                escaped = true;
+                position++;
+            }
+        }
+
+        // the escaped value is empty only if its quoted form is empty (or blank if trimmed), so the range between the
+        // quotes is enough to handle the trailing delimiter
+        addField(start, position - 1, capture, escaped);
+        return readAfterClosingQuote();
+    }
+
+    private boolean readAfterClosingQuote() throws IOException {
+
+        // only whitespace is allowed between the closing quote and the delimiter
+        while (true) {
+
+            if (!ensureAvailable()) {
+                return true;
+            }
+
+            char c = buffer[position];
+            if (c == delimiter) {
+                position++;
+                return false;
+            }
+
+            if (c == '\n' || c == '\r') {
+                skipEndOfLine();
+                return true;
+            }
+
+            if (!Character.isWhitespace(c)) {
+                throw new IOException("Invalid char between encapsulated token and delimiter at position "
+                        + (bufferOffset + position));
+            }
+
+            position++;
+        }
+    }
+
+    private void addField(int start, int end, boolean capture, boolean escaped) {
+
+        // skipped fields are only trimmed to check whether the trailing delimiter value is empty
+        if (trim && (capture || trailingDelimiter)) {
+            // same as String.trim()
+            while (start < end && buffer[start] <= ' ') {
+                start++;
+            }
+
+            while (end > start && buffer[end - 1] <= ' ') {
+                end--;
+            }
+        }
+
+        if (size < fieldLimit) {
+
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                escapes = Arrays.copyOf(escapes, size * 2);
+            }
+
+            starts[size] = capture ? start : -1;
+            ends[size] = end;
+            escapes[size] = escaped;
+        }
+
+        lastFieldEmpty = start == end;
+        size++;
+    }
+
+    // skips "\n", "\r" or "\r\n"
+    private void skipEndOfLine() throws IOException {
+        char c = buffer[position++];
+        if (c == '\r' && ensureAvailable() && buffer[position] == '\n') {
+            position++;
+        }
+    }
+
+    private boolean ensureAvailable() throws IOException {
+        if (position < bufferEnd) {
+            return true;
+        }
+
+        fill();
+        return position < bufferEnd;
+    }
+
+    // reads more chars into the buffer, moving the current record (or the marked position if it is before the record)
+    // to the start of the buffer, and growing the buffer if the record doesn't fit. Returns the number of positions
+    // the buffer contents were shifted by
+    private int fill() throws IOException {
+
+        if (eof) {
+            return 0;
+        }
+
+        int shift = mark >= 0 ? Math.min(mark, recordStart) : recordStart;
+        if (shift > 0) {
+            System.arraycopy(buffer, shift, buffer, 0, bufferEnd - shift);
+            bufferEnd -= shift;
+            position -= shift;
+            recordStart -= shift;
+            bufferOffset += shift;
+
+            if (mark >= 0) {
+                mark -= shift;
+
+                // including the record being read
+                for (int i = 0; i <= markedCount && i < markedRecords.length; i++) {
+                    markedRecords[i] -= shift;
+                }
+            }
+
+            int stored = Math.min(size, fieldLimit);
+            for (int i = 0; i < stored; i++) {
+                if (starts[i] >= 0) {
+                    starts[i] -= shift;
+                }
+                ends[i] -= shift;
+            }
+        }
+
+        if (bufferEnd == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        int read = reader.read(buffer, bufferEnd, buffer.length - bufferEnd);
+        if (read < 0) {
+            eof = true;
+        } else {
+            bufferEnd += read;
+        }
+
+        return shift;
+    }
+}
@@ -0,0 +1,33 @@
+package com.nhl.dflib.csv.loader;
+
+import com.nhl.dflib.accumulator.Accumulator;
+import com.nhl.dflib.accumulator.ValueHolder;
+
+import java.time.LocalDate;
+
+/**
+ * Parses fields in the ISO format as LocalDates. Empty fields and nulls are parsed as nulls.
+ *
+ * @since 0.11
+ */
+class DateFieldParser implements FieldParser<LocalDate> {
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, ValueHolder<LocalDate> holder) {
+        holder.set(parse(record, field));
+    }
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, Accumulator<LocalDate> accumulator) {
+        accumulator.add(parse(record, field));
+    }
+
+    @Override
+    public void parseAndStore(int pos, CsvRecordCursor record, int field, Accumulator<LocalDate> accumulator) {
+        accumulator.set(pos, parse(record, field));
+    }
+
+    private LocalDate parse(CsvRecordCursor record, int field) {
+        return record.isNullOrEmpty(field) ? null : record.getDate(field);
+    }
+}
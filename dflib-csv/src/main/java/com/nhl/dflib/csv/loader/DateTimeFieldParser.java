@@ -0,0 +1,33 @@
+package com.nhl.dflib.csv.loader;
+
+import com.nhl.dflib.accumulator.Accumulator;
+import com.nhl.dflib.accumulator.ValueHolder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Parses fields in the ISO format as LocalDateTimes. Empty fields and nulls are parsed as nulls.
+ *
+ * @since 0.11
+ */
+class DateTimeFieldParser implements FieldParser<LocalDateTime> {
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, ValueHolder<LocalDateTime> holder) {
+        holder.set(parse(record, field));
+    }
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, Accumulator<LocalDateTime> accumulator) {
+        accumulator.add(parse(record, field));
+    }
+
+    @Override
+    public void parseAndStore(int pos, CsvRecordCursor record, int field, Accumulator<LocalDateTime> accumulator) {
+        accumulator.set(pos, parse(record, field));
+    }
+
+    private LocalDateTime parse(CsvRecordCursor record, int field) {
+        return record.isNullOrEmpty(field) ? null : record.getDateTime(field);
+    }
+}
@@ -0,0 +1,57 @@
+package com.nhl.dflib.csv.loader;
+
+import com.nhl.dflib.accumulator.Accumulator;
+import com.nhl.dflib.accumulator.ValueHolder;
+
+/**
+ * Parses fields as primitive doubles, using either a replacement value for empty fields and nulls, or throwing on them.
+ *
+ * @since 0.11
+ */
+class DoubleFieldParser implements FieldParser<Double> {
+
+    private final boolean hasForNull;
+    private final double forNull;
+
+    private DoubleFieldParser(boolean hasForNull, double forNull) {
+        this.hasForNull = hasForNull;
+        this.forNull = forNull;
+    }
+
+    static DoubleFieldParser create() {
+        return new DoubleFieldParser(false, 0);
+    }
+
+    static DoubleFieldParser create(double forNull) {
+        return new DoubleFieldParser(true, forNull);
+    }
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, ValueHolder<Double> holder) {
+        holder.setDouble(parse(record, field));
+    }
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, Accumulator<Double> accumulator) {
+        accumulator.addDouble(parse(record, field));
+    }
+
+    @Override
+    public void parseAndStore(int pos, CsvRecordCursor record, int field, Accumulator<Double> accumulator) {
+        accumulator.setDouble(pos, parse(record, field));
+    }
+
+    private double parse(CsvRecordCursor record, int field) {
+
+        // same null handling as DoubleValueMapper.fromString(..)
+        if (record.isNullOrEmpty(field)) {
+            if (hasForNull) {
+                return forNull;
+            }
+
+            throw new IllegalArgumentException("Can't convert a null to a primitive double");
+        }
+
+        return record.getDouble(field);
+    }
+}
@@ -0,0 +1,20 @@
+package com.nhl.dflib.csv.loader;
+
+import com.nhl.dflib.accumulator.Accumulator;
+import com.nhl.dflib.accumulator.ValueHolder;
+
+/**
+ * Converts a field of the current CSV record and passes the result to an accumulator or a holder. Similar to
+ * {@link com.nhl.dflib.accumulator.ValueConverter}, but reads the field value from a {@link CsvRecordCursor}, so that
+ * primitives and dates can be parsed without creating a String first.
+ *
+ * @since 0.11
+ */
+public interface FieldParser<T> {
+
+    void parseAndStore(CsvRecordCursor record, int field, ValueHolder<T> holder);
+
+    void parseAndStore(CsvRecordCursor record, int field, Accumulator<T> accumulator);
+
+    void parseAndStore(int pos, CsvRecordCursor record, int field, Accumulator<T> accumulator);
+}
@@ -0,0 +1,283 @@
+package com.nhl.dflib.csv.loader;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.accumulator.Accumulator;
+import com.nhl.dflib.series.ChunkedSeries;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A column builder for a column with the type inferred from a sample of CSV values. Values are parsed directly into
+ * a primitive accumulator when possible. If a value doesn't fit the current column type (e.g. a "long" in an "int"
+ * column, a null in a primitive column or a non-numeric String in a numeric column), the values accumulated so far
+ * are converted to the narrowest type that fits all values, and the loading continues with the new type. Values
+ * converted to Strings this way may differ from their original text.
+ *
+ * @since 0.11
+ */
+public class InferredColumnBuilder extends ColumnBuilder<Object> {
+
+    private final int csvColumnPosition;
+
+    private InferredType type;
+    private boolean nullable;
+    private Accumulator<Object> accumulator;
+    private int sizeHint;
+
+    InferredColumnBuilder(InferredType type, boolean nullable, int csvColumnPosition) {
+        super(csvColumnPosition);
+        this.csvColumnPosition = csvColumnPosition;
+        this.type = type;
+        this.nullable = nullable;
+        this.accumulator = type.createAccumulator(nullable);
+    }
+
+    /**
+     * Combines column chunks loaded in parallel with inferred type columns, converting the chunks to a common type if
+     * some of them ended up with different types.
+     */
+    public static Series<?> combineChunks(Series<?>[] chunks) {
+
+        InferredType[] types = new InferredType[chunks.length];
+        boolean[] nullables = new boolean[chunks.length];
+
+        InferredType commonType = null;
+        boolean commonNullable = false;
+
+        for (int i = 0; i < chunks.length; i++) {
+            nullables[i] = !isPrimitive(chunks[i]);
+            types[i] = typeOf(chunks[i]);
+
+            commonNullable |= nullables[i];
+            if (types[i] != null) {
+                commonType = commonType != null ? commonType.join(types[i]) : types[i];
+            }
+        }
+
+        // all values are nulls
+        if (commonType == null) {
+            return ChunkedSeries.of(chunks);
+        }
+
+        Series<?>[] converted = new Series[chunks.length];
+        for (int i = 0; i < chunks.length; i++) {
+            converted[i] = types[i] == commonType && nullables[i] == commonNullable
+                    ? chunks[i]
+                    : convert(chunks[i], commonType, commonNullable || !commonType.isPrimitive(), 0).toSeries();
+        }
+
+        return ChunkedSeries.of(converted);
+    }
+
+    private static boolean isPrimitive(Series<?> s) {
+        return s instanceof IntSeries || s instanceof LongSeries || s instanceof DoubleSeries || s instanceof BooleanSeries;
+    }
+
+    private static InferredType typeOf(Series<?> s) {
+
+        int len = s.size();
+        for (int i = 0; i < len; i++) {
+            Object v = s.get(i);
+            if (v instanceof Integer) {
+                return InferredType.INT;
+            } else if (v instanceof Long) {
+                return InferredType.LONG;
+            } else if (v instanceof Double) {
+                return InferredType.DOUBLE;
+            } else if (v instanceof Boolean) {
+                return InferredType.BOOLEAN;
+            } else if (v instanceof LocalDate) {
+                return InferredType.DATE;
+            } else if (v instanceof LocalDateTime) {
+                return InferredType.DATETIME;
+            } else if (v != null) {
+                return InferredType.STRING;
+            }
+        }
+
+        return null;
+    }
+
+    private static Accumulator<Object> convert(Series<?> values, InferredType type, boolean nullable, int sizeHint) {
+
+        int len = values.size();
+
+        Accumulator<Object> converted = type.createAccumulator(nullable);
+        converted.sizeHint(Math.max(len, sizeHint));
+
+        for (int i = 0; i < len; i++) {
+            converted.add(type.convert(values.get(i)));
+        }
+
+        return converted;
+    }
+
+    @Override
+    public void add(CsvRecordCursor record) {
+
+        int field = csvColumnPosition;
+
+        // the accumulator may be replaced when calculating the value, so must only be read after that
+
+        if (record.isNullOrEmpty(field)) {
+            Object v = nullValue(record, field);
+            accumulator.add(v);
+            return;
+        }
+
+        try {
+            if (nullable) {
+                accumulator.add(parse(record, field));
+                return;
+            }
+
+            switch (type) {
+                case INT:
+                    accumulator.addInt(record.getInt(field));
+                    break;
+                case LONG:
+                    accumulator.addLong(record.getLong(field));
+                    break;
+                case DOUBLE:
+                    accumulator.addDouble(record.getDouble(field));
+                    break;
+                case BOOLEAN:
+                    accumulator.addBoolean(parseBoolean(record, field));
+                    break;
+                default:
+                    accumulator.add(parse(record, field));
+            }
+        } catch (RuntimeException e) {
+            Object v = widen(record.get(field));
+            accumulator.add(v);
+        }
+    }
+
+    @Override
+    public void add(CsvCell<?>[] values) {
+        Object v = fromCell(values[csvColumnPosition].get());
+        accumulator.add(v);
+    }
+
+    @Override
+    public void set(int pos, CsvRecordCursor record) {
+
+        int field = csvColumnPosition;
+
+        // sampling loaders replacing values are not performance-critical, so using boxed values here
+        Object v;
+        if (record.isNullOrEmpty(field)) {
+            v = nullValue(record, field);
+        } else {
+            try {
+                v = parse(record, field);
+            } catch (RuntimeException e) {
+                v = widen(record.get(field));
+            }
+        }
+
+        accumulator.set(pos, v);
+    }
+
+    @Override
+    public void set(int pos, CsvCell<?>[] values) {
+        Object v = fromCell(values[csvColumnPosition].get());
+        accumulator.set(pos, v);
+    }
+
+    @Override
+    public void sizeHint(int expectedSize) {
+        this.sizeHint = expectedSize;
+        accumulator.sizeHint(expectedSize);
+    }
+
+    @Override
+    public Series<Object> toColumn() {
+        return accumulator.toSeries();
+    }
+
+    // returns a value to store for a null or an empty field, making the column nullable if needed
+    private Object nullValue(CsvRecordCursor record, int field) {
+
+        // preserving the difference between nulls and empty Strings in String columns
+        if (type == InferredType.STRING) {
+            return record.get(field);
+        }
+
+        ensureNullable();
+        return null;
+    }
+
+    // returns a value to store for a value parsed by InferredFieldParser, changing the column type if needed
+    private Object fromCell(Object value) {
+
+        if (value == null) {
+            ensureNullable();
+            return null;
+        }
+
+        // a String in a non-String column is a value that didn't fit the inferred type
+        if (value instanceof String && type != InferredType.STRING) {
+            return widen((String) value);
+        }
+
+        return type.convert(value);
+    }
+
+    private void ensureNullable() {
+        if (!nullable && type.isPrimitive()) {
+            widen(type, true);
+        }
+    }
+
+    private Object parse(CsvRecordCursor record, int field) {
+        switch (type) {
+            case INT:
+                return record.getInt(field);
+            case LONG:
+                return record.getLong(field);
+            case DOUBLE:
+                return record.getDouble(field);
+            case BOOLEAN:
+                return parseBoolean(record, field);
+            case DATE:
+                return record.getDate(field);
+            case DATETIME:
+                return record.getDateTime(field);
+            default:
+                return record.get(field);
+        }
+    }
+
+    private boolean parseBoolean(CsvRecordCursor record, int field) {
+
+        // unlike Boolean.parseBoolean(..), not treating arbitrary Strings as "false"
+        if (record.getBoolean(field)) {
+            return true;
+        }
+
+        if (!"false".equalsIgnoreCase(record.get(field))) {
+            throw new IllegalArgumentException("Not a boolean: " + record.get(field));
+        }
+
+        return false;
+    }
+
+    // changes the column type to fit the value, and returns the value parsed according to the new type
+    private Object widen(String value) {
+        InferredType newType = type.join(InferredType.of(value));
+        widen(newType, nullable || !newType.isPrimitive());
+        return newType.parse(value);
+    }
+
+    private void widen(InferredType newType, boolean newNullable) {
+        this.accumulator = convert(accumulator.toSeries(), newType, newNullable, sizeHint);
+        this.type = newType;
+        this.nullable = newNullable;
+    }
+}
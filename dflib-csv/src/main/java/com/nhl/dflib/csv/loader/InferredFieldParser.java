@@ -0,0 +1,48 @@
+package com.nhl.dflib.csv.loader;
+
+import com.nhl.dflib.accumulator.Accumulator;
+import com.nhl.dflib.accumulator.ValueHolder;
+
+/**
+ * Parses fields of a column with an inferred type. Empty fields and nulls are parsed as nulls. Values that do not fit
+ * the inferred type are returned as Strings, leaving it to {@link InferredColumnBuilder} to widen the column type.
+ *
+ * @since 0.11
+ */
+class InferredFieldParser implements FieldParser<Object> {
+
+    private final InferredType type;
+
+    InferredFieldParser(InferredType type) {
+        this.type = type;
+    }
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, ValueHolder<Object> holder) {
+        holder.set(parse(record, field));
+    }
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, Accumulator<Object> accumulator) {
+        accumulator.add(parse(record, field));
+    }
+
+    @Override
+    public void parseAndStore(int pos, CsvRecordCursor record, int field, Accumulator<Object> accumulator) {
+        accumulator.set(pos, parse(record, field));
+    }
+
+    private Object parse(CsvRecordCursor record, int field) {
+
+        if (record.isNullOrEmpty(field)) {
+            return null;
+        }
+
+        String value = record.get(field);
+        try {
+            return type.parse(value);
+        } catch (RuntimeException e) {
+            return value;
+        }
+    }
+}
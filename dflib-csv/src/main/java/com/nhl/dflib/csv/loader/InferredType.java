@@ -0,0 +1,214 @@
+package com.nhl.dflib.csv.loader;
+
+import com.nhl.dflib.accumulator.Accumulator;
+import com.nhl.dflib.accumulator.BooleanAccumulator;
+import com.nhl.dflib.accumulator.DoubleAccumulator;
+import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.accumulator.LongAccumulator;
+import com.nhl.dflib.accumulator.ObjectAccumulator;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * A type of CSV column values detected by the column type inference. Numeric types are ordered from the narrowest to
+ * the widest, and {@link #STRING} can hold any value.
+ *
+ * @since 0.11
+ */
+enum InferredType {
+
+    INT, LONG, DOUBLE, BOOLEAN, DATE, DATETIME, STRING;
+
+    /**
+     * Infers the type of a column from a sample of its values. Returns null if the sample has no values other than
+     * nulls and empty Strings.
+     */
+    static InferredType infer(String[] sample) {
+
+        InferredType type = null;
+        for (String v : sample) {
+
+            if (v == null || v.isEmpty()) {
+                continue;
+            }
+
+            type = type != null ? type.join(of(v)) : of(v);
+            if (type == STRING) {
+                break;
+            }
+        }
+
+        return type;
+    }
+
+    /**
+     * Returns the narrowest type that can represent a non-empty value. Values are parsed with the same JDK methods
+     * used to load typed columns. Integers with more digits than fit in a long are treated as Strings instead of
+     * doubles to avoid precision loss.
+     */
+    static InferredType of(String value) {
+
+        int len = value.length();
+
+        if (isBoolean(value)) {
+            return BOOLEAN;
+        }
+
+        char first = value.charAt(0);
+
+        // dates start with a 4-digit year
+        if (len >= 10 && value.charAt(4) == '-' && first >= '0' && first <= '9') {
+            try {
+                if (len == 10) {
+                    LocalDate.parse(value);
+                    return DATE;
+                }
+
+                if (value.charAt(10) == 'T') {
+                    LocalDateTime.parse(value);
+                    return DATETIME;
+                }
+            } catch (DateTimeParseException e) {
+                return STRING;
+            }
+        }
+
+        switch (value) {
+            case "NaN":
+            case "Infinity":
+            case "+Infinity":
+            case "-Infinity":
+                return DOUBLE;
+        }
+
+        // a quick check to avoid exceptions on non-numeric values
+        boolean integer = true;
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                continue;
+            }
+
+            if ((c == '-' || c == '+') && (i == 0 || value.charAt(i - 1) == 'e' || value.charAt(i - 1) == 'E')) {
+                continue;
+            }
+
+            if (c == '.' || c == 'e' || c == 'E') {
+                integer = false;
+                continue;
+            }
+
+            return STRING;
+        }
+
+        try {
+            if (integer) {
+                long l = Long.parseLong(value);
+                return l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE ? INT : LONG;
+            }
+
+            Double.parseDouble(value);
+            return DOUBLE;
+
+        } catch (NumberFormatException e) {
+            return STRING;
+        }
+    }
+
+    static boolean isBoolean(String value) {
+        return "true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value);
+    }
+
+    /**
+     * Returns the narrowest type that can represent the values of both this and the other type.
+     */
+    InferredType join(InferredType other) {
+
+        if (this == other) {
+            return this;
+        }
+
+        if (isNumeric() && other.isNumeric()) {
+            return ordinal() > other.ordinal() ? this : other;
+        }
+
+        return STRING;
+    }
+
+    boolean isNumeric() {
+        return this == INT || this == LONG || this == DOUBLE;
+    }
+
+    /**
+     * Returns whether the values of this type are stored in a primitive accumulator, unless they are nullable.
+     */
+    boolean isPrimitive() {
+        return isNumeric() || this == BOOLEAN;
+    }
+
+    /**
+     * Parses a non-empty String as a value of this type, throwing if the String doesn't represent such value.
+     */
+    Object parse(String value) {
+        switch (this) {
+            case INT:
+                return Integer.valueOf(value);
+            case LONG:
+                return Long.valueOf(value);
+            case DOUBLE:
+                return Double.valueOf(value);
+            case BOOLEAN:
+                if (!isBoolean(value)) {
+                    throw new IllegalArgumentException("Not a boolean: " + value);
+                }
+                return Boolean.valueOf(value);
+            case DATE:
+                return LocalDate.parse(value);
+            case DATETIME:
+                return LocalDateTime.parse(value);
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * Converts a value of the same or narrower type to this type.
+     */
+    Object convert(Object value) {
+
+        if (value == null) {
+            return null;
+        }
+
+        switch (this) {
+            case LONG:
+                return ((Number) value).longValue();
+            case DOUBLE:
+                return ((Number) value).doubleValue();
+            case STRING:
+                return value.toString();
+            default:
+                return value;
+        }
+    }
+
+    Accumulator<Object> createAccumulator(boolean nullable) {
+
+        if (nullable || !isPrimitive()) {
+            return new ObjectAccumulator<>();
+        }
+
+        switch (this) {
+            case INT:
+                return (Accumulator) new IntAccumulator();
+            case LONG:
+                return (Accumulator) new LongAccumulator();
+            case DOUBLE:
+                return (Accumulator) new DoubleAccumulator();
+            default:
+                return (Accumulator) new BooleanAccumulator();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.nhl.dflib.csv.loader;
+
+import com.nhl.dflib.accumulator.Accumulator;
+import com.nhl.dflib.accumulator.ValueHolder;
+
+/**
+ * Parses fields as primitive ints, using either a replacement value for empty fields and nulls, or throwing on them.
+ *
+ * @since 0.11
+ */
+class IntFieldParser implements FieldParser<Integer> {
+
+    private final boolean hasForNull;
+    private final int forNull;
+
+    private IntFieldParser(boolean hasForNull, int forNull) {
+        this.hasForNull = hasForNull;
+        this.forNull = forNull;
+    }
+
+    static IntFieldParser create() {
+        return new IntFieldParser(false, 0);
+    }
+
+    static IntFieldParser create(int forNull) {
+        return new IntFieldParser(true, forNull);
+    }
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, ValueHolder<Integer> holder) {
+        holder.setInt(parse(record, field));
+    }
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, Accumulator<Integer> accumulator) {
+        accumulator.addInt(parse(record, field));
+    }
+
+    @Override
+    public void parseAndStore(int pos, CsvRecordCursor record, int field, Accumulator<Integer> accumulator) {
+        accumulator.setInt(pos, parse(record, field));
+    }
+
+    private int parse(CsvRecordCursor record, int field) {
+
+        // same null handling as IntValueMapper.fromString(..)
+        if (record.isNullOrEmpty(field)) {
+            if (hasForNull) {
+                return forNull;
+            }
+
+            throw new IllegalArgumentException("Can't convert a null to a primitive int");
+        }
+
+        return record.getInt(field);
+    }
+}
@@ -0,0 +1,57 @@
+package com.nhl.dflib.csv.loader;
+
+import com.nhl.dflib.accumulator.Accumulator;
+import com.nhl.dflib.accumulator.ValueHolder;
+
+/**
+ * Parses fields as primitive longs, using either a replacement value for empty fields and nulls, or throwing on them.
+ *
+ * @since 0.11
+ */
+class LongFieldParser implements FieldParser<Long> {
+
+    private final boolean hasForNull;
+    private final long forNull;
+
+    private LongFieldParser(boolean hasForNull, long forNull) {
+        this.hasForNull = hasForNull;
+        this.forNull = forNull;
+    }
+
+    static LongFieldParser create() {
+        return new LongFieldParser(false, 0);
+    }
+
+    static LongFieldParser create(long forNull) {
+        return new LongFieldParser(true, forNull);
+    }
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, ValueHolder<Long> holder) {
+        holder.setLong(parse(record, field));
+    }
+
+    @Override
+    public void parseAndStore(CsvRecordCursor record, int field, Accumulator<Long> accumulator) {
+        accumulator.addLong(parse(record, field));
+    }
+
+    @Override
+    public void parseAndStore(int pos, CsvRecordCursor record, int field, Accumulator<Long> accumulator) {
+        accumulator.setLong(pos, parse(record, field));
+    }
+
+    private long parse(CsvRecordCursor record, int field) {
+
+        // same null handling as LongValueMapper.fromString(..)
+        if (record.isNullOrEmpty(field)) {
+            if (hasForNull) {
+                return forNull;
+            }
+
+            throw new IllegalArgumentException("Can't convert a null to a primitive long");
+        }
+
+        return record.getLong(field);
+    }
+}
@@ -29,8 +29,15 @@ public class RowFilterConfig<V> {
         return c;
     }
 
+    /**
+     * @since 0.11
+     */
+    public int getColumnPosition(Index columns) {
+        return columnPosition >= 0 ? columnPosition : columns.position(columnName);
+    }
+
     public Predicate<CsvCell<?>[]> toPredicate(Index columns) {
-        int pos = columnPosition >= 0 ? columnPosition : columns.position(columnName);
+        int pos = getColumnPosition(columns);
         return vhcs -> condition.test((V) vhcs[pos].get());
     }
 }
@@ -0,0 +1,77 @@
+package com.nhl.dflib.csv;
+
+import org.apache.commons.csv.CSVFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvChunkSplitterTest {
+
+    @TempDir
+    File dir;
+
+    private long[] split(CSVFormat format, String csv, int skipRecords, long chunkSize) throws IOException {
+        File file = new File(dir, "split.csv");
+        Files.write(file.toPath(), csv.getBytes(StandardCharsets.UTF_8));
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return CsvChunkSplitter.create(format, StandardCharsets.UTF_8).split(channel, skipRecords, chunkSize);
+        }
+    }
+
+    @Test
+    public void testCreate_Unsupported() {
+        assertNotNull(CsvChunkSplitter.create(CSVFormat.DEFAULT, StandardCharsets.UTF_8));
+        assertNull(CsvChunkSplitter.create(CSVFormat.DEFAULT, StandardCharsets.UTF_16));
+        assertNull(CsvChunkSplitter.create(CSVFormat.DEFAULT.withCommentMarker('#'), StandardCharsets.UTF_8));
+        assertNull(CsvChunkSplitter.create(CSVFormat.DEFAULT.withFirstRecordAsHeader(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSplit() throws IOException {
+        String csv = "a,b\nc,d\ne,f\n";
+        assertArrayEquals(new long[]{0, 4, 8, 12}, split(CSVFormat.DEFAULT, csv, 0, 1));
+        assertArrayEquals(new long[]{0, 8, 12}, split(CSVFormat.DEFAULT, csv, 0, 5));
+        assertArrayEquals(new long[]{0, 12}, split(CSVFormat.DEFAULT, csv, 0, 100));
+    }
+
+    @Test
+    public void testSplit_Skip() throws IOException {
+        String csv = "a,b\n\nc,d\ne,f\n";
+        assertArrayEquals(new long[]{9, 13}, split(CSVFormat.DEFAULT, csv, 2, 100));
+        assertArrayEquals(new long[]{13, 13}, split(CSVFormat.DEFAULT, csv, 3, 100));
+        assertArrayEquals(new long[]{13, 13}, split(CSVFormat.DEFAULT, csv, 5, 100));
+    }
+
+    @Test
+    public void testSplit_Skip_EmptyLinesAsRecords() throws IOException {
+        String csv = "a,b\n\nc,d\ne,f\n";
+        assertArrayEquals(new long[]{5, 13}, split(CSVFormat.DEFAULT.withIgnoreEmptyLines(false), csv, 2, 100));
+    }
+
+    @Test
+    public void testSplit_Quoted() throws IOException {
+        String csv = "\"a\n\"\"b\n\",c\nd,\"\r\ne\"\n";
+        assertArrayEquals(new long[]{0, 11, 19}, split(CSVFormat.DEFAULT, csv, 0, 1));
+    }
+
+    @Test
+    public void testSplit_CRLF() throws IOException {
+        String csv = "a,b\r\nc,d\re,f";
+        assertArrayEquals(new long[]{0, 5, 9, 12}, split(CSVFormat.DEFAULT, csv, 0, 1));
+    }
+
+    @Test
+    public void testSplit_Escape() throws IOException {
+        String csv = "a\\\nb,c\nd\n";
+        assertArrayEquals(new long[]{0, 7, 9}, split(CSVFormat.DEFAULT.withEscape('\\'), csv, 0, 1));
+    }
+}
@@ -6,13 +6,16 @@ import com.nhl.dflib.junit5.DataFrameAsserts;
 import org.apache.commons.csv.CSVFormat;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
 import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CsvLoaderTest extends BaseCsvTest {
@@ -40,6 +43,31 @@ public class CsvLoaderTest extends BaseCsvTest {
                 .expectRow(1, "4", "5", "6");
     }
 
+    @Test
+    public void testFromFile_Compressed() {
+
+        DataFrame data = DataFrame.newFrame("A", "B").foldByRow(1, "x", 2, "y", 3, "z");
+
+        // gzip detected by the extension and the content, deflate - by the extension, and gzip without extension -
+        // by the content
+        String[] files = {"compressed.csv.gz", "compressed.csv.deflate", "compressed_gz.csv"};
+        Csv.saver().save(data, outPath(files[0]));
+        Csv.saver().save(data, outPath(files[1]));
+        Csv.saver().gzip().save(data, outPath(files[2]));
+
+        for (String f : files) {
+            DataFrame df = new CsvLoader().intColumn("A").load(outPath(f));
+            new DataFrameAsserts(df, "A", "B")
+                    .expectHeight(3)
+                    .expectRow(0, 1, "x")
+                    .expectRow(2, 3, "z");
+
+            try (Stream<DataFrame> batches = new CsvLoader().loadBatches(new File(outPath(f)), 2)) {
+                assertEquals(2, batches.count(), f);
+            }
+        }
+    }
+
     @Test
     public void testFromFile_DefaultFormat_Excel() {
         DataFrame df = new CsvLoader().load(inPath("from_excel.csv"));
@@ -98,6 +126,27 @@ public class CsvLoaderTest extends BaseCsvTest {
                 .expectRow(2, "5", "4");
     }
 
+    @Test
+    public void testSelectColumns_UnselectedColumnsNotConverted() {
+
+        StringReader r = new StringReader("A,B,C,D" + System.lineSeparator()
+                + "x,1,\"y" + System.lineSeparator() + "z\",w" + System.lineSeparator()
+                + "x,2,,");
+
+        // "A" can't be converted to int, but is not parsed, as it is neither selected nor filtered on
+        DataFrame df = new CsvLoader()
+                .intColumn("A")
+                .intColumn("B")
+                .selectColumns("B")
+                .selectRows("B", (Integer i) -> i > 0)
+                .load(r);
+        new DataFrameAsserts(df, "B")
+                .expectHeight(2)
+                .expectIntColumns("B")
+                .expectRow(0, 1)
+                .expectRow(1, 2);
+    }
+
     @Test
     public void testFromFile_DropColumns() {
         DataFrame df = new CsvLoader().dropColumns("b").load(inPath("f1.csv"));
@@ -0,0 +1,154 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvLoader_BatchesTest {
+
+    @TempDir
+    File dir;
+
+    private static String csv(int rows) {
+        StringBuilder csv = new StringBuilder("A,B\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append(i).append(",b").append(i).append('\n');
+        }
+
+        return csv.toString();
+    }
+
+    @Test
+    public void testLoadBatches() {
+
+        List<DataFrame> batches = new CsvLoader()
+                .intColumn("A")
+                .loadBatches(new StringReader(csv(7)), 3)
+                .collect(Collectors.toList());
+
+        assertEquals(3, batches.size());
+
+        new DataFrameAsserts(batches.get(0), "A", "B")
+                .expectHeight(3)
+                .expectIntColumns("A")
+                .expectRow(0, 0, "b0")
+                .expectRow(2, 2, "b2");
+
+        new DataFrameAsserts(batches.get(1), "A", "B")
+                .expectHeight(3)
+                .expectIntColumns("A")
+                .expectRow(0, 3, "b3")
+                .expectRow(2, 5, "b5");
+
+        new DataFrameAsserts(batches.get(2), "A", "B")
+                .expectHeight(1)
+                .expectIntColumns("A")
+                .expectRow(0, 6, "b6");
+    }
+
+    @Test
+    public void testLoadBatches_Empty() {
+        assertEquals(0, new CsvLoader().loadBatches(new StringReader("A,B\n"), 3).count());
+        assertEquals(0, new CsvLoader().loadBatches(new StringReader(""), 3).count());
+    }
+
+    @Test
+    public void testLoadBatches_Iterator() {
+
+        Iterator<DataFrame> it = new CsvLoader().loadBatches(new StringReader(csv(4)), 2).iterator();
+
+        assertTrue(it.hasNext());
+        assertTrue(it.hasNext());
+        new DataFrameAsserts(it.next(), "A", "B").expectHeight(2).expectRow(0, "0", "b0");
+
+        assertTrue(it.hasNext());
+        new DataFrameAsserts(it.next(), "A", "B").expectHeight(2).expectRow(0, "2", "b2");
+
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testLoadBatches_SelectRows() {
+
+        List<DataFrame> batches = new CsvLoader()
+                .intColumn("A")
+                .selectRows("A", (Integer i) -> i % 2 == 0)
+                .selectColumns("B")
+                .loadBatches(new StringReader(csv(10)), 2)
+                .collect(Collectors.toList());
+
+        assertEquals(3, batches.size());
+        new DataFrameAsserts(batches.get(0), "B").expectHeight(2).expectRow(0, "b0").expectRow(1, "b2");
+        new DataFrameAsserts(batches.get(1), "B").expectHeight(2).expectRow(0, "b4").expectRow(1, "b6");
+        new DataFrameAsserts(batches.get(2), "B").expectHeight(1).expectRow(0, "b8");
+    }
+
+    @Test
+    public void testLoadBatches_InferColumnTypes() {
+
+        List<DataFrame> batches = new CsvLoader()
+                .inferColumnTypes(2)
+                .loadBatches(new StringReader(csv(5)), 2)
+                .collect(Collectors.toList());
+
+        assertEquals(3, batches.size());
+        for (DataFrame df : batches) {
+            new DataFrameAsserts(df, "A", "B").expectIntColumns("A");
+        }
+
+        new DataFrameAsserts(batches.get(2), "A", "B").expectHeight(1).expectRow(0, 4, "b4");
+    }
+
+    @Test
+    public void testLoadBatches_File() throws IOException {
+
+        File file = new File(dir, "batches.csv");
+        try (Writer out = new FileWriter(file)) {
+            out.write(csv(1000));
+        }
+
+        try (Stream<DataFrame> batches = new CsvLoader().intColumn("A").loadBatches(file, 300)) {
+            assertEquals(1000, batches.mapToInt(DataFrame::height).sum());
+        }
+
+        List<Integer> heights = new ArrayList<>();
+        new CsvLoader().loadBatches(file, 300, df -> heights.add(df.height()));
+        assertEquals(Arrays.asList(300, 300, 300, 100), heights);
+
+        long sum = new CsvLoader()
+                .intColumn("A")
+                .foldBatches(file, 300, 0L, (s, df) -> s + df.getColumnAsInt("A").sum());
+        assertEquals(499500L, sum);
+    }
+
+    @Test
+    public void testFoldBatches_Reader() {
+
+        int rows = new CsvLoader().foldBatches(new StringReader(csv(25)), 10, 0, (s, df) -> s + df.height());
+        assertEquals(25, rows);
+    }
+
+    @Test
+    public void testLoadBatches_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new CsvLoader().loadBatches(new StringReader(csv(1)), 0));
+        assertThrows(IllegalStateException.class, () -> new CsvLoader()
+                .sampleRows(2, new Random(1))
+                .loadBatches(new StringReader(csv(1)), 1));
+    }
+}
@@ -1,14 +1,32 @@
 package com.nhl.dflib.csv;
 
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.Condition;
 import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.exp.Condition1;
 import com.nhl.dflib.junit5.DataFrameAsserts;
+import org.apache.commons.csv.CSVFormat;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
 import java.io.StringReader;
+import java.io.Writer;
+import java.util.List;
 import java.util.Random;
+import java.util.stream.Collectors;
+
+import static com.nhl.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class CsvLoader_FilterTest {
 
+    @TempDir
+    File dir;
+
     private String csv() {
         return "A,B" + System.lineSeparator()
                 + "1,7" + System.lineSeparator()
@@ -19,6 +37,15 @@ public class CsvLoader_FilterTest {
                 + "6,12" + System.lineSeparator();
     }
 
+    private static void assertSameRows(DataFrame expected, DataFrame actual) {
+        assertEquals(expected.height(), actual.height());
+        for (int i = 0; i < expected.width(); i++) {
+            for (int j = 0; j < expected.height(); j++) {
+                assertEquals(expected.getColumn(i).get(j), actual.getColumn(i).get(j));
+            }
+        }
+    }
+
     @Test
     public void testPos() {
 
@@ -113,4 +140,213 @@ public class CsvLoader_FilterTest {
                 .expectRow(2, 12);
     }
 
+    @Test
+    public void testCondition() {
+
+        DataFrame df = new CsvLoader()
+                .intColumn("A")
+                .intColumn("B")
+                .selectRows($int("A").gt(2).and($int("B").lt(11)))
+                .load(new StringReader(csv()));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(2)
+                .expectIntColumns("A", "B")
+                .expectRow(0, 3, 9)
+                .expectRow(1, 4, 10);
+    }
+
+    @Test
+    public void testCondition_Strings() {
+
+        DataFrame df = new CsvLoader()
+                .selectRows($str("B").eq("9").or($str(0).eq("6")))
+                .load(new StringReader(csv()));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(2)
+                .expectRow(0, "3", "9")
+                .expectRow(1, "6", "12");
+    }
+
+    @Test
+    public void testCondition_ColumnNotSelected() {
+
+        DataFrame df = new CsvLoader()
+                .intColumn("A")
+                .selectColumns("B")
+                .selectRows($int("A").ge(5))
+                .load(new StringReader(csv()));
+
+        new DataFrameAsserts(df, "B")
+                .expectHeight(2)
+                .expectRow(0, "11")
+                .expectRow(1, "12");
+    }
+
+    @Test
+    public void testCondition_UnknownColumns() {
+
+        // the condition reads rows, so the columns it references can't be determined upfront
+        Condition rowCondition = new Condition1<Object>("rows", $col("A")) {
+
+            @Override
+            public BooleanSeries eval(DataFrame df) {
+                return df.mapColumnAsBoolean(r -> "9".equals(r.get("B")));
+            }
+
+            @Override
+            protected BooleanSeries doEval(Series<Object> s) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        DataFrame df = new CsvLoader()
+                .selectColumns("A")
+                .selectRows(rowCondition)
+                .load(new StringReader(csv()));
+
+        new DataFrameAsserts(df, "A")
+                .expectHeight(1)
+                .expectRow(0, "3");
+    }
+
+    @Test
+    public void testCondition_IfExp() {
+
+        // the columns referenced by the conditional branches must be loaded for the condition
+        DataFrame df = new CsvLoader()
+                .intColumn("A")
+                .intColumn("B")
+                .selectColumns("A")
+                .selectRows(ifExp($int("A").gt(3), $int("B"), $int("A")).eq(10))
+                .load(new StringReader(csv()));
+
+        new DataFrameAsserts(df, "A")
+                .expectHeight(1)
+                .expectRow(0, 4);
+    }
+
+    @Test
+    public void testCondition_NoMatches() {
+
+        DataFrame df = new CsvLoader()
+                .intColumn("A")
+                .selectRows($int("A").gt(100))
+                .load(new StringReader(csv()));
+
+        new DataFrameAsserts(df, "A", "B").expectHeight(0);
+    }
+
+    @Test
+    public void testCondition_MultipleFilters() {
+
+        DataFrame df = new CsvLoader()
+                .intColumn("A")
+                .intColumn("B")
+                .selectRows($int("A").gt(1))
+                .selectRows($int("B").lt(12))
+                .selectRows("A", (Integer i) -> i % 2 == 0)
+                .load(new StringReader(csv()));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(2)
+                .expectRow(0, 2, 8)
+                .expectRow(1, 4, 10);
+    }
+
+    @Test
+    public void testCondition_WithSampling() {
+
+        DataFrame df = new CsvLoader()
+                .intColumn(0)
+                .selectRows($int("A").gt(1))
+                .sampleRows(2, new Random(9))
+                .load(new StringReader(csv()));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(2)
+                .expectRow(0, 2, "8")
+                .expectRow(1, 5, "11");
+    }
+
+    @Test
+    public void testCondition_InferColumnTypes() {
+
+        DataFrame df = new CsvLoader()
+                .inferColumnTypes()
+                .selectColumns("B")
+                .selectRows($int("A").gt(4))
+                .load(new StringReader(csv()));
+
+        new DataFrameAsserts(df, "B")
+                .expectHeight(2)
+                .expectIntColumns("B")
+                .expectRow(0, 11)
+                .expectRow(1, 12);
+    }
+
+    @Test
+    public void testCondition_CommonsCsvFormat() {
+
+        DataFrame df = new CsvLoader()
+                .format(CSVFormat.DEFAULT.withCommentMarker('#'))
+                .intColumn("A")
+                .selectRows($int("A").gt(4))
+                .load(new StringReader("# comment" + System.lineSeparator() + csv()));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(2)
+                .expectRow(0, 5, "11")
+                .expectRow(1, 6, "12");
+    }
+
+    @Test
+    public void testCondition_MultipleBatches() throws IOException {
+
+        File file = new File(dir, "condition.csv");
+        try (Writer out = new FileWriter(file)) {
+            out.write("A,B,C\n");
+            for (int i = 0; i < 10_000; i++) {
+                out.write(i + "," + (i % 7) + ",\"c\"\"" + i + "\"\n");
+            }
+        }
+
+        CsvLoader loader = new CsvLoader()
+                .intColumn("A")
+                .intColumn("B")
+                .selectRows($int("A").mod(50).eq(0).and($int("B").ne(3)));
+
+        DataFrame expected = new CsvLoader()
+                .intColumn("A")
+                .intColumn("B")
+                .load(file)
+                .selectRows($int("A").mod(50).eq(0).and($int("B").ne(3)));
+
+        DataFrame df = loader.load(file);
+        assertEquals(171, df.height());
+        assertSameRows(expected, df);
+        new DataFrameAsserts(df, "A", "B", "C").expectRow(1, 50, 1, "c\"50");
+
+        assertSameRows(expected, loader.parallel(20_000).load(file));
+
+        List<DataFrame> batches = loader.loadBatches(file, 100).collect(Collectors.toList());
+        assertEquals(2, batches.size());
+        assertEquals(71, batches.get(1).height());
+
+        // the type inference sample spans more than one condition batch
+        DataFrame inferred = new CsvLoader()
+                .inferColumnTypes(1500)
+                .selectRows($int("A").mod(50).eq(0).and($int("B").ne(3)))
+                .load(file);
+        assertSameRows(expected, inferred);
+
+        DataFrame commonsCsv = new CsvLoader()
+                .format(CSVFormat.DEFAULT.withCommentMarker('#'))
+                .intColumn("A")
+                .intColumn("B")
+                .selectRows($int("A").mod(50).eq(0).and($int("B").ne(3)))
+                .load(file);
+        assertSameRows(expected, commonsCsv);
+    }
 }
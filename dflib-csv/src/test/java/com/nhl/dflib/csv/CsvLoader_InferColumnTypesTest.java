@@ -0,0 +1,209 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CsvLoader_InferColumnTypesTest {
+
+    @TempDir
+    File dir;
+
+    @Test
+    public void testInfer() {
+
+        String csv = "I,L,D,B,DT,DTM,S\n"
+                + "1,3000000000,1.5,true,2020-01-31,2020-01-31T10:15,a\n"
+                + "-2,4,-2,FALSE,2021-12-01,2020-01-31T10:15:30.5,1\n";
+
+        DataFrame df = new CsvLoader().inferColumnTypes().load(new StringReader(csv));
+
+        new DataFrameAsserts(df, "I", "L", "D", "B", "DT", "DTM", "S")
+                .expectHeight(2)
+                .expectIntColumns("I")
+                .expectLongColumns("L")
+                .expectDoubleColumns("D")
+                .expectBooleanColumns("B")
+                .expectRow(0, 1, 3000000000L, 1.5, true, LocalDate.of(2020, 1, 31), LocalDateTime.of(2020, 1, 31, 10, 15), "a")
+                .expectRow(1, -2, 4L, -2., false, LocalDate.of(2021, 12, 1), LocalDateTime.of(2020, 1, 31, 10, 15, 30, 500_000_000), "1");
+    }
+
+    @Test
+    public void testInfer_Strings() {
+
+        String csv = "A,B,C,D,E\n"
+                + "007x,1,t,2020-01-32,12345678901234567890\n"
+                + "1,a,true,2020-01-01,1\n"
+                + ",,,,\n";
+
+        DataFrame df = new CsvLoader().inferColumnTypes().load(new StringReader(csv));
+
+        new DataFrameAsserts(df, "A", "B", "C", "D", "E")
+                .expectHeight(3)
+                .expectRow(0, "007x", "1", "t", "2020-01-32", "12345678901234567890")
+                .expectRow(1, "1", "a", "true", "2020-01-01", "1")
+                .expectRow(2, "", "", "", "", "");
+    }
+
+    @Test
+    public void testInfer_Nulls() {
+
+        String csv = "A,B,C\n"
+                + "1,,\n"
+                + ",true,\n";
+
+        DataFrame df = new CsvLoader().inferColumnTypes().load(new StringReader(csv));
+
+        new DataFrameAsserts(df, "A", "B", "C")
+                .expectHeight(2)
+                .expectRow(0, 1, null, "")
+                .expectRow(1, null, true, "");
+    }
+
+    @Test
+    public void testInfer_ExplicitTypes() {
+
+        String csv = "A,B\n"
+                + "1,2\n";
+
+        DataFrame df = new CsvLoader()
+                .longColumn("A")
+                .inferColumnTypes()
+                .load(new StringReader(csv));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(1)
+                .expectLongColumns("A")
+                .expectIntColumns("B")
+                .expectRow(0, 1L, 2);
+    }
+
+    @Test
+    public void testInfer_ValuesAfterSample() {
+
+        String csv = "I,L,D,B,N,DT\n"
+                + "1,1,1,true,1,2020-01-01\n"
+                + "2,3000000000,2.5,x,,3\n"
+                + "3,4,3,false,3,2020-01-03\n";
+
+        DataFrame df = new CsvLoader().inferColumnTypes(1).load(new StringReader(csv));
+
+        new DataFrameAsserts(df, "I", "L", "D", "B", "N", "DT")
+                .expectHeight(3)
+                .expectIntColumns("I")
+                .expectLongColumns("L")
+                .expectDoubleColumns("D")
+                .expectRow(0, 1, 1L, 1., "true", 1, "2020-01-01")
+                .expectRow(1, 2, 3000000000L, 2.5, "x", null, "3")
+                .expectRow(2, 3, 4L, 3., "false", 3, "2020-01-03");
+    }
+
+    @Test
+    public void testInfer_SelectColumns() {
+
+        String csv = "A,B,C\n"
+                + "x,1,2\n"
+                + "y,3,4\n";
+
+        DataFrame df = new CsvLoader()
+                .inferColumnTypes()
+                .selectColumns("C", "B")
+                .load(new StringReader(csv));
+
+        new DataFrameAsserts(df, "C", "B")
+                .expectHeight(2)
+                .expectIntColumns("C", "B")
+                .expectRow(0, 2, 1)
+                .expectRow(1, 4, 3);
+    }
+
+    @Test
+    public void testInfer_SelectRows() {
+
+        String csv = "A,B\n"
+                + "1,2\n"
+                + "2,x\n"
+                + "3,\n"
+                + "4,5\n";
+
+        DataFrame df = new CsvLoader()
+                .inferColumnTypes(1)
+                .selectRows("A", (Integer i) -> i != 3)
+                .load(new StringReader(csv));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(3)
+                .expectIntColumns("A")
+                .expectRow(0, 1, "2")
+                .expectRow(1, 2, "x")
+                .expectRow(2, 4, "5");
+    }
+
+    @Test
+    public void testInfer_SampleRows() {
+
+        StringBuilder csv = new StringBuilder("A,B\n");
+        for (int i = 0; i < 100; i++) {
+            csv.append(i).append(',').append(i % 2 == 0).append('\n');
+        }
+
+        DataFrame df = new CsvLoader()
+                .inferColumnTypes(10)
+                .sampleRows(3, new Random(5))
+                .load(new StringReader(csv.toString()));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(3)
+                .expectIntColumns("A")
+                .expectBooleanColumns("B");
+    }
+
+    @Test
+    public void testInfer_Parallel() throws IOException {
+
+        File file = new File(dir, "parallel.csv");
+        try (Writer out = new FileWriter(file)) {
+            out.write("A,B,C\n");
+            for (int i = 0; i < 3000; i++) {
+
+                // "B" only gets a long value in the last chunk, "C" only has an empty value in the last chunk
+                String b = i == 2999 ? "3000000000" : String.valueOf(i);
+                String c = i == 2999 ? "" : String.valueOf(i);
+                out.write(i + "," + b + "," + c + "\n");
+            }
+        }
+
+        DataFrame expected = new CsvLoader().inferColumnTypes().load(file);
+        DataFrame df = new CsvLoader().inferColumnTypes().parallel(1000).load(file);
+
+        new DataFrameAsserts(expected, "A", "B", "C")
+                .expectHeight(3000)
+                .expectIntColumns("A")
+                .expectRow(0, 0, 0L, 0)
+                .expectRow(2999, 2999, 3000000000L, null);
+
+        new DataFrameAsserts(df, "A", "B", "C")
+                .expectHeight(3000)
+                .expectIntColumns("A")
+                .expectRow(0, 0, 0L, 0)
+                .expectRow(1500, 1500, 1500L, 1500)
+                .expectRow(2999, 2999, 3000000000L, null);
+    }
+
+    @Test
+    public void testInferColumnTypes_InvalidSampleSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CsvLoader().inferColumnTypes(0));
+    }
+}
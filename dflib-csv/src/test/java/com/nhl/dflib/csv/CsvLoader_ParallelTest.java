@@ -0,0 +1,165 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.junit5.DataFrameAsserts;
+import org.apache.commons.csv.CSVFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CsvLoader_ParallelTest {
+
+    @TempDir
+    File dir;
+
+    private File write(String name, String csv) throws IOException {
+        File file = new File(dir, name);
+        try (Writer out = new FileWriter(file)) {
+            out.write(csv);
+        }
+
+        return file;
+    }
+
+    private File largeCsv(int rows) throws IOException {
+        StringBuilder csv = new StringBuilder("A,B,C\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append(i).append(",b").append(i).append(',').append(i % 3 == 0 ? "true" : "false").append('\n');
+        }
+
+        return write("large.csv", csv.toString());
+    }
+
+    private static void assertSameData(DataFrame expected, DataFrame actual) {
+        assertEquals(expected.getColumnsIndex(), actual.getColumnsIndex());
+        assertEquals(expected.height(), actual.height());
+
+        int w = expected.width();
+        int h = expected.height();
+        for (int i = 0; i < w; i++) {
+            for (int j = 0; j < h; j++) {
+                assertEquals(expected.getColumn(i).get(j), actual.getColumn(i).get(j), "Mismatch at row " + j);
+            }
+        }
+    }
+
+    @Test
+    public void testLoad() throws IOException {
+        File file = largeCsv(5000);
+
+        DataFrame expected = new CsvLoader().intColumn("A").booleanColumn("C").load(file);
+        DataFrame df = new CsvLoader().intColumn("A").booleanColumn("C").parallel(1000).load(file);
+
+        assertSameData(expected, df);
+        new DataFrameAsserts(df, "A", "B", "C")
+                .expectHeight(5000)
+                .expectIntColumns("A")
+                .expectBooleanColumns("C")
+                .expectRow(0, 0, "b0", true)
+                .expectRow(4999, 4999, "b4999", false);
+    }
+
+    @Test
+    public void testLoad_SelectColumns_SkipRows() throws IOException {
+        File file = largeCsv(3000);
+
+        DataFrame expected = new CsvLoader().skipRows(1).header("X", "Y", "Z").selectColumns("Z", "X").intColumn("X").load(file);
+        DataFrame df = new CsvLoader().skipRows(1).header("X", "Y", "Z").selectColumns("Z", "X").intColumn("X").parallel(500).load(file);
+
+        assertSameData(expected, df);
+        new DataFrameAsserts(df, "Z", "X")
+                .expectHeight(3000)
+                .expectRow(0, "true", 0)
+                .expectRow(2999, "false", 2999);
+    }
+
+    @Test
+    public void testLoad_RowFilter() throws IOException {
+        File file = largeCsv(3000);
+
+        DataFrame df = new CsvLoader()
+                .intColumn("A")
+                .selectRows("A", (Integer i) -> i % 1000 == 1)
+                .parallel(700)
+                .load(file);
+
+        new DataFrameAsserts(df, "A", "B", "C")
+                .expectHeight(3)
+                .expectRow(0, 1, "b1", "false")
+                .expectRow(1, 1001, "b1001", "false")
+                .expectRow(2, 2001, "b2001", "true");
+    }
+
+    @Test
+    public void testLoad_QuotedLineBreaks() throws IOException {
+
+        StringBuilder csv = new StringBuilder("A,B\r\n");
+        for (int i = 0; i < 500; i++) {
+            csv.append(i).append(",\"x\n\"\"").append(i).append("\"\"\r\n,y\"\r\n");
+
+            // empty lines are ignored by the default format
+            if (i % 100 == 0) {
+                csv.append("\r\n");
+            }
+        }
+
+        File file = write("quoted.csv", csv.toString());
+
+        DataFrame expected = new CsvLoader().load(file);
+        DataFrame df = new CsvLoader().parallel(100).load(file);
+
+        assertSameData(expected, df);
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(500)
+                .expectRow(0, "0", "x\n\"0\"\r\n,y")
+                .expectRow(499, "499", "x\n\"499\"\r\n,y");
+    }
+
+    @Test
+    public void testLoad_QuoteInUnquotedValue() throws IOException {
+
+        StringBuilder csv = new StringBuilder("A,B\n");
+        for (int i = 0; i < 500; i++) {
+            csv.append(i).append(",a\"b\n");
+        }
+
+        File file = write("quote.csv", csv.toString());
+        DataFrame df = new CsvLoader().parallel(100).load(file);
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(500)
+                .expectRow(0, "0", "a\"b")
+                .expectRow(499, "499", "a\"b");
+    }
+
+    @Test
+    public void testLoad_Format() throws IOException {
+
+        StringBuilder csv = new StringBuilder("A\tB\n");
+        for (int i = 0; i < 500; i++) {
+            csv.append(i).append("\t\n");
+        }
+
+        File file = write("format.tsv", csv.toString());
+        DataFrame df = new CsvLoader().format(CSVFormat.TDF).emptyStringIsNull().intColumn(0).parallel(100).load(file);
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(500)
+                .expectRow(0, 0, null)
+                .expectRow(499, 499, null);
+    }
+
+    @Test
+    public void testLoad_HeaderOnly() throws IOException {
+        File file = write("header.csv", "A,B\n");
+
+        DataFrame df = new CsvLoader().parallel(1).load(file);
+        new DataFrameAsserts(df, "A", "B").expectHeight(0);
+    }
+}
@@ -1,12 +1,26 @@
 package com.nhl.dflib.csv;
 
+import com.nhl.dflib.BooleanSeries;
 import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.io.Compression;
+import com.nhl.dflib.row.RowProxy;
 import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.QuoteMode;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -123,4 +137,147 @@ public class CsvSaverTest extends BaseCsvTest {
                 "1,2\r\n" +
                         "3,4\r\n", Csv.saver().noHeader().saveToString(df));
     }
+
+    private static DataFrame randomFrame(int height) {
+
+        Random random = new Random(11);
+        String[] strings = {"a", "", null, "b,c", "d\"e", "f\ng", " h", "i ", "#j", "-1", "'m'", "k\tl"};
+        double[] doubles = {0., -0., 1.5, -2.25, 1e-7, 1e22, Double.NaN, Double.NEGATIVE_INFINITY, Double.MAX_VALUE};
+
+        int[] ints = new int[height];
+        long[] longs = new long[height];
+        double[] ds = new double[height];
+        boolean[] bools = new boolean[height];
+        String[] ss = new String[height];
+        Object[] os = new Object[height];
+
+        for (int i = 0; i < height; i++) {
+            ints[i] = random.nextInt();
+            longs[i] = random.nextLong();
+            ds[i] = i % 2 == 0 ? doubles[random.nextInt(doubles.length)] : random.nextDouble() * random.nextInt();
+            bools[i] = random.nextBoolean();
+            ss[i] = strings[random.nextInt(strings.length)];
+            os[i] = i % 3 == 0 ? null : i % 3 == 1 ? (Object) i : Boolean.TRUE;
+        }
+
+        return DataFrame.newFrame("I", "L", "D", "B", "S", "O").columns(
+                IntSeries.forInts(ints),
+                LongSeries.forLongs(longs),
+                DoubleSeries.forDoubles(ds),
+                BooleanSeries.forBooleans(bools),
+                Series.forData(ss),
+                Series.forData(os));
+    }
+
+    private static String printWithCommonsCsv(DataFrame df, CSVFormat format) throws IOException {
+
+        StringBuilder out = new StringBuilder();
+        CSVPrinter printer = new CSVPrinter(out, format);
+
+        printer.printRecord((Object[]) df.getColumnsIndex().getLabels());
+        for (RowProxy r : df) {
+            for (int i = 0; i < df.width(); i++) {
+                printer.print(r.get(i));
+            }
+            printer.println();
+        }
+
+        return out.toString();
+    }
+
+    @Test
+    public void testSave_SameAsCommonsCsv() throws IOException {
+
+        CSVFormat[] formats = {
+                CSVFormat.DEFAULT,
+                CSVFormat.DEFAULT.withQuoteMode(QuoteMode.ALL),
+                CSVFormat.DEFAULT.withQuoteMode(QuoteMode.ALL_NON_NULL).withNullString("N"),
+                CSVFormat.DEFAULT.withQuoteMode(QuoteMode.NON_NUMERIC),
+                CSVFormat.DEFAULT.withEscape('\\').withQuoteMode(QuoteMode.NONE),
+                CSVFormat.DEFAULT.withDelimiter('-'),
+                CSVFormat.DEFAULT.withQuote('1'),
+                CSVFormat.DEFAULT.withTrailingDelimiter().withTrim(),
+                CSVFormat.DEFAULT.withHeader("X", "Y").withHeaderComments("c1").withCommentMarker('#'),
+                CSVFormat.MYSQL,
+                CSVFormat.TDF
+        };
+
+        DataFrame df = randomFrame(500);
+
+        for (CSVFormat format : formats) {
+            String expected = printWithCommonsCsv(df, format);
+            assertEquals(expected, Csv.saver().format(format).saveToString(df), "Mismatch for " + format);
+            assertEquals(expected, Csv.saver().format(format).parallel(7).saveToString(df), "Mismatch for " + format);
+        }
+    }
+
+    @Test
+    public void testSave_Parallel() throws IOException {
+
+        DataFrame df = randomFrame(1001);
+        String expected = Csv.saver().saveToString(df);
+
+        File file = new File(outPath("testParallel.csv"));
+        Csv.saver().parallel(100).save(df, file);
+        assertEquals(expected, readFile(file.getAbsolutePath()));
+
+        Csv.saver().parallel(2000).save(df, file);
+        assertEquals(expected, readFile(file.getAbsolutePath()));
+
+        assertEquals("A\r\n", Csv.saver().parallel(10).saveToString(DataFrame.newFrame("A").empty()));
+    }
+
+    @Test
+    public void testSave_Gzip() throws IOException {
+
+        DataFrame df = randomFrame(1001);
+        String expected = Csv.saver().saveToString(df);
+
+        File file = new File(outPath("testGzip.csv.gz"));
+
+        Csv.saver().gzip().save(df, file);
+        assertEquals(expected, readCompressedFile(file, Compression.GZIP));
+
+        // each block is a separate gzip member
+        Csv.saver().gzip().parallel(100).save(df, file);
+        assertEquals(expected, readCompressedFile(file, Compression.GZIP));
+    }
+
+    @Test
+    public void testSave_CompressionByExtension() throws IOException {
+
+        DataFrame df = randomFrame(1001);
+        String expected = Csv.saver().saveToString(df);
+
+        File gzFile = new File(outPath("testExtension.csv.gz"));
+        Csv.saver().save(df, gzFile);
+        assertEquals(expected, readCompressedFile(gzFile, Compression.GZIP));
+
+        File deflateFile = new File(outPath("testExtension.csv.deflate"));
+        Csv.saver().save(df, deflateFile);
+        assertEquals(expected, readCompressedFile(deflateFile, Compression.DEFLATE));
+
+        // deflate can't be split into members, so compressed as a whole in parallel mode
+        Csv.saver().parallel(100).save(df, deflateFile);
+        assertEquals(expected, readCompressedFile(deflateFile, Compression.DEFLATE));
+    }
+
+    @Test
+    public void testParallel_InvalidBlockSize() {
+        assertThrows(IllegalArgumentException.class, () -> Csv.saver().parallel(0));
+    }
+
+    private static String readCompressedFile(File file, Compression compression) throws IOException {
+
+        try (InputStream in = compression.decompress(new FileInputStream(file))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                out.write(buffer, 0, read);
+            }
+
+            return new String(out.toByteArray(), Charset.defaultCharset());
+        }
+    }
 }
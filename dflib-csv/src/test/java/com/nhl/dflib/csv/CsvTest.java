@@ -4,6 +4,10 @@ import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.junit5.DataFrameAsserts;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+
+import static com.nhl.dflib.Exp.$int;
+
 public class CsvTest extends BaseCsvTest {
 
     @Test
@@ -23,4 +27,27 @@ public class CsvTest extends BaseCsvTest {
                 .expectRow(0, "1", "2", "3")
                 .expectRow(1, "4", "5", "6");
     }
+
+    @Test
+    public void testDatasetLoader() {
+
+        CsvSaver saver = Csv.saver().createMissingDirs();
+        saver.save(DataFrame.newFrame("A", "B").foldByRow(1, "x", 2, "y"), outPath("ds/p=1/1.csv"));
+        saver.save(DataFrame.newFrame("A", "B").foldByRow(3, "z"), outPath("ds/p=2/1.csv"));
+        saver.save(DataFrame.newFrame("A", "B").foldByRow(4, "w"), outPath("ds/p=3/1.csv"));
+
+        DataFrame df = Csv.datasetLoader(Csv.loader().intColumn("A"))
+                .glob("**.csv")
+                .intPartitionColumn("p")
+                .selectPartitions($int("p").lt(3))
+                .parallel()
+                .load(OUT_BASE.getPath() + File.separator + "ds");
+
+        new DataFrameAsserts(df, "A", "B", "p")
+                .expectHeight(3)
+                .expectIntColumns("A")
+                .expectRow(0, 1, "x", 1)
+                .expectRow(1, 2, "y", 1)
+                .expectRow(2, 3, "z", 2);
+    }
 }
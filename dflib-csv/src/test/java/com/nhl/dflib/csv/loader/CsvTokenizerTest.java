@@ -0,0 +1,363 @@
+package com.nhl.dflib.csv.loader;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvTokenizerTest {
+
+    private static List<List<String>> tokenize(String csv, CSVFormat format, int bufferSize) {
+        return tokenize(csv, format, bufferSize, null);
+    }
+
+    // unselected fields are reported as "-"
+    private static List<List<String>> tokenize(String csv, CSVFormat format, int bufferSize, boolean[] selection) {
+        List<List<String>> records = new ArrayList<>();
+
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(csv), format, bufferSize);
+        if (selection != null) {
+            tokenizer.selectFields(selection);
+        }
+
+        while (tokenizer.next()) {
+            List<String> record = new ArrayList<>();
+            for (int i = 0; i < tokenizer.size(); i++) {
+                record.add(selected(selection, i) ? tokenizer.get(i) : "-");
+            }
+            records.add(record);
+        }
+
+        return records;
+    }
+
+    // reads all records skipping all fields, then seeks to the start and reads them again with the selected fields
+    private static List<List<String>> tokenizeAfterReset(String csv, CSVFormat format, int bufferSize, boolean[] selection) {
+
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(csv), format, bufferSize);
+        tokenizer.selectFields(new boolean[0]);
+        tokenizer.mark();
+        while (tokenizer.next()) {
+            // skipping records
+        }
+
+        tokenizer.seek(0);
+
+        boolean[] all = new boolean[32];
+        Arrays.fill(all, true);
+        tokenizer.selectFields(selection != null ? selection : all);
+
+        List<List<String>> records = new ArrayList<>();
+        while (tokenizer.next()) {
+            List<String> record = new ArrayList<>();
+            for (int i = 0; i < tokenizer.size(); i++) {
+                record.add(selected(selection, i) ? tokenizer.get(i) : "-");
+            }
+            records.add(record);
+        }
+
+        return records;
+    }
+
+    private static List<List<String>> parse(String csv, CSVFormat format) throws IOException {
+        return parse(csv, format, null);
+    }
+
+    private static List<List<String>> parse(String csv, CSVFormat format, boolean[] selection) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        for (CSVRecord r : format.parse(new StringReader(csv))) {
+            List<String> record = new ArrayList<>();
+            for (int i = 0; i < r.size(); i++) {
+                record.add(selected(selection, i) ? r.get(i) : "-");
+            }
+            records.add(record);
+        }
+
+        return records;
+    }
+
+    private static boolean selected(boolean[] selection, int field) {
+        return selection == null || (field < selection.length && selection[field]);
+    }
+
+    private static CsvTokenizer tokenizer(String... fields) {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(String.join(",", fields)), CSVFormat.DEFAULT.withNullString("N"));
+        assertTrue(tokenizer.next());
+        return tokenizer;
+    }
+
+    private static <T> void assertParsedAsJdk(Function<String, T> jdkParser, Function<CsvTokenizer, T> parser, String value) {
+
+        Object expected;
+        try {
+            // "N" is a null String of the tokenizer format
+            expected = jdkParser.apply("N".equals(value) ? null : value);
+        } catch (RuntimeException e) {
+            expected = e.getClass();
+        }
+
+        Object actual;
+        try {
+            actual = parser.apply(tokenizer(value));
+        } catch (RuntimeException e) {
+            actual = e.getClass();
+        }
+
+        assertEquals(expected, actual, "Unexpected result for '" + value + "'");
+    }
+
+    @Test
+    public void testRecords() {
+        List<List<String>> records = tokenize("a,b\n\"c\nd\",\"e\"\"f\"\r\n\n,\n", CSVFormat.DEFAULT, 4);
+
+        assertEquals(3, records.size());
+        assertEquals(Arrays.asList("a", "b"), records.get(0));
+        assertEquals(Arrays.asList("c\nd", "e\"f"), records.get(1));
+        assertEquals(Arrays.asList("", ""), records.get(2));
+    }
+
+    @Test
+    public void testCharacterPosition() {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("a,b\n\"c\nd\",e\nf,g"), CSVFormat.DEFAULT, 2);
+
+        assertTrue(tokenizer.next());
+        assertEquals(0, tokenizer.getCharacterPosition());
+        assertTrue(tokenizer.next());
+        assertEquals(4, tokenizer.getCharacterPosition());
+        assertTrue(tokenizer.next());
+        assertEquals(12, tokenizer.getCharacterPosition());
+        assertFalse(tokenizer.next());
+    }
+
+    @Test
+    public void testGet_OutOfBounds() {
+        CsvTokenizer tokenizer = tokenizer("a", "b");
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> tokenizer.get(2));
+    }
+
+    @Test
+    public void testPushBack() {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("a\nb"), CSVFormat.DEFAULT);
+
+        assertTrue(tokenizer.next());
+        tokenizer.pushBack();
+        assertTrue(tokenizer.next());
+        assertEquals("a", tokenizer.get(0));
+        assertTrue(tokenizer.next());
+        assertEquals("b", tokenizer.get(0));
+        assertFalse(tokenizer.next());
+    }
+
+    @Test
+    public void testUnterminatedQuote() {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("\"a,b"), CSVFormat.DEFAULT);
+        assertThrows(RuntimeException.class, tokenizer::next);
+    }
+
+    @Test
+    public void testSelectFields() {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("a,\"b\"\"\n\",c,d,e\nf,g"), CSVFormat.DEFAULT, 2);
+        tokenizer.selectFields(new boolean[]{false, false, true, false, false});
+
+        assertTrue(tokenizer.next());
+        assertEquals(5, tokenizer.size());
+        assertEquals("c", tokenizer.get(2));
+        assertThrows(IllegalStateException.class, () -> tokenizer.get(1));
+        assertThrows(IllegalStateException.class, () -> tokenizer.get(3));
+
+        assertTrue(tokenizer.next());
+        assertEquals(2, tokenizer.size());
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> tokenizer.get(2));
+
+        assertFalse(tokenizer.next());
+    }
+
+    @Test
+    public void testMarkSeek() {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("a,\"b\"\"c\"\nd,\"1\"\n\ne,2\nf,3"), CSVFormat.DEFAULT, 2);
+
+        assertTrue(tokenizer.next());
+        tokenizer.mark();
+
+        assertTrue(tokenizer.next());
+        assertEquals("d", tokenizer.get(0));
+        assertEquals(1, tokenizer.getInt(1));
+        assertTrue(tokenizer.next());
+        assertTrue(tokenizer.next());
+        assertFalse(tokenizer.next());
+
+        tokenizer.seek(1);
+        tokenizer.selectFields(new boolean[]{false, true});
+
+        assertTrue(tokenizer.next());
+        assertEquals(2, tokenizer.getInt(1));
+        assertThrows(IllegalStateException.class, () -> tokenizer.get(0));
+
+        tokenizer.seek(0);
+        assertTrue(tokenizer.next());
+        assertEquals(1, tokenizer.getInt(1));
+        assertTrue(tokenizer.next());
+        assertEquals(2, tokenizer.getInt(1));
+        assertTrue(tokenizer.next());
+        assertEquals(3, tokenizer.getInt(1));
+        assertFalse(tokenizer.next());
+    }
+
+    @Test
+    public void testMarkSeek_EscapedQuotes() {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("\"a\"\"b\",\"\"\"\"\n"), CSVFormat.DEFAULT, 3);
+        tokenizer.mark();
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(tokenizer.next());
+            assertEquals("a\"b", tokenizer.get(0));
+            assertEquals("\"", tokenizer.get(1));
+            assertFalse(tokenizer.next());
+            tokenizer.seek(0);
+        }
+    }
+
+    @Test
+    public void testSeek_Invalid() {
+        CsvTokenizer tokenizer = tokenizer("a");
+        assertThrows(IllegalStateException.class, () -> tokenizer.seek(0));
+
+        tokenizer.mark();
+        assertThrows(IllegalArgumentException.class, () -> tokenizer.seek(1));
+    }
+
+    @Test
+    public void testSameAsCommonsCsv() throws IOException {
+        testSameAsCommonsCsv(null);
+    }
+
+    @Test
+    public void testSameAsCommonsCsv_SelectFields() throws IOException {
+        testSameAsCommonsCsv(new boolean[]{false, true, false, true});
+    }
+
+    private void testSameAsCommonsCsv(boolean[] selection) throws IOException {
+
+        CSVFormat[] formats = {
+                CSVFormat.DEFAULT,
+                CSVFormat.DEFAULT.withNullString(""),
+                CSVFormat.DEFAULT.withIgnoreEmptyLines(false),
+                CSVFormat.DEFAULT.withTrim(),
+                CSVFormat.DEFAULT.withTrailingDelimiter(),
+                CSVFormat.DEFAULT.withQuote(null),
+                CSVFormat.TDF.withIgnoreSurroundingSpaces(false).withQuote('\'')
+        };
+
+        String[] tokens = {"a", "1", ",", "\t", "\"", "'", " ", "\n", "\r", "\r\n", "\"\""};
+        Random random = new Random(5);
+
+        for (int i = 0; i < 3000; i++) {
+
+            StringBuilder csv = new StringBuilder();
+            int len = random.nextInt(20);
+            for (int j = 0; j < len; j++) {
+                csv.append(tokens[random.nextInt(tokens.length)]);
+            }
+
+            CSVFormat format = formats[i % formats.length];
+
+            List<List<String>> expected;
+            try {
+                expected = parse(csv.toString(), format, selection);
+            } catch (IOException | IllegalStateException e) {
+                // malformed CSV
+                expected = null;
+            }
+
+            for (int bufferSize : new int[]{1, 3, 64}) {
+
+                List<List<String>> actual;
+                try {
+                    actual = tokenize(csv.toString(), format, bufferSize, selection);
+                } catch (RuntimeException e) {
+                    actual = null;
+                }
+
+                assertEquals(expected, actual, "Mismatch for '" + csv + "' with buffer of " + bufferSize);
+
+                List<List<String>> afterReset;
+                try {
+                    afterReset = tokenizeAfterReset(csv.toString(), format, bufferSize, selection);
+                } catch (RuntimeException e) {
+                    afterReset = null;
+                }
+
+                assertEquals(expected, afterReset, "Mismatch after reset for '" + csv + "' with buffer of " + bufferSize);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "+1", "2147483647", "-2147483648", "2147483648", "99999999999", "1.0", "1a", "-", "N", " 1", "１"})
+    public void testGetInt(String value) {
+        assertParsedAsJdk(Integer::parseInt, t -> t.getInt(0), value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "9223372036854775807", "-9223372036854775808", "9223372036854775808", "123456789012345678", "1e3", "N"})
+    public void testGetLong(String value) {
+        assertParsedAsJdk(Long::parseLong, t -> t.getLong(0), value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "1.5", ".5", "5.", ".", "-1.25e-3", "1E22", "1e23", "123456789012345", "1234567890123456",
+            "0.000000000000000000001", "1.7976931348623157e308", "4.9e-324", "NaN", "-Infinity", "0x1p3", "1d", " 1", "1e", "e5", "N"})
+    public void testGetDouble(String value) {
+        assertParsedAsJdk(Double::parseDouble, t -> t.getDouble(0), value);
+    }
+
+    @Test
+    public void testGetDouble_Random() {
+        Random random = new Random(7);
+        for (int i = 0; i < 10000; i++) {
+            double d = random.nextDouble() * Math.pow(10, random.nextInt(20) - 10);
+            String s = random.nextBoolean()
+                    ? Double.toString(d)
+                    : String.format("%." + random.nextInt(10) + "f", d);
+            assertParsedAsJdk(Double::parseDouble, t -> t.getDouble(0), s);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"true", "TRUE", "tRuE", "false", "t", "truee", "N"})
+    public void testGetBoolean(String value) {
+        assertParsedAsJdk(Boolean::parseBoolean, t -> t.getBoolean(0), value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2020-01-31", "2020-02-29", "2019-02-29", "2020-13-01", "2020-00-10", "0000-01-01", "2020/01/01", "20-01-2020", "+2020-01-01"})
+    public void testGetDate(String value) {
+        assertParsedAsJdk(LocalDate::parse, t -> t.getDate(0), value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2020-01-31T10:15", "2020-01-31T10:15:30", "2020-01-31T23:59:59.1", "2020-01-31T23:59:59.123456789",
+            "2020-01-31T24:00", "2020-01-31T10:60", "2020-01-31T10:15:30.", "2020-01-31t10:15", "2020-01-31 10:15", "2019-02-29T10:15"})
+    public void testGetDateTime(String value) {
+        assertParsedAsJdk(LocalDateTime::parse, t -> t.getDateTime(0), value);
+    }
+
+    @Test
+    public void testGetDate_Exception() {
+        assertThrows(DateTimeParseException.class, () -> tokenizer("2019-02-29").getDate(0));
+    }
+}
@@ -0,0 +1,71 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over a ResultSet in DataFrames of a fixed number of rows. Each batch is loaded with a fresh worker, as the
+ * Series of the previously returned DataFrames are backed by the storage of their workers' accumulators.
+ *
+ * @since 0.11
+ */
+class SqlBatchIterator implements Iterator<DataFrame> {
+
+    private final ResultSet rs;
+    private final JdbcFunction<Integer, SqlLoaderWorker> workerFactory;
+    private final int batchSize;
+
+    private int remaining;
+    private DataFrame next;
+    private boolean exhausted;
+
+    SqlBatchIterator(ResultSet rs, JdbcFunction<Integer, SqlLoaderWorker> workerFactory, int batchSize, int maxRows) {
+        this.rs = rs;
+        this.workerFactory = workerFactory;
+        this.batchSize = batchSize;
+        this.remaining = maxRows;
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        if (next == null && !exhausted) {
+            next = remaining > 0 ? loadBatch() : null;
+            exhausted = next == null;
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public DataFrame next() {
+
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows in the ResultSet");
+        }
+
+        DataFrame batch = next;
+        next = null;
+        return batch;
+    }
+
+    private DataFrame loadBatch() {
+
+        DataFrame batch;
+        try {
+            batch = workerFactory.apply(remaining).loadBatch(rs, batchSize);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error loading data from DB: " + e.getMessage(), e);
+        }
+
+        if (batch != null) {
+            remaining -= batch.height();
+        }
+
+        return batch;
+    }
+}
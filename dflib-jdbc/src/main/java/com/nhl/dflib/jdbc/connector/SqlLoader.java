@@ -8,10 +8,17 @@ import com.nhl.dflib.jdbc.connector.loader.ColumnBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.Iterator;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Loads DB data from DB as a DataFrame via custom SQL. Instances of this class can be reused for different sets of
@@ -26,6 +33,7 @@ public class SqlLoader {
     private String sql;
     private int rowSampleSize;
     private Random rowsSampleRandom;
+    private int fetchSize;
 
     public SqlLoader(JdbcConnector connector, String sql) {
         this.connector = connector;
@@ -38,6 +46,7 @@ public class SqlLoader {
         copy.maxRows = this.maxRows;
         copy.rowSampleSize = this.rowSampleSize;
         copy.rowsSampleRandom = this.rowsSampleRandom;
+        copy.fetchSize = this.fetchSize;
         return copy;
     }
 
@@ -54,8 +63,7 @@ public class SqlLoader {
     /**
      * Configures the loader to select a sample of the rows from the ResultSet. Unlike
      * {@link DataFrame#sampleRows(int, Random)}, this method can be used on potentially very large
-     * result sets. If you are executing multiple sampling runs in parallel, consider using {@link #sampleRows(int, Random)},
-     * as this method is using a shared {@link Random} instance with synchronization.
+     * result sets. To get a reproducible sample, use {@link #sampleRows(int, Random)} with a seeded Random.
      *
      * @param size the size of the sample. Can be bigger than the result set size (as the result set size is not known upfront).
      * @return this loader instance
@@ -86,6 +94,33 @@ public class SqlLoader {
         return copy;
     }
 
+    /**
+     * Sets a hint to the JDBC driver on how many rows should be fetched from the DB at once. Without it, some drivers
+     * (e.g. PostgreSQL and MySQL) read the entire result into memory before returning the first row. DB-specific
+     * statement settings required for the driver to stream the result are applied automatically, but the state of the
+     * connection is never changed. E.g. PostgreSQL only streams in a connection with auto-commit turned off, as is the
+     * case with the connections of the default connector. This is useful with very large results, especially in
+     * combination with {@link #loadBatches(int, Object...)}.
+     *
+     * @param fetchSize the number of rows to fetch at once. Zero means the driver default.
+     * @return this loader instance
+     * @since 0.11
+     */
+    public SqlLoader fetchSize(int fetchSize) {
+
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative: " + fetchSize);
+        }
+
+        if (this.fetchSize == fetchSize) {
+            return this;
+        }
+
+        SqlLoader copy = copy();
+        copy.fetchSize = fetchSize;
+        return copy;
+    }
+
     /**
      * @since 0.8
      */
@@ -103,10 +138,125 @@ public class SqlLoader {
         // TODO: should maxRows be translated into the SQL LIMIT clause?
         //  Some DBs have crazy limit syntax, so this may be hard to generalize..
 
+        return createStatementBuilder(params).select(this::loadDataFrame);
+    }
+
+    /**
+     * Returns a stream of DataFrames with up to "batchSize" rows each, read sequentially from the query result. All
+     * DataFrames have the same columns, and unlike {@link #load(Object...)}, only one batch needs to be in memory at
+     * any given time (provided the driver doesn't buffer the result, see {@link #fetchSize(int)}). The stream holds an
+     * open DB connection, and must be closed after use. Row sampling is not supported in this mode.
+     *
+     * @since 0.11
+     */
+    public Stream<DataFrame> loadBatches(int batchSize, Object... params) {
+        return loadBatches(batchSize, Series.forData(params));
+    }
+
+    /**
+     * @see #loadBatches(int, Object...)
+     * @since 0.11
+     */
+    public Stream<DataFrame> loadBatches(int batchSize, Series<?> params) {
+
+        checkCanLoadBatches(batchSize);
+
+        LOGGER.debug("loading DataFrame batches...");
+
+        Connection connection = connector.getConnection();
+        ResultSet rs = null;
+
+        try {
+            rs = createStatementBuilder(params).executeQuery(connection);
+            Iterator<DataFrame> batches = batchIterator(rs, batchSize);
+
+            ResultSet openRs = rs;
+            return StreamSupport
+                    .stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(() -> close(openRs, connection));
+
+        } catch (RuntimeException e) {
+            try {
+                close(rs, connection);
+            } catch (RuntimeException closeError) {
+                e.addSuppressed(closeError);
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the query result in DataFrames with up to "batchSize" rows each, passing each DataFrame to the consumer.
+     *
+     * @see #loadBatches(int, Object...)
+     * @since 0.11
+     */
+    public void loadBatches(int batchSize, Consumer<DataFrame> consumer, Object... params) {
+        loadBatches(batchSize, consumer, Series.forData(params));
+    }
+
+    /**
+     * @see #loadBatches(int, Consumer, Object...)
+     * @since 0.11
+     */
+    public void loadBatches(int batchSize, Consumer<DataFrame> consumer, Series<?> params) {
+
+        checkCanLoadBatches(batchSize);
+
+        LOGGER.debug("loading DataFrame batches...");
+
+        createStatementBuilder(params).select(rs -> {
+            batchIterator(rs, batchSize).forEachRemaining(consumer);
+            return null;
+        });
+    }
+
+    protected StatementBuilder createStatementBuilder(Series<?> params) {
         return connector
                 .createStatementBuilder(sql)
                 .bind(params)
-                .select(this::loadDataFrame);
+                .fetchSize(fetchSize);
+    }
+
+    private void checkCanLoadBatches(int batchSize) {
+
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+
+        if (rowSampleSize > 0) {
+            throw new IllegalStateException("Row sampling is not supported when loading in batches");
+        }
+    }
+
+    private Iterator<DataFrame> batchIterator(ResultSet rs, int batchSize) {
+
+        Index columns;
+        try {
+            columns = createIndex(rs);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error loading data from DB: " + e.getMessage(), e);
+        }
+
+        // each batch needs its own accumulators, as they back the Series of the previously returned DataFrames
+        return new SqlBatchIterator(
+                rs,
+                remaining -> new SqlLoaderWorker(columns, createAccummulators(rs), remaining),
+                batchSize,
+                maxRows);
+    }
+
+    private static void close(ResultSet rs, Connection connection) {
+
+        // closing the ResultSet also closes its statement
+        try (Connection c = connection) {
+            if (rs != null) {
+                rs.close();
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error closing DB connection: " + e.getMessage(), e);
+        }
     }
 
     protected DataFrame loadDataFrame(ResultSet rs) throws SQLException {
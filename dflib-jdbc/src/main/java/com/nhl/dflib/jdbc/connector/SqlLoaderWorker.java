@@ -21,10 +21,46 @@ class SqlLoaderWorker {
     }
 
     DataFrame load(ResultSet rs) throws SQLException {
+        sizeHint(rs);
         consumeResultSet(rs);
         return toDataFrame();
     }
 
+    /**
+     * Reads up to "batchSize" rows from the current position of the ResultSet, returning null if the ResultSet has
+     * no more rows. Unlike {@link #load(ResultSet)}, doesn't read any rows past the batch.
+     *
+     * @since 0.11
+     */
+    DataFrame loadBatch(ResultSet rs, int batchSize) throws SQLException {
+
+        int limit = Math.min(batchSize, maxRows);
+        for (ColumnBuilder<?> a : accumulators) {
+            a.sizeHint(limit);
+        }
+
+        int w = accumulators.length;
+        int size = 0;
+
+        while (size < limit && rs.next()) {
+            addRow(w, rs);
+            size++;
+        }
+
+        return size > 0 ? toDataFrame() : null;
+    }
+
+    protected void sizeHint(ResultSet rs) throws SQLException {
+
+        // if the fetch size is set, the ResultSet is expected to have at least that many rows
+        int hint = Math.min(rs.getFetchSize(), maxRows);
+        if (hint > 0) {
+            for (ColumnBuilder<?> a : accumulators) {
+                a.sizeHint(hint);
+            }
+        }
+    }
+
     protected void consumeResultSet(ResultSet rs) throws SQLException {
 
         int w = accumulators.length;
@@ -3,6 +3,7 @@ package com.nhl.dflib.jdbc.connector;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.jdbc.connector.metadata.DbColumnMetadata;
+import com.nhl.dflib.jdbc.connector.metadata.flavors.DbFlavor;
 import com.nhl.dflib.jdbc.connector.statement.CompiledFromStatementBinderFactory;
 import com.nhl.dflib.jdbc.connector.statement.FixedParamsBinderFactory;
 import com.nhl.dflib.jdbc.connector.statement.SelectStatement;
@@ -31,6 +32,7 @@ public class StatementBuilder {
     private DbColumnMetadata[] paramDescriptors;
     private Series<?> params;
     private DataFrame batchParams;
+    private int fetchSize;
 
     public StatementBuilder(JdbcConnector connector) {
         this.connector = connector;
@@ -62,6 +64,18 @@ public class StatementBuilder {
         return bind(Series.forData(params));
     }
 
+    /**
+     * Sets a hint to the driver on how many rows of the select result should be fetched from the DB at once. Applies
+     * any DB-specific statement settings required for the driver to stream the result instead of reading it into
+     * memory in its entirety. Connection settings are not changed (see {@link SqlLoader#fetchSize(int)}).
+     *
+     * @since 0.11
+     */
+    public StatementBuilder fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
     public <T> T select(JdbcFunction<ResultSet, T> resultReader) {
         try (Connection c = connector.getConnection()) {
             return select(c, resultReader);
@@ -78,6 +92,20 @@ public class StatementBuilder {
         }
     }
 
+    /**
+     * Runs a select query, returning an open ResultSet that must be closed by the caller. Unlike
+     * {@link #select(Connection, JdbcFunction)}, allows to read the result incrementally.
+     *
+     * @since 0.11
+     */
+    public ResultSet executeQuery(Connection connection) {
+        try {
+            return createSelectStatement().executeQuery(connection);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error loading data from DB: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * @since 0.8
      */
@@ -116,9 +144,12 @@ public class StatementBuilder {
             throw new IllegalStateException("Can't use batch params for 'select'");
         }
 
+        // only need the flavor if there's a fetch size to apply
+        DbFlavor flavor = fetchSize > 0 ? connector.getMetadata().getFlavor() : null;
+
         return (params == null || params.size() == 0)
-                ? new SelectStatementNoParams(sql, connector.getSqlLogger())
-                : new SelectStatementWithParams(sql, params, createBinderFactory(), connector.getSqlLogger());
+                ? new SelectStatementNoParams(sql, connector.getSqlLogger(), flavor, fetchSize)
+                : new SelectStatementWithParams(sql, params, createBinderFactory(), connector.getSqlLogger(), flavor, fetchSize);
     }
 
     protected UpdateStatement createUpdateStatement() {
@@ -7,6 +7,8 @@ import com.nhl.dflib.sample.Sampler;
 
 import java.util.Objects;
 import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class TableLoader {
 
@@ -17,6 +19,7 @@ public class TableLoader {
     private ConditionBuilder condition;
     private int rowSampleSize;
     private Random rowsSampleRandom;
+    private int fetchSize;
 
     public TableLoader(JdbcConnector connector, TableFQName tableName) {
         this.connector = connector;
@@ -67,8 +70,7 @@ public class TableLoader {
     /**
      * Configures the loader to select a sample of the rows from the ResultSet. Unlike
      * {@link DataFrame#sampleRows(int, Random)}, this method can be used on potentially very large
-     * result sets. If you are executing multiple sampling runs in parallel, consider using {@link #sampleRows(int, Random)},
-     * as this method is using a shared {@link Random} instance with synchronization.
+     * result sets. To get a reproducible sample, use {@link #sampleRows(int, Random)} with a seeded Random.
      *
      * @param size the size of the sample. Can be bigger than the result set size (as the result set size is not known upfront).
      * @return this loader instance
@@ -93,13 +95,54 @@ public class TableLoader {
         return this;
     }
 
+    /**
+     * Sets a hint to the JDBC driver on how many rows should be fetched from the DB at once.
+     *
+     * @return this loader instance
+     * @see SqlLoader#fetchSize(int)
+     * @since 0.11
+     */
+    public TableLoader fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
     public DataFrame load() {
-        // "no condition" means return all rows; "empty condition" means return no rows
-        return condition.noCondition() || condition.nonEmptyCondition()
+        return hasRows()
                 ? fetchDataFrame()
                 : createEmptyDataFrame();
     }
 
+    /**
+     * Returns a stream of DataFrames with up to "batchSize" rows each, read sequentially from the table. The stream
+     * holds an open DB connection, and must be closed after use.
+     *
+     * @see SqlLoader#loadBatches(int, Object...)
+     * @since 0.11
+     */
+    public Stream<DataFrame> loadBatches(int batchSize) {
+        return hasRows()
+                ? createSqlLoader().loadBatches(batchSize, condition.bindingParams())
+                : Stream.empty();
+    }
+
+    /**
+     * Reads the table in DataFrames with up to "batchSize" rows each, passing each DataFrame to the consumer.
+     *
+     * @see SqlLoader#loadBatches(int, Consumer, Object...)
+     * @since 0.11
+     */
+    public void loadBatches(int batchSize, Consumer<DataFrame> consumer) {
+        if (hasRows()) {
+            createSqlLoader().loadBatches(batchSize, consumer, condition.bindingParams());
+        }
+    }
+
+    protected boolean hasRows() {
+        // "no condition" means return all rows; "empty condition" means return no rows
+        return condition.noCondition() || condition.nonEmptyCondition();
+    }
+
     protected DataFrame createEmptyDataFrame() {
         String[] columns = useStandardColumns()
                 ? connector.getMetadata().getTable(tableName).getColumnNames()
@@ -109,10 +152,14 @@ public class TableLoader {
     }
 
     protected DataFrame fetchDataFrame() {
+        return createSqlLoader().load(condition.bindingParams());
+    }
+
+    protected SqlLoader createSqlLoader() {
         return new SqlLoader(connector, buildSql())
                 .maxRows(maxRows)
                 .sampleRows(rowSampleSize, rowsSampleRandom)
-                .load(condition.bindingParams());
+                .fetchSize(fetchSize);
     }
 
     protected String buildSql() {
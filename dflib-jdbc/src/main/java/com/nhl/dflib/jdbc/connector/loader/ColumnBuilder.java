@@ -29,6 +29,13 @@ public class ColumnBuilder<T> {
         converter.convertAndStore(pos, rs, accumulator);
     }
 
+    /**
+     * @since 0.11
+     */
+    public void sizeHint(int expectedSize) {
+        accumulator.sizeHint(expectedSize);
+    }
+
     public Series<T> toColumn() {
         return accumulator.toSeries();
     }
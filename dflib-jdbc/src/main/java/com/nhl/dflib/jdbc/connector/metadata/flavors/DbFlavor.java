@@ -1,5 +1,8 @@
 package com.nhl.dflib.jdbc.connector.metadata.flavors;
 
+import java.sql.SQLException;
+import java.sql.Statement;
+
 /**
  * Provides DB type specific metadata and strategies for interacting with the database.
  *
@@ -18,4 +21,14 @@ public interface DbFlavor {
     boolean supportsSchemas();
 
     int columnType(int jdbcType, String nativeType);
+
+    /**
+     * Configures a query statement to fetch the results from the DB in chunks of about the specified number of rows,
+     * instead of reading the entire result into memory upfront. Applies any DB-specific statement settings required
+     * for such streaming mode, but must not change the state of the statement connection, as it may be owned by the
+     * caller.
+     *
+     * @since 0.11
+     */
+    void setFetchSize(Statement statement, int fetchSize) throws SQLException;
 }
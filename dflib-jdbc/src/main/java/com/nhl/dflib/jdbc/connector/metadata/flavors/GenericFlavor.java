@@ -2,6 +2,7 @@ package com.nhl.dflib.jdbc.connector.metadata.flavors;
 
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 public class GenericFlavor implements DbFlavor {
 
@@ -54,4 +55,12 @@ public class GenericFlavor implements DbFlavor {
     public int columnType(int jdbcType, String nativeType) {
         return jdbcType;
     }
+
+    /**
+     * @since 0.11
+     */
+    @Override
+    public void setFetchSize(Statement statement, int fetchSize) throws SQLException {
+        statement.setFetchSize(fetchSize);
+    }
 }
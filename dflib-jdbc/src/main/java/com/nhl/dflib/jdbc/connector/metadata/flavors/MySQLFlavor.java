@@ -2,12 +2,15 @@ package com.nhl.dflib.jdbc.connector.metadata.flavors;
 
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 /**
  * @since 0.8
  */
 public class MySQLFlavor extends GenericFlavor {
 
+    protected boolean useCursorFetch;
+
     protected MySQLFlavor() {
     }
 
@@ -22,7 +25,20 @@ public class MySQLFlavor extends GenericFlavor {
 
         flavor.supportsBatchUpdates = metaData.supportsBatchUpdates();
         flavor.identifierQuote = metaData.getIdentifierQuoteString();
+
+        String url = metaData.getURL();
+        flavor.useCursorFetch = url != null && url.contains("useCursorFetch=true");
         return flavor;
     }
 
+    /**
+     * @since 0.11
+     */
+    @Override
+    public void setFetchSize(Statement statement, int fetchSize) throws SQLException {
+
+        // MySQL driver ignores positive fetch sizes unless server-side cursors are enabled in the connection URL.
+        // Otherwise the only way to avoid reading the entire result is to stream it row by row
+        super.setFetchSize(statement, useCursorFetch ? fetchSize : Integer.MIN_VALUE);
+    }
 }
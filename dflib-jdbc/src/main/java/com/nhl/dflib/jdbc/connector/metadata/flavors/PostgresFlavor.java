@@ -1,7 +1,11 @@
 package com.nhl.dflib.jdbc.connector.metadata.flavors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 
 /**
@@ -9,6 +13,8 @@ import java.sql.Types;
  */
 public class PostgresFlavor extends GenericFlavor {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresFlavor.class);
+
     protected PostgresFlavor() {
     }
 
@@ -35,4 +41,23 @@ public class PostgresFlavor extends GenericFlavor {
                 return super.columnType(jdbcType, nativeType);
         }
     }
+
+    /**
+     * Sets the fetch size on the statement. PostgreSQL driver only honors it if the statement connection is not in
+     * auto-commit mode. Connections provided by the DFLib {@link com.nhl.dflib.jdbc.connector.DefaultJdbcConnector}
+     * satisfy this requirement. This method doesn't change the state of the connection, that may be owned by the
+     * caller, so custom connectors must turn auto-commit off themselves to stream the results.
+     *
+     * @since 0.11
+     */
+    @Override
+    public void setFetchSize(Statement statement, int fetchSize) throws SQLException {
+
+        if (statement.getConnection().getAutoCommit()) {
+            LOGGER.warn("Connection is in auto-commit mode. The fetch size of {} will be ignored by the driver, "
+                    + "and the entire result will be read into memory", fetchSize);
+        }
+
+        super.setFetchSize(statement, fetchSize);
+    }
 }
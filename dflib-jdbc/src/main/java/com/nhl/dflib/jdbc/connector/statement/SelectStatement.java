@@ -10,4 +10,11 @@ public interface SelectStatement {
 
     <T> T select(Connection connection, JdbcFunction<ResultSet, T> resultReader) throws SQLException;
 
+    /**
+     * Runs the query, returning an open ResultSet. Closing the ResultSet closes the underlying statement. This allows
+     * the caller to read the ResultSet past the scope of a single method call, e.g. in batches.
+     *
+     * @since 0.11
+     */
+    ResultSet executeQuery(Connection connection) throws SQLException;
 }
@@ -2,6 +2,7 @@ package com.nhl.dflib.jdbc.connector.statement;
 
 import com.nhl.dflib.jdbc.connector.JdbcFunction;
 import com.nhl.dflib.jdbc.connector.SqlLogger;
+import com.nhl.dflib.jdbc.connector.metadata.flavors.DbFlavor;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -12,10 +13,22 @@ public class SelectStatementNoParams implements SelectStatement {
 
     private String sql;
     private SqlLogger logger;
+    private DbFlavor flavor;
+    private int fetchSize;
 
     public SelectStatementNoParams(String sql, SqlLogger logger) {
+        this(sql, logger, null, 0);
+    }
+
+    /**
+     * @param fetchSize a hint to the driver on how many rows to fetch from the DB at once. Ignored if not positive.
+     * @since 0.11
+     */
+    public SelectStatementNoParams(String sql, SqlLogger logger, DbFlavor flavor, int fetchSize) {
         this.logger = logger;
         this.sql = sql;
+        this.flavor = flavor;
+        this.fetchSize = fetchSize;
     }
 
     @Override
@@ -25,10 +38,37 @@ public class SelectStatementNoParams implements SelectStatement {
 
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
 
+            setFetchSize(ps);
+
             try (ResultSet rs = ps.executeQuery()) {
 
                 return resultReader.apply(rs);
             }
         }
     }
+
+    /**
+     * @since 0.11
+     */
+    @Override
+    public ResultSet executeQuery(Connection connection) throws SQLException {
+
+        logger.log(sql);
+
+        PreparedStatement ps = connection.prepareStatement(sql);
+        try {
+            setFetchSize(ps);
+            ps.closeOnCompletion();
+            return ps.executeQuery();
+        } catch (SQLException | RuntimeException e) {
+            ps.close();
+            throw e;
+        }
+    }
+
+    private void setFetchSize(PreparedStatement statement) throws SQLException {
+        if (fetchSize > 0) {
+            flavor.setFetchSize(statement, fetchSize);
+        }
+    }
 }
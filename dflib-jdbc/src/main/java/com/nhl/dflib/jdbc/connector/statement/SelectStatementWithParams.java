@@ -3,6 +3,7 @@ package com.nhl.dflib.jdbc.connector.statement;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.jdbc.connector.JdbcFunction;
 import com.nhl.dflib.jdbc.connector.SqlLogger;
+import com.nhl.dflib.jdbc.connector.metadata.flavors.DbFlavor;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -15,6 +16,8 @@ public class SelectStatementWithParams implements SelectStatement {
     private Series<?> params;
     private StatementBinderFactory binderFactory;
     private SqlLogger logger;
+    private DbFlavor flavor;
+    private int fetchSize;
 
     public SelectStatementWithParams(
             String sql,
@@ -22,10 +25,27 @@ public class SelectStatementWithParams implements SelectStatement {
             StatementBinderFactory binderFactory,
             SqlLogger logger) {
 
+        this(sql, params, binderFactory, logger, null, 0);
+    }
+
+    /**
+     * @param fetchSize a hint to the driver on how many rows to fetch from the DB at once. Ignored if not positive.
+     * @since 0.11
+     */
+    public SelectStatementWithParams(
+            String sql,
+            Series<?> params,
+            StatementBinderFactory binderFactory,
+            SqlLogger logger,
+            DbFlavor flavor,
+            int fetchSize) {
+
         this.sql = sql;
         this.params = params;
         this.binderFactory = binderFactory;
         this.logger = logger;
+        this.flavor = flavor;
+        this.fetchSize = fetchSize;
     }
 
     @Override
@@ -36,6 +56,7 @@ public class SelectStatementWithParams implements SelectStatement {
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
 
             bind(ps);
+            setFetchSize(ps);
 
             try (ResultSet rs = ps.executeQuery()) {
                 return resultReader.apply(rs);
@@ -43,9 +64,35 @@ public class SelectStatementWithParams implements SelectStatement {
         }
     }
 
+    /**
+     * @since 0.11
+     */
+    @Override
+    public ResultSet executeQuery(Connection connection) throws SQLException {
+
+        logger.log(sql, params);
+
+        PreparedStatement ps = connection.prepareStatement(sql);
+        try {
+            bind(ps);
+            setFetchSize(ps);
+            ps.closeOnCompletion();
+            return ps.executeQuery();
+        } catch (SQLException | RuntimeException e) {
+            ps.close();
+            throw e;
+        }
+    }
+
     private void bind(PreparedStatement statement) throws SQLException {
         if (params.size() > 0) {
             binderFactory.createBinder(statement).bind(params);
         }
     }
+
+    private void setFetchSize(PreparedStatement statement) throws SQLException {
+        if (fetchSize > 0) {
+            flavor.setFetchSize(statement, fetchSize);
+        }
+    }
 }
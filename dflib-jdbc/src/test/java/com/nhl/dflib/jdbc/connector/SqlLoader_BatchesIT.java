@@ -0,0 +1,142 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.unit.BaseDbTest;
+import com.nhl.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SqlLoader_BatchesIT extends BaseDbTest {
+
+    private JdbcConnector insertRows() {
+
+        adapter.delete("t1");
+
+        adapter.getTable("t1")
+                .insertColumns("id", "name")
+                .values(1L, "n1")
+                .values(2L, "n2")
+                .values(3L, "n3")
+                .values(4L, "n4")
+                .values(5L, "n5")
+                .exec();
+
+        return adapter.createConnector();
+    }
+
+    @Test
+    public void testFetchSize() {
+
+        JdbcConnector connector = insertRows();
+        String sql = adapter.toNativeSql("SELECT \"id\", \"name\" from \"t1\" WHERE \"id\" > ? ORDER BY \"id\"");
+
+        DataFrame df = connector
+                .sqlLoader(sql)
+                .fetchSize(2)
+                .load(2L);
+
+        new DataFrameAsserts(df, "id", "name")
+                .expectHeight(3)
+                .expectRow(0, 3L, "n3")
+                .expectRow(1, 4L, "n4")
+                .expectRow(2, 5L, "n5");
+    }
+
+    @Test
+    public void testLoadBatches_Consumer() {
+
+        JdbcConnector connector = insertRows();
+        String sql = adapter.toNativeSql("SELECT \"id\", \"name\" from \"t1\" ORDER BY \"id\"");
+
+        List<DataFrame> batches = new ArrayList<>();
+        connector
+                .sqlLoader(sql)
+                .fetchSize(2)
+                .loadBatches(2, batches::add);
+
+        assertEquals(3, batches.size());
+
+        new DataFrameAsserts(batches.get(0), "id", "name")
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1")
+                .expectRow(1, 2L, "n2");
+
+        new DataFrameAsserts(batches.get(1), "id", "name")
+                .expectHeight(2)
+                .expectRow(0, 3L, "n3")
+                .expectRow(1, 4L, "n4");
+
+        new DataFrameAsserts(batches.get(2), "id", "name")
+                .expectHeight(1)
+                .expectRow(0, 5L, "n5");
+    }
+
+    @Test
+    public void testLoadBatches_Stream() {
+
+        JdbcConnector connector = insertRows();
+        String sql = adapter.toNativeSql("SELECT \"id\", \"name\" from \"t1\" WHERE \"id\" < ? ORDER BY \"id\"");
+
+        List<DataFrame> batches;
+        try (Stream<DataFrame> stream = connector.sqlLoader(sql).loadBatches(3, 5L)) {
+            batches = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(2, batches.size());
+
+        new DataFrameAsserts(batches.get(0), "id", "name")
+                .expectHeight(3)
+                .expectRow(0, 1L, "n1")
+                .expectRow(1, 2L, "n2")
+                .expectRow(2, 3L, "n3");
+
+        new DataFrameAsserts(batches.get(1), "id", "name")
+                .expectHeight(1)
+                .expectRow(0, 4L, "n4");
+    }
+
+    @Test
+    public void testLoadBatches_MaxRows() {
+
+        JdbcConnector connector = insertRows();
+        String sql = adapter.toNativeSql("SELECT \"id\", \"name\" from \"t1\" ORDER BY \"id\"");
+
+        List<DataFrame> batches;
+        try (Stream<DataFrame> stream = connector.sqlLoader(sql).maxRows(3).loadBatches(2)) {
+            batches = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(2, batches.size());
+        new DataFrameAsserts(batches.get(0), "id", "name").expectHeight(2);
+        new DataFrameAsserts(batches.get(1), "id", "name")
+                .expectHeight(1)
+                .expectRow(0, 3L, "n3");
+    }
+
+    @Test
+    public void testLoadBatches_Empty() {
+
+        JdbcConnector connector = insertRows();
+        String sql = adapter.toNativeSql("SELECT \"id\", \"name\" from \"t1\" WHERE \"id\" > ?");
+
+        try (Stream<DataFrame> stream = connector.sqlLoader(sql).loadBatches(2, 10L)) {
+            assertEquals(0, stream.count());
+        }
+    }
+
+    @Test
+    public void testLoadBatches_Sampling() {
+
+        JdbcConnector connector = insertRows();
+        String sql = adapter.toNativeSql("SELECT \"id\", \"name\" from \"t1\"");
+
+        assertThrows(IllegalStateException.class, () -> connector.sqlLoader(sql).sampleRows(2).loadBatches(2, df -> {}));
+        assertThrows(IllegalArgumentException.class, () -> connector.sqlLoader(sql).loadBatches(0, df -> {}));
+    }
+}
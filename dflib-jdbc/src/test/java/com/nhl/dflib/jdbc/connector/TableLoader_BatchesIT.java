@@ -0,0 +1,50 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.unit.BaseDbTest;
+import com.nhl.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TableLoader_BatchesIT extends BaseDbTest {
+
+    @Test
+    public void testLoadBatches() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 20_000.);
+
+        List<DataFrame> batches = new ArrayList<>();
+        adapter.createConnector()
+                .tableLoader("t1")
+                .includeColumns("id", "name")
+                .fetchSize(2)
+                .loadBatches(2, batches::add);
+
+        assertEquals(2, batches.size());
+        new DataFrameAsserts(batches.get(0), "id", "name").expectHeight(2);
+        new DataFrameAsserts(batches.get(1), "id", "name").expectHeight(1);
+    }
+
+    @Test
+    public void testLoadBatches_EmptyCondition() {
+
+        adapter.getTable("t1").insert(1L, "n1", 50_000.01);
+
+        try (Stream<DataFrame> stream = adapter.createConnector()
+                .tableLoader("t1")
+                .eq(DataFrame.newFrame("id").empty())
+                .loadBatches(2)) {
+
+            assertEquals(0, stream.collect(Collectors.toList()).size());
+        }
+    }
+}
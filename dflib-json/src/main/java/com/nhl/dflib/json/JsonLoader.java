@@ -10,8 +10,18 @@ import com.nhl.dflib.Index;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.accumulator.Accumulator;
 import com.nhl.dflib.accumulator.ObjectAccumulator;
-
+import com.nhl.dflib.io.Compression;
+import com.nhl.dflib.io.ReadAheadInputStream;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -59,8 +69,66 @@ public class JsonLoader {
     }
 
     public DataFrame load(Reader reader) {
-        DocumentContext context = JsonPath.parse(reader, buildJSONPathConfiguration());
-        return load(context);
+
+        // JsonPath has no Reader flavor of "parse", and would treat the Reader as an already parsed document
+        String json;
+        try {
+            json = readFully(reader);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading JSON: " + e.getMessage(), e);
+        }
+
+        return load(json);
+    }
+
+    /**
+     * Loads a DataFrame from a JSON file. Files compressed with gzip or deflate are detected by their first bytes, and
+     * are decompressed on a separate thread while the file is being read. The whole JSON document is read in memory
+     * before it is parsed, so decompression does not overlap with parsing.
+     *
+     * @since 0.11
+     */
+    public DataFrame load(File file) {
+        try (Reader reader = openReader(file)) {
+            return load(reader);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading file: " + file, e);
+        }
+    }
+
+    /**
+     * @since 0.11
+     */
+    public DataFrame load(Path filePath) {
+        return load(filePath.toFile());
+    }
+
+    protected Reader openReader(File file) throws IOException {
+
+        Compression compression = Compression.of(file.toPath());
+        if (compression == Compression.NONE) {
+            return new FileReader(file);
+        }
+
+        InputStream in = new FileInputStream(file);
+        try {
+            return new InputStreamReader(new ReadAheadInputStream(compression.decompress(in)), Charset.defaultCharset());
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    private static String readFully(Reader reader) throws IOException {
+
+        StringBuilder out = new StringBuilder();
+        char[] buffer = new char[8192];
+        int read;
+        while ((read = reader.read(buffer)) >= 0) {
+            out.append(buffer, 0, read);
+        }
+
+        return out.toString();
     }
 
     protected Configuration buildJSONPathConfiguration() {
@@ -7,12 +7,18 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Index;
+import com.nhl.dflib.io.Compression;
+import com.nhl.dflib.io.WriteBehindOutputStream;
 import com.nhl.dflib.row.RowProxy;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
 
 /**
@@ -21,6 +27,7 @@ import java.nio.file.Path;
 public class JsonSaver {
 
     private boolean createMissingDirs;
+    private boolean gzip;
 
     /**
      * Instructs the saver to create any missing directories in the file path.
@@ -32,6 +39,19 @@ public class JsonSaver {
         return this;
     }
 
+    /**
+     * Instructs the saver to compress the files it writes with gzip, using the fastest compression level.
+     * Has no effect when saving to an Appendable. Files with ".gz" or ".deflate" extensions are compressed with the
+     * matching format even without this setting.
+     *
+     * @return this saver instance
+     * @since 0.11
+     */
+    public JsonSaver gzip() {
+        this.gzip = true;
+        return this;
+    }
+
     public void save(DataFrame df, Appendable out) {
 
         try {
@@ -44,7 +64,7 @@ public class JsonSaver {
     public void save(DataFrame df, File file) {
 
         createMissingDirsIfNeeded(file);
-        try (FileWriter out = new FileWriter(file)) {
+        try (Writer out = openWriter(file)) {
             save(df, out);
         } catch (IOException e) {
             throw new RuntimeException("Error writing Avro file '" + file + "': " + e.getMessage(), e);
@@ -59,6 +79,23 @@ public class JsonSaver {
         save(df, new File(fileName));
     }
 
+    protected Writer openWriter(File file) throws IOException {
+
+        Compression compression = gzip ? Compression.GZIP : Compression.ofFileName(file.getName());
+        if (compression == Compression.NONE) {
+            return new FileWriter(file);
+        }
+
+        // compressing on a separate thread, so that compression overlaps with serialization
+        OutputStream out = new FileOutputStream(file);
+        try {
+            return new OutputStreamWriter(new WriteBehindOutputStream(compression.compress(out)), Charset.defaultCharset());
+        } catch (IOException | RuntimeException e) {
+            out.close();
+            throw e;
+        }
+    }
+
     protected void createMissingDirsIfNeeded(File file) {
         if (createMissingDirs) {
             File dir = file.getParentFile();
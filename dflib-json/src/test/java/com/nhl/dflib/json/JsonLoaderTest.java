@@ -5,6 +5,7 @@ import com.nhl.dflib.junit5.DataFrameAsserts;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -22,6 +23,17 @@ public class JsonLoaderTest {
                 .expectRow(2, 3);
     }
 
+    @Test
+    @DisplayName("$.*.a : from Reader")
+    public void testSingleColumn_Reader() {
+        StringReader json = new StringReader("[{\"a\":1},{\"a\":2}]");
+        DataFrame df = Json.loader().pathExpression("$.*.a").load(json);
+        new DataFrameAsserts(df, "_val")
+                .expectHeight(2)
+                .expectRow(0, 1)
+                .expectRow(1, 2);
+    }
+
     @Test
     @DisplayName("$.* : root is object, properties are rows")
     public void testObjectProperties() {
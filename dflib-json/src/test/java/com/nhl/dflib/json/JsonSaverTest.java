@@ -1,17 +1,27 @@
 package com.nhl.dflib.json;
 
 import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.junit5.DataFrameAsserts;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 public class JsonSaverTest {
 
+    @TempDir
+    File dir;
+
     @Test
     @DisplayName("single column")
     public void testSingleColumn() {
@@ -41,4 +51,37 @@ public class JsonSaverTest {
                 "{\"a\":2,\"b\":\"C\",\"c\":\"2021-02-02\",\"d\":\"2021-02-01T01:02:03\",\"e\":false}," +
                 "{\"a\":3,\"b\":\"D\",\"c\":\"2021-01-31\",\"d\":\"2021-02-01T01:02:03\",\"e\":true}]", out.toString());
     }
+
+    @Test
+    @DisplayName("compressed files")
+    public void testCompressedFiles() {
+
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(1, "x", 2, "y");
+
+        File gzFile = new File(dir, "df.json.gz");
+        File deflateFile = new File(dir, "df.json.deflate");
+        File gzipped = new File(dir, "gzipped.json");
+
+        Json.saver().save(df, gzFile);
+        Json.saver().save(df, deflateFile);
+        Json.saver().gzip().save(df, gzipped);
+
+        for (File f : new File[]{gzFile, deflateFile, gzipped}) {
+            new DataFrameAsserts(Json.loader().load(f), "a", "b")
+                    .expectHeight(2)
+                    .expectRow(0, 1, "x")
+                    .expectRow(1, 2, "y");
+        }
+
+        // not a plain text file
+        assertNotEquals('[', (char) readFirstByte(gzipped));
+    }
+
+    private static int readFirstByte(File file) {
+        try (FileInputStream in = new FileInputStream(file)) {
+            return in.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
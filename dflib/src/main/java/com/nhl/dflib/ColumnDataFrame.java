@@ -256,10 +256,13 @@ public class ColumnDataFrame implements DataFrame {
     @Override
     public DataFrame selectRows(IntSeries rowPositions) {
 
+        // the selector flattens nested selections, sharing composed positions between the columns
+        RowSelector selector = new RowSelector(rowPositions);
+
         int width = width();
         Series<?>[] newColumnsData = new Series[width];
         for (int i = 0; i < width; i++) {
-            newColumnsData[i] = dataColumns[i].select(rowPositions);
+            newColumnsData[i] = selector.select(dataColumns[i]);
         }
 
         return new ColumnDataFrame(columnsIndex, newColumnsData);
@@ -305,6 +308,16 @@ public class ColumnDataFrame implements DataFrame {
         return new DataFrameSorter(this).sort(sorters);
     }
 
+    @Override
+    public DataFrame topN(int len, Sorter... sorters) {
+        return new DataFrameSorter(this).topN(len, sorters);
+    }
+
+    @Override
+    public DataFrame bottomN(int len, Sorter... sorters) {
+        return new DataFrameSorter(this).bottomN(len, sorters);
+    }
+
     @Override
     public <V extends Comparable<? super V>> DataFrame sort(RowToValueMapper<V> sortKeyExtractor) {
         return new DataFrameSorter(this).sort(sortKeyExtractor);
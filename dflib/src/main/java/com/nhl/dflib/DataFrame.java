@@ -3,7 +3,9 @@ package com.nhl.dflib;
 import com.nhl.dflib.agg.DataFrameAggregation;
 import com.nhl.dflib.join.JoinBuilder;
 import com.nhl.dflib.pivot.PivotBuilder;
+import com.nhl.dflib.plan.LazyDataFrame;
 import com.nhl.dflib.row.RowProxy;
+import com.nhl.dflib.select.ColumnIndex;
 import com.nhl.dflib.series.SingleValueSeries;
 import com.nhl.dflib.window.WindowBuilder;
 
@@ -609,6 +611,24 @@ public interface DataFrame extends Iterable<RowProxy> {
      */
     DataFrame selectRows(BooleanSeries condition);
 
+    /**
+     * Builds a sorted index of the column that answers repeated point and range lookups without scanning the column.
+     * The index is built once and holds no reference to this DataFrame. Its lookups return row positions to be passed
+     * to {@link #selectRows(IntSeries)}.
+     *
+     * @since 0.11
+     */
+    default <T> ColumnIndex<T> indexBy(String columnName) {
+        return indexBy(getColumnsIndex().position(columnName));
+    }
+
+    /**
+     * @since 0.11
+     */
+    default <T> ColumnIndex<T> indexBy(int columnPos) {
+        return new ColumnIndex<>(this, columnPos);
+    }
+
     /**
      * @deprecated since 0.11 in favor of {@link #selectRows(RowPredicate)}
      */
@@ -652,6 +672,22 @@ public interface DataFrame extends Iterable<RowProxy> {
 
     <V extends Comparable<? super V>> DataFrame sort(RowToValueMapper<V> sortKeyExtractor);
 
+    /**
+     * Returns a DataFrame with the first "len" rows in the order specified by the sorters. Produces the same result
+     * as <code>sort(sorters).head(len)</code>, but doesn't do a full sort, so is much faster for large DataFrames.
+     *
+     * @since 0.11
+     */
+    DataFrame topN(int len, Sorter... sorters);
+
+    /**
+     * Returns a DataFrame with the last "len" rows in the order specified by the sorters. Produces the same result
+     * as <code>sort(sorters).tail(len)</code>, but doesn't do a full sort, so is much faster for large DataFrames.
+     *
+     * @since 0.11
+     */
+    DataFrame bottomN(int len, Sorter... sorters);
+
     DataFrame sort(String column, boolean ascending);
 
     DataFrame sort(int column, boolean ascending);
@@ -909,8 +945,7 @@ public interface DataFrame extends Iterable<RowProxy> {
 
     /**
      * Returns a DataFrame object that is a random sample of rows from this object, with the specified sample size.
-     * If you are doing sampling in a high concurrency application, consider using {@link #sampleRows(int, Random)}, as
-     * this method is using a shared {@link Random} instance with synchronization.
+     * To get a reproducible sample, use {@link #sampleRows(int, Random)} with a seeded Random.
      *
      * @param size the size of the sample. Can't be bigger than the height of this DataFrame.
      * @return a DataFrame object that is a sample of rows from this object
@@ -930,8 +965,7 @@ public interface DataFrame extends Iterable<RowProxy> {
 
     /**
      * Returns a DataFrame object that is a random sample of columns from this object, with the specified sample size.
-     * If you are doing sampling in a high concurrency application, consider using {@link #sampleRows(int, Random)}, as
-     * this method is using a shared {@link Random} instance with synchronization.
+     * To get a reproducible sample, use {@link #sampleColumns(int, Random)} with a seeded Random.
      *
      * @param size the size of the sample. Can't be bigger than the height of this DataFrame.
      * @return a DataFrame object that is a sample of columns from this object
@@ -958,6 +992,17 @@ public interface DataFrame extends Iterable<RowProxy> {
         return new WindowBuilder(this);
     }
 
+    /**
+     * Returns a {@link LazyDataFrame} over this DataFrame, that records subsequent operations in a query plan, and
+     * executes them only when the result is requested, optimizing the plan first.
+     *
+     * @return a new {@link LazyDataFrame}
+     * @since 0.11
+     */
+    default LazyDataFrame lazy() {
+        return new LazyDataFrame(this);
+    }
+
     @Override
     Iterator<RowProxy> iterator();
 }
@@ -1,6 +1,8 @@
 package com.nhl.dflib;
 
+import com.nhl.dflib.exp.ZoneMapCondition;
 import com.nhl.dflib.exp.datetime.DateExpScalar2;
+import com.nhl.dflib.exp.map.MapCondition2;
 
 import java.time.LocalDate;
 
@@ -26,4 +28,41 @@ public interface DateExp extends Exp<LocalDate> {
     default DateExp plusYears(int years) {
         return DateExpScalar2.mapVal("plusYears", this, years, (ld, y) -> ld.plusYears(y));
     }
+
+    @Override
+    default Condition eq(Object value) {
+        return ZoneMapCondition.eq(Exp.super.eq(value), this, value);
+    }
+
+    default Condition lt(Exp<LocalDate> exp) {
+        return MapCondition2.mapVal("<", this, exp, (d1, d2) -> d1.compareTo(d2) < 0);
+    }
+
+    default Condition lt(LocalDate val) {
+        return ZoneMapCondition.lt(lt(Exp.$val(val, LocalDate.class)), this, val);
+    }
+
+    default Condition le(Exp<LocalDate> exp) {
+        return MapCondition2.mapVal("<=", this, exp, (d1, d2) -> d1.compareTo(d2) <= 0);
+    }
+
+    default Condition le(LocalDate val) {
+        return ZoneMapCondition.le(le(Exp.$val(val, LocalDate.class)), this, val);
+    }
+
+    default Condition gt(Exp<LocalDate> exp) {
+        return MapCondition2.mapVal(">", this, exp, (d1, d2) -> d1.compareTo(d2) > 0);
+    }
+
+    default Condition gt(LocalDate val) {
+        return ZoneMapCondition.gt(gt(Exp.$val(val, LocalDate.class)), this, val);
+    }
+
+    default Condition ge(Exp<LocalDate> exp) {
+        return MapCondition2.mapVal(">=", this, exp, (d1, d2) -> d1.compareTo(d2) >= 0);
+    }
+
+    default Condition ge(LocalDate val) {
+        return ZoneMapCondition.ge(ge(Exp.$val(val, LocalDate.class)), this, val);
+    }
 }
@@ -1,8 +1,11 @@
 package com.nhl.dflib;
 
 import com.nhl.dflib.exp.*;
+import com.nhl.dflib.exp.agg.ApproxAggregators;
 import com.nhl.dflib.exp.agg.CountExp;
 import com.nhl.dflib.exp.agg.ExpAggregator;
+import com.nhl.dflib.exp.agg.HyperLogLog;
+import com.nhl.dflib.exp.agg.LongExpAggregator;
 import com.nhl.dflib.exp.agg.StringAggregators;
 import com.nhl.dflib.exp.bool.AndCondition;
 import com.nhl.dflib.exp.bool.BoolColumn;
@@ -11,6 +14,7 @@ import com.nhl.dflib.exp.datetime.DateColumn;
 import com.nhl.dflib.exp.filter.PreFilterFirstMatchExp;
 import com.nhl.dflib.exp.filter.PreFilteredCountExp;
 import com.nhl.dflib.exp.filter.PreFilteredExp;
+import com.nhl.dflib.exp.filter.PreFilteredNumExp;
 import com.nhl.dflib.exp.flow.IfExp;
 import com.nhl.dflib.exp.flow.IfNullExp;
 import com.nhl.dflib.exp.map.MapCondition1;
@@ -444,6 +448,26 @@ public interface Exp<T> {
         return agg(filter, StringAggregators.vConcat(delimiter, prefix, suffix));
     }
 
+    /**
+     * Aggregating operation that returns a single-value Series with an approximate count of distinct non-null values.
+     * Unlike counting {@link Series#unique()} values, uses a fixed amount of memory regardless of the data size.
+     */
+    default NumExp<Long> approxCountDistinct() {
+        return new LongExpAggregator<>("approxCountDistinct", this, ApproxAggregators::countDistinct);
+    }
+
+    default NumExp<Long> approxCountDistinct(Condition filter) {
+        return new PreFilteredNumExp<>(filter, approxCountDistinct());
+    }
+
+    /**
+     * Aggregating operation that returns a single-value Series with a {@link HyperLogLog} sketch of the values.
+     * Sketches calculated over separate batches of data can be merged together to get a combined distinct count.
+     */
+    default Exp<HyperLogLog> hll() {
+        return agg(ApproxAggregators::hll);
+    }
+
     /**
      * Aggregating operation that returns a single-value Series with all the values gathered into a single Set.
      */
@@ -2,9 +2,13 @@ package com.nhl.dflib;
 
 import com.nhl.dflib.agg.DataFrameAggregation;
 import com.nhl.dflib.concat.SeriesConcat;
+import com.nhl.dflib.sample.Sampler;
+import com.nhl.dflib.series.ArraySeries;
 import com.nhl.dflib.series.EmptySeries;
+import com.nhl.dflib.series.IntArraySeries;
 import com.nhl.dflib.sort.GroupBySorter;
 import com.nhl.dflib.sort.IntComparator;
+import com.nhl.dflib.sort.IntParallelMergeSort;
 import com.nhl.dflib.window.DenseRanker;
 import com.nhl.dflib.window.Ranker;
 import com.nhl.dflib.window.RowNumberer;
@@ -12,6 +16,7 @@ import com.nhl.dflib.window.RowNumberer;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class GroupBy {
@@ -60,6 +65,18 @@ public class GroupBy {
         return groupsIndex.keySet();
     }
 
+    /**
+     * Returns group keys as a Series, in the order of groups. The Series is marked as unique in its
+     * {@link Series#getStats() stats}.
+     *
+     * @since 0.11
+     */
+    public Series<Object> getGroupKeys() {
+        Series<Object> keys = new ArraySeries<>(groupsIndex.keySet().toArray());
+        keys.getStats().markUnique();
+        return keys;
+    }
+
     public boolean hasGroup(Object key) {
         return groupsIndex.containsKey(key);
     }
@@ -216,6 +233,109 @@ public class GroupBy {
         return new GroupBy(ungrouped, trimmed, sorter);
     }
 
+    /**
+     * Returns a GroupBy with each group replaced with a random sample of its rows (i.e. a stratified sample of the
+     * ungrouped DataFrame). Groups smaller than the sample size are included in their entirety, though their rows are
+     * reordered randomly.
+     *
+     * @since 0.11
+     */
+    public GroupBy sample(int size) {
+        return sample(size, Sampler.getDefaultRandom());
+    }
+
+    /**
+     * Returns a GroupBy with each group replaced with a random sample of its rows, using the provided Random.
+     *
+     * @see #sample(int)
+     * @since 0.11
+     */
+    public GroupBy sample(int size, Random random) {
+
+        if (size < 0) {
+            throw new IllegalArgumentException("Sample size must be non-negative: " + size);
+        }
+
+        Map<Object, IntSeries> sampled = new LinkedHashMap<>((int) (groupsIndex.size() / 0.75));
+
+        for (Map.Entry<Object, IntSeries> e : groupsIndex.entrySet()) {
+            IntSeries index = e.getValue();
+            sampled.put(e.getKey(), index.sample(Math.min(size, index.size()), random));
+        }
+
+        return new GroupBy(ungrouped, sampled, sorter);
+    }
+
+    /**
+     * Returns a GroupBy with each group replaced with a random sample of its rows. Groups of large DataFrames are
+     * sampled in parallel. Each group gets its own random generator derived from the seed, so the result is the same
+     * for the same seed regardless of parallelism.
+     *
+     * @see #sample(int)
+     * @since 0.11
+     */
+    public GroupBy sample(int size, long seed) {
+
+        if (size < 0) {
+            throw new IllegalArgumentException("Sample size must be non-negative: " + size);
+        }
+
+        int len = groupsIndex.size();
+        Object[] keys = new Object[len];
+        IntSeries[] indices = new IntSeries[len];
+        int[] sizes = new int[len];
+
+        int i = 0;
+        for (Map.Entry<Object, IntSeries> e : groupsIndex.entrySet()) {
+            keys[i] = e.getKey();
+            indices[i] = e.getValue();
+            sizes[i] = e.getValue().size();
+            i++;
+        }
+
+        boolean parallel = ungrouped.height() >= IntParallelMergeSort.PARALLEL_THRESHOLD;
+        IntSeries[] positions = Sampler.sampleIndices(size, sizes, seed, parallel);
+
+        Map<Object, IntSeries> sampled = new LinkedHashMap<>((int) (len / 0.75));
+        for (int j = 0; j < len; j++) {
+            sampled.put(keys[j], selectPositions(indices[j], positions[j]));
+        }
+
+        return new GroupBy(ungrouped, sampled, sorter);
+    }
+
+    private static IntSeries selectPositions(IntSeries index, IntSeries positions) {
+        int len = positions.size();
+        int[] selected = new int[len];
+        for (int i = 0; i < len; i++) {
+            selected[i] = index.getInt(positions.getInt(i));
+        }
+
+        return new IntArraySeries(selected);
+    }
+
+    /**
+     * Returns a GroupBy with each group trimmed to the first "len" rows in the order specified by the sorters. Produces
+     * the same result as <code>sort(sorters).head(len)</code>, but doesn't fully sort the groups, so is much faster
+     * for large groups.
+     *
+     * @since 0.11
+     */
+    public GroupBy topN(int len, Sorter... sorters) {
+        return new GroupBySorter(this).topN(len, sorters);
+    }
+
+    /**
+     * Returns a GroupBy with each group trimmed to the last "len" rows in the order specified by the sorters. Produces
+     * the same result as <code>sort(sorters).tail(len)</code>, but doesn't fully sort the groups, so is much faster
+     * for large groups.
+     *
+     * @since 0.11
+     */
+    public GroupBy bottomN(int len, Sorter... sorters) {
+        return new GroupBySorter(this).bottomN(len, sorters);
+    }
+
     public <V extends Comparable<? super V>> GroupBy sort(RowToValueMapper<V> sortKeyExtractor) {
         return new GroupBySorter(this).sort(sortKeyExtractor);
     }
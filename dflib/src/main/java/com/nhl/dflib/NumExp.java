@@ -1,5 +1,9 @@
 package com.nhl.dflib;
 
+import com.nhl.dflib.exp.ZoneMapCondition;
+import com.nhl.dflib.exp.agg.ApproxAggregators;
+import com.nhl.dflib.exp.agg.ApproxQuantileExp;
+import com.nhl.dflib.exp.agg.TDigest;
 import com.nhl.dflib.exp.filter.PreFilteredNumExp;
 import com.nhl.dflib.exp.num.NumericExpFactory;
 
@@ -93,7 +97,7 @@ public interface NumExp<N extends Number> extends Exp<N> {
     @Override
     default Condition eq(Object value) {
         return value instanceof Number
-                ? eq(Exp.$val(value))
+                ? ZoneMapCondition.eq(eq(Exp.$val(value)), this, value)
                 // TODO: return either null check or a "false" exp here?
                 : Exp.super.eq(value);
     }
@@ -120,7 +124,7 @@ public interface NumExp<N extends Number> extends Exp<N> {
 
     default Condition lt(Number val) {
         Exp<? extends Number> ve = Exp.$val(val);
-        return NumericExpFactory.factory(this, ve).lt(this, ve);
+        return ZoneMapCondition.lt(NumericExpFactory.factory(this, ve).lt(this, ve), this, val);
     }
 
     default Condition le(Exp<? extends Number> exp) {
@@ -129,7 +133,7 @@ public interface NumExp<N extends Number> extends Exp<N> {
 
     default Condition le(Number val) {
         Exp<? extends Number> ve = Exp.$val(val);
-        return NumericExpFactory.factory(this, ve).le(this, ve);
+        return ZoneMapCondition.le(NumericExpFactory.factory(this, ve).le(this, ve), this, val);
     }
 
     default Condition gt(Exp<? extends Number> exp) {
@@ -138,7 +142,7 @@ public interface NumExp<N extends Number> extends Exp<N> {
 
     default Condition gt(Number val) {
         Exp<? extends Number> ve = Exp.$val(val);
-        return NumericExpFactory.factory(this, ve).gt(this, ve);
+        return ZoneMapCondition.gt(NumericExpFactory.factory(this, ve).gt(this, ve), this, val);
     }
 
     default Condition ge(Exp<? extends Number> exp) {
@@ -147,7 +151,7 @@ public interface NumExp<N extends Number> extends Exp<N> {
 
     default Condition ge(Number val) {
         Exp<? extends Number> ve = Exp.$val(val);
-        return NumericExpFactory.factory(this, ve).ge(this, ve);
+        return ZoneMapCondition.ge(NumericExpFactory.factory(this, ve).ge(this, ve), this, val);
     }
 
     default NumExp<?> sum() {
@@ -189,4 +193,24 @@ public interface NumExp<N extends Number> extends Exp<N> {
     default NumExp<?> median(Condition filter) {
         return new PreFilteredNumExp<>(filter, median());
     }
+
+    /**
+     * Aggregating operation that returns a single-value Series with an approximate value at the specified quantile
+     * (e.g. 0.95 for p95). Uses a fixed amount of memory regardless of the data size.
+     */
+    default NumExp<Double> approxQuantile(double q) {
+        return new ApproxQuantileExp<>(this, q);
+    }
+
+    default NumExp<Double> approxQuantile(Condition filter, double q) {
+        return new PreFilteredNumExp<>(filter, approxQuantile(q));
+    }
+
+    /**
+     * Aggregating operation that returns a single-value Series with a {@link TDigest} sketch of the values.
+     * Sketches calculated over separate batches of data can be merged together to get combined quantiles.
+     */
+    default Exp<TDigest> tdigest() {
+        return agg(ApproxAggregators::tdigest);
+    }
 }
@@ -56,6 +56,20 @@ public interface Series<T> extends Iterable<T> {
      */
     Class<?> getInferredType();
 
+    /**
+     * Returns lazily calculated statistics of this Series, such as min and max values, null count, sortedness and
+     * uniqueness. Each statistic is calculated on first access and cached for the lifetime of the Series.
+     * <p>The default implementation returns a new uncached statistics object on every call. It exists for the
+     * compatibility with Series implementations outside DFLib, all DFLib Series override it with a cached
+     * instance.</p>
+     *
+     * @return statistics object of this Series
+     * @since 0.11
+     */
+    default SeriesStats<T> getStats() {
+        return new SeriesStats<>(this);
+    }
+
     int size();
 
     T get(int index);
@@ -178,6 +192,40 @@ public interface Series<T> extends Iterable<T> {
      */
     Series<T> sort(Comparator<? super T> comparator);
 
+    /**
+     * Returns the first "len" elements of this Series in the order specified by the sorters. Produces the same result
+     * as <code>sort(sorters).head(len)</code>, but doesn't do a full sort, so is much faster for large Series.
+     *
+     * @since 0.11
+     */
+    default Series<T> topN(int len, Sorter... sorters) {
+        return new SeriesSorter<>(this).topN(len, sorters);
+    }
+
+    /**
+     * @since 0.11
+     */
+    default Series<T> topN(int len, Comparator<? super T> comparator) {
+        return new SeriesSorter<>(this).topN(len, comparator);
+    }
+
+    /**
+     * Returns the last "len" elements of this Series in the order specified by the sorters. Produces the same result
+     * as <code>sort(sorters).tail(len)</code>, but doesn't do a full sort, so is much faster for large Series.
+     *
+     * @since 0.11
+     */
+    default Series<T> bottomN(int len, Sorter... sorters) {
+        return new SeriesSorter<>(this).bottomN(len, sorters);
+    }
+
+    /**
+     * @since 0.11
+     */
+    default Series<T> bottomN(int len, Comparator<? super T> comparator) {
+        return new SeriesSorter<>(this).bottomN(len, comparator);
+    }
+
     /**
      * Calculates and returns an IntSeries representing element indices from the original Series in the order dictated
      * by the comparator. This operation is useful when we want to sort another Series based on the ordering of this
@@ -313,9 +361,8 @@ public interface Series<T> extends Iterable<T> {
     }
 
     /**
-     * Returns a Series object that is a random sample of values from this object, with the specified sample size. If you are
-     * doing sampling in a high concurrency application, consider using {@link #sample(int, Random)}, as this method
-     * is using a shared {@link Random} instance with synchronization.
+     * Returns a Series object that is a random sample of values from this object, with the specified sample size. To get
+     * a reproducible sample, use {@link #sample(int, Random)} with a seeded Random.
      *
      * @param size the size of the sample. Can't be bigger than the size of this Series.
      * @return a Series object that is a sample of values from this object
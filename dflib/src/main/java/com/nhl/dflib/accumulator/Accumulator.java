@@ -9,6 +9,13 @@ import com.nhl.dflib.Series;
  */
 public interface Accumulator<T> {
 
+    /**
+     * The size of the segments, in which large accumulators grow.
+     *
+     * @since 0.11
+     */
+    int SEGMENT_SIZE = 1 << 16;
+
     void add(T v);
 
     void set(int pos, T v);
@@ -45,5 +52,16 @@ public interface Accumulator<T> {
         throw new UnsupportedOperationException("This Accumulator does not support 'double'");
     }
 
+    /**
+     * Notifies the accumulator of the expected total number of values, so that it can preallocate its storage. Called
+     * by data loaders that know or can estimate the size of the data upfront. The hint is allowed to be imprecise and
+     * may be ignored.
+     *
+     * @since 0.11
+     */
+    default void sizeHint(int expectedSize) {
+        // do nothing by default
+    }
+
     Series<T> toSeries();
 }
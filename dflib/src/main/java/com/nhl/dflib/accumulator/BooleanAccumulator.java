@@ -24,8 +24,16 @@ public class BooleanAccumulator implements Accumulator<Boolean> {
     }
 
 
+    /**
+     * Appends the value to the positions from "from" (inclusive) to "to" (exclusive). "from" must be equal to the
+     * current size of the accumulator.
+     */
     public void fill(int from, int to, boolean value) {
 
+        if (from != size) {
+            throw new IllegalArgumentException("Can only fill from the end of the accumulator at " + size + ", got " + from);
+        }
+
         if (to - from < 1) {
             return;
         }
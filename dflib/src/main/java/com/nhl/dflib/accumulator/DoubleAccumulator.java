@@ -1,19 +1,27 @@
 package com.nhl.dflib.accumulator;
 
 import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.series.ChunkedSeries;
 import com.nhl.dflib.series.DoubleArraySeries;
 
 import java.util.Arrays;
 
 /**
- * An expandable list of primitive int values that has minimal overhead and can be converted to compact and efficient
- * immutable {@link com.nhl.dflib.DoubleSeries}.
+ * An expandable list of primitive double values that has minimal overhead and can be converted to compact and efficient
+ * immutable {@link DoubleSeries}. Small lists grow by doubling the array. Once the list reaches
+ * {@link Accumulator#SEGMENT_SIZE}, it grows by appending fixed-size segments, so the values already collected are
+ * never copied until the Series is created.
  *
  * @since 0.6
  */
 public class DoubleAccumulator implements Accumulator<Double> {
 
+    // full segments preceding the current segment. All but the first one are of SEGMENT_SIZE
+    private double[][] segments;
+    private int segmentsCount;
+
     private double[] data;
+    private int dataSize;
     private int size;
 
     public DoubleAccumulator() {
@@ -25,18 +33,30 @@ public class DoubleAccumulator implements Accumulator<Double> {
         this.data = new double[capacity];
     }
 
+    /**
+     * Appends the value to the positions from "from" (inclusive) to "to" (exclusive). "from" must be equal to the
+     * current size of the accumulator.
+     */
     public void fill(int from, int to, double value) {
 
-        if (to - from < 1) {
-            return;
+        if (from != size) {
+            throw new IllegalArgumentException("Can only fill from the end of the accumulator at " + size + ", got " + from);
         }
 
-        if (data.length <= to) {
-            expand(to);
-        }
+        int len = to - from;
+
+        while (len > 0) {
 
-        Arrays.fill(data, from, to, value);
-        size += to - from;
+            if (dataSize == data.length) {
+                grow();
+            }
+
+            int n = Math.min(len, data.length - dataSize);
+            Arrays.fill(data, dataSize, dataSize + n, value);
+            dataSize += n;
+            size += n;
+            len -= n;
+        }
     }
 
     /**
@@ -53,11 +73,12 @@ public class DoubleAccumulator implements Accumulator<Double> {
     @Override
     public void addDouble(double value) {
 
-        if (size == data.length) {
-            expand(data.length * 2);
+        if (dataSize == data.length) {
+            grow();
         }
 
-        data[size++] = value;
+        data[dataSize++] = value;
+        size++;
     }
 
     @Override
@@ -72,37 +93,113 @@ public class DoubleAccumulator implements Accumulator<Double> {
             throw new IndexOutOfBoundsException(pos + " is out of bounds for " + size);
         }
 
-        data[pos] = value;
+        int dataOffset = size - dataSize;
+        if (pos >= dataOffset) {
+            data[pos - dataOffset] = value;
+            return;
+        }
+
+        int firstSize = segments[0].length;
+        if (pos < firstSize) {
+            segments[0][pos] = value;
+        } else {
+            int p = pos - firstSize;
+            segments[1 + p / SEGMENT_SIZE][p % SEGMENT_SIZE] = value;
+        }
     }
 
+    /**
+     * @since 0.11
+     */
+    @Override
+    public void sizeHint(int expectedSize) {
+        if (segmentsCount == 0 && expectedSize > data.length) {
+            expand(expectedSize);
+        }
+    }
+
+    /**
+     * Creates an DoubleSeries backed by a single array. If the accumulator has grown past its first segment, the values
+     * are copied to an array of the exact size.
+     */
     @Override
     public DoubleSeries toSeries() {
         double[] data = compactData();
 
         // making sure no one can change the series via the Mutable List anymore
         this.data = null;
+        this.segments = null;
 
         return new DoubleArraySeries(data, 0, size);
     }
 
+    /**
+     * Creates an DoubleSeries that reuses the accumulator segments as its chunks without copying any data.
+     *
+     * @since 0.11
+     */
+    public DoubleSeries toChunkedSeries() {
+
+        if (segmentsCount == 0) {
+            return toSeries();
+        }
+
+        DoubleSeries[] chunks = new DoubleSeries[segmentsCount + 1];
+        for (int i = 0; i < segmentsCount; i++) {
+            chunks[i] = new DoubleArraySeries(segments[i]);
+        }
+        chunks[segmentsCount] = new DoubleArraySeries(data, 0, dataSize);
+
+        // making sure no one can change the series via the Mutable List anymore
+        this.data = null;
+        this.segments = null;
+
+        return (DoubleSeries) ChunkedSeries.of(chunks);
+    }
+
     public int size() {
         return size;
     }
 
     private double[] compactData() {
-        if (data.length == size) {
-            return data;
+        if (segmentsCount == 0) {
+            return data.length == size ? data : Arrays.copyOf(data, size);
         }
 
         double[] newData = new double[size];
-        System.arraycopy(data, 0, newData, 0, size);
+        int offset = 0;
+        for (int i = 0; i < segmentsCount; i++) {
+            int len = segments[i].length;
+            System.arraycopy(segments[i], 0, newData, offset, len);
+            offset += len;
+        }
+
+        System.arraycopy(data, 0, newData, offset, dataSize);
         return newData;
     }
 
-    private void expand(int newCapacity) {
+    private void grow() {
+
+        // small lists are still expanded by copying, as there's little to copy and this avoids tiny segments
+        if (segmentsCount == 0 && data.length < SEGMENT_SIZE) {
+            expand(Math.min(Math.max(data.length * 2, 10), SEGMENT_SIZE));
+            return;
+        }
 
+        if (segments == null) {
+            segments = new double[10][];
+        } else if (segmentsCount == segments.length) {
+            segments = Arrays.copyOf(segments, segmentsCount * 2);
+        }
+
+        segments[segmentsCount++] = data;
+        data = new double[SEGMENT_SIZE];
+        dataSize = 0;
+    }
+
+    private void expand(int newCapacity) {
         double[] newData = new double[newCapacity];
-        System.arraycopy(data, 0, newData, 0, size);
+        System.arraycopy(data, 0, newData, 0, dataSize);
 
         this.data = newData;
     }
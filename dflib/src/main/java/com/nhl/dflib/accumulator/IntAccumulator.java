@@ -1,19 +1,27 @@
 package com.nhl.dflib.accumulator;
 
 import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.series.ChunkedSeries;
 import com.nhl.dflib.series.IntArraySeries;
 
 import java.util.Arrays;
 
 /**
  * An expandable list of primitive int values that has minimal overhead and can be converted to compact and efficient
- * immutable {@link IntSeries}.
+ * immutable {@link IntSeries}. Small lists grow by doubling the array. Once the list reaches
+ * {@link Accumulator#SEGMENT_SIZE}, it grows by appending fixed-size segments, so the values already collected are
+ * never copied until the Series is created.
  *
  * @since 0.6
  */
 public class IntAccumulator implements Accumulator<Integer> {
 
+    // full segments preceding the current segment. All but the first one are of SEGMENT_SIZE
+    private int[][] segments;
+    private int segmentsCount;
+
     private int[] data;
+    private int dataSize;
     private int size;
 
     public IntAccumulator() {
@@ -25,17 +33,30 @@ public class IntAccumulator implements Accumulator<Integer> {
         this.data = new int[capacity];
     }
 
+    /**
+     * Appends the value to the positions from "from" (inclusive) to "to" (exclusive). "from" must be equal to the
+     * current size of the accumulator.
+     */
     public void fill(int from, int to, int value) {
-        if (to - from < 1) {
-            return;
-        }
 
-        if (data.length <= to) {
-            expand(to);
+        if (from != size) {
+            throw new IllegalArgumentException("Can only fill from the end of the accumulator at " + size + ", got " + from);
         }
 
-        Arrays.fill(data, from, to, value);
-        size += to - from;
+        int len = to - from;
+
+        while (len > 0) {
+
+            if (dataSize == data.length) {
+                grow();
+            }
+
+            int n = Math.min(len, data.length - dataSize);
+            Arrays.fill(data, dataSize, dataSize + n, value);
+            dataSize += n;
+            size += n;
+            len -= n;
+        }
     }
 
     /**
@@ -52,11 +73,12 @@ public class IntAccumulator implements Accumulator<Integer> {
     @Override
     public void addInt(int value) {
 
-        if (size == data.length) {
-            expand(data.length * 2);
+        if (dataSize == data.length) {
+            grow();
         }
 
-        data[size++] = value;
+        data[dataSize++] = value;
+        size++;
     }
 
     @Override
@@ -71,36 +93,113 @@ public class IntAccumulator implements Accumulator<Integer> {
             throw new IndexOutOfBoundsException(pos + " is out of bounds for " + size);
         }
 
-        data[pos] = value;
+        int dataOffset = size - dataSize;
+        if (pos >= dataOffset) {
+            data[pos - dataOffset] = value;
+            return;
+        }
+
+        int firstSize = segments[0].length;
+        if (pos < firstSize) {
+            segments[0][pos] = value;
+        } else {
+            int p = pos - firstSize;
+            segments[1 + p / SEGMENT_SIZE][p % SEGMENT_SIZE] = value;
+        }
     }
 
+    /**
+     * @since 0.11
+     */
+    @Override
+    public void sizeHint(int expectedSize) {
+        if (segmentsCount == 0 && expectedSize > data.length) {
+            expand(expectedSize);
+        }
+    }
+
+    /**
+     * Creates an IntSeries backed by a single array. If the accumulator has grown past its first segment, the values
+     * are copied to an array of the exact size.
+     */
     @Override
     public IntSeries toSeries() {
         int[] data = compactData();
 
         // making sure no one can change the series via the Mutable List anymore
         this.data = null;
+        this.segments = null;
 
         return new IntArraySeries(data, 0, size);
     }
 
+    /**
+     * Creates an IntSeries that reuses the accumulator segments as its chunks without copying any data.
+     *
+     * @since 0.11
+     */
+    public IntSeries toChunkedSeries() {
+
+        if (segmentsCount == 0) {
+            return toSeries();
+        }
+
+        IntSeries[] chunks = new IntSeries[segmentsCount + 1];
+        for (int i = 0; i < segmentsCount; i++) {
+            chunks[i] = new IntArraySeries(segments[i]);
+        }
+        chunks[segmentsCount] = new IntArraySeries(data, 0, dataSize);
+
+        // making sure no one can change the series via the Mutable List anymore
+        this.data = null;
+        this.segments = null;
+
+        return (IntSeries) ChunkedSeries.of(chunks);
+    }
+
     public int size() {
         return size;
     }
 
     private int[] compactData() {
-        if (data.length == size) {
-            return data;
+        if (segmentsCount == 0) {
+            return data.length == size ? data : Arrays.copyOf(data, size);
         }
 
         int[] newData = new int[size];
-        System.arraycopy(data, 0, newData, 0, size);
+        int offset = 0;
+        for (int i = 0; i < segmentsCount; i++) {
+            int len = segments[i].length;
+            System.arraycopy(segments[i], 0, newData, offset, len);
+            offset += len;
+        }
+
+        System.arraycopy(data, 0, newData, offset, dataSize);
         return newData;
     }
 
+    private void grow() {
+
+        // small lists are still expanded by copying, as there's little to copy and this avoids tiny segments
+        if (segmentsCount == 0 && data.length < SEGMENT_SIZE) {
+            expand(Math.min(Math.max(data.length * 2, 10), SEGMENT_SIZE));
+            return;
+        }
+
+        if (segments == null) {
+            segments = new int[10][];
+        } else if (segmentsCount == segments.length) {
+            segments = Arrays.copyOf(segments, segmentsCount * 2);
+        }
+
+        segments[segmentsCount++] = data;
+        data = new int[SEGMENT_SIZE];
+        dataSize = 0;
+    }
+
     private void expand(int newCapacity) {
         int[] newData = new int[newCapacity];
-        System.arraycopy(data, 0, newData, 0, size);
+        System.arraycopy(data, 0, newData, 0, dataSize);
 
         this.data = newData;
     }
@@ -1,19 +1,27 @@
 package com.nhl.dflib.accumulator;
 
 import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.series.ChunkedSeries;
 import com.nhl.dflib.series.LongArraySeries;
 
 import java.util.Arrays;
 
 /**
  * An expandable list of primitive long values that has minimal overhead and can be converted to compact and efficient
- * immutable {@link com.nhl.dflib.LongSeries}.
+ * immutable {@link LongSeries}. Small lists grow by doubling the array. Once the list reaches
+ * {@link Accumulator#SEGMENT_SIZE}, it grows by appending fixed-size segments, so the values already collected are
+ * never copied until the Series is created.
  *
  * @since 0.6
  */
 public class LongAccumulator implements Accumulator<Long> {
 
+    // full segments preceding the current segment. All but the first one are of SEGMENT_SIZE
+    private long[][] segments;
+    private int segmentsCount;
+
     private long[] data;
+    private int dataSize;
     private int size;
 
     public LongAccumulator() {
@@ -25,32 +33,52 @@ public class LongAccumulator implements Accumulator<Long> {
         this.data = new long[capacity];
     }
 
+    /**
+     * Appends the value to the positions from "from" (inclusive) to "to" (exclusive). "from" must be equal to the
+     * current size of the accumulator.
+     */
     public void fill(int from, int to, long value) {
-        if (to - from < 1) {
-            return;
-        }
 
-        if (data.length <= to) {
-            expand(to);
+        if (from != size) {
+            throw new IllegalArgumentException("Can only fill from the end of the accumulator at " + size + ", got " + from);
         }
 
-        Arrays.fill(data, from, to, value);
-        size += to - from;
+        int len = to - from;
+
+        while (len > 0) {
+
+            if (dataSize == data.length) {
+                grow();
+            }
+
+            int n = Math.min(len, data.length - dataSize);
+            Arrays.fill(data, dataSize, dataSize + n, value);
+            dataSize += n;
+            size += n;
+            len -= n;
+        }
     }
 
+    /**
+     * @since 0.8
+     */
     @Override
     public void add(Long v) {
         addLong(v != null ? v : 0L);
     }
 
+    /**
+     * @since 0.8
+     */
     @Override
     public void addLong(long value) {
 
-        if (size == data.length) {
-            expand(data.length * 2);
+        if (dataSize == data.length) {
+            grow();
         }
 
-        data[size++] = value;
+        data[dataSize++] = value;
+        size++;
     }
 
     @Override
@@ -65,36 +93,113 @@ public class LongAccumulator implements Accumulator<Long> {
             throw new IndexOutOfBoundsException(pos + " is out of bounds for " + size);
         }
 
-        data[pos] = value;
+        int dataOffset = size - dataSize;
+        if (pos >= dataOffset) {
+            data[pos - dataOffset] = value;
+            return;
+        }
+
+        int firstSize = segments[0].length;
+        if (pos < firstSize) {
+            segments[0][pos] = value;
+        } else {
+            int p = pos - firstSize;
+            segments[1 + p / SEGMENT_SIZE][p % SEGMENT_SIZE] = value;
+        }
     }
 
+    /**
+     * @since 0.11
+     */
+    @Override
+    public void sizeHint(int expectedSize) {
+        if (segmentsCount == 0 && expectedSize > data.length) {
+            expand(expectedSize);
+        }
+    }
+
+    /**
+     * Creates an LongSeries backed by a single array. If the accumulator has grown past its first segment, the values
+     * are copied to an array of the exact size.
+     */
     @Override
     public LongSeries toSeries() {
         long[] data = compactData();
 
         // making sure no one can change the series via the Mutable List anymore
         this.data = null;
+        this.segments = null;
 
         return new LongArraySeries(data, 0, size);
     }
 
+    /**
+     * Creates an LongSeries that reuses the accumulator segments as its chunks without copying any data.
+     *
+     * @since 0.11
+     */
+    public LongSeries toChunkedSeries() {
+
+        if (segmentsCount == 0) {
+            return toSeries();
+        }
+
+        LongSeries[] chunks = new LongSeries[segmentsCount + 1];
+        for (int i = 0; i < segmentsCount; i++) {
+            chunks[i] = new LongArraySeries(segments[i]);
+        }
+        chunks[segmentsCount] = new LongArraySeries(data, 0, dataSize);
+
+        // making sure no one can change the series via the Mutable List anymore
+        this.data = null;
+        this.segments = null;
+
+        return (LongSeries) ChunkedSeries.of(chunks);
+    }
+
     public int size() {
         return size;
     }
 
     private long[] compactData() {
-        if (data.length == size) {
-            return data;
+        if (segmentsCount == 0) {
+            return data.length == size ? data : Arrays.copyOf(data, size);
         }
 
         long[] newData = new long[size];
-        System.arraycopy(data, 0, newData, 0, size);
+        int offset = 0;
+        for (int i = 0; i < segmentsCount; i++) {
+            int len = segments[i].length;
+            System.arraycopy(segments[i], 0, newData, offset, len);
+            offset += len;
+        }
+
+        System.arraycopy(data, 0, newData, offset, dataSize);
         return newData;
     }
 
+    private void grow() {
+
+        // small lists are still expanded by copying, as there's little to copy and this avoids tiny segments
+        if (segmentsCount == 0 && data.length < SEGMENT_SIZE) {
+            expand(Math.min(Math.max(data.length * 2, 10), SEGMENT_SIZE));
+            return;
+        }
+
+        if (segments == null) {
+            segments = new long[10][];
+        } else if (segmentsCount == segments.length) {
+            segments = Arrays.copyOf(segments, segmentsCount * 2);
+        }
+
+        segments[segmentsCount++] = data;
+        data = new long[SEGMENT_SIZE];
+        dataSize = 0;
+    }
+
     private void expand(int newCapacity) {
         long[] newData = new long[newCapacity];
-        System.arraycopy(data, 0, newData, 0, size);
+        System.arraycopy(data, 0, newData, 0, dataSize);
 
         this.data = newData;
     }
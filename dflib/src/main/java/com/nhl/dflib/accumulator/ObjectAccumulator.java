@@ -2,15 +2,25 @@ package com.nhl.dflib.accumulator;
 
 import com.nhl.dflib.Series;
 import com.nhl.dflib.series.ArraySeries;
+import com.nhl.dflib.series.ChunkedSeries;
 
 import java.util.Arrays;
 
 /**
+ * An expandable list of objects that can be converted to an immutable {@link Series}. Small lists grow by doubling
+ * the array. Once the list reaches {@link Accumulator#SEGMENT_SIZE}, it grows by appending fixed-size segments, so the
+ * values already collected are never copied until the Series is created.
+ *
  * @since 0.6
  */
 public class ObjectAccumulator<T> implements Accumulator<T> {
 
-    private T[] data;
+    // full segments preceding the current segment. All but the first one are of SEGMENT_SIZE
+    private Object[][] segments;
+    private int segmentsCount;
+
+    private Object[] data;
+    private int dataSize;
     private int size;
 
     public ObjectAccumulator() {
@@ -19,30 +29,44 @@ public class ObjectAccumulator<T> implements Accumulator<T> {
 
     public ObjectAccumulator(int capacity) {
         this.size = 0;
-        this.data = (T[]) new Object[capacity];
+        this.data = new Object[capacity];
     }
 
+    /**
+     * Appends the value to the positions from "from" (inclusive) to "to" (exclusive). "from" must be equal to the
+     * current size of the accumulator.
+     */
     public void fill(int from, int to, T value) {
-        if (to - from < 1) {
-            return;
-        }
 
-        if (data.length <= to) {
-            expand(to);
+        if (from != size) {
+            throw new IllegalArgumentException("Can only fill from the end of the accumulator at " + size + ", got " + from);
         }
 
-        Arrays.fill(data, from, to, value);
-        size += to - from;
+        int len = to - from;
+
+        while (len > 0) {
+
+            if (dataSize == data.length) {
+                grow();
+            }
+
+            int n = Math.min(len, data.length - dataSize);
+            Arrays.fill(data, dataSize, dataSize + n, value);
+            dataSize += n;
+            size += n;
+            len -= n;
+        }
     }
 
     @Override
     public void add(T value) {
 
-        if (size == data.length) {
-            expand(data.length * 2);
+        if (dataSize == data.length) {
+            grow();
         }
 
-        data[size++] = value;
+        data[dataSize++] = value;
+        size++;
     }
 
     @Override
@@ -51,34 +75,118 @@ public class ObjectAccumulator<T> implements Accumulator<T> {
             throw new IndexOutOfBoundsException(pos + " is out of bounds for " + size);
         }
 
-        data[pos] = v;
+        int dataOffset = size - dataSize;
+        if (pos >= dataOffset) {
+            data[pos - dataOffset] = v;
+            return;
+        }
+
+        int firstSize = segments[0].length;
+        if (pos < firstSize) {
+            segments[0][pos] = v;
+        } else {
+            int p = pos - firstSize;
+            segments[1 + p / SEGMENT_SIZE][p % SEGMENT_SIZE] = v;
+        }
+    }
+
+    /**
+     * @since 0.11
+     */
+    @Override
+    public void sizeHint(int expectedSize) {
+        if (segmentsCount == 0 && expectedSize > data.length) {
+            expand(expectedSize);
+        }
     }
 
+    /**
+     * Creates a Series backed by a single array. If the accumulator has grown past its first segment, the values are
+     * copied to an array of the exact size.
+     */
     @Override
     public Series<T> toSeries() {
         T[] data = compactData();
 
         // making sure no one can change the series via the Mutable List anymore
         this.data = null;
+        this.segments = null;
 
         // TODO: difference from IntMutableList in that IntArraySeries supports ranged... Reconcile ArraySeries?
         return new ArraySeries<>(data);
     }
 
+    /**
+     * Creates a Series that reuses the accumulator segments as its chunks without copying any data.
+     *
+     * @since 0.11
+     */
+    public Series<T> toChunkedSeries() {
+
+        if (segmentsCount == 0) {
+            return toSeries();
+        }
+
+        Series<T>[] chunks = new Series[segmentsCount + 1];
+        for (int i = 0; i < segmentsCount; i++) {
+            chunks[i] = new ArraySeries<>((T[]) segments[i]);
+        }
+        chunks[segmentsCount] = new ArraySeries<>((T[]) data).head(dataSize);
+
+        // making sure no one can change the series via the Mutable List anymore
+        this.data = null;
+        this.segments = null;
+
+        return ChunkedSeries.of(chunks);
+    }
+
+    /**
+     * @since 0.11
+     */
+    public int size() {
+        return size;
+    }
+
     private T[] compactData() {
-        if (data.length == size) {
-            return data;
+        if (segmentsCount == 0) {
+            return (T[]) (data.length == size ? data : Arrays.copyOf(data, size));
         }
 
         Object[] newData = new Object[size];
-        System.arraycopy(data, 0, newData, 0, size);
+        int offset = 0;
+        for (int i = 0; i < segmentsCount; i++) {
+            int len = segments[i].length;
+            System.arraycopy(segments[i], 0, newData, offset, len);
+            offset += len;
+        }
+
+        System.arraycopy(data, 0, newData, offset, dataSize);
         return (T[]) newData;
     }
 
+    private void grow() {
+
+        // small lists are still expanded by copying, as there's little to copy and this avoids tiny segments
+        if (segmentsCount == 0 && data.length < SEGMENT_SIZE) {
+            expand(Math.min(Math.max(data.length * 2, 10), SEGMENT_SIZE));
+            return;
+        }
+
+        if (segments == null) {
+            segments = new Object[10][];
+        } else if (segmentsCount == segments.length) {
+            segments = Arrays.copyOf(segments, segmentsCount * 2);
+        }
+
+        segments[segmentsCount++] = data;
+        data = new Object[SEGMENT_SIZE];
+        dataSize = 0;
+    }
+
     private void expand(int newCapacity) {
         Object[] newData = new Object[newCapacity];
-        System.arraycopy(data, 0, newData, 0, size);
+        System.arraycopy(data, 0, newData, 0, dataSize);
 
-        this.data = (T[]) newData;
+        this.data = newData;
     }
 }
@@ -1,14 +1,13 @@
 package com.nhl.dflib.accumulator;
 
-import java.util.HashSet;
-import java.util.Set;
+import com.nhl.dflib.collection.DoubleHashSet;
 
 /**
  * @since 0.6
  */
 public class UniqueDoubleAccumulator extends DoubleAccumulator {
 
-    private Set<Double> seen;
+    private DoubleHashSet seen;
 
     public UniqueDoubleAccumulator() {
         this(10);
@@ -16,7 +15,7 @@ public class UniqueDoubleAccumulator extends DoubleAccumulator {
 
     public UniqueDoubleAccumulator(int capacity) {
         super(capacity);
-        this.seen = new HashSet<>(capacity);
+        this.seen = new DoubleHashSet(capacity);
     }
 
     @Override
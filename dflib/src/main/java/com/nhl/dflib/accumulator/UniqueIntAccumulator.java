@@ -1,14 +1,13 @@
 package com.nhl.dflib.accumulator;
 
-import java.util.HashSet;
-import java.util.Set;
+import com.nhl.dflib.collection.IntHashSet;
 
 /**
  * @since 0.6
  */
 public class UniqueIntAccumulator extends IntAccumulator {
 
-    private Set<Integer> seen;
+    private IntHashSet seen;
 
     public UniqueIntAccumulator() {
         this(10);
@@ -16,7 +15,7 @@ public class UniqueIntAccumulator extends IntAccumulator {
 
     public UniqueIntAccumulator(int capacity) {
         super(capacity);
-        this.seen = new HashSet<>(capacity);
+        this.seen = new IntHashSet(capacity);
     }
 
     @Override
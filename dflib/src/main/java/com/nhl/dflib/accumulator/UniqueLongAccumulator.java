@@ -1,14 +1,13 @@
 package com.nhl.dflib.accumulator;
 
-import java.util.HashSet;
-import java.util.Set;
+import com.nhl.dflib.collection.LongHashSet;
 
 /**
  * @since 0.6
  */
 public class UniqueLongAccumulator extends LongAccumulator {
 
-    private Set<Long> seen;
+    private LongHashSet seen;
 
     public UniqueLongAccumulator() {
         this(10);
@@ -16,7 +15,7 @@ public class UniqueLongAccumulator extends LongAccumulator {
 
     public UniqueLongAccumulator(int capacity) {
         super(capacity);
-        this.seen = new HashSet<>(capacity);
+        this.seen = new LongHashSet(capacity);
     }
 
     @Override
@@ -5,6 +5,8 @@ import com.nhl.dflib.accumulator.Accumulator;
 import com.nhl.dflib.accumulator.ObjectAccumulator;
 import com.nhl.dflib.series.SingleValueSeries;
 
+import java.util.Objects;
+
 /**
  * Defines aggregation operations over DataFrame's and GroupBy's
  *
@@ -41,14 +43,23 @@ public class DataFrameAggregation {
             // TODO: primitives support for performance
             Accumulator columnBuilder = new ObjectAccumulator(aggH);
 
+            // tracking whether the aggregated values are the group keys themselves, e.g. "$col("a").first()" when
+            // grouping by "a". Such column is unique
+            boolean keyValues = true;
+
             for (Object key : groupBy.getGroups()) {
                 DataFrame group = groupBy.getGroup(key);
 
                 // expecting 1-element Series. Unpack them and add to the accum
-                columnBuilder.add(agg.eval(group).get(0));
+                Object value = agg.eval(group).get(0);
+                columnBuilder.add(value);
+                keyValues = keyValues && Objects.equals(key, value);
             }
 
             aggColumns[i] = columnBuilder.toSeries();
+            if (keyValues) {
+                aggColumns[i].getStats().markUnique();
+            }
             aggLabels[i] = agg.getColumnName(groupBy.getUngrouped());
         }
 
@@ -4,6 +4,8 @@ import com.nhl.dflib.*;
 import com.nhl.dflib.accumulator.Accumulator;
 import com.nhl.dflib.accumulator.ObjectAccumulator;
 
+import java.util.Objects;
+
 /**
  * @since 0.11
  */
@@ -28,12 +30,22 @@ public class SeriesAggregation {
         // TODO: let Aggregator generate and fill SeriesBuilder, as it can use primitive collections
         ObjectAccumulator<R> columnBuilder = new ObjectAccumulator<>(groupBy.size());
 
+        // values that are the group keys themselves are unique
+        boolean keyValues = true;
+
         for (Object key : groupBy.getGroups()) {
             Series<T> group = groupBy.getGroup(key);
-            columnBuilder.add(aggregator.eval(group).get(0));
+            R value = aggregator.eval(group).get(0);
+            columnBuilder.add(value);
+            keyValues = keyValues && Objects.equals(key, value);
+        }
+
+        Series<R> aggregated = columnBuilder.toSeries();
+        if (keyValues) {
+            aggregated.getStats().markUnique();
         }
 
-        return columnBuilder.toSeries();
+        return aggregated;
     }
 
     public static <T> DataFrame aggGroupMultiple(SeriesGroupBy<T> groupBy, Exp<?>... aggregators) {
@@ -51,12 +63,20 @@ public class SeriesAggregation {
             // TODO: let Aggregator fill Accumulator, as it can use primitive collections
             Accumulator columnBuilder = new ObjectAccumulator(aggH);
 
+            // values that are the group keys themselves are unique
+            boolean keyValues = true;
+
             for (Object key : groupBy.getGroups()) {
                 Series<T> group = groupBy.getGroup(key);
-                columnBuilder.add(agg.eval(group).get(0));
+                Object value = agg.eval(group).get(0);
+                columnBuilder.add(value);
+                keyValues = keyValues && Objects.equals(key, value);
             }
 
             aggColumns[i] = columnBuilder.toSeries();
+            if (keyValues) {
+                aggColumns[i].getStats().markUnique();
+            }
             aggLabels[i] = agg.getColumnName();
         }
 
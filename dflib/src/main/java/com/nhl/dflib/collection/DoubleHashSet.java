@@ -0,0 +1,133 @@
+package com.nhl.dflib.collection;
+
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.series.DoubleArraySeries;
+
+/**
+ * A set of primitive double values based on an open-addressing hash table with linear probing. Unlike
+ * {@code HashSet<Double>}, does not box the values and does not allocate per-entry objects. Preserves the insertion
+ * order of values, assigning each distinct value a sequential "position", that can be used by the callers to
+ * associate extra data with the value (e.g. a counter). Values are compared the same way as {@link Double#equals(Object)}
+ * does it, i.e. NaN is equal to itself, while 0.0 and -0.0 are different values.
+ *
+ * @since 0.11
+ */
+public class DoubleHashSet {
+
+    private double[] values;
+    private int size;
+
+    // stores value positions + 1, so that 0 can be used as an "empty slot" marker
+    private int[] table;
+    private int mask;
+    private int threshold;
+
+    public DoubleHashSet() {
+        this(16);
+    }
+
+    public DoubleHashSet(int expectedSize) {
+        int capacity = HashTables.tableCapacity(expectedSize);
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+        this.threshold = HashTables.threshold(capacity);
+        this.values = new double[Math.max(expectedSize, 4)];
+    }
+
+    /**
+     * Adds a value to the set, returning true if the value was not previously present.
+     */
+    public boolean add(double value) {
+        int size = this.size;
+        return put(value) == size;
+    }
+
+    /**
+     * Adds a value to the set if not already present, returning its insertion order position.
+     */
+    public int put(double value) {
+
+        long bits = Double.doubleToLongBits(value);
+        int slot = HashTables.hash(bits) & mask;
+        int e;
+        while ((e = table[slot]) != 0) {
+            if (Double.doubleToLongBits(values[e - 1]) == bits) {
+                return e - 1;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        int pos = size++;
+        if (pos == values.length) {
+            double[] newValues = new double[values.length * 2];
+            System.arraycopy(values, 0, newValues, 0, pos);
+            values = newValues;
+        }
+
+        values[pos] = value;
+        table[slot] = pos + 1;
+
+        if (size > threshold) {
+            rehash();
+        }
+
+        return pos;
+    }
+
+    /**
+     * Returns an insertion order position of the value in the set or -1 if the value is not present.
+     */
+    public int position(double value) {
+        long bits = Double.doubleToLongBits(value);
+        int slot = HashTables.hash(bits) & mask;
+        int e;
+        while ((e = table[slot]) != 0) {
+            if (Double.doubleToLongBits(values[e - 1]) == bits) {
+                return e - 1;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    public boolean contains(double value) {
+        return position(value) >= 0;
+    }
+
+    public double get(int pos) {
+        return values[pos];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns set values as a Series in the insertion order.
+     */
+    public DoubleSeries toSeries() {
+        return new DoubleArraySeries(values, 0, size);
+    }
+
+    private void rehash() {
+        int capacity = table.length * 2;
+        int[] newTable = new int[capacity];
+        int newMask = capacity - 1;
+
+        for (int i = 0; i < size; i++) {
+            int slot = HashTables.hash(Double.doubleToLongBits(values[i])) & newMask;
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & newMask;
+            }
+
+            newTable[slot] = i + 1;
+        }
+
+        this.table = newTable;
+        this.mask = newMask;
+        this.threshold = HashTables.threshold(capacity);
+    }
+}
@@ -0,0 +1,56 @@
+package com.nhl.dflib.collection;
+
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.series.IntArraySeries;
+
+import java.util.Arrays;
+
+/**
+ * Counts occurrences of distinct primitive double values without boxing. Distinct values are kept in the order of their
+ * first occurrence.
+ *
+ * @since 0.11
+ */
+public class DoubleValueCounter {
+
+    private final DoubleHashSet values;
+    private int[] counts;
+
+    public DoubleValueCounter() {
+        this(16);
+    }
+
+    public DoubleValueCounter(int expectedSize) {
+        this.values = new DoubleHashSet(expectedSize);
+        this.counts = new int[Math.max(expectedSize, 4)];
+    }
+
+    public void add(double value) {
+        int pos = values.put(value);
+
+        if (pos == counts.length) {
+            counts = Arrays.copyOf(counts, pos * 2);
+        }
+
+        counts[pos]++;
+    }
+
+    /**
+     * Returns the number of distinct values.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    public DoubleSeries getValues() {
+        return values.toSeries();
+    }
+
+    /**
+     * Returns a Series of counts with positions matching the positions of values in {@link #getValues()}.
+     */
+    public IntSeries getCounts() {
+        return new IntArraySeries(Arrays.copyOf(counts, values.size()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.nhl.dflib.collection;
+
+/**
+ * Utilities shared by the open-addressing hash collections.
+ *
+ * @since 0.11
+ */
+final class HashTables {
+
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private HashTables() {
+    }
+
+    static int tableCapacity(int expectedSize) {
+        long capacity = Math.max(16, (long) Math.ceil(expectedSize / LOAD_FACTOR));
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Hash table is too large: " + expectedSize);
+        }
+
+        return Integer.highestOneBit((int) capacity - 1) << 1;
+    }
+
+    static int threshold(int capacity) {
+        if (capacity == MAX_CAPACITY) {
+            // can't grow any further, so allow to fill the table up to the last empty slot
+            return capacity - 1;
+        }
+
+        return (int) (capacity * LOAD_FACTOR);
+    }
+
+    static int hash(int value) {
+        // "fmix32" finalizer from MurmurHash3 to spread sequential values across the table
+        int h = value;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    static int hash(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h ^ (int) (h >>> 32);
+    }
+}
@@ -0,0 +1,130 @@
+package com.nhl.dflib.collection;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.series.IntArraySeries;
+
+/**
+ * A set of primitive int values based on an open-addressing hash table with linear probing. Unlike
+ * {@code HashSet<Integer>}, does not box the values and does not allocate per-entry objects. Preserves the insertion
+ * order of values, assigning each distinct value a sequential "position", that can be used by the callers to
+ * associate extra data with the value (e.g. a counter).
+ *
+ * @since 0.11
+ */
+public class IntHashSet {
+
+    private int[] values;
+    private int size;
+
+    // stores value positions + 1, so that 0 can be used as an "empty slot" marker
+    private int[] table;
+    private int mask;
+    private int threshold;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    public IntHashSet(int expectedSize) {
+        int capacity = HashTables.tableCapacity(expectedSize);
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+        this.threshold = HashTables.threshold(capacity);
+        this.values = new int[Math.max(expectedSize, 4)];
+    }
+
+    /**
+     * Adds a value to the set, returning true if the value was not previously present.
+     */
+    public boolean add(int value) {
+        int size = this.size;
+        return put(value) == size;
+    }
+
+    /**
+     * Adds a value to the set if not already present, returning its insertion order position.
+     */
+    public int put(int value) {
+
+        int slot = HashTables.hash(value) & mask;
+        int e;
+        while ((e = table[slot]) != 0) {
+            if (values[e - 1] == value) {
+                return e - 1;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        int pos = size++;
+        if (pos == values.length) {
+            int[] newValues = new int[values.length * 2];
+            System.arraycopy(values, 0, newValues, 0, pos);
+            values = newValues;
+        }
+
+        values[pos] = value;
+        table[slot] = pos + 1;
+
+        if (size > threshold) {
+            rehash();
+        }
+
+        return pos;
+    }
+
+    /**
+     * Returns an insertion order position of the value in the set or -1 if the value is not present.
+     */
+    public int position(int value) {
+        int slot = HashTables.hash(value) & mask;
+        int e;
+        while ((e = table[slot]) != 0) {
+            if (values[e - 1] == value) {
+                return e - 1;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return position(value) >= 0;
+    }
+
+    public int get(int pos) {
+        return values[pos];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns set values as a Series in the insertion order.
+     */
+    public IntSeries toSeries() {
+        return new IntArraySeries(values, 0, size);
+    }
+
+    private void rehash() {
+        int capacity = table.length * 2;
+        int[] newTable = new int[capacity];
+        int newMask = capacity - 1;
+
+        for (int i = 0; i < size; i++) {
+            int slot = HashTables.hash(values[i]) & newMask;
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & newMask;
+            }
+
+            newTable[slot] = i + 1;
+        }
+
+        this.table = newTable;
+        this.mask = newMask;
+        this.threshold = HashTables.threshold(capacity);
+    }
+}
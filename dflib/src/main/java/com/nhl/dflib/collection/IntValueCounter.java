@@ -0,0 +1,55 @@
+package com.nhl.dflib.collection;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.series.IntArraySeries;
+
+import java.util.Arrays;
+
+/**
+ * Counts occurrences of distinct primitive int values without boxing. Distinct values are kept in the order of their
+ * first occurrence.
+ *
+ * @since 0.11
+ */
+public class IntValueCounter {
+
+    private final IntHashSet values;
+    private int[] counts;
+
+    public IntValueCounter() {
+        this(16);
+    }
+
+    public IntValueCounter(int expectedSize) {
+        this.values = new IntHashSet(expectedSize);
+        this.counts = new int[Math.max(expectedSize, 4)];
+    }
+
+    public void add(int value) {
+        int pos = values.put(value);
+
+        if (pos == counts.length) {
+            counts = Arrays.copyOf(counts, pos * 2);
+        }
+
+        counts[pos]++;
+    }
+
+    /**
+     * Returns the number of distinct values.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    public IntSeries getValues() {
+        return values.toSeries();
+    }
+
+    /**
+     * Returns a Series of counts with positions matching the positions of values in {@link #getValues()}.
+     */
+    public IntSeries getCounts() {
+        return new IntArraySeries(Arrays.copyOf(counts, values.size()));
+    }
+}
@@ -0,0 +1,56 @@
+package com.nhl.dflib.collection;
+
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.series.IntArraySeries;
+
+import java.util.Arrays;
+
+/**
+ * Counts occurrences of distinct primitive long values without boxing. Distinct values are kept in the order of their
+ * first occurrence.
+ *
+ * @since 0.11
+ */
+public class LongValueCounter {
+
+    private final LongHashSet values;
+    private int[] counts;
+
+    public LongValueCounter() {
+        this(16);
+    }
+
+    public LongValueCounter(int expectedSize) {
+        this.values = new LongHashSet(expectedSize);
+        this.counts = new int[Math.max(expectedSize, 4)];
+    }
+
+    public void add(long value) {
+        int pos = values.put(value);
+
+        if (pos == counts.length) {
+            counts = Arrays.copyOf(counts, pos * 2);
+        }
+
+        counts[pos]++;
+    }
+
+    /**
+     * Returns the number of distinct values.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    public LongSeries getValues() {
+        return values.toSeries();
+    }
+
+    /**
+     * Returns a Series of counts with positions matching the positions of values in {@link #getValues()}.
+     */
+    public IntSeries getCounts() {
+        return new IntArraySeries(Arrays.copyOf(counts, values.size()));
+    }
+}
@@ -0,0 +1,147 @@
+package com.nhl.dflib.collection;
+
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.ArraySeries;
+
+import java.util.Objects;
+
+/**
+ * A set of objects based on an open-addressing hash table with linear probing. Unlike {@link java.util.HashSet}, does
+ * not allocate per-entry objects. Preserves the insertion order of values, assigning each distinct value a sequential
+ * "position", that can be used by the callers to associate extra data with the value (e.g. a counter). Nulls are
+ * allowed.
+ *
+ * @since 0.11
+ */
+public class ObjectHashSet<T> {
+
+    private Object[] values;
+    private int[] hashes;
+    private int size;
+
+    // stores value positions + 1, so that 0 can be used as an "empty slot" marker
+    private int[] table;
+    private int mask;
+    private int threshold;
+
+    public ObjectHashSet() {
+        this(16);
+    }
+
+    public ObjectHashSet(int expectedSize) {
+        int capacity = HashTables.tableCapacity(expectedSize);
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+        this.threshold = HashTables.threshold(capacity);
+
+        int valuesCapacity = Math.max(expectedSize, 4);
+        this.values = new Object[valuesCapacity];
+        this.hashes = new int[valuesCapacity];
+    }
+
+    /**
+     * Adds a value to the set, returning true if the value was not previously present.
+     */
+    public boolean add(T value) {
+        int size = this.size;
+        return put(value) == size;
+    }
+
+    /**
+     * Adds a value to the set if not already present, returning its insertion order position.
+     */
+    public int put(T value) {
+
+        int hash = value != null ? HashTables.hash(value.hashCode()) : 0;
+        int slot = hash & mask;
+        int e;
+        while ((e = table[slot]) != 0) {
+            if (hashes[e - 1] == hash && Objects.equals(values[e - 1], value)) {
+                return e - 1;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        int pos = size++;
+        if (pos == values.length) {
+            int capacity = values.length * 2;
+
+            Object[] newValues = new Object[capacity];
+            System.arraycopy(values, 0, newValues, 0, pos);
+            values = newValues;
+
+            int[] newHashes = new int[capacity];
+            System.arraycopy(hashes, 0, newHashes, 0, pos);
+            hashes = newHashes;
+        }
+
+        values[pos] = value;
+        hashes[pos] = hash;
+        table[slot] = pos + 1;
+
+        if (size > threshold) {
+            rehash();
+        }
+
+        return pos;
+    }
+
+    /**
+     * Returns an insertion order position of the value in the set or -1 if the value is not present.
+     */
+    public int position(T value) {
+        int hash = value != null ? HashTables.hash(value.hashCode()) : 0;
+        int slot = hash & mask;
+        int e;
+        while ((e = table[slot]) != 0) {
+            if (hashes[e - 1] == hash && Objects.equals(values[e - 1], value)) {
+                return e - 1;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    public boolean contains(T value) {
+        return position(value) >= 0;
+    }
+
+    public T get(int pos) {
+        return (T) values[pos];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns set values as a Series in the insertion order.
+     */
+    public Series<T> toSeries() {
+        T[] data = (T[]) new Object[size];
+        System.arraycopy(values, 0, data, 0, size);
+        return new ArraySeries<>(data);
+    }
+
+    private void rehash() {
+        int capacity = table.length * 2;
+        int[] newTable = new int[capacity];
+        int newMask = capacity - 1;
+
+        for (int i = 0; i < size; i++) {
+            int slot = hashes[i] & newMask;
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & newMask;
+            }
+
+            newTable[slot] = i + 1;
+        }
+
+        this.table = newTable;
+        this.mask = newMask;
+        this.threshold = HashTables.threshold(capacity);
+    }
+}
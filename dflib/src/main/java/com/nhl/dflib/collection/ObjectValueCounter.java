@@ -0,0 +1,56 @@
+package com.nhl.dflib.collection;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.IntArraySeries;
+
+import java.util.Arrays;
+
+/**
+ * Counts occurrences of distinct objects (most commonly Strings) without allocating per-entry objects or boxed
+ * counters. Distinct values are kept in the order of their first occurrence.
+ *
+ * @since 0.11
+ */
+public class ObjectValueCounter<T> {
+
+    private final ObjectHashSet<T> values;
+    private int[] counts;
+
+    public ObjectValueCounter() {
+        this(16);
+    }
+
+    public ObjectValueCounter(int expectedSize) {
+        this.values = new ObjectHashSet<>(expectedSize);
+        this.counts = new int[Math.max(expectedSize, 4)];
+    }
+
+    public void add(T value) {
+        int pos = values.put(value);
+
+        if (pos == counts.length) {
+            counts = Arrays.copyOf(counts, pos * 2);
+        }
+
+        counts[pos]++;
+    }
+
+    /**
+     * Returns the number of distinct values.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    public Series<T> getValues() {
+        return values.toSeries();
+    }
+
+    /**
+     * Returns a Series of counts with positions matching the positions of values in {@link #getValues()}.
+     */
+    public IntSeries getCounts() {
+        return new IntArraySeries(Arrays.copyOf(counts, values.size()));
+    }
+}
@@ -0,0 +1,579 @@
+package com.nhl.dflib.collection;
+
+import java.util.Arrays;
+
+/**
+ * A set of 16-bit "low" parts of the row ids sharing the same "high" 16 bits. One of the three encodings - a sorted
+ * array, a bitmap or a list of runs - is picked for each container, depending on which one is the most compact.
+ *
+ * @since 0.11
+ */
+abstract class RowIdContainer {
+
+    static final int MAX_ARRAY_SIZE = 4096;
+    static final int BITMAP_WORDS = 1 << 10;
+    static final int MAX_VALUES = 1 << 16;
+
+    abstract int cardinality();
+
+    abstract boolean contains(int low);
+
+    /**
+     * Returns the low part of the value with the given rank within the container.
+     */
+    abstract int select(int rank);
+
+    /**
+     * Copies "len" values starting at "fromRank" to the array, combining them with the "high" part.
+     */
+    abstract void copyTo(int[] to, int toOffset, int fromRank, int len, int high);
+
+    /**
+     * Sets the container bits in the bitmap.
+     */
+    abstract void fillBitmap(long[] words);
+
+    abstract long sizeInBytes();
+
+    long[] toBitmap() {
+        long[] words = new long[BITMAP_WORDS];
+        fillBitmap(words);
+        return words;
+    }
+
+    /**
+     * Creates the most compact container for the bitmap, or returns null if the bitmap is empty.
+     */
+    static RowIdContainer of(long[] words) {
+
+        int cardinality = 0;
+        int runs = 0;
+        long prevHigh = 0;
+        for (long w : words) {
+            cardinality += Long.bitCount(w);
+
+            // counting bits that are set and have a clear bit before them
+            runs += Long.bitCount(w & ~((w << 1) | prevHigh));
+            prevHigh = w >>> 63;
+        }
+
+        if (cardinality == 0) {
+            return null;
+        }
+
+        long arraySize = ArrayContainer.sizeInBytes(cardinality);
+        long runSize = RunContainer.sizeInBytes(runs);
+
+        if (runSize < arraySize && runSize < BitmapContainer.SIZE_IN_BYTES) {
+            return RunContainer.of(words, runs);
+        }
+
+        return cardinality <= MAX_ARRAY_SIZE
+                ? ArrayContainer.of(words, cardinality)
+                : new BitmapContainer(words, cardinality);
+    }
+
+    /**
+     * Creates the most compact container for the ascending distinct values. The array is not retained.
+     */
+    static RowIdContainer of(char[] values, int len) {
+
+        int runs = 1;
+        for (int i = 1; i < len; i++) {
+            if (values[i] != values[i - 1] + 1) {
+                runs++;
+            }
+        }
+
+        long arraySize = ArrayContainer.sizeInBytes(len);
+        long runSize = RunContainer.sizeInBytes(runs);
+
+        if (runSize < arraySize && runSize < BitmapContainer.SIZE_IN_BYTES) {
+            return RunContainer.of(values, len, runs);
+        }
+
+        if (len <= MAX_ARRAY_SIZE) {
+            return new ArrayContainer(Arrays.copyOf(values, len));
+        }
+
+        long[] words = new long[BITMAP_WORDS];
+        for (int i = 0; i < len; i++) {
+            char v = values[i];
+            words[v >>> 6] |= 1L << v;
+        }
+
+        return new BitmapContainer(words, len);
+    }
+
+    static RowIdContainer and(RowIdContainer c1, RowIdContainer c2) {
+
+        if (c1 instanceof ArrayContainer) {
+            return ((ArrayContainer) c1).filter(c2, true);
+        } else if (c2 instanceof ArrayContainer) {
+            return ((ArrayContainer) c2).filter(c1, true);
+        }
+
+        long[] words = c1.toBitmap();
+        long[] words2 = c2.toBitmap();
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            words[i] &= words2[i];
+        }
+
+        return of(words);
+    }
+
+    static RowIdContainer or(RowIdContainer c1, RowIdContainer c2) {
+
+        if (c1 instanceof ArrayContainer
+                && c2 instanceof ArrayContainer
+                && c1.cardinality() + c2.cardinality() <= MAX_ARRAY_SIZE) {
+            return ((ArrayContainer) c1).merge((ArrayContainer) c2);
+        }
+
+        long[] words = c1.toBitmap();
+        c2.fillBitmap(words);
+        return of(words);
+    }
+
+    static RowIdContainer andNot(RowIdContainer c1, RowIdContainer c2) {
+
+        if (c1 instanceof ArrayContainer) {
+            return ((ArrayContainer) c1).filter(c2, false);
+        }
+
+        long[] words = c1.toBitmap();
+        long[] words2 = c2.toBitmap();
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            words[i] &= ~words2[i];
+        }
+
+        return of(words);
+    }
+
+    static int nextSetBit(long[] words, int from) {
+
+        int i = from >>> 6;
+        if (i >= BITMAP_WORDS) {
+            return -1;
+        }
+
+        long w = words[i] & (-1L << from);
+        while (w == 0) {
+            if (++i == BITMAP_WORDS) {
+                return -1;
+            }
+
+            w = words[i];
+        }
+
+        return (i << 6) + Long.numberOfTrailingZeros(w);
+    }
+
+    static int nextClearBit(long[] words, int from) {
+
+        int i = from >>> 6;
+        if (i >= BITMAP_WORDS) {
+            return MAX_VALUES;
+        }
+
+        long w = ~words[i] & (-1L << from);
+        while (w == 0) {
+            if (++i == BITMAP_WORDS) {
+                return MAX_VALUES;
+            }
+
+            w = ~words[i];
+        }
+
+        return (i << 6) + Long.numberOfTrailingZeros(w);
+    }
+
+    static void setRange(long[] words, int fromInclusive, int toExclusive) {
+
+        if (fromInclusive >= toExclusive) {
+            return;
+        }
+
+        int first = fromInclusive >>> 6;
+        int last = (toExclusive - 1) >>> 6;
+        long firstMask = -1L << fromInclusive;
+        long lastMask = -1L >>> -toExclusive;
+
+        if (first == last) {
+            words[first] |= firstMask & lastMask;
+            return;
+        }
+
+        words[first] |= firstMask;
+        for (int i = first + 1; i < last; i++) {
+            words[i] = -1L;
+        }
+        words[last] |= lastMask;
+    }
+
+    /**
+     * A sorted array of values, used for sparse containers.
+     */
+    static class ArrayContainer extends RowIdContainer {
+
+        private final char[] values;
+
+        ArrayContainer(char[] values) {
+            this.values = values;
+        }
+
+        static long sizeInBytes(int cardinality) {
+            return 16 + 2L * cardinality;
+        }
+
+        static ArrayContainer of(long[] words, int cardinality) {
+            char[] values = new char[cardinality];
+
+            int j = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long w = words[i];
+                while (w != 0) {
+                    values[j++] = (char) ((i << 6) + Long.numberOfTrailingZeros(w));
+                    w &= w - 1;
+                }
+            }
+
+            return new ArrayContainer(values);
+        }
+
+        @Override
+        int cardinality() {
+            return values.length;
+        }
+
+        @Override
+        boolean contains(int low) {
+            return Arrays.binarySearch(values, (char) low) >= 0;
+        }
+
+        @Override
+        int select(int rank) {
+            return values[rank];
+        }
+
+        @Override
+        void copyTo(int[] to, int toOffset, int fromRank, int len, int high) {
+            for (int i = 0; i < len; i++) {
+                to[toOffset + i] = high | values[fromRank + i];
+            }
+        }
+
+        @Override
+        void fillBitmap(long[] words) {
+            for (char v : values) {
+                words[v >>> 6] |= 1L << v;
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return sizeInBytes(values.length);
+        }
+
+        RowIdContainer filter(RowIdContainer other, boolean keepContained) {
+
+            int len = values.length;
+            char[] filtered = new char[len];
+            int j = 0;
+            for (int i = 0; i < len; i++) {
+                if (other.contains(values[i]) == keepContained) {
+                    filtered[j++] = values[i];
+                }
+            }
+
+            return j == 0 ? null : new ArrayContainer(j < len ? Arrays.copyOf(filtered, j) : filtered);
+        }
+
+        RowIdContainer merge(ArrayContainer other) {
+
+            char[] a1 = this.values;
+            char[] a2 = other.values;
+            char[] merged = new char[a1.length + a2.length];
+
+            int i = 0, j = 0, k = 0;
+            while (i < a1.length && j < a2.length) {
+                char v1 = a1[i];
+                char v2 = a2[j];
+
+                if (v1 < v2) {
+                    merged[k++] = v1;
+                    i++;
+                } else if (v1 > v2) {
+                    merged[k++] = v2;
+                    j++;
+                } else {
+                    merged[k++] = v1;
+                    i++;
+                    j++;
+                }
+            }
+
+            while (i < a1.length) {
+                merged[k++] = a1[i++];
+            }
+
+            while (j < a2.length) {
+                merged[k++] = a2[j++];
+            }
+
+            return new ArrayContainer(k < merged.length ? Arrays.copyOf(merged, k) : merged);
+        }
+    }
+
+    /**
+     * A 2^16 bit bitmap, used for dense containers. Keeps cumulative counts of set bits per block of words to speed up
+     * selection by rank.
+     */
+    static class BitmapContainer extends RowIdContainer {
+
+        static final int BLOCK_WORDS = 16;
+        static final long SIZE_IN_BYTES = 16 + 8L * BITMAP_WORDS + 4L * (BITMAP_WORDS / BLOCK_WORDS);
+
+        private final long[] words;
+        private final int cardinality;
+        private final int[] blockRanks;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+            this.blockRanks = new int[BITMAP_WORDS / BLOCK_WORDS];
+
+            int rank = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                if (i % BLOCK_WORDS == 0) {
+                    blockRanks[i / BLOCK_WORDS] = rank;
+                }
+
+                rank += Long.bitCount(words[i]);
+            }
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(int low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        int select(int rank) {
+
+            // find the last block starting at or before the rank
+            int lo = 0;
+            int hi = blockRanks.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (blockRanks[mid] <= rank) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+
+            int remaining = rank - blockRanks[lo];
+            int i = lo * BLOCK_WORDS;
+            while (true) {
+                long w = words[i];
+                int count = Long.bitCount(w);
+                if (remaining < count) {
+                    for (int k = 0; k < remaining; k++) {
+                        w &= w - 1;
+                    }
+
+                    return (i << 6) + Long.numberOfTrailingZeros(w);
+                }
+
+                remaining -= count;
+                i++;
+            }
+        }
+
+        @Override
+        void copyTo(int[] to, int toOffset, int fromRank, int len, int high) {
+
+            if (len == 0) {
+                return;
+            }
+
+            int start = select(fromRank);
+            int i = start >>> 6;
+            long w = words[i] & (-1L << start);
+
+            for (int k = 0; k < len; k++) {
+                while (w == 0) {
+                    w = words[++i];
+                }
+
+                to[toOffset + k] = high | ((i << 6) + Long.numberOfTrailingZeros(w));
+                w &= w - 1;
+            }
+        }
+
+        @Override
+        void fillBitmap(long[] words) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] |= this.words[i];
+            }
+        }
+
+        @Override
+        long[] toBitmap() {
+            return words.clone();
+        }
+
+        @Override
+        long sizeInBytes() {
+            return SIZE_IN_BYTES;
+        }
+    }
+
+    /**
+     * A list of runs of consecutive values, used for containers with long runs, such as dense ranges of rows.
+     */
+    static class RunContainer extends RowIdContainer {
+
+        private final char[] starts;
+        private final char[] lastOffsets;
+
+        // cumulative cardinality before each run
+        private final int[] runRanks;
+        private final int cardinality;
+
+        RunContainer(char[] starts, char[] lastOffsets) {
+            this.starts = starts;
+            this.lastOffsets = lastOffsets;
+            this.runRanks = new int[starts.length];
+
+            int rank = 0;
+            for (int i = 0; i < starts.length; i++) {
+                runRanks[i] = rank;
+                rank += lastOffsets[i] + 1;
+            }
+
+            this.cardinality = rank;
+        }
+
+        static long sizeInBytes(int runs) {
+            return 48 + 8L * runs;
+        }
+
+        static RunContainer of(long[] words, int runs) {
+            char[] starts = new char[runs];
+            char[] lastOffsets = new char[runs];
+
+            int pos = 0;
+            for (int i = 0; i < runs; i++) {
+                int start = nextSetBit(words, pos);
+                int end = nextClearBit(words, start);
+                starts[i] = (char) start;
+                lastOffsets[i] = (char) (end - start - 1);
+                pos = end;
+            }
+
+            return new RunContainer(starts, lastOffsets);
+        }
+
+        static RunContainer of(char[] values, int len, int runs) {
+            char[] starts = new char[runs];
+            char[] lastOffsets = new char[runs];
+
+            int run = 0;
+            starts[0] = values[0];
+            for (int i = 1; i < len; i++) {
+                if (values[i] != values[i - 1] + 1) {
+                    lastOffsets[run] = (char) (values[i - 1] - starts[run]);
+                    starts[++run] = values[i];
+                }
+            }
+
+            lastOffsets[run] = (char) (values[len - 1] - starts[run]);
+            return new RunContainer(starts, lastOffsets);
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(int low) {
+
+            // find the last run starting at or before the value
+            int lo = 0;
+            int hi = starts.length - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (starts[mid] <= low) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+
+            return hi >= 0 && low <= starts[hi] + lastOffsets[hi];
+        }
+
+        private int runForRank(int rank) {
+            int lo = 0;
+            int hi = runRanks.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (runRanks[mid] <= rank) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+
+            return lo;
+        }
+
+        @Override
+        int select(int rank) {
+            int run = runForRank(rank);
+            return starts[run] + rank - runRanks[run];
+        }
+
+        @Override
+        void copyTo(int[] to, int toOffset, int fromRank, int len, int high) {
+
+            if (len == 0) {
+                return;
+            }
+
+            int run = runForRank(fromRank);
+            int v = starts[run] + fromRank - runRanks[run];
+            int runEnd = starts[run] + lastOffsets[run];
+
+            for (int k = 0; k < len; k++) {
+                if (v > runEnd) {
+                    run++;
+                    v = starts[run];
+                    runEnd = v + lastOffsets[run];
+                }
+
+                to[toOffset + k] = high | v++;
+            }
+        }
+
+        @Override
+        void fillBitmap(long[] words) {
+            for (int i = 0; i < starts.length; i++) {
+                setRange(words, starts[i], starts[i] + lastOffsets[i] + 1);
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return sizeInBytes(starts.length);
+        }
+    }
+}
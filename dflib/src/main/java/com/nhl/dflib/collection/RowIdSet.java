@@ -0,0 +1,393 @@
+package com.nhl.dflib.collection;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.series.RowIdSeries;
+
+import java.util.Arrays;
+
+/**
+ * An immutable compressed set of non-negative ints, such as row positions of a selection. Values are split by their
+ * high 16 bits into containers, each stored as a sorted array, a bitmap or a list of runs, whichever is the most
+ * compact. Dense selections and ranges take a fraction of memory of an int array, and intersection, union and
+ * difference of two sets are calculated a container at a time. Values are kept in ascending order and can be
+ * accessed by rank.
+ *
+ * @see RowIdSeries
+ * @since 0.11
+ */
+public class RowIdSet {
+
+    private static final RowIdSet EMPTY = new RowIdSet(new int[0], new RowIdContainer[0]);
+
+    private final int[] keys;
+    private final RowIdContainer[] containers;
+
+    // cumulative cardinality before each container, with the total size as the last element
+    private final int[] ranks;
+
+    // the index of the last accessed container. Sequential access by rank is the most common, so checking it first
+    // avoids a search. A racy int is fine here, as it is only a hint
+    private int containerHint;
+
+    private RowIdSet(int[] keys, RowIdContainer[] containers) {
+        this.keys = keys;
+        this.containers = containers;
+        this.ranks = new int[containers.length + 1];
+
+        for (int i = 0; i < containers.length; i++) {
+            ranks[i + 1] = ranks[i] + containers[i].cardinality();
+        }
+    }
+
+    public static RowIdSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a set from a Series of ascending non-negative ints.
+     *
+     * @throws IllegalArgumentException if the values are negative or not in ascending order
+     */
+    public static RowIdSet of(IntSeries ascendingValues) {
+        int len = ascendingValues.size();
+        Builder builder = new Builder();
+        for (int i = 0; i < len; i++) {
+            builder.add(ascendingValues.getInt(i));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Creates a set of positions of the "true" values in the BooleanSeries.
+     */
+    public static RowIdSet ofTrue(BooleanSeries condition) {
+        int len = condition.size();
+        Builder builder = new Builder();
+        for (int i = 0; i < len; i++) {
+            if (condition.getBoolean(i)) {
+                builder.add(i);
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Creates a set of all the ints in the range.
+     */
+    public static RowIdSet ofRange(int fromInclusive, int toExclusive) {
+
+        if (fromInclusive < 0) {
+            throw new IllegalArgumentException("Negative range start: " + fromInclusive);
+        }
+
+        if (fromInclusive >= toExclusive) {
+            return EMPTY;
+        }
+
+        int firstKey = fromInclusive >>> 16;
+        int lastKey = (toExclusive - 1) >>> 16;
+        int len = lastKey - firstKey + 1;
+
+        int[] keys = new int[len];
+        RowIdContainer[] containers = new RowIdContainer[len];
+        for (int i = 0; i < len; i++) {
+            int key = firstKey + i;
+            int from = Math.max(fromInclusive - (key << 16), 0);
+            int to = Math.min(toExclusive - (key << 16), RowIdContainer.MAX_VALUES);
+
+            keys[i] = key;
+            containers[i] = new RowIdContainer.RunContainer(new char[]{(char) from}, new char[]{(char) (to - from - 1)});
+        }
+
+        return new RowIdSet(keys, containers);
+    }
+
+    public int size() {
+        return ranks[containers.length];
+    }
+
+    public boolean contains(int value) {
+
+        if (value < 0) {
+            return false;
+        }
+
+        int c = Arrays.binarySearch(keys, value >>> 16);
+        return c >= 0 && containers[c].contains(value & 0xFFFF);
+    }
+
+    /**
+     * Returns the value with the given rank, i.e. position in the ascending order of values.
+     */
+    public int get(int rank) {
+
+        if (rank < 0 || rank >= size()) {
+            throw new ArrayIndexOutOfBoundsException(rank);
+        }
+
+        int c = containerForRank(rank);
+        return (keys[c] << 16) | containers[c].select(rank - ranks[c]);
+    }
+
+    /**
+     * Copies "len" values starting at "fromRank" into the array.
+     */
+    public void copyTo(int[] to, int fromRank, int toOffset, int len) {
+
+        if (fromRank < 0 || len < 0 || fromRank + len > size()) {
+            throw new ArrayIndexOutOfBoundsException(fromRank + len);
+        }
+
+        if (len == 0) {
+            return;
+        }
+
+        int c = containerForRank(fromRank);
+        int rank = fromRank - ranks[c];
+
+        while (len > 0) {
+            RowIdContainer container = containers[c];
+            int n = Math.min(len, container.cardinality() - rank);
+            container.copyTo(to, toOffset, rank, n, keys[c] << 16);
+
+            toOffset += n;
+            len -= n;
+            rank = 0;
+            c++;
+        }
+    }
+
+    public int[] toArray() {
+        int[] array = new int[size()];
+        copyTo(array, 0, 0, array.length);
+        return array;
+    }
+
+    /**
+     * Returns an approximate number of bytes taken by the set data.
+     */
+    public long sizeInBytes() {
+        long size = 32 + 8L * containers.length;
+        for (RowIdContainer c : containers) {
+            size += c.sizeInBytes();
+        }
+
+        return size;
+    }
+
+    /**
+     * Returns a set of values present in both this and another set.
+     */
+    public RowIdSet and(RowIdSet another) {
+
+        int len = Math.min(keys.length, another.keys.length);
+        int[] keys = new int[len];
+        RowIdContainer[] containers = new RowIdContainer[len];
+        int k = 0;
+
+        int i = 0, j = 0;
+        while (i < this.keys.length && j < another.keys.length) {
+            int k1 = this.keys[i];
+            int k2 = another.keys[j];
+
+            if (k1 < k2) {
+                i++;
+            } else if (k1 > k2) {
+                j++;
+            } else {
+                RowIdContainer c = RowIdContainer.and(this.containers[i++], another.containers[j++]);
+                if (c != null) {
+                    keys[k] = k1;
+                    containers[k++] = c;
+                }
+            }
+        }
+
+        return create(keys, containers, k);
+    }
+
+    /**
+     * Returns a set of values present in either this or another set.
+     */
+    public RowIdSet or(RowIdSet another) {
+
+        int len = keys.length + another.keys.length;
+        int[] keys = new int[len];
+        RowIdContainer[] containers = new RowIdContainer[len];
+        int k = 0;
+
+        int i = 0, j = 0;
+        while (i < this.keys.length && j < another.keys.length) {
+            int k1 = this.keys[i];
+            int k2 = another.keys[j];
+
+            if (k1 < k2) {
+                keys[k] = k1;
+                containers[k++] = this.containers[i++];
+            } else if (k1 > k2) {
+                keys[k] = k2;
+                containers[k++] = another.containers[j++];
+            } else {
+                keys[k] = k1;
+                containers[k++] = RowIdContainer.or(this.containers[i++], another.containers[j++]);
+            }
+        }
+
+        while (i < this.keys.length) {
+            keys[k] = this.keys[i];
+            containers[k++] = this.containers[i++];
+        }
+
+        while (j < another.keys.length) {
+            keys[k] = another.keys[j];
+            containers[k++] = another.containers[j++];
+        }
+
+        return create(keys, containers, k);
+    }
+
+    /**
+     * Returns a set of values present in this set, but not in another set.
+     */
+    public RowIdSet andNot(RowIdSet another) {
+
+        int len = keys.length;
+        int[] keys = new int[len];
+        RowIdContainer[] containers = new RowIdContainer[len];
+        int k = 0;
+
+        int j = 0;
+        for (int i = 0; i < len; i++) {
+            int k1 = this.keys[i];
+            while (j < another.keys.length && another.keys[j] < k1) {
+                j++;
+            }
+
+            RowIdContainer c = j < another.keys.length && another.keys[j] == k1
+                    ? RowIdContainer.andNot(this.containers[i], another.containers[j])
+                    : this.containers[i];
+
+            if (c != null) {
+                keys[k] = k1;
+                containers[k++] = c;
+            }
+        }
+
+        return create(keys, containers, k);
+    }
+
+    private static RowIdSet create(int[] keys, RowIdContainer[] containers, int len) {
+
+        if (len == 0) {
+            return EMPTY;
+        }
+
+        return len < keys.length
+                ? new RowIdSet(Arrays.copyOf(keys, len), Arrays.copyOf(containers, len))
+                : new RowIdSet(keys, containers);
+    }
+
+    private int containerForRank(int rank) {
+
+        int hint = containerHint;
+        if (hint < containers.length && ranks[hint] <= rank && rank < ranks[hint + 1]) {
+            return hint;
+        }
+
+        // find the last container starting at or before the rank
+        int lo = 0;
+        int hi = containers.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (ranks[mid] <= rank) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+
+        containerHint = lo;
+        return lo;
+    }
+
+    /**
+     * A builder of {@link RowIdSet} from ascending values.
+     */
+    public static class Builder {
+
+        private int[] keys;
+        private RowIdContainer[] containers;
+        private int size;
+
+        // low parts of the current container values
+        private char[] lows;
+        private int lowsSize;
+        private int currentKey;
+        private int last;
+
+        public Builder() {
+            this.keys = new int[4];
+            this.containers = new RowIdContainer[4];
+            this.lows = new char[16];
+            this.currentKey = -1;
+            this.last = -1;
+        }
+
+        /**
+         * Adds a value to the set. Values must be added in ascending order. Repeated values are ignored.
+         */
+        public Builder add(int value) {
+
+            if (value < 0) {
+                throw new IllegalArgumentException("Negative value: " + value);
+            }
+
+            if (value <= last) {
+                if (value == last) {
+                    return this;
+                }
+
+                throw new IllegalArgumentException("Values are not in ascending order: " + value + " after " + last);
+            }
+
+            last = value;
+
+            int key = value >>> 16;
+            if (key != currentKey) {
+                flush();
+                currentKey = key;
+            }
+
+            if (lowsSize == lows.length) {
+                lows = Arrays.copyOf(lows, Math.min(lowsSize * 2, RowIdContainer.MAX_VALUES));
+            }
+
+            lows[lowsSize++] = (char) value;
+            return this;
+        }
+
+        public RowIdSet build() {
+            flush();
+            return create(keys, containers, size);
+        }
+
+        private void flush() {
+
+            if (lowsSize == 0) {
+                return;
+            }
+
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                containers = Arrays.copyOf(containers, size * 2);
+            }
+
+            keys[size] = currentKey;
+            containers[size++] = RowIdContainer.of(lows, lowsSize);
+            lowsSize = 0;
+        }
+    }
+}
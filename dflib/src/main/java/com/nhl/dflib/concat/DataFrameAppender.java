@@ -0,0 +1,64 @@
+package com.nhl.dflib.concat;
+
+import com.nhl.dflib.ColumnDataFrame;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.ChunkedSeries;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A builder of a DataFrame from a sequence of batches with the same columns. The columns of the batches are kept as
+ * chunks of the result columns, so appending a batch doesn't copy any data.
+ *
+ * @since 0.11
+ */
+public class DataFrameAppender {
+
+    private final Index columnsIndex;
+    private final List<Series<?>>[] chunks;
+    private int height;
+
+    public DataFrameAppender(Index columnsIndex) {
+        this.columnsIndex = Objects.requireNonNull(columnsIndex);
+
+        int w = columnsIndex.size();
+        this.chunks = new List[w];
+        for (int i = 0; i < w; i++) {
+            chunks[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Appends a DataFrame to the end of the rows collected so far. The DataFrame must contain all the columns of the
+     * appender index. Its other columns are ignored.
+     */
+    public DataFrameAppender append(DataFrame batch) {
+
+        int w = columnsIndex.size();
+        for (int i = 0; i < w; i++) {
+            chunks[i].add(batch.getColumn(columnsIndex.getLabel(i)));
+        }
+
+        height += batch.height();
+        return this;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public DataFrame toDataFrame() {
+
+        int w = columnsIndex.size();
+        Series<?>[] columns = new Series[w];
+        for (int i = 0; i < w; i++) {
+            columns[i] = ChunkedSeries.of(chunks[i].toArray(new Series[0]));
+        }
+
+        return new ColumnDataFrame(columnsIndex, columns);
+    }
+}
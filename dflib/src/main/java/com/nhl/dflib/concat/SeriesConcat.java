@@ -2,48 +2,30 @@ package com.nhl.dflib.concat;
 
 import com.nhl.dflib.IntSeries;
 import com.nhl.dflib.Series;
-import com.nhl.dflib.series.ArraySeries;
+import com.nhl.dflib.series.ChunkedSeries;
 import com.nhl.dflib.series.IntArraySeries;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static java.util.Arrays.asList;
 
 public class SeriesConcat {
 
     public static <T> Series<T> concat(Series<T>... concat) {
-        int h = 0;
-        for (Series<? extends T> s : concat) {
-            h += s.size();
-        }
-
-        T[] data = (T[]) new Object[h];
-        int offset = 0;
-        for (Series<? extends T> s : concat) {
-            int len = s.size();
-            s.copyTo(data, 0, offset, len);
-            offset += len;
-        }
-
-        return new ArraySeries<>(data);
+        return ChunkedSeries.of(concat);
     }
 
     /**
      * @since 0.6
      */
     public static <T> Series<T> concat(Iterable<Series<T>> concat) {
-        int h = 0;
-        for (Series<? extends T> s : concat) {
-            h += s.size();
-        }
-
-        T[] data = (T[]) new Object[h];
-        int offset = 0;
-        for (Series<? extends T> s : concat) {
-            int len = s.size();
-            s.copyTo(data, 0, offset, len);
-            offset += len;
+        List<Series<T>> list = new ArrayList<>();
+        for (Series<T> s : concat) {
+            list.add(s);
         }
 
-        return new ArraySeries<>(data);
+        return ChunkedSeries.of(list.toArray(new Series[list.size()]));
     }
 
     public static IntSeries intConcat(IntSeries... concat) {
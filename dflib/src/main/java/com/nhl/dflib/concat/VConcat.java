@@ -5,7 +5,8 @@ import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Index;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.JoinType;
-import com.nhl.dflib.series.ArraySeries;
+import com.nhl.dflib.series.ChunkedSeries;
+import com.nhl.dflib.series.SingleValueSeries;
 
 import java.util.EnumMap;
 import java.util.Iterator;
@@ -115,17 +116,11 @@ public class VConcat {
             indices[i] = dfs[i].getColumnsIndex();
         }
 
-
-        int h = 0;
-        for (int i = 0; i < dfs.length; i++) {
-            h += dfs[i].height();
-        }
-
         Index concatColumns = zipper.apply(indices);
         int w = concatColumns.size();
 
-        Object[][] data = new Object[w][h];
-        int voffset = 0;
+        // instead of copying the data, each concatenated column is assembled from the chunks of the source columns
+        Series<?>[][] chunks = new Series[w][dfs.length];
 
         for (int i = 0; i < dfs.length; i++) {
 
@@ -134,26 +129,31 @@ public class VConcat {
 
             for (int j = 0; j < dfw; j++) {
 
-                // need to rewind the iterator even if we exclude the series from copy
+                // need to rewind the iterator even if we exclude the series from concat
                 Series<?> next = dfs[i].getColumn(j);
                 int pos = mapSeriesPosition(concatColumns, dfc.getLabel(j));
 
                 if (pos >= 0) {
-                    next.copyTo(data[pos], 0, voffset, next.size());
+                    chunks[pos][i] = next;
                 }
             }
 
-            voffset += dfs[i].height();
+            int dfh = dfs[i].height();
+            for (int j = 0; j < w; j++) {
+                if (chunks[j][i] == null) {
+                    chunks[j][i] = new SingleValueSeries<>(null, dfh);
+                }
+            }
         }
 
-        return new ColumnDataFrame(concatColumns, toSeries(w, data));
+        return new ColumnDataFrame(concatColumns, toSeries(w, chunks));
     }
 
-    private Series<?>[] toSeries(int w, Object[][] data) {
+    private Series<?>[] toSeries(int w, Series<?>[][] chunks) {
         Series[] series = new Series[w];
 
         for (int i = 0; i < w; i++) {
-            series[i] = new ArraySeries(data[i]);
+            series[i] = ChunkedSeries.of(chunks[i]);
         }
 
         return series;
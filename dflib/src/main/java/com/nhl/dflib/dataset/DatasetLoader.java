@@ -0,0 +1,322 @@
+package com.nhl.dflib.dataset;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.Condition;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.JoinType;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.ValueMapper;
+import com.nhl.dflib.concat.VConcat;
+import com.nhl.dflib.series.ArraySeries;
+import com.nhl.dflib.series.ChunkedSeries;
+import com.nhl.dflib.series.SingleValueSeries;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Loads a dataset stored as multiple files under a common directory into a single DataFrame. The directory may be
+ * partitioned Hive-style, i.e. the files may be placed in subdirectories named "column=value"
+ * (e.g. "date=2020-10-01/region=eu/part-0001.csv"). Such path segments are turned into partition columns, appended
+ * to the columns of each file, with the values taken from the file path. Partition columns can be used to skip
+ * loading of the files that are not needed (see {@link #selectPartitions(Condition)}).
+ *
+ * <p>Each file is loaded by the file loader function provided by the caller (e.g. a CSV or an Avro loader). The files
+ * are loaded in the order of their relative paths, and the resulting DataFrames are concatenated without copying the
+ * data, including columns present in any of the files. Files and directories starting with "." or "_" (e.g.
+ * "_SUCCESS" markers or checksum files) are ignored.</p>
+ *
+ * @since 0.11
+ */
+public class DatasetLoader {
+
+    /**
+     * A partition value that stands for a null, as used by Hive.
+     */
+    public static final String NULL_PARTITION = "__HIVE_DEFAULT_PARTITION__";
+
+    private final ValueMapper<Path, DataFrame> fileLoader;
+    private final Map<String, ValueMapper<String, ?>> partitionTypes;
+    private String glob;
+    private Condition partitionCondition;
+    private boolean parallel;
+
+    /**
+     * @param fileLoader a function that loads a single file of the dataset
+     */
+    public DatasetLoader(ValueMapper<Path, DataFrame> fileLoader) {
+        this.fileLoader = Objects.requireNonNull(fileLoader);
+        this.partitionTypes = new LinkedHashMap<>();
+    }
+
+    /**
+     * Limits the loaded files to those whose path relative to the dataset directory matches the glob pattern.
+     * The pattern uses the syntax of {@link java.nio.file.FileSystem#getPathMatcher(String)}, e.g. "**.csv". By
+     * default, all files in the directory and its subdirectories are loaded.
+     *
+     * @return this loader instance
+     */
+    public DatasetLoader glob(String glob) {
+        this.glob = Objects.requireNonNull(glob);
+        return this;
+    }
+
+    /**
+     * Instructs the loader to load files that remain after partition pruning in multiple threads. The order of the
+     * rows in the result is the same as with the sequential load.
+     *
+     * @return this loader instance
+     */
+    public DatasetLoader parallel() {
+        this.parallel = true;
+        return this;
+    }
+
+    /**
+     * Sets a conversion of the String values of a partition column taken from the file paths. Partition values are
+     * loaded as Strings by default.
+     *
+     * @return this loader instance
+     */
+    public DatasetLoader partitionColumnType(String column, ValueMapper<String, ?> mapper) {
+        partitionTypes.put(column, Objects.requireNonNull(mapper));
+        return this;
+    }
+
+    public DatasetLoader intPartitionColumn(String column) {
+        return partitionColumnType(column, ValueMapper.stringToInt());
+    }
+
+    public DatasetLoader longPartitionColumn(String column) {
+        return partitionColumnType(column, ValueMapper.stringToLong());
+    }
+
+    public DatasetLoader datePartitionColumn(String column) {
+        return partitionColumnType(column, ValueMapper.stringToDate());
+    }
+
+    /**
+     * Configures the loader to only load the files whose partition column values match the condition. The condition
+     * is evaluated over a DataFrame of the partition columns with a row per file before any of the files is opened,
+     * so it can only reference partition columns. If called more than once, the conditions are combined with "and".
+     *
+     * @return this loader instance
+     */
+    public DatasetLoader selectPartitions(Condition condition) {
+        Objects.requireNonNull(condition);
+        this.partitionCondition = this.partitionCondition != null
+                ? this.partitionCondition.and(condition)
+                : condition;
+        return this;
+    }
+
+    public DataFrame load(String dir) {
+        return load(Paths.get(dir));
+    }
+
+    public DataFrame load(Path dir) {
+
+        List<Path> files = listFiles(dir);
+        DataFrame partitions = partitions(files);
+
+        if (partitionCondition != null) {
+            BooleanSeries matches = partitionCondition.eval(partitions);
+            files = selectFiles(files, matches);
+            partitions = partitions.selectRows(matches);
+        }
+
+        IntStream indexes = IntStream.range(0, files.size());
+        if (parallel) {
+            indexes = indexes.parallel();
+        }
+
+        List<Path> selected = files;
+        DataFrame[] loaded = indexes.mapToObj(i -> fileLoader.map(dir.resolve(selected.get(i)))).toArray(DataFrame[]::new);
+        return addPartitionColumns(VConcat.concat(JoinType.full, loaded), loaded, partitions);
+    }
+
+    private List<Path> listFiles(Path dir) {
+
+        PathMatcher matcher = glob != null ? FileSystems.getDefault().getPathMatcher("glob:" + glob) : null;
+
+        try (Stream<Path> paths = Files.walk(dir)) {
+            return paths
+                    .filter(Files::isRegularFile)
+                    .map(dir::relativize)
+                    .filter(p -> !isHidden(p))
+                    .filter(p -> matcher == null || matcher.matches(p))
+
+                    // a deterministic order of files and hence of the rows in the result
+                    .sorted()
+                    .collect(Collectors.toList());
+
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Error reading directory: " + dir, e);
+        }
+    }
+
+    private static boolean isHidden(Path relativePath) {
+        for (Path segment : relativePath) {
+            String name = segment.toString();
+            if (name.startsWith(".") || name.startsWith("_")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // returns a DataFrame of partition columns with a row per file
+    private DataFrame partitions(List<Path> files) {
+
+        int len = files.size();
+        List<Map<String, String>> fileValues = new ArrayList<>(len);
+
+        // include partition columns with explicit types even if none of the paths have them
+        Set<String> columns = new LinkedHashSet<>();
+        for (Path f : files) {
+            Map<String, String> values = partitionValues(f);
+            fileValues.add(values);
+            columns.addAll(values.keySet());
+        }
+        columns.addAll(partitionTypes.keySet());
+
+        String[] labels = new String[columns.size()];
+        Series<?>[] series = new Series[labels.length];
+
+        int i = 0;
+        for (String column : columns) {
+
+            ValueMapper<String, ?> mapper = partitionTypes.getOrDefault(column, ValueMapper.stringToString());
+            Object[] values = new Object[len];
+            for (int j = 0; j < len; j++) {
+                String value = fileValues.get(j).get(column);
+                values[j] = value != null && !NULL_PARTITION.equals(value) ? mapper.map(value) : null;
+            }
+
+            labels[i] = column;
+            series[i++] = new ArraySeries<>(values);
+        }
+
+        return DataFrame.newFrame(labels).columns(series);
+    }
+
+    private static Map<String, String> partitionValues(Path relativePath) {
+
+        Map<String, String> values = new LinkedHashMap<>();
+
+        // only directories are partitions, so skipping the file name
+        Path parent = relativePath.getParent();
+        if (parent != null) {
+            for (Path segment : parent) {
+                String name = segment.toString();
+                int eq = name.indexOf('=');
+                if (eq > 0) {
+                    values.put(unescape(name.substring(0, eq)), unescape(name.substring(eq + 1)));
+                }
+            }
+        }
+
+        return values;
+    }
+
+    // Hive escapes special chars in partition names and values as "%" followed by two hex digits
+    private static String unescape(String string) {
+
+        int pct = string.indexOf('%');
+        if (pct < 0) {
+            return string;
+        }
+
+        StringBuilder out = new StringBuilder(string.length());
+        out.append(string, 0, pct);
+
+        int len = string.length();
+        for (int i = pct; i < len; i++) {
+            char c = string.charAt(i);
+
+            if (c == '%' && i + 2 < len && isHex(string.charAt(i + 1)) && isHex(string.charAt(i + 2))) {
+                out.append((char) Integer.parseInt(string.substring(i + 1, i + 3), 16));
+                i += 2;
+            } else {
+                out.append(c);
+            }
+        }
+
+        return out.toString();
+    }
+
+    private static boolean isHex(char c) {
+        return Character.digit(c, 16) >= 0;
+    }
+
+    private static List<Path> selectFiles(List<Path> files, BooleanSeries matches) {
+
+        List<Path> selected = new ArrayList<>();
+
+        int len = files.size();
+        for (int i = 0; i < len; i++) {
+            if (matches.getBoolean(i)) {
+                selected.add(files.get(i));
+            }
+        }
+
+        return selected;
+    }
+
+    // partition columns are appended to the concatenated file columns, replacing file columns with the same name
+    private DataFrame addPartitionColumns(DataFrame data, DataFrame[] loaded, DataFrame partitions) {
+
+        Index partitionColumns = partitions.getColumnsIndex();
+        if (partitionColumns.size() == 0) {
+            return data;
+        }
+
+        List<String> labels = new ArrayList<>();
+        List<Series<?>> columns = new ArrayList<>();
+
+        Index dataColumns = data.getColumnsIndex();
+        int dataWidth = dataColumns.size();
+        for (int i = 0; i < dataWidth; i++) {
+            String label = dataColumns.getLabel(i);
+            if (!partitionColumns.hasLabel(label)) {
+                labels.add(label);
+                columns.add(data.getColumn(i));
+            }
+        }
+
+        int width = partitionColumns.size();
+        int len = loaded.length;
+        for (int i = 0; i < width; i++) {
+
+            Series<?> values = partitions.getColumn(i);
+            Series<?>[] chunks = new Series[len];
+            for (int j = 0; j < len; j++) {
+                chunks[j] = new SingleValueSeries<>(values.get(j), loaded[j].height());
+            }
+
+            labels.add(partitionColumns.getLabel(i));
+            columns.add(ChunkedSeries.of(chunks));
+        }
+
+        return DataFrame
+                .newFrame(labels.toArray(new String[0]))
+                .columns(columns.toArray(new Series[0]));
+    }
+}
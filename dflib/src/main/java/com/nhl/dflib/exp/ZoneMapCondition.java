@@ -0,0 +1,204 @@
+package com.nhl.dflib.exp;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.Condition;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Exp;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.BooleanArraySeries;
+import com.nhl.dflib.series.ZoneMap;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * A condition comparing a column with a constant value that uses the column {@link ZoneMap} to avoid evaluating
+ * the comparison for every row. Zones whose value range can't match the value are skipped, zones whose value range
+ * fully matches it are accepted without looking at individual values, and the remaining zones are evaluated with the
+ * delegate condition. The zone map is calculated on the first evaluation and cached by the column.
+ *
+ * @since 0.11
+ */
+public class ZoneMapCondition implements Condition {
+
+    protected enum Op {lt, le, gt, ge, eq}
+
+    private enum Match {none, some, all}
+
+    private final Condition delegate;
+    private final Exp<?> column;
+    private final Op op;
+    private final Object value;
+
+    protected ZoneMapCondition(Condition delegate, Exp<?> column, Op op, Object value) {
+        this.delegate = delegate;
+        this.column = column;
+        this.op = op;
+        this.value = value;
+    }
+
+    public static Condition lt(Condition delegate, Exp<?> column, Object value) {
+        return of(delegate, column, Op.lt, value);
+    }
+
+    public static Condition le(Condition delegate, Exp<?> column, Object value) {
+        return of(delegate, column, Op.le, value);
+    }
+
+    public static Condition gt(Condition delegate, Exp<?> column, Object value) {
+        return of(delegate, column, Op.gt, value);
+    }
+
+    public static Condition ge(Condition delegate, Exp<?> column, Object value) {
+        return of(delegate, column, Op.ge, value);
+    }
+
+    public static Condition eq(Condition delegate, Exp<?> column, Object value) {
+        return of(delegate, column, Op.eq, value);
+    }
+
+    private static Condition of(Condition delegate, Exp<?> column, Op op, Object value) {
+
+        // only real columns cache their zone maps; and comparisons with nulls are always false, so there's nothing
+        // to optimize
+        return column instanceof GenericColumn && value != null
+                ? new ZoneMapCondition(delegate, column, op, value)
+                : delegate;
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    @Override
+    public String toQL() {
+        return delegate.toQL();
+    }
+
+    @Override
+    public String toQL(DataFrame df) {
+        return delegate.toQL(df);
+    }
+
+    @Override
+    public BooleanSeries eval(DataFrame df) {
+        Series<?> s = column.eval(df);
+        return s.size() > ZoneMap.ZONE_SIZE ? evalZones(s) : delegate.eval(df);
+    }
+
+    @Override
+    public BooleanSeries eval(Series<?> s) {
+        return s.size() > ZoneMap.ZONE_SIZE ? evalZones(s) : delegate.eval(s);
+    }
+
+    protected BooleanSeries evalZones(Series<?> s) {
+
+        ZoneMap<?> zoneMap = s.getStats().getZoneMap();
+        boolean[] data = new boolean[s.size()];
+
+        int len = zoneMap.size();
+        for (int i = 0; i < len; i++) {
+
+            int offset = zoneMap.getOffset(i);
+            int zoneLen = zoneMap.getLength(i);
+
+            switch (match(zoneMap, i)) {
+                case all:
+                    Arrays.fill(data, offset, offset + zoneLen, true);
+                    break;
+                case some:
+                    delegate.eval(s.rangeOpenClosed(offset, offset + zoneLen)).copyToBoolean(data, 0, offset, zoneLen);
+                    break;
+                default:
+                    // "data" is already filled with "false"
+                    break;
+            }
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
+    private Match match(ZoneMap<?> zoneMap, int zone) {
+
+        Object min = zoneMap.getMin(zone);
+        Object max = zoneMap.getMax(zone);
+
+        if (min == null) {
+            // comparisons with nulls are false, but a zone of unknown range must be checked
+            return zoneMap.getNullCount(zone) == zoneMap.getLength(zone) ? Match.none : Match.some;
+        }
+
+        // nulls never match, so the zones with nulls can't be accepted in bulk
+        boolean noNulls = zoneMap.getNullCount(zone) == 0;
+
+        try {
+            switch (op) {
+                case lt:
+                    return compare(min, value) >= 0 ? Match.none : (noNulls && compare(max, value) < 0 ? Match.all : Match.some);
+                case le:
+                    return compare(min, value) > 0 ? Match.none : (noNulls && compare(max, value) <= 0 ? Match.all : Match.some);
+                case gt:
+                    return compare(max, value) <= 0 ? Match.none : (noNulls && compare(min, value) > 0 ? Match.all : Match.some);
+                case ge:
+                    return compare(max, value) < 0 ? Match.none : (noNulls && compare(min, value) >= 0 ? Match.all : Match.some);
+                case eq:
+                    if (compare(min, value) > 0 || compare(max, value) < 0) {
+                        return Match.none;
+                    }
+
+                    // using "equals" for bulk acceptance, as this is what the object equality conditions are based
+                    // on. BigDecimals are excluded, as for them "equals" is inconsistent with "compareTo", so equal
+                    // min and max do not guarantee that all the values in between are equal
+                    return noNulls && !isDecimal(value) && min.equals(max) && min.equals(value)
+                            ? Match.all
+                            : Match.some;
+                default:
+                    return Match.some;
+            }
+        } catch (ClassCastException e) {
+            // not comparable with the value, let the delegate decide
+            return Match.some;
+        }
+    }
+
+    // compares numbers of different types the same way the numeric conditions do, by converting them to the wider
+    // type
+    private static int compare(Object v1, Object v2) {
+
+        if (v1 instanceof Number && v2 instanceof Number) {
+
+            Number n1 = (Number) v1;
+            Number n2 = (Number) v2;
+
+            if (isDecimal(n1) || isDecimal(n2)) {
+                return toBigDecimal(n1).compareTo(toBigDecimal(n2));
+            }
+
+            if (isFloatingPoint(n1) || isFloatingPoint(n2)) {
+
+                // primitive comparison to treat 0.0 and -0.0 as equal
+                double d1 = n1.doubleValue();
+                double d2 = n2.doubleValue();
+                return d1 < d2 ? -1 : (d1 > d2 ? 1 : 0);
+            }
+
+            return Long.compare(n1.longValue(), n2.longValue());
+        }
+
+        return ((Comparable) v1).compareTo(v2);
+    }
+
+    private static boolean isDecimal(Object n) {
+        return n instanceof BigDecimal || n instanceof BigInteger;
+    }
+
+    private static boolean isFloatingPoint(Number n) {
+        return n instanceof Double || n instanceof Float;
+    }
+
+    private static BigDecimal toBigDecimal(Number n) {
+        return n instanceof BigDecimal ? (BigDecimal) n : new BigDecimal(n.toString());
+    }
+}
@@ -0,0 +1,130 @@
+package com.nhl.dflib.exp.agg;
+
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+
+import java.util.function.Function;
+
+/**
+ * Approximate aggregation functions that use bounded memory regardless of the size of the data. Functions returning
+ * sketches ({@link HyperLogLog}, {@link TDigest}) can be used to calculate partial results over separate batches of
+ * data, that are later merged with {@link #mergeHll(Series)} or {@link #mergeTDigest(Series)}.
+ *
+ * @since 0.11
+ */
+public class ApproxAggregators {
+
+    public static long countDistinct(Series<?> s) {
+        return hll(s).estimate();
+    }
+
+    public static HyperLogLog hll(Series<?> s) {
+
+        HyperLogLog hll = new HyperLogLog();
+        int len = s.size();
+
+        if (s instanceof IntSeries) {
+            IntSeries is = (IntSeries) s;
+            for (int i = 0; i < len; i++) {
+                hll.addInt(is.getInt(i));
+            }
+        } else if (s instanceof LongSeries) {
+            LongSeries ls = (LongSeries) s;
+            for (int i = 0; i < len; i++) {
+                hll.addLong(ls.getLong(i));
+            }
+        } else if (s instanceof DoubleSeries) {
+            DoubleSeries ds = (DoubleSeries) s;
+            for (int i = 0; i < len; i++) {
+                hll.addDouble(ds.getDouble(i));
+            }
+        } else {
+            for (int i = 0; i < len; i++) {
+                hll.add(s.get(i));
+            }
+        }
+
+        return hll;
+    }
+
+    public static HyperLogLog mergeHll(Series<HyperLogLog> s) {
+        HyperLogLog merged = null;
+
+        int len = s.size();
+        for (int i = 0; i < len; i++) {
+            HyperLogLog hll = s.get(i);
+            if (hll != null) {
+
+                if (merged == null) {
+                    merged = new HyperLogLog(hll.getPrecision());
+                }
+
+                merged.merge(hll);
+            }
+        }
+
+        return merged != null ? merged : new HyperLogLog();
+    }
+
+    public static <N extends Number> Function<Series<N>, Double> quantile(double q) {
+
+        if (q < 0. || q > 1.) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+
+        return s -> tdigest(s).quantile(q);
+    }
+
+    public static TDigest tdigest(Series<? extends Number> s) {
+
+        TDigest digest = new TDigest();
+        int len = s.size();
+
+        if (s instanceof IntSeries) {
+            IntSeries is = (IntSeries) s;
+            for (int i = 0; i < len; i++) {
+                digest.add(is.getInt(i));
+            }
+        } else if (s instanceof LongSeries) {
+            LongSeries ls = (LongSeries) s;
+            for (int i = 0; i < len; i++) {
+                digest.add(ls.getLong(i));
+            }
+        } else if (s instanceof DoubleSeries) {
+            DoubleSeries ds = (DoubleSeries) s;
+            for (int i = 0; i < len; i++) {
+                digest.add(ds.getDouble(i));
+            }
+        } else {
+            for (int i = 0; i < len; i++) {
+                Number n = s.get(i);
+                if (n != null) {
+                    digest.add(n.doubleValue());
+                }
+            }
+        }
+
+        return digest;
+    }
+
+    public static TDigest mergeTDigest(Series<TDigest> s) {
+        TDigest merged = null;
+
+        int len = s.size();
+        for (int i = 0; i < len; i++) {
+            TDigest digest = s.get(i);
+            if (digest != null) {
+
+                if (merged == null) {
+                    merged = new TDigest(digest.getCompression());
+                }
+
+                merged.merge(digest);
+            }
+        }
+
+        return merged != null ? merged : new TDigest();
+    }
+}
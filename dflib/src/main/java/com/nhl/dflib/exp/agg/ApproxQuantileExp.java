@@ -0,0 +1,47 @@
+package com.nhl.dflib.exp.agg;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Exp;
+import com.nhl.dflib.NumExp;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.exp.Exp1;
+import com.nhl.dflib.series.SingleValueSeries;
+
+/**
+ * An aggregating expression that calculates an approximate quantile of a numeric column using a {@link TDigest}
+ * sketch.
+ *
+ * @since 0.11
+ */
+public class ApproxQuantileExp<N extends Number> extends Exp1<N, Double> implements NumExp<Double> {
+
+    private final Exp<N> exp;
+    private final double q;
+
+    public ApproxQuantileExp(Exp<N> exp, double q) {
+        super("approxQuantile", Double.class, exp);
+
+        if (q < 0. || q > 1.) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+
+        this.exp = exp;
+        this.q = q;
+    }
+
+    @Override
+    public String toQL() {
+        return "approxQuantile(" + exp.toQL() + "," + q + ")";
+    }
+
+    @Override
+    public String toQL(DataFrame df) {
+        return "approxQuantile(" + exp.toQL(df) + "," + q + ")";
+    }
+
+    @Override
+    protected Series<Double> doEval(Series<N> s) {
+        double val = ApproxAggregators.tdigest(s).quantile(q);
+        return new SingleValueSeries<>(val, 1);
+    }
+}
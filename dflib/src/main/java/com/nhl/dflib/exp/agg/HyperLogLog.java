@@ -0,0 +1,222 @@
+package com.nhl.dflib.exp.agg;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A mergeable HyperLogLog sketch that estimates the number of distinct values in a stream using a fixed amount of
+ * memory (2^precision bytes). Sketches built over separate chunks of data can be merged together or serialized via
+ * {@link #toBytes()} and restored via {@link #fromBytes(byte[])} to combine partial results computed elsewhere.
+ * Null values are ignored.
+ *
+ * @since 0.11
+ */
+public class HyperLogLog implements Serializable {
+
+    public static final int DEFAULT_PRECISION = 14;
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+
+    private static final long serialVersionUID = 1L;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precision must be between "
+                    + MIN_PRECISION + " and " + MAX_PRECISION + ": " + precision);
+        }
+
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Restores a sketch previously serialized with {@link #toBytes()}.
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        HyperLogLog hll = new HyperLogLog(buffer.get());
+
+        if (buffer.remaining() != hll.registers.length) {
+            throw new IllegalArgumentException("Invalid HyperLogLog data length: " + bytes.length);
+        }
+
+        buffer.get(hll.registers);
+        return hll;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public HyperLogLog add(Object value) {
+
+        if (value == null) {
+            return this;
+        }
+
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return addLong(((Number) value).longValue());
+        }
+
+        if (value instanceof Double || value instanceof Float) {
+            return addDouble(((Number) value).doubleValue());
+        }
+
+        if (value instanceof CharSequence) {
+            return addHash(hash((CharSequence) value));
+        }
+
+        return addHash(mix(value.hashCode()));
+    }
+
+    public HyperLogLog addInt(int value) {
+        return addLong(value);
+    }
+
+    public HyperLogLog addLong(long value) {
+        return addHash(mix(value));
+    }
+
+    public HyperLogLog addDouble(double value) {
+        // normalize -0.0 to 0.0, so that they are counted as a single value
+        return addHash(mix(Double.doubleToLongBits(value == 0. ? 0. : value)));
+    }
+
+    /**
+     * Adds a value represented by a well-distributed 64-bit hash.
+     */
+    public HyperLogLog addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+
+        // the rest of the bits (plus a sentinel bit to cap the run length) determine the register value
+        long rest = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+
+        if (registers[index] < rank) {
+            registers[index] = rank;
+        }
+
+        return this;
+    }
+
+    /**
+     * Merges the state of another sketch into this sketch. Both sketches must have the same precision.
+     */
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Can't merge HyperLogLog sketches with different precision: "
+                    + precision + " vs. " + other.precision);
+        }
+
+        int len = registers.length;
+        for (int i = 0; i < len; i++) {
+            if (registers[i] < other.registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Returns an estimated number of distinct values added to this sketch.
+     */
+    public long estimate() {
+
+        int m = registers.length;
+        double sum = 0.;
+        int zeros = 0;
+
+        for (int i = 0; i < m; i++) {
+            byte r = registers[i];
+            sum += 1. / (1L << r);
+            if (r == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = alpha(m) * m * m / sum;
+
+        // small range correction with linear counting
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + registers.length);
+        buffer.put((byte) precision);
+        buffer.put(registers);
+        return buffer.array();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof HyperLogLog)) {
+            return false;
+        }
+
+        return Arrays.equals(registers, ((HyperLogLog) o).registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(registers);
+    }
+
+    @Override
+    public String toString() {
+        return "HyperLogLog{precision=" + precision + ", estimate=" + estimate() + "}";
+    }
+
+    private static double alpha(int m) {
+        switch (m) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1. + 1.079 / m);
+        }
+    }
+
+    private static long hash(CharSequence chars) {
+
+        // FNV-1a 64 bit, followed by the final mix, as String.hashCode() is too narrow for large cardinalities
+        long h = 0xcbf29ce484222325L;
+
+        int len = chars.length();
+        for (int i = 0; i < len; i++) {
+            h ^= chars.charAt(i);
+            h *= 0x100000001b3L;
+        }
+
+        return mix(h);
+    }
+
+    // "fmix64" finalizer from MurmurHash3
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,310 @@
+package com.nhl.dflib.exp.agg;
+
+import com.nhl.dflib.sort.IntTimSort;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+/**
+ * A mergeable "t-digest" sketch that estimates quantiles of a stream of numbers using bounded memory. The accuracy
+ * is controlled by the "compression" parameter and is the highest near the tails of the distribution (i.e. for
+ * quantiles like p99). Sketches built over separate chunks of data can be merged together or serialized via
+ * {@link #toBytes()} and restored via {@link #fromBytes(byte[])} to combine partial results computed elsewhere. NaN
+ * values are ignored.
+ *
+ * @see <a href="https://arxiv.org/abs/1902.04023">Computing Extremely Accurate Quantiles Using t-Digests</a>
+ * @since 0.11
+ */
+public class TDigest implements Serializable {
+
+    public static final double DEFAULT_COMPRESSION = 100.;
+
+    private static final long serialVersionUID = 1L;
+
+    private final double compression;
+
+    private double[] means;
+    private double[] weights;
+    private int centroids;
+
+    private double[] buffer;
+    private int buffered;
+
+    private double totalWeight;
+    private double min;
+    private double max;
+
+    public TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    public TDigest(double compression) {
+        if (compression < 10.) {
+            throw new IllegalArgumentException("Compression must be at least 10: " + compression);
+        }
+
+        this.compression = compression;
+
+        // number of centroids after compression is guaranteed to be under 2 * compression
+        int capacity = (int) Math.ceil(2 * compression) + 10;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.buffer = new double[capacity * 5];
+
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Restores a sketch previously serialized with {@link #toBytes()}.
+     */
+    public static TDigest fromBytes(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+
+        TDigest digest = new TDigest(in.getDouble());
+        digest.min = in.getDouble();
+        digest.max = in.getDouble();
+
+        int len = in.getInt();
+        for (int i = 0; i < len; i++) {
+            double mean = in.getDouble();
+            double weight = in.getDouble();
+            digest.appendCentroid(mean, weight);
+        }
+
+        return digest;
+    }
+
+    public double getCompression() {
+        return compression;
+    }
+
+    /**
+     * Returns the number of values added to the sketch.
+     */
+    public long size() {
+        return Math.round(totalWeight + buffered);
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public TDigest add(double value) {
+
+        if (Double.isNaN(value)) {
+            return this;
+        }
+
+        if (buffered == buffer.length) {
+            compress();
+        }
+
+        buffer[buffered++] = value;
+
+        if (value < min) {
+            min = value;
+        }
+
+        if (value > max) {
+            max = value;
+        }
+
+        return this;
+    }
+
+    /**
+     * Merges the state of another sketch into this sketch.
+     */
+    public TDigest merge(TDigest other) {
+
+        other.compress();
+        compress();
+
+        if (other.centroids == 0) {
+            return this;
+        }
+
+        int len = centroids + other.centroids;
+        double[] mergedMeans = new double[len];
+        double[] mergedWeights = new double[len];
+
+        System.arraycopy(means, 0, mergedMeans, 0, centroids);
+        System.arraycopy(weights, 0, mergedWeights, 0, centroids);
+        System.arraycopy(other.means, 0, mergedMeans, centroids, other.centroids);
+        System.arraycopy(other.weights, 0, mergedWeights, centroids, other.centroids);
+
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+
+        rebuild(mergedMeans, mergedWeights, len);
+        return this;
+    }
+
+    /**
+     * Returns an estimated value at the specified quantile. The quantile must be between 0 and 1. Returns NaN if the
+     * sketch is empty.
+     */
+    public double quantile(double q) {
+
+        if (q < 0. || q > 1.) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+
+        compress();
+
+        switch (centroids) {
+            case 0:
+                return Double.NaN;
+            case 1:
+                return means[0];
+        }
+
+        if (q == 0.) {
+            return min;
+        }
+
+        if (q == 1.) {
+            return max;
+        }
+
+        // each centroid is assumed to be centered at the middle of its cumulative weight range, values in between
+        // are linearly interpolated
+        double index = q * totalWeight;
+
+        double firstCenter = weights[0] / 2.;
+        if (index < firstCenter) {
+            return min + (means[0] - min) * index / firstCenter;
+        }
+
+        double cumulative = 0.;
+        for (int i = 0; i < centroids - 1; i++) {
+            double center = cumulative + weights[i] / 2.;
+            double nextCenter = cumulative + weights[i] + weights[i + 1] / 2.;
+
+            if (index < nextCenter) {
+                double fraction = (index - center) / (nextCenter - center);
+                return means[i] + (means[i + 1] - means[i]) * fraction;
+            }
+
+            cumulative += weights[i];
+        }
+
+        int last = centroids - 1;
+        double lastCenter = totalWeight - weights[last] / 2.;
+        double fraction = (index - lastCenter) / (totalWeight - lastCenter);
+        return means[last] + (max - means[last]) * fraction;
+    }
+
+    public byte[] toBytes() {
+        compress();
+
+        ByteBuffer out = ByteBuffer.allocate(8 * 3 + 4 + 16 * centroids);
+        out.putDouble(compression);
+        out.putDouble(min);
+        out.putDouble(max);
+        out.putInt(centroids);
+
+        for (int i = 0; i < centroids; i++) {
+            out.putDouble(means[i]);
+            out.putDouble(weights[i]);
+        }
+
+        return out.array();
+    }
+
+    @Override
+    public String toString() {
+        return "TDigest{compression=" + compression + ", size=" + size() + "}";
+    }
+
+    private void compress() {
+
+        if (buffered == 0) {
+            return;
+        }
+
+        int len = centroids + buffered;
+        double[] allMeans = new double[len];
+        double[] allWeights = new double[len];
+
+        System.arraycopy(means, 0, allMeans, 0, centroids);
+        System.arraycopy(weights, 0, allWeights, 0, centroids);
+        System.arraycopy(buffer, 0, allMeans, centroids, buffered);
+        for (int i = centroids; i < len; i++) {
+            allWeights[i] = 1.;
+        }
+
+        buffered = 0;
+        rebuild(allMeans, allWeights, len);
+    }
+
+    private void rebuild(double[] allMeans, double[] allWeights, int len) {
+
+        int[] order = new int[len];
+        for (int i = 0; i < len; i++) {
+            order[i] = i;
+        }
+
+        IntTimSort.sort(order, (i1, i2) -> Double.compare(allMeans[i1], allMeans[i2]));
+
+        double total = 0.;
+        for (int i = 0; i < len; i++) {
+            total += allWeights[i];
+        }
+
+        centroids = 0;
+        totalWeight = 0.;
+
+        double mean = allMeans[order[0]];
+        double weight = allWeights[order[0]];
+        double soFar = 0.;
+        double kLeft = k(0.);
+
+        for (int i = 1; i < len; i++) {
+            int o = order[i];
+            double proposed = weight + allWeights[o];
+
+            if (k((soFar + proposed) / total) - kLeft <= 1.) {
+                weight = proposed;
+                mean += (allMeans[o] - mean) * allWeights[o] / proposed;
+            } else {
+                appendCentroid(mean, weight);
+                soFar += weight;
+                kLeft = k(soFar / total);
+
+                mean = allMeans[o];
+                weight = allWeights[o];
+            }
+        }
+
+        appendCentroid(mean, weight);
+    }
+
+    private void appendCentroid(double mean, double weight) {
+
+        if (centroids == means.length) {
+            int capacity = centroids * 2;
+            double[] newMeans = new double[capacity];
+            double[] newWeights = new double[capacity];
+            System.arraycopy(means, 0, newMeans, 0, centroids);
+            System.arraycopy(weights, 0, newWeights, 0, centroids);
+            means = newMeans;
+            weights = newWeights;
+        }
+
+        means[centroids] = mean;
+        weights[centroids] = weight;
+        centroids++;
+        totalWeight += weight;
+    }
+
+    // "k1" scale function that keeps centroids small near the tails
+    private double k(double q) {
+        return compression / (2. * Math.PI) * Math.asin(2. * Math.min(1., q) - 1.);
+    }
+}
@@ -48,10 +48,15 @@ public class IfExp<T> implements Exp<T> {
         BooleanSeries mask = condition.eval(df);
         IntSeries indexTrue = mask.indexTrue();
 
-        if (indexTrue.size() == 0) {
-            return ifFalseExp.eval(df);
-        } else if (indexTrue.size() == df.height()) {
-            return ifTrueExp.eval(df);
+        // no shortcuts for empty DataFrames, so that both branches are evaluated, and all the columns they reference
+        // are visible to ColumnUsage
+        int h = df.height();
+        if (h > 0) {
+            if (indexTrue.size() == 0) {
+                return ifFalseExp.eval(df);
+            } else if (indexTrue.size() == h) {
+                return ifTrueExp.eval(df);
+            }
         }
 
         IntSeries indexFalse = mask.indexFalse();
@@ -47,8 +47,10 @@ public class IfNullExp<T> implements Exp<T> {
         Series<T> data = exp.eval(df);
         IntSeries nullsIndex = data.index(Objects::isNull);
 
+        // no shortcut for empty DataFrames, so that the columns referenced by the replacement are visible to
+        // ColumnUsage
         int nullsLen = nullsIndex.size();
-        if (nullsLen == 0) {
+        if (nullsLen == 0 && df.height() > 0) {
             return data;
         }
 
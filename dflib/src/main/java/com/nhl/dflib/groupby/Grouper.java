@@ -4,6 +4,7 @@ import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.GroupBy;
 import com.nhl.dflib.IntSeries;
 import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.series.RowIdSeries;
 import com.nhl.dflib.Hasher;
 import com.nhl.dflib.row.RowProxy;
 
@@ -41,7 +42,9 @@ public class Grouper {
 
         for (Object o : groups.entrySet()) {
             Map.Entry<?, Object> e = (Map.Entry) o;
-            e.setValue(((IntAccumulator) e.getValue()).toSeries());
+
+            // group indexes are ascending, so large groups can be compressed
+            e.setValue(RowIdSeries.compact(((IntAccumulator) e.getValue()).toSeries()));
         }
 
         return new GroupBy(df, (Map<Object, IntSeries>) groups, null);
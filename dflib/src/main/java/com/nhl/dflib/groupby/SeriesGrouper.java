@@ -5,6 +5,7 @@ import com.nhl.dflib.Series;
 import com.nhl.dflib.SeriesGroupBy;
 import com.nhl.dflib.ValueMapper;
 import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.series.RowIdSeries;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -41,7 +42,9 @@ public class SeriesGrouper<T> {
 
         for (Object o : groups.entrySet()) {
             Map.Entry<?, Object> e = (Map.Entry) o;
-            e.setValue(((IntAccumulator) e.getValue()).toSeries());
+
+            // group indexes are ascending, so large groups can be compressed
+            e.setValue(RowIdSeries.compact(((IntAccumulator) e.getValue()).toSeries()));
         }
 
         return new SeriesGroupBy<>(s, (Map<Object, IntSeries>) groups);
@@ -0,0 +1,169 @@
+package com.nhl.dflib.io;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compression formats of the files read and written by DFLib loaders and savers. Compressed data is written with the
+ * fastest compression level, as compression is usually the slowest part of saving a DataFrame.
+ *
+ * @since 0.11
+ */
+public enum Compression {
+
+    NONE {
+        @Override
+        public InputStream decompress(InputStream in) {
+            return in;
+        }
+
+        @Override
+        public OutputStream compress(OutputStream out) {
+            return out;
+        }
+    },
+
+    /**
+     * gzip format (RFC 1952). Streams made of multiple concatenated gzip members are decompressed as a whole.
+     */
+    GZIP {
+        @Override
+        public InputStream decompress(InputStream in) throws IOException {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+
+        @Override
+        public OutputStream compress(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, BUFFER_SIZE) {
+                {
+                    def.setLevel(Deflater.BEST_SPEED);
+                }
+            };
+        }
+    },
+
+    /**
+     * "deflate" format with zlib header (RFC 1950).
+     */
+    DEFLATE {
+        @Override
+        public InputStream decompress(InputStream in) {
+
+            // the default Inflater is released on close, and the underlying stream is buffered, as the inflater
+            // stream reads it in small pieces
+            return new InflaterInputStream(new BufferedInputStream(in, BUFFER_SIZE));
+        }
+
+        @Override
+        public OutputStream compress(OutputStream out) {
+            return new DeflaterOutputStream(out, new Deflater(Deflater.BEST_SPEED), BUFFER_SIZE) {
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        // a custom Deflater is not released by the superclass
+                        def.end();
+                    }
+                }
+            };
+        }
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Determines compression from the file name extension: ".gz" for {@link #GZIP}, ".deflate", ".zz" or ".zlib"
+     * for {@link #DEFLATE}.
+     */
+    public static Compression ofFileName(String fileName) {
+
+        String name = fileName.toLowerCase(Locale.ROOT);
+
+        if (name.endsWith(".gz") || name.endsWith(".gzip")) {
+            return GZIP;
+        }
+
+        if (name.endsWith(".deflate") || name.endsWith(".zz") || name.endsWith(".zlib")) {
+            return DEFLATE;
+        }
+
+        return NONE;
+    }
+
+    /**
+     * Determines compression of the file from its first bytes. The file name is only taken into account when the first
+     * bytes are inconclusive, i.e. when the file is shorter than 2 bytes, or its header is a valid, but not a commonly
+     * used zlib header, and the name has a "deflate" extension. A file with a compression extension, but with the
+     * content that is not compressed, is reported as {@link #NONE}.
+     */
+    public static Compression of(Path file) throws IOException {
+
+        byte[] header = new byte[2];
+        int len;
+        try (InputStream in = Files.newInputStream(file)) {
+            len = in.read(header);
+            if (len == 1) {
+                len += Math.max(0, in.read(header, 1, 1));
+            }
+        }
+
+        Compression compression = ofHeader(header, len);
+        if (compression != NONE) {
+            return compression;
+        }
+
+        if (len < 2) {
+            return ofFileName(file.getFileName().toString());
+        }
+
+        return isZlibHeader(header) && ofFileName(file.getFileName().toString()) == DEFLATE ? DEFLATE : NONE;
+    }
+
+    // any valid zlib header (RFC 1950), including the ones not recognized by "ofHeader"
+    private static boolean isZlibHeader(byte[] header) {
+        int b0 = header[0] & 0xFF;
+        int b1 = header[1] & 0xFF;
+        return (b0 & 0x0F) == 8 && (b0 >> 4) <= 7 && ((b0 << 8) | b1) % 31 == 0;
+    }
+
+    /**
+     * Determines compression from the first bytes of the data.
+     */
+    public static Compression ofHeader(byte[] header, int len) {
+
+        if (len < 2) {
+            return NONE;
+        }
+
+        int b0 = header[0] & 0xFF;
+        int b1 = header[1] & 0xFF;
+
+        if (b0 == 0x1F && b1 == 0x8B) {
+            return GZIP;
+        }
+
+        // zlib headers with the standard window size and compression levels. Another valid header - "x^" - is not
+        // checked, as it might as well be the start of a text file
+        if (b0 == 0x78 && (b1 == 0x01 || b1 == 0x9C || b1 == 0xDA)) {
+            return DEFLATE;
+        }
+
+        return NONE;
+    }
+
+    public abstract InputStream decompress(InputStream in) throws IOException;
+
+    public abstract OutputStream compress(OutputStream out) throws IOException;
+}
@@ -0,0 +1,213 @@
+package com.nhl.dflib.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * An InputStream that reads its source on a dedicated thread ahead of the consumer, into a ring of large buffers.
+ * This allows the work done by the source stream (e.g. I/O and decompression) to overlap with the processing of the
+ * data by the consumer (e.g. parsing). The stream is not thread-safe, and must be closed to stop the reading thread.
+ *
+ * @since 0.11
+ */
+public class ReadAheadInputStream extends InputStream {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+    public static final int DEFAULT_BUFFERS = 4;
+
+    private static final Chunk END = new Chunk(new byte[0]);
+
+    private final InputStream source;
+    private final BlockingQueue<Chunk> filled;
+    private final BlockingQueue<Chunk> free;
+    private final Thread reader;
+
+    private Chunk current;
+    private int position;
+    private boolean eof;
+    private volatile boolean closed;
+
+    public ReadAheadInputStream(InputStream source) {
+        this(source, DEFAULT_BUFFER_SIZE, DEFAULT_BUFFERS);
+    }
+
+    public ReadAheadInputStream(InputStream source, int bufferSize, int buffers) {
+
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+
+        if (buffers < 2) {
+            throw new IllegalArgumentException("Need at least 2 buffers: " + buffers);
+        }
+
+        this.source = source;
+
+        // the extra slot is for the end marker
+        this.filled = new ArrayBlockingQueue<>(buffers + 1);
+        this.free = new ArrayBlockingQueue<>(buffers);
+        for (int i = 0; i < buffers; i++) {
+            free.add(new Chunk(new byte[bufferSize]));
+        }
+
+        this.reader = new Thread(this::readAhead, "dflib-read-ahead");
+        this.reader.setDaemon(true);
+        this.reader.start();
+    }
+
+    @Override
+    public int read() throws IOException {
+
+        if (!ensureAvailable()) {
+            return -1;
+        }
+
+        return current.bytes[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+
+        if (len == 0) {
+            return 0;
+        }
+
+        if (!ensureAvailable()) {
+            return -1;
+        }
+
+        int read = Math.min(len, current.length - position);
+        System.arraycopy(current.bytes, position, b, off, read);
+        position += read;
+        return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return current != null ? current.length - position : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        reader.interrupt();
+
+        // closing the source also unblocks the reader thread if it is waiting for data
+        try {
+            source.close();
+        } finally {
+            try {
+                reader.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private boolean ensureAvailable() throws IOException {
+
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+
+        while (current == null || position == current.length) {
+
+            if (eof) {
+                return false;
+            }
+
+            if (current != null) {
+                free.add(current);
+                current = null;
+            }
+
+            Chunk next;
+            try {
+                next = filled.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for data");
+            }
+
+            if (next.error != null) {
+                eof = true;
+                throw new IOException("Error reading ahead: " + next.error.getMessage(), next.error);
+            }
+
+            if (next == END) {
+                eof = true;
+                return false;
+            }
+
+            current = next;
+            position = 0;
+        }
+
+        return true;
+    }
+
+    private void readAhead() {
+
+        try {
+            while (!closed) {
+
+                Chunk chunk = free.take();
+                chunk.length = fill(chunk.bytes);
+
+                if (chunk.length > 0) {
+                    filled.put(chunk);
+                }
+
+                if (chunk.length < chunk.bytes.length) {
+                    filled.put(END);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            // the stream was closed
+        } catch (Throwable th) {
+            if (!closed) {
+                Chunk error = new Chunk(new byte[0]);
+                error.error = th;
+
+                // there's always room for one more chunk in the queue
+                filled.offer(error);
+            }
+        }
+    }
+
+    // reads as many bytes as possible into the buffer, returning a smaller count only at the end of the source
+    private int fill(byte[] buffer) throws IOException {
+
+        int len = 0;
+        while (len < buffer.length) {
+            int read = source.read(buffer, len, buffer.length - len);
+            if (read < 0) {
+                break;
+            }
+
+            len += read;
+        }
+
+        return len;
+    }
+
+    private static class Chunk {
+
+        final byte[] bytes;
+        int length;
+        Throwable error;
+
+        Chunk(byte[] bytes) {
+            this.bytes = bytes;
+        }
+    }
+}
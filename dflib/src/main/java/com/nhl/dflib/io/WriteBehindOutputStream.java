@@ -0,0 +1,257 @@
+package com.nhl.dflib.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An OutputStream that collects written data in large buffers and writes them to the target stream on a dedicated
+ * thread. This allows the work done by the target stream (e.g. compression and I/O) to overlap with the production of
+ * the data by the writer (e.g. formatting). The stream is not thread-safe. Closing it writes the remaining data and
+ * closes the target stream. Errors of the target stream are reported on the subsequent calls to this stream.
+ *
+ * @since 0.11
+ */
+public class WriteBehindOutputStream extends OutputStream {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+    public static final int DEFAULT_BUFFERS = 4;
+
+    // how often the waits for the writer thread check for its errors
+    private static final long POLL_MS = 100;
+
+    private final OutputStream target;
+    private final BlockingQueue<Chunk> filled;
+    private final BlockingQueue<Chunk> free;
+    private final Thread writer;
+
+    private Chunk current;
+    private boolean closed;
+    private volatile Throwable error;
+
+    public WriteBehindOutputStream(OutputStream target) {
+        this(target, DEFAULT_BUFFER_SIZE, DEFAULT_BUFFERS);
+    }
+
+    public WriteBehindOutputStream(OutputStream target, int bufferSize, int buffers) {
+
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+
+        if (buffers < 2) {
+            throw new IllegalArgumentException("Need at least 2 buffers: " + buffers);
+        }
+
+        this.target = target;
+
+        // the extra slots are for the flush and the end markers
+        this.filled = new ArrayBlockingQueue<>(buffers + 2);
+        this.free = new ArrayBlockingQueue<>(buffers);
+        for (int i = 0; i < buffers; i++) {
+            free.add(new Chunk(new byte[bufferSize]));
+        }
+
+        this.current = free.poll();
+
+        this.writer = new Thread(this::writeBehind, "dflib-write-behind");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureCapacity();
+        current.bytes[current.length++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+
+        while (len > 0) {
+            ensureCapacity();
+
+            int written = Math.min(len, current.bytes.length - current.length);
+            System.arraycopy(b, off, current.bytes, current.length, written);
+            current.length += written;
+            off += written;
+            len -= written;
+        }
+    }
+
+    /**
+     * Writes all the data written so far to the target stream and flushes it.
+     */
+    @Override
+    public void flush() throws IOException {
+        checkOpen();
+        handOff(current);
+        current = takeFree();
+        awaitMarker(Chunk.marker(false));
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+            if (error == null) {
+                handOff(current);
+                current = null;
+                awaitMarker(Chunk.marker(true));
+            }
+        } finally {
+            writer.interrupt();
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            target.close();
+        }
+
+        checkError();
+    }
+
+    private void ensureCapacity() throws IOException {
+        checkOpen();
+
+        if (current.length == current.bytes.length) {
+            handOff(current);
+            current = takeFree();
+        }
+    }
+
+    private void handOff(Chunk chunk) throws IOException {
+        if (chunk.length > 0) {
+            put(chunk);
+        } else {
+            free.add(chunk);
+        }
+    }
+
+    private Chunk takeFree() throws IOException {
+
+        try {
+            Chunk chunk;
+
+            while ((chunk = free.poll(POLL_MS, TimeUnit.MILLISECONDS)) == null) {
+                checkError();
+            }
+
+            checkError();
+            chunk.length = 0;
+            return chunk;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a buffer");
+        }
+    }
+
+    // sends a marker chunk to the writer thread and waits till it is processed
+    private void awaitMarker(Chunk marker) throws IOException {
+
+        put(marker);
+
+        synchronized (marker) {
+            while (!marker.processed) {
+                checkError();
+                try {
+                    marker.wait(POLL_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the data to be written");
+                }
+            }
+        }
+
+        checkError();
+    }
+
+    private void put(Chunk chunk) throws IOException {
+        try {
+            while (!filled.offer(chunk, POLL_MS, TimeUnit.MILLISECONDS)) {
+                checkError();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing");
+        }
+    }
+
+    private void checkOpen() throws IOException {
+
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+
+        checkError();
+    }
+
+    private void checkError() throws IOException {
+        Throwable th = error;
+        if (th != null) {
+            throw new IOException("Error writing behind: " + th.getMessage(), th);
+        }
+    }
+
+    private void writeBehind() {
+
+        try {
+            while (true) {
+                Chunk chunk = filled.take();
+
+                if (chunk.bytes != null) {
+                    target.write(chunk.bytes, 0, chunk.length);
+                    free.put(chunk);
+                    continue;
+                }
+
+                target.flush();
+
+                synchronized (chunk) {
+                    chunk.processed = true;
+                    chunk.notifyAll();
+                }
+
+                if (chunk.end) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            // the stream was closed
+        } catch (Throwable th) {
+            error = th;
+        }
+    }
+
+    private static class Chunk {
+
+        final byte[] bytes;
+        int length;
+
+        // marker chunk state
+        boolean end;
+        boolean processed;
+
+        Chunk(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        // a chunk without data, that makes the writer thread flush the target, and optionally stop
+        static Chunk marker(boolean end) {
+            Chunk marker = new Chunk(null);
+            marker.end = end;
+            return marker;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.nhl.dflib.JoinType;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.accumulator.ObjectAccumulator;
 import com.nhl.dflib.concat.HConcat;
+import com.nhl.dflib.series.RowSelector;
 
 import java.util.Objects;
 
@@ -74,12 +75,14 @@ public abstract class BaseJoiner {
 
         Series[] data = new Series[w];
 
+        RowSelector leftSelector = new RowSelector(leftIndex);
         for (int i = 0; i < wl; i++) {
-            data[i] = lf.getColumn(i).select(leftIndex);
+            data[i] = leftSelector.select(lf.getColumn(i));
         }
 
+        RowSelector rightSelector = new RowSelector(rightIndex);
         for (int i = wl; i < w; i++) {
-            data[i] = rf.getColumn(i - wl).select(rightIndex);
+            data[i] = rightSelector.select(rf.getColumn(i - wl));
         }
 
         return new ColumnDataFrame(index, data);
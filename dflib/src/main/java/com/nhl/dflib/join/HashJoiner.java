@@ -5,11 +5,14 @@ import com.nhl.dflib.GroupBy;
 import com.nhl.dflib.Hasher;
 import com.nhl.dflib.IntSeries;
 import com.nhl.dflib.JoinType;
+import com.nhl.dflib.Series;
 import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.collection.ObjectHashSet;
 import com.nhl.dflib.row.RowProxy;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * A DataFrame joiner using <a href="https://en.wikipedia.org/wiki/Hash_join">"hash join"</a> algorithm. It requires
@@ -20,6 +23,8 @@ public class HashJoiner extends BaseJoiner {
 
     private Hasher leftHasher;
     private Hasher rightHasher;
+    private Function<DataFrame, Series<?>> leftKeyColumn;
+    private Function<DataFrame, Series<?>> rightKeyColumn;
 
     public HashJoiner(
             Hasher leftHasher,
@@ -32,9 +37,26 @@ public class HashJoiner extends BaseJoiner {
         this.rightHasher = rightHasher;
     }
 
+    /**
+     * Sets optional functions to locate the key columns, when the join is on a single column on each side. If the key
+     * column of the indexed side of the join is known to be unique, the joiner would use a lighter index.
+     *
+     * @since 0.11
+     */
+    public HashJoiner keyColumns(Function<DataFrame, Series<?>> leftKeyColumn, Function<DataFrame, Series<?>> rightKeyColumn) {
+        this.leftKeyColumn = leftKeyColumn;
+        this.rightKeyColumn = rightKeyColumn;
+        return this;
+    }
+
     @Override
     protected IntSeries[] innerJoin(DataFrame lf, DataFrame rf) {
 
+        Series<?> rightKeys = uniqueKeys(rightKeyColumn, rf);
+        if (rightKeys != null) {
+            return uniqueKeyJoin(lf, leftHasher, rightKeys, false);
+        }
+
         IntAccumulator li = new IntAccumulator();
         IntAccumulator ri = new IntAccumulator();
 
@@ -63,6 +85,11 @@ public class HashJoiner extends BaseJoiner {
     @Override
     protected IntSeries[] leftJoin(DataFrame lf, DataFrame rf) {
 
+        Series<?> rightKeys = uniqueKeys(rightKeyColumn, rf);
+        if (rightKeys != null) {
+            return uniqueKeyJoin(lf, leftHasher, rightKeys, true);
+        }
+
         IntAccumulator li = new IntAccumulator();
         IntAccumulator ri = new IntAccumulator();
 
@@ -94,6 +121,12 @@ public class HashJoiner extends BaseJoiner {
     @Override
     protected IntSeries[] rightJoin(DataFrame lf, DataFrame rf) {
 
+        Series<?> leftKeys = uniqueKeys(leftKeyColumn, lf);
+        if (leftKeys != null) {
+            IntSeries[] ri = uniqueKeyJoin(rf, rightHasher, leftKeys, true);
+            return new IntSeries[]{ri[1], ri[0]};
+        }
+
         IntAccumulator li = new IntAccumulator();
         IntAccumulator ri = new IntAccumulator();
 
@@ -167,4 +200,49 @@ public class HashJoiner extends BaseJoiner {
 
         return new IntSeries[]{li.toSeries(), ri.toSeries()};
     }
+
+    private static Series<?> uniqueKeys(Function<DataFrame, Series<?>> keyColumn, DataFrame df) {
+
+        if (keyColumn == null) {
+            return null;
+        }
+
+        // only relying on the known uniqueness, as calculating it would cost about as much as the work it saves
+        Series<?> keys = keyColumn.apply(df);
+        return keys.getStats().isKnownUnique() ? keys : null;
+    }
+
+    // a join against unique keys. Each row of the scanned side matches at most one row on the indexed side, so there's
+    // no need to build a full GroupBy. Returns an array of [scanned side index, indexed side index]
+    private static IntSeries[] uniqueKeyJoin(DataFrame scanned, Hasher scannedHasher, Series<?> indexedKeys, boolean keepUnmatched) {
+
+        int ih = indexedKeys.size();
+
+        // since the keys are unique, the insertion position of each key is the row number
+        ObjectHashSet<Object> index = new ObjectHashSet<>(ih);
+        for (int i = 0; i < ih; i++) {
+            index.put(indexedKeys.get(i));
+        }
+
+        int sh = scanned.height();
+        IntAccumulator si = new IntAccumulator(sh);
+        IntAccumulator ii = new IntAccumulator(sh);
+
+        int i = 0;
+        for (RowProxy r : scanned) {
+
+            // null keys never match, same as in the GroupBy-based join
+            Object key = scannedHasher.map(r);
+            int j = key != null ? index.position(key) : -1;
+
+            if (j >= 0 || keepUnmatched) {
+                si.addInt(i);
+                ii.addInt(j);
+            }
+
+            i++;
+        }
+
+        return new IntSeries[]{si.toSeries(), ii.toSeries()};
+    }
 }
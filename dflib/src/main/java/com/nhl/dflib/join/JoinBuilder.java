@@ -3,8 +3,10 @@ package com.nhl.dflib.join;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Hasher;
 import com.nhl.dflib.JoinType;
+import com.nhl.dflib.Series;
 
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * @since 0.6
@@ -17,6 +19,10 @@ public class JoinBuilder {
     private Hasher rightHasher;
     private JoinPredicate predicate;
 
+    // set when the join is on a single pair of columns, so that the joiner can use the column statistics
+    private Function<DataFrame, Series<?>> leftKeyColumn;
+    private Function<DataFrame, Series<?>> rightKeyColumn;
+
     private String indicatorColumn;
 
     public JoinBuilder(DataFrame leftFrame) {
@@ -34,7 +40,15 @@ public class JoinBuilder {
     }
 
     public JoinBuilder on(int leftColumn, int rightColumn) {
-        return on(Hasher.forColumn(leftColumn), Hasher.forColumn(rightColumn));
+        boolean first = leftHasher == null;
+        on(Hasher.forColumn(leftColumn), Hasher.forColumn(rightColumn));
+
+        if (first) {
+            this.leftKeyColumn = df -> df.getColumn(leftColumn);
+            this.rightKeyColumn = df -> df.getColumn(rightColumn);
+        }
+
+        return this;
     }
 
     public JoinBuilder on(String column) {
@@ -42,7 +56,15 @@ public class JoinBuilder {
     }
 
     public JoinBuilder on(String leftColumn, String rightColumn) {
-        return on(Hasher.forColumn(leftColumn), Hasher.forColumn(rightColumn));
+        boolean first = leftHasher == null;
+        on(Hasher.forColumn(leftColumn), Hasher.forColumn(rightColumn));
+
+        if (first) {
+            this.leftKeyColumn = df -> df.getColumn(leftColumn);
+            this.rightKeyColumn = df -> df.getColumn(rightColumn);
+        }
+
+        return this;
     }
 
     public JoinBuilder on(Hasher hasher) {
@@ -53,6 +75,8 @@ public class JoinBuilder {
         // append to the existing hashers
         this.leftHasher = combineHashers(this.leftHasher, left);
         this.rightHasher = combineHashers(this.rightHasher, right);
+        this.leftKeyColumn = null;
+        this.rightKeyColumn = null;
         this.predicate = null;
         return this;
     }
@@ -70,6 +94,8 @@ public class JoinBuilder {
         this.predicate = predicate;
         this.leftHasher = null;
         this.rightHasher = null;
+        this.leftKeyColumn = null;
+        this.rightKeyColumn = null;
 
         return this;
     }
@@ -100,6 +126,8 @@ public class JoinBuilder {
     }
 
     private DataFrame hashJoin(DataFrame rightFrame) {
-        return new HashJoiner(leftHasher, rightHasher, semantics, indicatorColumn).join(leftFrame, rightFrame);
+        return new HashJoiner(leftHasher, rightHasher, semantics, indicatorColumn)
+                .keyColumns(leftKeyColumn, rightKeyColumn)
+                .join(leftFrame, rightFrame);
     }
 }
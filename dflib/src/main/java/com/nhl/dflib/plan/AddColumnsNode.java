@@ -0,0 +1,41 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Exp;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * An "addColumns" plan node.
+ *
+ * @since 0.11
+ */
+class AddColumnsNode extends UnaryNode {
+
+    private final Exp<?>[] exps;
+
+    AddColumnsNode(PlanNode input, Exp<?>... exps) {
+        super(input);
+        this.exps = exps;
+    }
+
+    Exp<?>[] getExps() {
+        return exps;
+    }
+
+    @Override
+    PlanNode withInput(PlanNode input) {
+        return new AddColumnsNode(input, exps);
+    }
+
+    @Override
+    protected DataFrame execute(DataFrame input) {
+        return input.addColumns(exps);
+    }
+
+    @Override
+    protected String describe() {
+        return "AddColumns [" + Arrays.stream(exps).map(Exp::toQL).collect(Collectors.joining(", ")) + "]";
+    }
+}
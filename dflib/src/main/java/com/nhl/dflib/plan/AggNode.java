@@ -0,0 +1,56 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Exp;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * A "group(..).agg(..)" plan node. With no group columns, aggregates the entire input.
+ *
+ * @since 0.11
+ */
+class AggNode extends UnaryNode {
+
+    private final String[] groupColumns;
+    private final Exp<?>[] aggregators;
+
+    AggNode(PlanNode input, String[] groupColumns, Exp<?>... aggregators) {
+        super(input);
+        this.groupColumns = groupColumns;
+        this.aggregators = aggregators;
+    }
+
+    String[] getGroupColumns() {
+        return groupColumns;
+    }
+
+    Exp<?>[] getAggregators() {
+        return aggregators;
+    }
+
+    @Override
+    PlanNode withInput(PlanNode input) {
+        return new AggNode(input, groupColumns, aggregators);
+    }
+
+    @Override
+    protected DataFrame execute(DataFrame input) {
+
+        if (groupColumns.length == 0) {
+            return input.agg(aggregators);
+        }
+
+        String[] otherColumns = Arrays.copyOfRange(groupColumns, 1, groupColumns.length);
+        return input.group(groupColumns[0], otherColumns).agg(aggregators);
+    }
+
+    @Override
+    protected String describe() {
+        String aggs = Arrays.stream(aggregators).map(Exp::toQL).collect(Collectors.joining(", "));
+        return groupColumns.length > 0
+                ? "Agg [" + aggs + "] by [" + String.join(", ", groupColumns) + "]"
+                : "Agg [" + aggs + "]";
+    }
+}
@@ -0,0 +1,190 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.Condition;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Exp;
+import com.nhl.dflib.RowPredicate;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.Sorter;
+import com.nhl.dflib.ValuePredicate;
+import com.nhl.dflib.exp.sort.ExpSorter;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Information about input columns referenced by expressions, collected by evaluating the expressions against an empty
+ * DataFrame that records column lookups. Row selections done by the expressions (e.g. in conditional expressions) are
+ * recorded as well. If an expression accesses the data in any other way (e.g. iterates over rows), or can't be
+ * evaluated over an empty DataFrame, its usage is "unknown", and the callers should assume that it depends on all the
+ * input columns. Expressions that reference columns by position are "resolved" for the given input, but are not
+ * "known", as the optimizer may reorder the columns.
+ *
+ * @since 0.11
+ */
+public class ColumnUsage {
+
+    private static final ColumnUsage UNKNOWN = new ColumnUsage(null, false, false);
+
+    private final Set<String> labels;
+    private final boolean rowWise;
+    private final boolean positional;
+
+    private ColumnUsage(Set<String> labels, boolean rowWise, boolean positional) {
+        this.labels = labels;
+        this.rowWise = rowWise;
+        this.positional = positional;
+    }
+
+    public static ColumnUsage of(DataFrame emptyInput, Exp<?>... exps) {
+
+        Recorder recorder = new Recorder();
+        DataFrame input = recorder.record(emptyInput);
+        boolean rowWise = true;
+
+        for (Exp<?> e : exps) {
+
+            Series<?> result;
+            try {
+                result = e.eval(input);
+            } catch (RuntimeException ex) {
+                return UNKNOWN;
+            }
+
+            // an aggregating expression produces a single value even for empty input
+            if (result.size() != 0) {
+                rowWise = false;
+            }
+        }
+
+        return recorder.opaque ? UNKNOWN : new ColumnUsage(recorder.labels, rowWise, recorder.positional);
+    }
+
+    public static ColumnUsage of(DataFrame emptyInput, Sorter... sorters) {
+
+        int len = sorters.length;
+        Exp<?>[] exps = new Exp[len];
+        for (int i = 0; i < len; i++) {
+            if (!(sorters[i] instanceof ExpSorter)) {
+                return UNKNOWN;
+            }
+
+            exps[i] = ((ExpSorter) sorters[i]).getExp();
+        }
+
+        return of(emptyInput, exps);
+    }
+
+    /**
+     * Returns true if the referenced columns are known for the input the usage was collected for, even if some of them
+     * are referenced by position. Such usage is only valid as long as the input columns are not reordered.
+     */
+    public boolean isResolved() {
+        return labels != null;
+    }
+
+    /**
+     * Returns true if the referenced columns are known by label.
+     */
+    public boolean isKnown() {
+        return labels != null && !positional;
+    }
+
+    /**
+     * Returns true if the referenced column labels are known, and the expressions produce a value per input row, so
+     * that removing input rows doesn't change the values of the remaining rows. This assumes that the expressions do
+     * not compare row values with the aggregated values of the entire input.
+     */
+    public boolean isKnownRowWise() {
+        return isKnown() && rowWise;
+    }
+
+    /**
+     * Returns the labels of the referenced columns, or null if the usage is not resolved.
+     */
+    public Set<String> getLabels() {
+        return labels != null ? Collections.unmodifiableSet(labels) : null;
+    }
+
+    // records column lookups on the DataFrames it creates and on the row selections of those DataFrames. A dynamic
+    // proxy ensures that any DataFrame method not known to be safe is detected, including the ones added in the future
+    static class Recorder {
+
+        final Set<String> labels = new LinkedHashSet<>();
+        boolean positional;
+        boolean opaque;
+
+        DataFrame record(DataFrame df) {
+            return (DataFrame) Proxy.newProxyInstance(
+                    DataFrame.class.getClassLoader(),
+                    new Class<?>[]{DataFrame.class},
+                    (proxy, method, args) -> invoke(df, method, args));
+        }
+
+        private Object invoke(DataFrame df, Method method, Object[] args) throws Throwable {
+
+            switch (method.getName()) {
+                case "getColumn":
+                case "getColumnAsInt":
+                case "getColumnAsLong":
+                case "getColumnAsDouble":
+                case "getColumnAsBoolean":
+                    recordColumn(df, args[0]);
+                    return delegate(df, method, args);
+
+                case "getColumnsIndex":
+                case "height":
+                case "width":
+                case "hashCode":
+                case "equals":
+                case "toString":
+                    return delegate(df, method, args);
+
+                case "selectRows":
+                    recordSelection(df, args);
+                    return record((DataFrame) delegate(df, method, args));
+
+                default:
+                    opaque = true;
+                    return delegate(df, method, args);
+            }
+        }
+
+        private void recordColumn(DataFrame df, Object column) {
+            if (column instanceof Integer) {
+                positional = true;
+                labels.add(df.getColumnsIndex().getLabel((Integer) column));
+            } else {
+                labels.add((String) column);
+            }
+        }
+
+        private void recordSelection(DataFrame df, Object[] args) {
+
+            // row predicates and conditions would be evaluated against the unrecorded DataFrame
+            for (Object a : args) {
+                if (a instanceof RowPredicate || a instanceof Condition) {
+                    opaque = true;
+                    return;
+                }
+            }
+
+            // a selection with a column value predicate
+            if (args.length == 2 && args[1] instanceof ValuePredicate) {
+                recordColumn(df, args[0]);
+            }
+        }
+
+        private static Object delegate(DataFrame df, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(df, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.Condition;
+import com.nhl.dflib.DataFrame;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * A "selectRows" plan node. Stores a conjunction of conditions, so that the optimizer can push each one of them
+ * separately.
+ *
+ * @since 0.11
+ */
+class FilterNode extends UnaryNode {
+
+    private final Condition[] conditions;
+
+    FilterNode(PlanNode input, Condition... conditions) {
+        super(input);
+        this.conditions = conditions;
+    }
+
+    Condition[] getConditions() {
+        return conditions;
+    }
+
+    @Override
+    PlanNode withInput(PlanNode input) {
+        return new FilterNode(input, conditions);
+    }
+
+    @Override
+    protected DataFrame execute(DataFrame input) {
+
+        Condition combined = conditions[0];
+        for (int i = 1; i < conditions.length; i++) {
+            combined = combined.and(conditions[i]);
+        }
+
+        return input.selectRows(combined);
+    }
+
+    @Override
+    protected String describe() {
+        return "Filter [" + Arrays.stream(conditions).map(Condition::toQL).collect(Collectors.joining(" and ")) + "]";
+    }
+}
@@ -0,0 +1,37 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.DataFrame;
+
+/**
+ * A "head" plan node.
+ *
+ * @since 0.11
+ */
+class HeadNode extends UnaryNode {
+
+    private final int len;
+
+    HeadNode(PlanNode input, int len) {
+        super(input);
+        this.len = len;
+    }
+
+    int getLen() {
+        return len;
+    }
+
+    @Override
+    PlanNode withInput(PlanNode input) {
+        return new HeadNode(input, len);
+    }
+
+    @Override
+    protected DataFrame execute(DataFrame input) {
+        return input.head(len);
+    }
+
+    @Override
+    protected String describe() {
+        return "Head [" + len + "]";
+    }
+}
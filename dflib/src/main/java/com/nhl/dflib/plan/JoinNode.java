@@ -0,0 +1,67 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.JoinType;
+import com.nhl.dflib.join.JoinBuilder;
+
+/**
+ * A hash join plan node, joining two inputs on a pair of key columns.
+ *
+ * @since 0.11
+ */
+class JoinNode extends PlanNode {
+
+    private final PlanNode left;
+    private final PlanNode right;
+    private final JoinType type;
+    private final String leftColumn;
+    private final String rightColumn;
+
+    JoinNode(PlanNode left, PlanNode right, JoinType type, String leftColumn, String rightColumn) {
+        this.left = left;
+        this.right = right;
+        this.type = type;
+        this.leftColumn = leftColumn;
+        this.rightColumn = rightColumn;
+    }
+
+    PlanNode getLeft() {
+        return left;
+    }
+
+    PlanNode getRight() {
+        return right;
+    }
+
+    JoinType getType() {
+        return type;
+    }
+
+    String getLeftColumn() {
+        return leftColumn;
+    }
+
+    String getRightColumn() {
+        return rightColumn;
+    }
+
+    @Override
+    PlanNode[] getInputs() {
+        return new PlanNode[]{left, right};
+    }
+
+    @Override
+    PlanNode withInputs(PlanNode... inputs) {
+        return new JoinNode(inputs[0], inputs[1], type, leftColumn, rightColumn);
+    }
+
+    @Override
+    protected DataFrame execute(DataFrame... inputs) {
+        return new JoinBuilder(inputs[0]).type(type).on(leftColumn, rightColumn).with(inputs[1]);
+    }
+
+    @Override
+    protected String describe() {
+        return "Join " + type + " [" + leftColumn + " = " + rightColumn + "]";
+    }
+}
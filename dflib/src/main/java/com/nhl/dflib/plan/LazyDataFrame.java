@@ -0,0 +1,133 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.Condition;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Exp;
+import com.nhl.dflib.JoinType;
+import com.nhl.dflib.Sorter;
+
+import java.util.Objects;
+
+/**
+ * A DataFrame whose operations are not executed immediately, but are recorded in a logical plan. When the result is
+ * requested via {@link #collect()}, the plan is optimized and then executed with the regular DataFrame operators. The
+ * optimizer pushes row filters below joins, sorts and column additions, fuses adjacent selections, and prunes the
+ * columns that are not used by the downstream operations. E.g. a join followed by "selectColumns" will only carry the
+ * selected columns through the join, and a filter after "addColumns" will be applied before the new columns are
+ * calculated.
+ * <p>
+ * The optimizer analyzes expressions by evaluating them over empty DataFrames. It treats the expressions that
+ * reference columns by position as depending on all the input columns, and doesn't move them around. Filters and
+ * column expressions are assumed to be calculated row by row. Conditions that compare row values with the aggregates
+ * of the entire DataFrame (e.g. <code>$int("a").gt($int("a").avg())</code>) should be applied to a collected
+ * DataFrame instead.
+ * </p>
+ *
+ * @see DataFrame#lazy()
+ * @since 0.11
+ */
+public class LazyDataFrame {
+
+    private final PlanNode plan;
+
+    public LazyDataFrame(DataFrame source) {
+        this(new SourceNode(Objects.requireNonNull(source)));
+    }
+
+    protected LazyDataFrame(PlanNode plan) {
+        this.plan = plan;
+    }
+
+    public LazyDataFrame selectRows(Condition condition) {
+        Objects.requireNonNull(condition, "Null 'condition'");
+        return new LazyDataFrame(new FilterNode(plan, condition));
+    }
+
+    public LazyDataFrame selectColumns(String... labels) {
+        return new LazyDataFrame(new ProjectNode(plan, labels));
+    }
+
+    public LazyDataFrame addColumn(Exp<?> exp) {
+        return addColumns(exp);
+    }
+
+    public LazyDataFrame addColumns(Exp<?>... exps) {
+        return exps.length > 0 ? new LazyDataFrame(new AddColumnsNode(plan, exps)) : this;
+    }
+
+    public LazyDataFrame sort(Sorter... sorters) {
+        return sorters.length > 0 ? new LazyDataFrame(new SortNode(plan, sorters)) : this;
+    }
+
+    public LazyDataFrame head(int len) {
+
+        if (len < 0) {
+            throw new IllegalArgumentException("Length must be non-negative: " + len);
+        }
+
+        return new LazyDataFrame(new HeadNode(plan, len));
+    }
+
+    /**
+     * Aggregates the entire DataFrame, producing a single row.
+     */
+    public LazyDataFrame agg(Exp<?>... aggregators) {
+        return new LazyDataFrame(new AggNode(plan, new String[0], aggregators));
+    }
+
+    public LazyGroupBy group(String column0, String... otherColumns) {
+        String[] columns = new String[otherColumns.length + 1];
+        columns[0] = column0;
+        System.arraycopy(otherColumns, 0, columns, 1, otherColumns.length);
+        return new LazyGroupBy(this, columns);
+    }
+
+    public LazyDataFrame innerJoin(LazyDataFrame right, String leftColumn, String rightColumn) {
+        return join(JoinType.inner, right, leftColumn, rightColumn);
+    }
+
+    public LazyDataFrame leftJoin(LazyDataFrame right, String leftColumn, String rightColumn) {
+        return join(JoinType.left, right, leftColumn, rightColumn);
+    }
+
+    public LazyDataFrame rightJoin(LazyDataFrame right, String leftColumn, String rightColumn) {
+        return join(JoinType.right, right, leftColumn, rightColumn);
+    }
+
+    public LazyDataFrame fullJoin(LazyDataFrame right, String leftColumn, String rightColumn) {
+        return join(JoinType.full, right, leftColumn, rightColumn);
+    }
+
+    /**
+     * Joins this DataFrame with another one using a hash join on a pair of key columns.
+     */
+    public LazyDataFrame join(JoinType how, LazyDataFrame right, String leftColumn, String rightColumn) {
+        Objects.requireNonNull(how, "Null 'how'");
+        Objects.requireNonNull(right, "Null 'right'");
+        return new LazyDataFrame(new JoinNode(plan, right.plan, how, leftColumn, rightColumn));
+    }
+
+    /**
+     * Optimizes and executes the plan, returning the resulting DataFrame.
+     */
+    public DataFrame collect() {
+        return new PlanOptimizer().optimize(plan).execute();
+    }
+
+    /**
+     * Returns a String representation of the optimized plan, one operation per line, with the inputs of each
+     * operation indented below it.
+     */
+    public String explain() {
+        return new PlanOptimizer().optimize(plan).toString();
+    }
+
+    PlanNode getPlan() {
+        return plan;
+    }
+
+    @Override
+    public String toString() {
+        return plan.toString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.Exp;
+
+/**
+ * A grouping step of a {@link LazyDataFrame} plan, that is completed by calling {@link #agg(Exp[])}.
+ *
+ * @since 0.11
+ */
+public class LazyGroupBy {
+
+    private final LazyDataFrame source;
+    private final String[] columns;
+
+    LazyGroupBy(LazyDataFrame source, String[] columns) {
+        this.source = source;
+        this.columns = columns;
+    }
+
+    public LazyDataFrame agg(Exp<?>... aggregators) {
+        return new LazyDataFrame(new AggNode(source.getPlan(), columns, aggregators));
+    }
+}
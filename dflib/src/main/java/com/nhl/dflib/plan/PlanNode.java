@@ -0,0 +1,80 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Index;
+
+/**
+ * A node of a logical query plan of a {@link LazyDataFrame}. Nodes are immutable. Each node is executed with the
+ * existing DataFrame operators over the results of its inputs. Running the same operators over empty inputs produces
+ * an empty DataFrame with the node columns, that is used by the optimizer to analyze the plan.
+ *
+ * @since 0.11
+ */
+abstract class PlanNode {
+
+    private DataFrame empty;
+
+    abstract PlanNode[] getInputs();
+
+    abstract PlanNode withInputs(PlanNode... inputs);
+
+    protected abstract DataFrame execute(DataFrame... inputs);
+
+    protected abstract String describe();
+
+    DataFrame execute() {
+        PlanNode[] inputs = getInputs();
+        int len = inputs.length;
+
+        DataFrame[] dfs = new DataFrame[len];
+        for (int i = 0; i < len; i++) {
+            dfs[i] = inputs[i].execute();
+        }
+
+        return execute(dfs);
+    }
+
+    /**
+     * Returns a zero-height DataFrame with the columns produced by this node.
+     */
+    DataFrame empty() {
+
+        if (empty == null) {
+            PlanNode[] inputs = getInputs();
+            int len = inputs.length;
+
+            DataFrame[] dfs = new DataFrame[len];
+            for (int i = 0; i < len; i++) {
+                dfs[i] = inputs[i].empty();
+            }
+
+            empty = execute(dfs);
+        }
+
+        return empty;
+    }
+
+    Index getColumns() {
+        return empty().getColumnsIndex();
+    }
+
+    void explain(StringBuilder out, int depth) {
+
+        for (int i = 0; i < depth; i++) {
+            out.append("  ");
+        }
+
+        out.append(describe()).append(System.lineSeparator());
+
+        for (PlanNode input : getInputs()) {
+            input.explain(out, depth + 1);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        explain(out, 0);
+        return out.toString();
+    }
+}
@@ -0,0 +1,428 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.Condition;
+import com.nhl.dflib.Exp;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.JoinType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rewrites a logical plan into an equivalent plan that does less work. Applies the following rules:
+ * <ul>
+ *     <li>Fuses adjacent filters, projections and "head" nodes.</li>
+ *     <li>Pushes filter conditions below projections, sorts, column additions (unless the condition references the
+ *     added columns) and joins (to the join side that provides all the condition columns, if the join type allows
+ *     it).</li>
+ *     <li>Prunes columns that are not used downstream, projecting sources and join inputs to the needed columns and
+ *     removing unused column additions and aggregations.</li>
+ * </ul>
+ *
+ * @since 0.11
+ */
+class PlanOptimizer {
+
+    PlanNode optimize(PlanNode plan) {
+        PlanNode pushed = pushFilters(fuse(plan));
+        return prune(pushed, toSet(pushed.getColumns().getLabels()));
+    }
+
+    PlanNode fuse(PlanNode node) {
+
+        PlanNode[] inputs = node.getInputs();
+        int len = inputs.length;
+        PlanNode[] fusedInputs = new PlanNode[len];
+        for (int i = 0; i < len; i++) {
+            fusedInputs[i] = fuse(inputs[i]);
+        }
+
+        PlanNode fused = node.withInputs(fusedInputs);
+
+        if (fused instanceof FilterNode && len == 1 && fusedInputs[0] instanceof FilterNode) {
+            FilterNode outer = (FilterNode) fused;
+            FilterNode inner = (FilterNode) fusedInputs[0];
+            return new FilterNode(inner.getInput(), concat(inner.getConditions(), outer.getConditions()));
+        }
+
+        if (fused instanceof ProjectNode && len == 1 && fusedInputs[0] instanceof ProjectNode) {
+            ProjectNode outer = (ProjectNode) fused;
+            ProjectNode inner = (ProjectNode) fusedInputs[0];
+            return new ProjectNode(inner.getInput(), outer.getLabels());
+        }
+
+        if (fused instanceof HeadNode && len == 1 && fusedInputs[0] instanceof HeadNode) {
+            HeadNode outer = (HeadNode) fused;
+            HeadNode inner = (HeadNode) fusedInputs[0];
+            return new HeadNode(inner.getInput(), Math.min(outer.getLen(), inner.getLen()));
+        }
+
+        return fused;
+    }
+
+    PlanNode pushFilters(PlanNode node) {
+
+        if (node instanceof FilterNode) {
+            FilterNode filter = (FilterNode) node;
+            return pushInto(pushFilters(filter.getInput()), toList(filter.getConditions()));
+        }
+
+        PlanNode[] inputs = node.getInputs();
+        int len = inputs.length;
+        PlanNode[] pushedInputs = new PlanNode[len];
+        for (int i = 0; i < len; i++) {
+            pushedInputs[i] = pushFilters(inputs[i]);
+        }
+
+        return node.withInputs(pushedInputs);
+    }
+
+    // places the conditions as deep in the subtree as possible
+    private PlanNode pushInto(PlanNode target, List<Condition> conditions) {
+
+        if (conditions.isEmpty()) {
+            return target;
+        }
+
+        if (target instanceof FilterNode) {
+            FilterNode filter = (FilterNode) target;
+            List<Condition> merged = toList(filter.getConditions());
+            merged.addAll(conditions);
+            return pushInto(filter.getInput(), merged);
+        }
+
+        List<Condition> pushable = new ArrayList<>();
+        List<Condition> remaining = new ArrayList<>();
+
+        if (target instanceof ProjectNode || target instanceof SortNode) {
+
+            // projections and sorts don't change column labels or row values
+            UnaryNode unary = (UnaryNode) target;
+            for (Condition c : conditions) {
+                (usage(target, c).isKnownRowWise() ? pushable : remaining).add(c);
+            }
+
+            return filter(unary.withInput(pushInto(unary.getInput(), pushable)), remaining);
+        }
+
+        if (target instanceof AddColumnsNode) {
+
+            AddColumnsNode add = (AddColumnsNode) target;
+
+            // filtering the rows before adding the columns must not change the values of the added columns
+            if (!ColumnUsage.of(add.getInput().empty(), add.getExps()).isKnownRowWise()) {
+                return filter(target, conditions);
+            }
+
+            Index inputColumns = add.getInput().getColumns();
+            for (Condition c : conditions) {
+                ColumnUsage usage = usage(target, c);
+                (usage.isKnownRowWise() && allIn(usage.getLabels(), inputColumns) ? pushable : remaining).add(c);
+            }
+
+            return filter(add.withInput(pushInto(add.getInput(), pushable)), remaining);
+        }
+
+        if (target instanceof JoinNode) {
+
+            JoinNode join = (JoinNode) target;
+            JoinType type = join.getType();
+            boolean canPushLeft = type == JoinType.inner || type == JoinType.left;
+            boolean canPushRight = type == JoinType.inner || type == JoinType.right;
+
+            Index joinColumns = target.getColumns();
+            Index leftColumns = join.getLeft().getColumns();
+            Index rightColumns = join.getRight().getColumns();
+            int wl = leftColumns.size();
+
+            List<Condition> leftPushable = new ArrayList<>();
+            List<Condition> rightPushable = new ArrayList<>();
+
+            for (Condition c : conditions) {
+                ColumnUsage usage = usage(target, c);
+
+                if (!usage.isKnownRowWise()) {
+                    remaining.add(c);
+                } else if (canPushLeft && sameLabels(usage.getLabels(), joinColumns, leftColumns, 0)) {
+                    leftPushable.add(c);
+                } else if (canPushRight && sameLabels(usage.getLabels(), joinColumns, rightColumns, wl)) {
+                    rightPushable.add(c);
+                } else {
+                    remaining.add(c);
+                }
+            }
+
+            PlanNode pushedJoin = join.withInputs(
+                    pushInto(join.getLeft(), leftPushable),
+                    pushInto(join.getRight(), rightPushable));
+
+            return filter(pushedJoin, remaining);
+        }
+
+        return filter(target, conditions);
+    }
+
+    PlanNode prune(PlanNode node, Set<String> required) {
+
+        Index columns = node.getColumns();
+
+        if (node instanceof SourceNode) {
+            return required.size() < columns.size()
+                    ? new ProjectNode(node, ordered(columns, required))
+                    : node;
+        }
+
+        if (node instanceof ProjectNode) {
+            ProjectNode project = (ProjectNode) node;
+            String[] labels = ordered(columns, required);
+            PlanNode input = prune(project.getInput(), toSet(labels));
+
+            // collapse the projections added by pruning
+            return input instanceof ProjectNode
+                    ? new ProjectNode(((ProjectNode) input).getInput(), labels)
+                    : new ProjectNode(input, labels);
+        }
+
+        if (node instanceof FilterNode) {
+            FilterNode filter = (FilterNode) node;
+            return filter.withInput(prune(filter.getInput(), union(
+                    filter.getInput(),
+                    required,
+                    ColumnUsage.of(filter.getInput().empty(), filter.getConditions()))));
+        }
+
+        if (node instanceof SortNode) {
+            SortNode sort = (SortNode) node;
+            return sort.withInput(prune(sort.getInput(), union(
+                    sort.getInput(),
+                    required,
+                    ColumnUsage.of(sort.getInput().empty(), sort.getSorters()))));
+        }
+
+        if (node instanceof HeadNode) {
+            HeadNode head = (HeadNode) node;
+            return head.withInput(prune(head.getInput(), required));
+        }
+
+        if (node instanceof AddColumnsNode) {
+            return pruneAddColumns((AddColumnsNode) node, required);
+        }
+
+        if (node instanceof AggNode) {
+            return pruneAgg((AggNode) node, required);
+        }
+
+        if (node instanceof JoinNode) {
+            return pruneJoin((JoinNode) node, required);
+        }
+
+        return node;
+    }
+
+    private PlanNode pruneAddColumns(AddColumnsNode add, Set<String> required) {
+
+        PlanNode input = add.getInput();
+        Index inputColumns = input.getColumns();
+        Index columns = add.getColumns();
+
+        Exp<?>[] exps = add.getExps();
+        int inputWidth = inputColumns.size();
+        List<Exp<?>> kept = new ArrayList<>();
+        List<String> keptLabels = new ArrayList<>();
+
+        for (int i = 0; i < exps.length; i++) {
+            String label = columns.getLabel(inputWidth + i);
+            if (required.contains(label)) {
+                kept.add(exps[i]);
+                keptLabels.add(label);
+            }
+        }
+
+        Set<String> requiredInput = new HashSet<>();
+        for (String label : required) {
+            if (inputColumns.hasLabel(label) && !keptLabels.contains(label)) {
+                requiredInput.add(label);
+            }
+        }
+
+        if (kept.isEmpty()) {
+            return prune(input, requiredInput);
+        }
+
+        Exp<?>[] keptExps = kept.toArray(new Exp[0]);
+        PlanNode prunedInput = prune(input, union(input, requiredInput, ColumnUsage.of(input.empty(), keptExps)));
+
+        // removing input columns may change the deduplicated labels of the added columns
+        List<String> labels = new ArrayList<>();
+        for (String l : prunedInput.getColumns()) {
+            labels.add(l);
+        }
+        labels.addAll(keptLabels);
+
+        return relabel(new AddColumnsNode(prunedInput, keptExps), labels.toArray(new String[0]));
+    }
+
+    private PlanNode pruneAgg(AggNode agg, Set<String> required) {
+
+        PlanNode input = agg.getInput();
+        Index columns = agg.getColumns();
+        Exp<?>[] aggregators = agg.getAggregators();
+
+        List<Exp<?>> kept = new ArrayList<>();
+        List<String> keptLabels = new ArrayList<>();
+        for (int i = 0; i < aggregators.length; i++) {
+            String label = columns.getLabel(i);
+            if (required.contains(label)) {
+                kept.add(aggregators[i]);
+                keptLabels.add(label);
+            }
+        }
+
+        // keep at least one column, so that the height of the result is preserved
+        if (kept.isEmpty()) {
+            kept.add(aggregators[0]);
+            keptLabels.add(columns.getLabel(0));
+        }
+
+        Exp<?>[] keptExps = kept.toArray(new Exp[0]);
+        Set<String> requiredInput = union(input, toSet(agg.getGroupColumns()), ColumnUsage.of(input.empty(), keptExps));
+        PlanNode pruned = new AggNode(prune(input, requiredInput), agg.getGroupColumns(), keptExps);
+
+        // removing aggregators may change the deduplicated labels of the remaining ones
+        String[] labels = keptLabels.toArray(new String[0]);
+        return relabel(pruned, labels);
+    }
+
+    private PlanNode pruneJoin(JoinNode join, Set<String> required) {
+
+        Index columns = join.getColumns();
+        Index leftColumns = join.getLeft().getColumns();
+        Index rightColumns = join.getRight().getColumns();
+        int wl = leftColumns.size();
+
+        Set<String> requiredLeft = new HashSet<>();
+        Set<String> requiredRight = new HashSet<>();
+        requiredLeft.add(join.getLeftColumn());
+        requiredRight.add(join.getRightColumn());
+
+        for (String label : required) {
+            int pos = columns.position(label);
+            if (pos < wl) {
+                requiredLeft.add(leftColumns.getLabel(pos));
+            } else {
+                requiredRight.add(rightColumns.getLabel(pos - wl));
+            }
+        }
+
+        PlanNode left = prune(join.getLeft(), requiredLeft);
+        PlanNode right = prune(join.getRight(), requiredRight);
+        PlanNode pruned = join.withInputs(left, right);
+
+        // restore the labels of the original join, that may have changed if the columns with duplicate labels were
+        // removed from the inputs
+        Index prunedLeftColumns = left.getColumns();
+        Index prunedRightColumns = right.getColumns();
+        int plw = prunedLeftColumns.size();
+        int prw = prunedRightColumns.size();
+
+        String[] labels = new String[plw + prw];
+        for (int i = 0; i < plw; i++) {
+            labels[i] = columns.getLabel(leftColumns.position(prunedLeftColumns.getLabel(i)));
+        }
+
+        for (int i = 0; i < prw; i++) {
+            labels[plw + i] = columns.getLabel(wl + rightColumns.position(prunedRightColumns.getLabel(i)));
+        }
+
+        return relabel(pruned, labels);
+    }
+
+    private static PlanNode relabel(PlanNode node, String[] labels) {
+        Index columns = node.getColumns();
+        return columns.equals(Index.forLabels(labels)) ? node : new RelabelNode(node, labels);
+    }
+
+    private static PlanNode filter(PlanNode input, List<Condition> conditions) {
+        return conditions.isEmpty()
+                ? input
+                : new FilterNode(input, conditions.toArray(new Condition[0]));
+    }
+
+    private static ColumnUsage usage(PlanNode filterInput, Condition condition) {
+        return ColumnUsage.of(filterInput.empty(), condition);
+    }
+
+    // "required" plus the columns referenced by the expressions, or all input columns if the references are unknown
+    private static Set<String> union(PlanNode input, Set<String> required, ColumnUsage usage) {
+
+        if (!usage.isKnown()) {
+            return toSet(input.getColumns().getLabels());
+        }
+
+        Set<String> union = new HashSet<>(required);
+        union.addAll(usage.getLabels());
+        return union;
+    }
+
+    private static boolean allIn(Collection<String> labels, Index index) {
+        for (String l : labels) {
+            if (!index.hasLabel(l)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // checks that the join output labels are from one side of the join and are not renamed
+    private static boolean sameLabels(Collection<String> labels, Index joinColumns, Index sideColumns, int offset) {
+
+        int w = sideColumns.size();
+        for (String l : labels) {
+            int pos = joinColumns.position(l) - offset;
+            if (pos < 0 || pos >= w || !l.equals(sideColumns.getLabel(pos))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static String[] ordered(Index columns, Set<String> labels) {
+        List<String> ordered = new ArrayList<>(labels.size());
+        for (String l : columns) {
+            if (labels.contains(l)) {
+                ordered.add(l);
+            }
+        }
+
+        return ordered.toArray(new String[0]);
+    }
+
+    private static Set<String> toSet(String[] labels) {
+        Set<String> set = new LinkedHashSet<>();
+        for (String l : labels) {
+            set.add(l);
+        }
+        return set;
+    }
+
+    private static List<Condition> toList(Condition[] conditions) {
+        List<Condition> list = new ArrayList<>(conditions.length);
+        for (Condition c : conditions) {
+            list.add(c);
+        }
+        return list;
+    }
+
+    private static Condition[] concat(Condition[] c1, Condition[] c2) {
+        Condition[] concat = new Condition[c1.length + c2.length];
+        System.arraycopy(c1, 0, concat, 0, c1.length);
+        System.arraycopy(c2, 0, concat, c1.length, c2.length);
+        return concat;
+    }
+}
@@ -0,0 +1,38 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Index;
+
+/**
+ * A "selectColumns" plan node.
+ *
+ * @since 0.11
+ */
+class ProjectNode extends UnaryNode {
+
+    private final String[] labels;
+
+    ProjectNode(PlanNode input, String... labels) {
+        super(input);
+        this.labels = labels;
+    }
+
+    String[] getLabels() {
+        return labels;
+    }
+
+    @Override
+    PlanNode withInput(PlanNode input) {
+        return new ProjectNode(input, labels);
+    }
+
+    @Override
+    protected DataFrame execute(DataFrame input) {
+        return input.selectColumns(Index.forLabels(labels));
+    }
+
+    @Override
+    protected String describe() {
+        return "Project [" + String.join(", ", labels) + "]";
+    }
+}
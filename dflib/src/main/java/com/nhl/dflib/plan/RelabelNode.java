@@ -0,0 +1,34 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.DataFrame;
+
+/**
+ * A plan node that renames all input columns. Used by the optimizer to restore the original column labels when
+ * pruning columns changes labels produced by the operators that deduplicate them (e.g. joins).
+ *
+ * @since 0.11
+ */
+class RelabelNode extends UnaryNode {
+
+    private final String[] labels;
+
+    RelabelNode(PlanNode input, String... labels) {
+        super(input);
+        this.labels = labels;
+    }
+
+    @Override
+    PlanNode withInput(PlanNode input) {
+        return new RelabelNode(input, labels);
+    }
+
+    @Override
+    protected DataFrame execute(DataFrame input) {
+        return input.renameColumns(labels);
+    }
+
+    @Override
+    protected String describe() {
+        return "Relabel [" + String.join(", ", labels) + "]";
+    }
+}
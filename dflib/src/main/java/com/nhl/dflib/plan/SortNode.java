@@ -0,0 +1,51 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Sorter;
+import com.nhl.dflib.exp.sort.ExpSorter;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * A "sort" plan node.
+ *
+ * @since 0.11
+ */
+class SortNode extends UnaryNode {
+
+    private final Sorter[] sorters;
+
+    SortNode(PlanNode input, Sorter... sorters) {
+        super(input);
+        this.sorters = sorters;
+    }
+
+    Sorter[] getSorters() {
+        return sorters;
+    }
+
+    @Override
+    PlanNode withInput(PlanNode input) {
+        return new SortNode(input, sorters);
+    }
+
+    @Override
+    protected DataFrame execute(DataFrame input) {
+        return input.sort(sorters);
+    }
+
+    @Override
+    protected String describe() {
+        return "Sort [" + Arrays.stream(sorters).map(SortNode::describe).collect(Collectors.joining(", ")) + "]";
+    }
+
+    private static String describe(Sorter sorter) {
+        if (sorter instanceof ExpSorter) {
+            ExpSorter es = (ExpSorter) sorter;
+            return es.getExp().toQL() + (es.isAscending() ? " asc" : " desc");
+        }
+
+        return sorter.toString();
+    }
+}
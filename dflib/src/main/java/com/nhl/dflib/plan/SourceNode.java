@@ -0,0 +1,47 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.DataFrame;
+
+/**
+ * A leaf plan node wrapping a DataFrame.
+ *
+ * @since 0.11
+ */
+class SourceNode extends PlanNode {
+
+    private final DataFrame dataFrame;
+
+    SourceNode(DataFrame dataFrame) {
+        this.dataFrame = dataFrame;
+    }
+
+    @Override
+    PlanNode[] getInputs() {
+        return new PlanNode[0];
+    }
+
+    @Override
+    PlanNode withInputs(PlanNode... inputs) {
+        return this;
+    }
+
+    @Override
+    DataFrame execute() {
+        return dataFrame;
+    }
+
+    @Override
+    protected DataFrame execute(DataFrame... inputs) {
+        return dataFrame;
+    }
+
+    @Override
+    DataFrame empty() {
+        return dataFrame.head(0);
+    }
+
+    @Override
+    protected String describe() {
+        return "Source [" + String.join(", ", dataFrame.getColumnsIndex().getLabels()) + "]";
+    }
+}
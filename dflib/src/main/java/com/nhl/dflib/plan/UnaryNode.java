@@ -0,0 +1,38 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.DataFrame;
+
+/**
+ * @since 0.11
+ */
+abstract class UnaryNode extends PlanNode {
+
+    protected final PlanNode input;
+
+    protected UnaryNode(PlanNode input) {
+        this.input = input;
+    }
+
+    PlanNode getInput() {
+        return input;
+    }
+
+    abstract PlanNode withInput(PlanNode input);
+
+    protected abstract DataFrame execute(DataFrame input);
+
+    @Override
+    PlanNode[] getInputs() {
+        return new PlanNode[]{input};
+    }
+
+    @Override
+    PlanNode withInputs(PlanNode... inputs) {
+        return withInput(inputs[0]);
+    }
+
+    @Override
+    protected DataFrame execute(DataFrame... inputs) {
+        return execute(inputs[0]);
+    }
+}
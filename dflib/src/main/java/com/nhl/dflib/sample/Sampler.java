@@ -1,20 +1,23 @@
 package com.nhl.dflib.sample;
 
 import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.collection.IntHashSet;
+import com.nhl.dflib.series.IntArraySeries;
 
-import java.security.SecureRandom;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
 
 /**
- * An object that provides random sampling facilities to DFLib. By default uses {@link SecureRandom} that may create
- * contention in multi-threaded environments. If this becomes a problem, use the variants of Sampler methods that take
- * a custom Random.
+ * An object that provides random sampling facilities to DFLib. By default uses a Random that delegates to
+ * {@link java.util.concurrent.ThreadLocalRandom}, so it is fast and doesn't create contention in multi-threaded
+ * environments. Use the variants of Sampler methods that take a custom Random to get reproducible samples.
  *
  * @since 0.7
  */
 public class Sampler {
 
-    private static Random defaultRandom = new SecureRandom();
+    private static Random defaultRandom = new ThreadLocalRandomAdapter();
 
     public static Random getDefaultRandom() {
         return defaultRandom;
@@ -24,15 +27,81 @@ public class Sampler {
         return sampleIndex(sampleSize, originalSize, defaultRandom);
     }
 
+    /**
+     * Returns a random sample of positions in the [0, originalSize) range, in random order. Small samples are
+     * selected with Floyd's algorithm, that needs O(sampleSize) memory and random draws regardless of the original
+     * size. Samples that are a large fraction of the original size are produced by shuffling the entire range.
+     */
     public static IntSeries sampleIndex(int sampleSize, int originalSize, Random random) {
 
         if (sampleSize > originalSize) {
             throw new IllegalArgumentException("Sample size must not be higher than the original size");
         }
 
-        int[] data = intSequence(originalSize);
+        if (sampleSize * 4L >= originalSize) {
+            int[] data = intSequence(originalSize);
+            shuffle(data, random);
+            return IntSeries.forInts(data).headInt(sampleSize);
+        }
+
+        int[] data = floydSample(sampleSize, originalSize, random);
         shuffle(data, random);
-        return IntSeries.forInts(data).headInt(sampleSize);
+        return new IntArraySeries(data);
+    }
+
+    /**
+     * Returns random samples of positions for each of the provided range sizes. Each sample is calculated with its
+     * own Random derived from the seed, so the result is reproducible regardless of whether the samples are
+     * calculated in parallel or not. Samples for the ranges smaller than the sample size include the entire range.
+     *
+     * @since 0.11
+     */
+    public static IntSeries[] sampleIndices(int sampleSize, int[] originalSizes, long seed, boolean parallel) {
+
+        int len = originalSizes.length;
+
+        // deriving per-range seeds sequentially, before any parallel processing
+        SplittableRandom seeds = new SplittableRandom(seed);
+        long[] rangeSeeds = new long[len];
+        for (int i = 0; i < len; i++) {
+            rangeSeeds[i] = seeds.nextLong();
+        }
+
+        IntSeries[] samples = new IntSeries[len];
+
+        IntStream range = IntStream.range(0, len);
+        if (parallel) {
+            range = range.parallel();
+        }
+
+        range.forEach(i -> samples[i] = sampleIndex(
+                Math.min(sampleSize, originalSizes[i]),
+                originalSizes[i],
+                new Random(rangeSeeds[i])));
+
+        return samples;
+    }
+
+    // Floyd's algorithm: draws exactly "sampleSize" random numbers, producing a uniformly random subset
+    private static int[] floydSample(int sampleSize, int originalSize, Random random) {
+
+        IntHashSet seen = new IntHashSet(sampleSize);
+        int[] data = new int[sampleSize];
+        int i = 0;
+
+        for (int j = originalSize - sampleSize; j < originalSize; j++) {
+            int t = random.nextInt(j + 1);
+
+            // "j" is guaranteed to be unseen, as all the previous draws were smaller
+            if (!seen.add(t)) {
+                t = j;
+                seen.add(j);
+            }
+
+            data[i++] = t;
+        }
+
+        return data;
     }
 
     private static int[] intSequence(int size) {
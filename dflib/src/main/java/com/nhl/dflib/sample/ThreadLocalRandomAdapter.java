@@ -0,0 +1,50 @@
+package com.nhl.dflib.sample;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A {@link Random} that delegates to the {@link ThreadLocalRandom} of the calling thread. Unlike a shared Random or
+ * SecureRandom, it can be used by multiple threads without contention. Can't be seeded.
+ *
+ * @since 0.11
+ */
+class ThreadLocalRandomAdapter extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        // ignore, as this Random has no seed of its own. Note that this is also called from the superclass constructor
+    }
+
+    @Override
+    protected int next(int bits) {
+        return ThreadLocalRandom.current().nextInt() >>> (32 - bits);
+    }
+
+    @Override
+    public int nextInt() {
+        return ThreadLocalRandom.current().nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return ThreadLocalRandom.current().nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return ThreadLocalRandom.current().nextBoolean();
+    }
+}
@@ -0,0 +1,236 @@
+package com.nhl.dflib.select;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.accumulator.IntAccumulator;
+import com.nhl.dflib.series.IntArraySeries;
+import com.nhl.dflib.sort.DataFrameSorter;
+
+import java.util.BitSet;
+
+/**
+ * A sorted index of a DataFrame column that answers point and range lookups with a binary search instead of a
+ * full column scan. Built once with {@link DataFrame#indexBy(String)} and reused for any number of lookups. Lookup
+ * methods return row positions that can be passed to {@link DataFrame#selectRows(IntSeries)}. The positions are in
+ * the order of the index keys, with rows that have equal keys in their original order. Keys are compared using
+ * their natural ordering, so e.g. <code>BigDecimal</code> "1.0" and "1.00" are treated as equal. Floating point keys
+ * are compared the same way as by the numeric expressions, i.e. -0.0 is equal to 0.0. Null and NaN keys never match
+ * any lookup, and neither do lookups of null or NaN values.
+ *
+ * @since 0.11
+ */
+public class ColumnIndex<T> {
+
+    private final int[] positions;
+    private final Series<T> keys;
+    private final KeyComparator comparator;
+    // the number of keys that can match lookups. NaNs and nulls are sorted last, and are excluded
+    private final int searchSize;
+
+    public ColumnIndex(DataFrame dataFrame, int column) {
+
+        Series<T> columnData = dataFrame.getColumn(column);
+
+        IntSeries sortIndex = new DataFrameSorter(dataFrame)
+                .sortIndex(new Series[]{columnData}, new boolean[]{true});
+
+        this.positions = sortIndex.toIntArray();
+        this.keys = columnData.select(sortIndex).materialize();
+        this.keys.getStats().markSortedAscending();
+
+        // nulls are sorted last
+        this.searchSize = searchSize(keys, keys.size() - columnData.getStats().getNullCount());
+        this.comparator = createComparator(keys);
+    }
+
+    // NaNs are sorted after all other non-null values
+    private static int searchSize(Series<?> keys, int nonNullSize) {
+
+        int size = nonNullSize;
+        if (keys instanceof DoubleSeries) {
+            DoubleSeries doubles = (DoubleSeries) keys;
+            while (size > 0 && Double.isNaN(doubles.getDouble(size - 1))) {
+                size--;
+            }
+        } else {
+            while (size > 0 && isNaN(keys.get(size - 1))) {
+                size--;
+            }
+        }
+
+        return size;
+    }
+
+    private static boolean isNaN(Object value) {
+        return (value instanceof Double && ((Double) value).isNaN())
+                || (value instanceof Float && ((Float) value).isNaN());
+    }
+
+    // returns false for the values that can't match any keys
+    private static boolean isSearchable(Object value) {
+        return value != null && !isNaN(value);
+    }
+
+    private static KeyComparator createComparator(Series<?> keys) {
+
+        if (keys instanceof IntSeries) {
+            IntSeries ints = (IntSeries) keys;
+            return (i, v) -> v instanceof Integer
+                    ? Integer.compare(ints.getInt(i), (Integer) v)
+                    : compareObjects(ints.get(i), v);
+        } else if (keys instanceof LongSeries) {
+            LongSeries longs = (LongSeries) keys;
+            return (i, v) -> v instanceof Long
+                    ? Long.compare(longs.getLong(i), (Long) v)
+                    : compareObjects(longs.get(i), v);
+        } else if (keys instanceof DoubleSeries) {
+            DoubleSeries doubles = (DoubleSeries) keys;
+            return (i, v) -> v instanceof Double
+                    ? compareDoubles(doubles.getDouble(i), (Double) v)
+                    : compareObjects(doubles.get(i), v);
+        }
+
+        return (i, v) -> compareObjects(keys.get(i), v);
+    }
+
+    private static int compareObjects(Object key, Object value) {
+
+        if (key instanceof Double && value instanceof Double) {
+            return compareDoubles((Double) key, (Double) value);
+        }
+
+        if (key instanceof Float && value instanceof Float) {
+            return compareDoubles((Float) key, (Float) value);
+        }
+
+        return ((Comparable) key).compareTo(value);
+    }
+
+    // unlike Double.compare(..), treats -0.0 and 0.0 as equal. NaNs are never compared, as they are not searchable
+    private static int compareDoubles(double key, double value) {
+        return key < value ? -1 : (key > value ? 1 : 0);
+    }
+
+    /**
+     * Returns the number of indexed rows.
+     */
+    public int size() {
+        return positions.length;
+    }
+
+    /**
+     * Returns positions of the rows with the key equal to the value.
+     */
+    public IntSeries eq(T value) {
+        return isSearchable(value) ? range(lowerBound(value), upperBound(value)) : empty();
+    }
+
+    /**
+     * Returns positions of the rows with the key equal to any of the values. Rows are grouped in the order of the
+     * values.
+     */
+    public IntSeries in(T... values) {
+
+        IntAccumulator accum = new IntAccumulator();
+
+        // skipping duplicate values, so that the rows are not duplicated. Values are compared the same way as the keys
+        // (e.g. -0.0 is equal to 0.0), so the duplicates are detected by the start of their range
+        BitSet seen = new BitSet();
+        for (T v : values) {
+            if (isSearchable(v)) {
+                int from = lowerBound(v);
+                int to = upperBound(v);
+
+                // only marking non-empty ranges, as a missing value has the same start as the next present value
+                if (from < to && !seen.get(from)) {
+                    seen.set(from);
+                    for (int i = from; i < to; i++) {
+                        accum.addInt(positions[i]);
+                    }
+                }
+            }
+        }
+
+        return accum.toSeries();
+    }
+
+    /**
+     * Returns positions of the rows with the key between the two values, inclusive of both ends.
+     */
+    public IntSeries between(T from, T to) {
+
+        if (!isSearchable(from) || !isSearchable(to)) {
+            return empty();
+        }
+
+        int start = lowerBound(from);
+        int end = upperBound(to);
+        return start < end ? range(start, end) : empty();
+    }
+
+    public IntSeries lt(T value) {
+        return isSearchable(value) ? range(0, lowerBound(value)) : empty();
+    }
+
+    public IntSeries le(T value) {
+        return isSearchable(value) ? range(0, upperBound(value)) : empty();
+    }
+
+    public IntSeries gt(T value) {
+        return isSearchable(value) ? range(upperBound(value), searchSize) : empty();
+    }
+
+    public IntSeries ge(T value) {
+        return isSearchable(value) ? range(lowerBound(value), searchSize) : empty();
+    }
+
+    private IntSeries range(int from, int to) {
+        return new IntArraySeries(positions, from, to - from);
+    }
+
+    private IntSeries empty() {
+        return new IntArraySeries();
+    }
+
+    // returns the first position of a key that is not less than the value
+    private int lowerBound(Object value) {
+        int lo = 0;
+        int hi = searchSize;
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(mid, value) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+    // returns the first position of a key that is greater than the value
+    private int upperBound(Object value) {
+        int lo = 0;
+        int hi = searchSize;
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(mid, value) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+    @FunctionalInterface
+    private interface KeyComparator {
+        int compare(int keyPosition, Object value);
+    }
+}
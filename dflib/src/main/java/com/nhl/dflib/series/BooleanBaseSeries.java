@@ -19,6 +19,19 @@ import java.util.Random;
  */
 public abstract class BooleanBaseSeries implements BooleanSeries {
 
+    private SeriesStats<Boolean> stats;
+
+    /**
+     * @since 0.11
+     */
+    @Override
+    public SeriesStats<Boolean> getStats() {
+
+        // racy lazy init is fine here, as the stats would be recalculated at worst
+        SeriesStats<Boolean> stats = this.stats;
+        return stats != null ? stats : (this.stats = new SeriesStats<>(this));
+    }
+
     @Override
     public <V> Series<V> map(ValueMapper<Boolean, V> mapper) {
         return new ColumnMappedSeries<>(this, mapper);
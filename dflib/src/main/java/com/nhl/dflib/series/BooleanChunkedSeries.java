@@ -0,0 +1,131 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+
+/**
+ * A primitive variant of {@link ChunkedSeries} made of BooleanSeries chunks.
+ *
+ * @since 0.11
+ */
+public class BooleanChunkedSeries extends BooleanBaseSeries {
+
+    private final BooleanSeries[] chunks;
+    private final ChunkIndex index;
+
+    protected BooleanChunkedSeries(BooleanSeries[] chunks) {
+        this.chunks = chunks;
+        this.index = new ChunkIndex(chunks);
+    }
+
+    BooleanSeries[] getChunks() {
+        return chunks;
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public boolean getBoolean(int i) {
+        int c = index.chunk(i);
+        return chunks[c].getBoolean(i - index.offset(c));
+    }
+
+    @Override
+    public void copyToBoolean(boolean[] to, int fromOffset, int toOffset, int len) {
+
+        index.checkRange(fromOffset, len);
+        if (len == 0) {
+            return;
+        }
+
+        int c = index.chunk(fromOffset);
+        int from = fromOffset - index.offset(c);
+
+        while (len > 0) {
+            BooleanSeries chunk = chunks[c++];
+            int n = Math.min(len, chunk.size() - from);
+            chunk.copyToBoolean(to, from, toOffset, n);
+
+            toOffset += n;
+            len -= n;
+            from = 0;
+        }
+    }
+
+    @Override
+    public BooleanSeries materializeBoolean() {
+        int h = size();
+        boolean[] data = new boolean[h];
+        copyToBoolean(data, 0, 0, h);
+        return new BooleanArraySeries(data);
+    }
+
+    @Override
+    public BooleanSeries rangeOpenClosedBoolean(int fromInclusive, int toExclusive) {
+
+        if (fromInclusive == 0 && toExclusive == size()) {
+            return this;
+        }
+
+        index.checkRange(fromInclusive, toExclusive - fromInclusive);
+        if (fromInclusive == toExclusive) {
+            return new BooleanArraySeries();
+        }
+
+        int c0 = index.chunk(fromInclusive);
+        int c1 = index.chunk(toExclusive - 1);
+
+        BooleanSeries[] range = new BooleanSeries[c1 - c0 + 1];
+        for (int c = c0; c <= c1; c++) {
+            int offset = index.offset(c);
+            int from = Math.max(fromInclusive - offset, 0);
+            int to = Math.min(toExclusive - offset, chunks[c].size());
+            range[c - c0] = chunks[c].rangeOpenClosedBoolean(from, to);
+        }
+
+        return range.length == 1 ? range[0] : new BooleanChunkedSeries(range);
+    }
+
+    @Override
+    public BooleanSeries headBoolean(int len) {
+        return len < size() ? rangeOpenClosedBoolean(0, len) : this;
+    }
+
+    @Override
+    public BooleanSeries tailBoolean(int len) {
+        int size = size();
+        return len < size ? rangeOpenClosedBoolean(size - len, size) : this;
+    }
+
+    @Override
+    public int firstTrue() {
+        for (int c = 0; c < chunks.length; c++) {
+            int first = chunks[c].firstTrue();
+            if (first >= 0) {
+                return index.offset(c) + first;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int countTrue() {
+        int count = 0;
+        for (BooleanSeries c : chunks) {
+            count += c.countTrue();
+        }
+        return count;
+    }
+
+    @Override
+    public int countFalse() {
+        int count = 0;
+        for (BooleanSeries c : chunks) {
+            count += c.countFalse();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,63 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.Series;
+
+import java.util.Arrays;
+
+/**
+ * Maps positions of a chunked Series to the chunks, using an array of chunk start offsets. Remembers the last found
+ * chunk, so sequential access doesn't require a search.
+ *
+ * @since 0.11
+ */
+final class ChunkIndex {
+
+    private final int[] offsets;
+
+    // a benign race: the value is validated before use
+    private int lastChunk;
+
+    ChunkIndex(Series<?>[] chunks) {
+
+        int len = chunks.length;
+        this.offsets = new int[len + 1];
+
+        for (int i = 0; i < len; i++) {
+            offsets[i + 1] = offsets[i] + chunks[i].size();
+        }
+    }
+
+    int size() {
+        return offsets[offsets.length - 1];
+    }
+
+    int offset(int chunk) {
+        return offsets[chunk];
+    }
+
+    /**
+     * Returns the chunk containing the position. Chunks must be non-empty.
+     */
+    int chunk(int index) {
+
+        int c = lastChunk;
+        if (index >= offsets[c] && index < offsets[c + 1]) {
+            return c;
+        }
+
+        if (index < 0 || index >= size()) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        int pos = Arrays.binarySearch(offsets, index);
+        c = pos >= 0 ? pos : -pos - 2;
+        lastChunk = c;
+        return c;
+    }
+
+    void checkRange(int fromOffset, int len) {
+        if (fromOffset < 0 || len < 0 || fromOffset + len > size()) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+    }
+}
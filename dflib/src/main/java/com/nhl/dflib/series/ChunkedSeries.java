@@ -0,0 +1,305 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A Series made of a sequence of other Series ("chunks") without copying their data. Created by vertical
+ * concatenation of Series and DataFrames. There are primitive variants of this Series ({@link IntChunkedSeries},
+ * {@link LongChunkedSeries}, {@link DoubleChunkedSeries}, {@link BooleanChunkedSeries}) created when all the chunks
+ * are primitive Series of the same kind.
+ *
+ * @since 0.11
+ */
+public class ChunkedSeries<T> extends ObjectSeries<T> {
+
+    /**
+     * Runs of adjacent chunks shorter than this are copied into a single chunk, so that concatenating many small
+     * Series doesn't produce a fragmented result.
+     */
+    public static final int MIN_CHUNK_SIZE = 1024;
+
+    private final Series<T>[] chunks;
+    private final ChunkIndex index;
+
+    protected ChunkedSeries(Series<T>[] chunks) {
+        super(nominalType(chunks));
+        this.chunks = chunks;
+        this.index = new ChunkIndex(chunks);
+    }
+
+    /**
+     * Creates a Series that is a concatenation of the chunks. Nested chunked Series are flattened, empty Series are
+     * skipped, runs of short chunks are copied. Returns a primitive chunked Series if all the chunks are primitive
+     * Series of the same kind.
+     */
+    public static <T> Series<T> of(Series<? extends T>... chunks) {
+
+        List<Series<?>> flat = new ArrayList<>(chunks.length);
+        for (Series<?> c : chunks) {
+            flatten(c, flat);
+        }
+
+        List<Series<?>> coalesced = coalesce(flat);
+
+        switch (coalesced.size()) {
+            case 0:
+                return chunks.length > 0 ? (Series<T>) chunks[0] : new EmptySeries<>();
+            case 1:
+                return (Series<T>) coalesced.get(0);
+        }
+
+        Series[] array = coalesced.toArray(new Series[0]);
+
+        if (allOfType(array, IntSeries.class)) {
+            return (Series<T>) new IntChunkedSeries(toArray(coalesced, new IntSeries[0]));
+        } else if (allOfType(array, LongSeries.class)) {
+            return (Series<T>) new LongChunkedSeries(toArray(coalesced, new LongSeries[0]));
+        } else if (allOfType(array, DoubleSeries.class)) {
+            return (Series<T>) new DoubleChunkedSeries(toArray(coalesced, new DoubleSeries[0]));
+        } else if (allOfType(array, BooleanSeries.class)) {
+            return (Series<T>) new BooleanChunkedSeries(toArray(coalesced, new BooleanSeries[0]));
+        }
+
+        return new ChunkedSeries<>(array);
+    }
+
+    /**
+     * Returns true if the Series is one of the chunked Series implementations.
+     */
+    public static boolean isChunked(Series<?> s) {
+        return s instanceof ChunkedSeries
+                || s instanceof IntChunkedSeries
+                || s instanceof LongChunkedSeries
+                || s instanceof DoubleChunkedSeries
+                || s instanceof BooleanChunkedSeries;
+    }
+
+    private static void flatten(Series<?> s, List<Series<?>> flat) {
+
+        if (s.size() == 0) {
+            return;
+        }
+
+        Series<?>[] nested = chunksOf(s);
+        if (nested != null) {
+            for (Series<?> n : nested) {
+                flat.add(n);
+            }
+        } else {
+            flat.add(s);
+        }
+    }
+
+    static Series<?>[] chunksOf(Series<?> s) {
+        if (s instanceof ChunkedSeries) {
+            return ((ChunkedSeries<?>) s).chunks;
+        } else if (s instanceof IntChunkedSeries) {
+            return ((IntChunkedSeries) s).getChunks();
+        } else if (s instanceof LongChunkedSeries) {
+            return ((LongChunkedSeries) s).getChunks();
+        } else if (s instanceof DoubleChunkedSeries) {
+            return ((DoubleChunkedSeries) s).getChunks();
+        } else if (s instanceof BooleanChunkedSeries) {
+            return ((BooleanChunkedSeries) s).getChunks();
+        }
+
+        return null;
+    }
+
+    private static List<Series<?>> coalesce(List<Series<?>> chunks) {
+
+        int len = chunks.size();
+        List<Series<?>> coalesced = new ArrayList<>(len);
+
+        int i = 0;
+        while (i < len) {
+
+            int runEnd = i;
+            while (runEnd < len && chunks.get(runEnd).size() < MIN_CHUNK_SIZE) {
+                runEnd++;
+            }
+
+            if (runEnd - i > 1) {
+                coalesced.add(copy(chunks.subList(i, runEnd)));
+                i = runEnd;
+            } else {
+                coalesced.add(chunks.get(i));
+                i++;
+            }
+        }
+
+        return coalesced;
+    }
+
+    private static Series<?> copy(List<Series<?>> run) {
+
+        int h = 0;
+        for (Series<?> s : run) {
+            h += s.size();
+        }
+
+        Series[] array = run.toArray(new Series[0]);
+        int offset = 0;
+
+        if (allOfType(array, IntSeries.class)) {
+            int[] data = new int[h];
+            for (Series<?> s : run) {
+                ((IntSeries) s).copyToInt(data, 0, offset, s.size());
+                offset += s.size();
+            }
+            return new IntArraySeries(data);
+        } else if (allOfType(array, LongSeries.class)) {
+            long[] data = new long[h];
+            for (Series<?> s : run) {
+                ((LongSeries) s).copyToLong(data, 0, offset, s.size());
+                offset += s.size();
+            }
+            return new LongArraySeries(data);
+        } else if (allOfType(array, DoubleSeries.class)) {
+            double[] data = new double[h];
+            for (Series<?> s : run) {
+                ((DoubleSeries) s).copyToDouble(data, 0, offset, s.size());
+                offset += s.size();
+            }
+            return new DoubleArraySeries(data);
+        } else if (allOfType(array, BooleanSeries.class)) {
+            boolean[] data = new boolean[h];
+            for (Series<?> s : run) {
+                ((BooleanSeries) s).copyToBoolean(data, 0, offset, s.size());
+                offset += s.size();
+            }
+            return new BooleanArraySeries(data);
+        }
+
+        Object[] data = new Object[h];
+        for (Series<?> s : run) {
+            s.copyTo(data, 0, offset, s.size());
+            offset += s.size();
+        }
+
+        return new ArraySeries<>(data);
+    }
+
+    private static Class<?> nominalType(Series<?>[] chunks) {
+        Class<?> type = chunks[0].getNominalType();
+        for (Series<?> s : chunks) {
+            if (s.getNominalType() != type) {
+                return Object.class;
+            }
+        }
+
+        return type;
+    }
+
+    private static boolean allOfType(Series<?>[] chunks, Class<?> type) {
+        for (Series<?> s : chunks) {
+            if (!type.isInstance(s)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static <S> S[] toArray(List<Series<?>> chunks, S[] template) {
+        return chunks.toArray(template);
+    }
+
+    Series<T>[] getChunks() {
+        return chunks;
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public T get(int i) {
+        int c = index.chunk(i);
+        return chunks[c].get(i - index.offset(c));
+    }
+
+    @Override
+    public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
+
+        index.checkRange(fromOffset, len);
+        if (len == 0) {
+            return;
+        }
+
+        int c = index.chunk(fromOffset);
+        int from = fromOffset - index.offset(c);
+
+        while (len > 0) {
+            Series<T> chunk = chunks[c++];
+            int n = Math.min(len, chunk.size() - from);
+            chunk.copyTo(to, from, toOffset, n);
+
+            toOffset += n;
+            len -= n;
+            from = 0;
+        }
+    }
+
+    @Override
+    public Series<T> rangeOpenClosed(int fromInclusive, int toExclusive) {
+
+        if (fromInclusive == 0 && toExclusive == size()) {
+            return this;
+        }
+
+        index.checkRange(fromInclusive, toExclusive - fromInclusive);
+        if (fromInclusive == toExclusive) {
+            return new EmptySeries<>(getNominalType());
+        }
+
+        int c0 = index.chunk(fromInclusive);
+        int c1 = index.chunk(toExclusive - 1);
+
+        Series<T>[] range = new Series[c1 - c0 + 1];
+        for (int c = c0; c <= c1; c++) {
+            int offset = index.offset(c);
+            int from = Math.max(fromInclusive - offset, 0);
+            int to = Math.min(toExclusive - offset, chunks[c].size());
+            range[c - c0] = chunks[c].rangeOpenClosed(from, to);
+        }
+
+        return range.length == 1 ? range[0] : new ChunkedSeries<>(range);
+    }
+
+    @Override
+    public Series<T> materialize() {
+        int h = size();
+        Object[] data = new Object[h];
+        copyTo(data, 0, 0, h);
+        return new ArraySeries<>((T[]) data);
+    }
+
+    @Override
+    public Series<T> fillNulls(T value) {
+        return materialize().fillNulls(value);
+    }
+
+    @Override
+    public Series<T> fillNullsFromSeries(Series<? extends T> values) {
+        return materialize().fillNullsFromSeries(values);
+    }
+
+    @Override
+    public Series<T> fillNullsBackwards() {
+        return materialize().fillNullsBackwards();
+    }
+
+    @Override
+    public Series<T> fillNullsForward() {
+        return materialize().fillNullsForward();
+    }
+}
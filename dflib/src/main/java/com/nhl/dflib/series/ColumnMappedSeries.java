@@ -3,12 +3,17 @@ package com.nhl.dflib.series;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.ValueMapper;
 
+import java.util.BitSet;
+
 public class ColumnMappedSeries<S, T> extends ObjectSeries<T> {
 
     private Series<S> source;
     private ValueMapper<S, T> mapper;
     private Series<T> materialized;
 
+    // values calculated on demand before materialization. Guarded by "this"
+    private OnDemandValues<T> onDemand;
+
     public ColumnMappedSeries(Series<S> source, ValueMapper<S, T> mapper) {
         super(Object.class);
         this.source = source;
@@ -22,14 +27,58 @@ public class ColumnMappedSeries<S, T> extends ObjectSeries<T> {
 
     @Override
     public T get(int index) {
+
+        if (materialized == null) {
+            synchronized (this) {
+                if (materialized == null && onDemand().allowGet(index)) {
+
+                    if (index < 0 || index >= source.size()) {
+                        throw new ArrayIndexOutOfBoundsException(index);
+                    }
+
+                    return onDemand.get(index, this::calculate);
+                }
+            }
+        }
+
         return materialize().get(index);
     }
 
     @Override
     public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
+
+        if (materialized == null) {
+            synchronized (this) {
+                if (materialized == null && onDemand().allowCalculation(len)) {
+
+                    if (fromOffset < 0 || fromOffset + len > source.size()) {
+                        throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+                    }
+
+                    for (int i = 0; i < len; i++) {
+                        to[toOffset + i] = onDemand.get(fromOffset + i, this::calculate);
+                    }
+
+                    return;
+                }
+            }
+        }
+
         materialize().copyTo(to, fromOffset, toOffset, len);
     }
 
+    private OnDemandValues<T> onDemand() {
+        if (onDemand == null) {
+            onDemand = new OnDemandValues<>();
+        }
+
+        return onDemand;
+    }
+
+    private T calculate(int index) {
+        return mapper.map(source.get(index));
+    }
+
     @Override
     public Series<T> materialize() {
         if (materialized == null) {
@@ -46,13 +95,25 @@ public class ColumnMappedSeries<S, T> extends ObjectSeries<T> {
     protected ArraySeries<T> doMaterialize() {
         Object[] data = new Object[size()];
 
-        for(int i = 0; i < data.length; i++) {
-            data[i] = mapper.map(source.get(i));
+        if (onDemand != null) {
+
+            // reuse the values calculated on demand, so that they are not recalculated and don't change
+            BitSet calculated = onDemand.copyTo(data);
+            for (int i = 0; i < data.length; i++) {
+                if (!calculated.get(i)) {
+                    data[i] = mapper.map(source.get(i));
+                }
+            }
+        } else {
+            for (int i = 0; i < data.length; i++) {
+                data[i] = mapper.map(source.get(i));
+            }
         }
 
         // reset source reference, allowing to free up memory..
         source = null;
         mapper = null;
+        onDemand = null;
 
         return new ArraySeries<>((T[]) data);
     }
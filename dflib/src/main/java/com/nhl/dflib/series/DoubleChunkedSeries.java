@@ -0,0 +1,144 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.DoubleSeries;
+
+/**
+ * A primitive variant of {@link ChunkedSeries} made of DoubleSeries chunks.
+ *
+ * @since 0.11
+ */
+public class DoubleChunkedSeries extends DoubleBaseSeries {
+
+    private final DoubleSeries[] chunks;
+    private final ChunkIndex index;
+
+    protected DoubleChunkedSeries(DoubleSeries[] chunks) {
+        this.chunks = chunks;
+        this.index = new ChunkIndex(chunks);
+    }
+
+    DoubleSeries[] getChunks() {
+        return chunks;
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public double getDouble(int i) {
+        int c = index.chunk(i);
+        return chunks[c].getDouble(i - index.offset(c));
+    }
+
+    @Override
+    public void copyToDouble(double[] to, int fromOffset, int toOffset, int len) {
+
+        index.checkRange(fromOffset, len);
+        if (len == 0) {
+            return;
+        }
+
+        int c = index.chunk(fromOffset);
+        int from = fromOffset - index.offset(c);
+
+        while (len > 0) {
+            DoubleSeries chunk = chunks[c++];
+            int n = Math.min(len, chunk.size() - from);
+            chunk.copyToDouble(to, from, toOffset, n);
+
+            toOffset += n;
+            len -= n;
+            from = 0;
+        }
+    }
+
+    @Override
+    public DoubleSeries materializeDouble() {
+        int h = size();
+        double[] data = new double[h];
+        copyToDouble(data, 0, 0, h);
+        return new DoubleArraySeries(data);
+    }
+
+    @Override
+    public DoubleSeries rangeOpenClosedDouble(int fromInclusive, int toExclusive) {
+
+        if (fromInclusive == 0 && toExclusive == size()) {
+            return this;
+        }
+
+        index.checkRange(fromInclusive, toExclusive - fromInclusive);
+        if (fromInclusive == toExclusive) {
+            return new DoubleArraySeries();
+        }
+
+        int c0 = index.chunk(fromInclusive);
+        int c1 = index.chunk(toExclusive - 1);
+
+        DoubleSeries[] range = new DoubleSeries[c1 - c0 + 1];
+        for (int c = c0; c <= c1; c++) {
+            int offset = index.offset(c);
+            int from = Math.max(fromInclusive - offset, 0);
+            int to = Math.min(toExclusive - offset, chunks[c].size());
+            range[c - c0] = chunks[c].rangeOpenClosedDouble(from, to);
+        }
+
+        return range.length == 1 ? range[0] : new DoubleChunkedSeries(range);
+    }
+
+    @Override
+    public DoubleSeries headDouble(int len) {
+        return len < size() ? rangeOpenClosedDouble(0, len) : this;
+    }
+
+    @Override
+    public DoubleSeries tailDouble(int len) {
+        int size = size();
+        return len < size ? rangeOpenClosedDouble(size - len, size) : this;
+    }
+
+    @Override
+    public double max() {
+        double max = Double.NEGATIVE_INFINITY;
+        for (DoubleSeries c : chunks) {
+            double m = c.max();
+            if (m > max) {
+                max = m;
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public double min() {
+        double min = Double.POSITIVE_INFINITY;
+        for (DoubleSeries c : chunks) {
+            double m = c.min();
+            if (m < min) {
+                min = m;
+            }
+        }
+        return min;
+    }
+
+    @Override
+    public double sum() {
+        double sum = 0;
+        for (DoubleSeries c : chunks) {
+            sum += c.sum();
+        }
+        return sum;
+    }
+
+    @Override
+    public double avg() {
+        return sum() / (double) size();
+    }
+
+    @Override
+    public double median() {
+        return materializeDouble().median();
+    }
+}
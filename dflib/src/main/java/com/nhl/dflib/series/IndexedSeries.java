@@ -15,6 +15,11 @@ public class IndexedSeries<T> extends ObjectSeries<T> {
 
     private Series<T> materialized;
 
+    // a non-atomic counter of on-demand lookups. Its precision is not important. Unlike the mapped Series, the values
+    // are not stored, as a lookup in the source is cheap, and returns the same value when repeated during
+    // materialization (a lazy source keeps its own on-demand values)
+    private int randomAccesses;
+
     public IndexedSeries(Series<T> source, IntSeries includePositions) {
         super(source.getNominalType());
         this.source = Objects.requireNonNull(source);
@@ -26,14 +31,80 @@ public class IndexedSeries<T> extends ObjectSeries<T> {
         return includePositions != null ? includePositions.size() : materialized.size();
     }
 
+    @Override
+    public Series<T> select(IntSeries positions) {
+        return select(new RowSelector(positions));
+    }
+
+    /**
+     * Selects the values at the selector positions, composing them with this Series positions into a single index
+     * against the source, instead of creating a nested IndexedSeries.
+     *
+     * @since 0.11
+     */
+    public Series<T> select(RowSelector selector) {
+
+        Series<T> source;
+        IntSeries includePositions;
+        Series<T> materialized;
+
+        synchronized (this) {
+            source = this.source;
+            includePositions = this.includePositions;
+            materialized = this.materialized;
+        }
+
+        if (materialized != null) {
+            return materialized.select(selector.getPositions());
+        }
+
+        return new IndexedSeries<>(source, selector.composeWith(includePositions));
+    }
+
     @Override
     public T get(int index) {
-        return materialize().get(index);
+
+        Series<T> source = this.source;
+        IntSeries includePositions = this.includePositions;
+
+        if (source == null
+                || includePositions == null
+                || !MaterializationPolicy.allowRandomAccess(randomAccesses++, 1)) {
+            return materialize().get(index);
+        }
+
+        return get(source, includePositions, index);
     }
 
     @Override
     public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
-        materialize().copyTo(to, fromOffset, toOffset, len);
+
+        Series<T> source = this.source;
+        IntSeries includePositions = this.includePositions;
+
+        if (source == null
+                || includePositions == null
+                || !MaterializationPolicy.allowRandomAccess(randomAccesses, len)) {
+            materialize().copyTo(to, fromOffset, toOffset, len);
+            return;
+        }
+
+        randomAccesses += len;
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = get(source, includePositions, fromOffset + i);
+        }
+    }
+
+    private T get(Series<T> source, IntSeries includePositions, int index) {
+
+        if (index < 0 || index >= includePositions.size()) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        int position = includePositions.getInt(index);
+
+        // skipped positions (index < 0) are found in joins
+        return position < 0 ? null : source.get(position);
     }
 
     @Override
@@ -51,6 +122,11 @@ public class IndexedSeries<T> extends ObjectSeries<T> {
 
     protected ArraySeries doMaterialize() {
 
+        // compressed positions are decoded in bulk, instead of being accessed by rank
+        IntSeries includePositions = this.includePositions instanceof RowIdSeries
+                ? new IntArraySeries(this.includePositions.toIntArray())
+                : this.includePositions;
+
         int h = includePositions.size();
 
         Object[] data = new Object[h];
@@ -64,7 +140,7 @@ public class IndexedSeries<T> extends ObjectSeries<T> {
 
         // reset source reference, allowing to free up memory..
         source = null;
-        includePositions = null;
+        this.includePositions = null;
 
         return new ArraySeries(data);
     }
@@ -4,7 +4,7 @@ import com.nhl.dflib.*;
 import com.nhl.dflib.accumulator.BooleanAccumulator;
 import com.nhl.dflib.accumulator.IntAccumulator;
 import com.nhl.dflib.accumulator.ObjectAccumulator;
-import com.nhl.dflib.accumulator.UniqueIntAccumulator;
+import com.nhl.dflib.collection.IntHashSet;
 import com.nhl.dflib.concat.SeriesConcat;
 import com.nhl.dflib.groupby.SeriesGrouper;
 import com.nhl.dflib.map.Mapper;
@@ -25,6 +25,19 @@ import java.util.Random;
  */
 public abstract class IntBaseSeries implements IntSeries {
 
+    private SeriesStats<Integer> stats;
+
+    /**
+     * @since 0.11
+     */
+    @Override
+    public SeriesStats<Integer> getStats() {
+
+        // racy lazy init is fine here, as the stats would be recalculated at worst
+        SeriesStats<Integer> stats = this.stats;
+        return stats != null ? stats : (this.stats = new SeriesStats<>(this));
+    }
+
     @Override
     public Series<Integer> rangeOpenClosed(int fromInclusive, int toExclusive) {
         return rangeOpenClosedInt(fromInclusive, toExclusive);
@@ -128,14 +141,21 @@ public abstract class IntBaseSeries implements IntSeries {
 
     @Override
     public IntSeries sortInt() {
+
+        // checking the order is much cheaper than sorting
+        if (getStats().isSortedAscending()) {
+            return this;
+        }
+
         int size = size();
         int[] sorted = new int[size];
         copyToInt(sorted, 0, 0, size);
 
-        // TODO: use "parallelSort" ?
-        Arrays.sort(sorted);
+        Arrays.parallelSort(sorted);
 
-        return new IntArraySeries(sorted);
+        IntSeries result = new IntArraySeries(sorted);
+        result.getStats().markSortedAscending();
+        return result;
     }
 
     @Override
@@ -154,7 +174,7 @@ public abstract class IntBaseSeries implements IntSeries {
 
     @Override
     public IntSeries sortIndexInt() {
-        return doSortIndexInt((i1, i2) -> getInt(i1) - getInt(i2));
+        return new SeriesSorter<>(this).sortIndex(true);
     }
 
     @Override
@@ -485,21 +505,23 @@ public abstract class IntBaseSeries implements IntSeries {
     @Override
     public IntSeries uniqueInt() {
         int size = size();
-        if (size < 2) {
+        if (size < 2 || getStats().isKnownUnique()) {
             return this;
         }
 
-        IntAccumulator unique = new UniqueIntAccumulator();
+        IntHashSet unique = new IntHashSet();
         for (int i = 0; i < size; i++) {
-            unique.add(get(i));
+            unique.add(getInt(i));
         }
 
-        return unique.size() < size() ? unique.toSeries() : this;
+        IntSeries result = unique.size() < size ? unique.toSeries() : this;
+        result.getStats().markUnique();
+        return result;
     }
 
     @Override
     public DataFrame valueCounts() {
-        return ValueCounts.valueCountsNoNulls(this);
+        return ValueCounts.valueCountsInt(this);
     }
 
     // TODO: some optimized version of "primitive" group by ...
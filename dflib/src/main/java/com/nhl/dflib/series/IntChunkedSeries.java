@@ -0,0 +1,138 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.IntSeries;
+
+/**
+ * A primitive variant of {@link ChunkedSeries} made of IntSeries chunks.
+ *
+ * @since 0.11
+ */
+public class IntChunkedSeries extends IntBaseSeries {
+
+    private final IntSeries[] chunks;
+    private final ChunkIndex index;
+
+    protected IntChunkedSeries(IntSeries[] chunks) {
+        this.chunks = chunks;
+        this.index = new ChunkIndex(chunks);
+    }
+
+    IntSeries[] getChunks() {
+        return chunks;
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public int getInt(int i) {
+        int c = index.chunk(i);
+        return chunks[c].getInt(i - index.offset(c));
+    }
+
+    @Override
+    public void copyToInt(int[] to, int fromOffset, int toOffset, int len) {
+
+        index.checkRange(fromOffset, len);
+        if (len == 0) {
+            return;
+        }
+
+        int c = index.chunk(fromOffset);
+        int from = fromOffset - index.offset(c);
+
+        while (len > 0) {
+            IntSeries chunk = chunks[c++];
+            int n = Math.min(len, chunk.size() - from);
+            chunk.copyToInt(to, from, toOffset, n);
+
+            toOffset += n;
+            len -= n;
+            from = 0;
+        }
+    }
+
+    @Override
+    public IntSeries materializeInt() {
+        int h = size();
+        int[] data = new int[h];
+        copyToInt(data, 0, 0, h);
+        return new IntArraySeries(data);
+    }
+
+    @Override
+    public IntSeries rangeOpenClosedInt(int fromInclusive, int toExclusive) {
+
+        if (fromInclusive == 0 && toExclusive == size()) {
+            return this;
+        }
+
+        index.checkRange(fromInclusive, toExclusive - fromInclusive);
+        if (fromInclusive == toExclusive) {
+            return new IntArraySeries();
+        }
+
+        int c0 = index.chunk(fromInclusive);
+        int c1 = index.chunk(toExclusive - 1);
+
+        IntSeries[] range = new IntSeries[c1 - c0 + 1];
+        for (int c = c0; c <= c1; c++) {
+            int offset = index.offset(c);
+            int from = Math.max(fromInclusive - offset, 0);
+            int to = Math.min(toExclusive - offset, chunks[c].size());
+            range[c - c0] = chunks[c].rangeOpenClosedInt(from, to);
+        }
+
+        return range.length == 1 ? range[0] : new IntChunkedSeries(range);
+    }
+
+    @Override
+    public IntSeries headInt(int len) {
+        return len < size() ? rangeOpenClosedInt(0, len) : this;
+    }
+
+    @Override
+    public IntSeries tailInt(int len) {
+        int size = size();
+        return len < size ? rangeOpenClosedInt(size - len, size) : this;
+    }
+
+    @Override
+    public int max() {
+        int max = Integer.MIN_VALUE;
+        for (IntSeries c : chunks) {
+            max = Math.max(max, c.max());
+        }
+        return max;
+    }
+
+    @Override
+    public int min() {
+        int min = Integer.MAX_VALUE;
+        for (IntSeries c : chunks) {
+            min = Math.min(min, c.min());
+        }
+        return min;
+    }
+
+    @Override
+    public long sum() {
+        long sum = 0;
+        for (IntSeries c : chunks) {
+            sum += c.sum();
+        }
+        return sum;
+    }
+
+    @Override
+    public double avg() {
+        return sum() / (double) size();
+    }
+
+    @Override
+    public double median() {
+        return materializeInt().median();
+    }
+}
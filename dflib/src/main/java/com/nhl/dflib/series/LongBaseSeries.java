@@ -2,6 +2,7 @@ package com.nhl.dflib.series;
 
 import com.nhl.dflib.*;
 import com.nhl.dflib.accumulator.*;
+import com.nhl.dflib.collection.LongHashSet;
 import com.nhl.dflib.concat.SeriesConcat;
 import com.nhl.dflib.groupby.SeriesGrouper;
 import com.nhl.dflib.map.Mapper;
@@ -18,6 +19,19 @@ import java.util.Random;
  */
 public abstract class LongBaseSeries implements LongSeries {
 
+    private SeriesStats<Long> stats;
+
+    /**
+     * @since 0.11
+     */
+    @Override
+    public SeriesStats<Long> getStats() {
+
+        // racy lazy init is fine here, as the stats would be recalculated at worst
+        SeriesStats<Long> stats = this.stats;
+        return stats != null ? stats : (this.stats = new SeriesStats<>(this));
+    }
+
     @Override
     public <V> Series<V> map(ValueMapper<Long, V> mapper) {
         return new ColumnMappedSeries<>(this, mapper);
@@ -113,14 +127,21 @@ public abstract class LongBaseSeries implements LongSeries {
 
     @Override
     public LongSeries sortLong() {
+
+        // checking the order is much cheaper than sorting
+        if (getStats().isSortedAscending()) {
+            return this;
+        }
+
         int size = size();
         long[] sorted = new long[size];
         copyToLong(sorted, 0, 0, size);
 
-        // TODO: use "parallelSort" ?
-        Arrays.sort(sorted);
+        Arrays.parallelSort(sorted);
 
-        return new LongArraySeries(sorted);
+        LongSeries result = new LongArraySeries(sorted);
+        result.getStats().markSortedAscending();
+        return result;
     }
 
     @Override
@@ -447,21 +468,23 @@ public abstract class LongBaseSeries implements LongSeries {
     @Override
     public LongSeries uniqueLong() {
         int size = size();
-        if (size < 2) {
+        if (size < 2 || getStats().isKnownUnique()) {
             return this;
         }
 
-        LongAccumulator unique = new UniqueLongAccumulator();
+        LongHashSet unique = new LongHashSet();
         for (int i = 0; i < size; i++) {
-            unique.add(get(i));
+            unique.add(getLong(i));
         }
 
-        return unique.size() < size() ? unique.toSeries() : this;
+        LongSeries result = unique.size() < size ? unique.toSeries() : this;
+        result.getStats().markUnique();
+        return result;
     }
 
     @Override
     public DataFrame valueCounts() {
-        return ValueCounts.valueCountsNoNulls(this);
+        return ValueCounts.valueCountsLong(this);
     }
 
     // TODO: some optimized version of "primitive" group by ...
@@ -0,0 +1,138 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.LongSeries;
+
+/**
+ * A primitive variant of {@link ChunkedSeries} made of LongSeries chunks.
+ *
+ * @since 0.11
+ */
+public class LongChunkedSeries extends LongBaseSeries {
+
+    private final LongSeries[] chunks;
+    private final ChunkIndex index;
+
+    protected LongChunkedSeries(LongSeries[] chunks) {
+        this.chunks = chunks;
+        this.index = new ChunkIndex(chunks);
+    }
+
+    LongSeries[] getChunks() {
+        return chunks;
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public long getLong(int i) {
+        int c = index.chunk(i);
+        return chunks[c].getLong(i - index.offset(c));
+    }
+
+    @Override
+    public void copyToLong(long[] to, int fromOffset, int toOffset, int len) {
+
+        index.checkRange(fromOffset, len);
+        if (len == 0) {
+            return;
+        }
+
+        int c = index.chunk(fromOffset);
+        int from = fromOffset - index.offset(c);
+
+        while (len > 0) {
+            LongSeries chunk = chunks[c++];
+            int n = Math.min(len, chunk.size() - from);
+            chunk.copyToLong(to, from, toOffset, n);
+
+            toOffset += n;
+            len -= n;
+            from = 0;
+        }
+    }
+
+    @Override
+    public LongSeries materializeLong() {
+        int h = size();
+        long[] data = new long[h];
+        copyToLong(data, 0, 0, h);
+        return new LongArraySeries(data);
+    }
+
+    @Override
+    public LongSeries rangeOpenClosedLong(int fromInclusive, int toExclusive) {
+
+        if (fromInclusive == 0 && toExclusive == size()) {
+            return this;
+        }
+
+        index.checkRange(fromInclusive, toExclusive - fromInclusive);
+        if (fromInclusive == toExclusive) {
+            return new LongArraySeries();
+        }
+
+        int c0 = index.chunk(fromInclusive);
+        int c1 = index.chunk(toExclusive - 1);
+
+        LongSeries[] range = new LongSeries[c1 - c0 + 1];
+        for (int c = c0; c <= c1; c++) {
+            int offset = index.offset(c);
+            int from = Math.max(fromInclusive - offset, 0);
+            int to = Math.min(toExclusive - offset, chunks[c].size());
+            range[c - c0] = chunks[c].rangeOpenClosedLong(from, to);
+        }
+
+        return range.length == 1 ? range[0] : new LongChunkedSeries(range);
+    }
+
+    @Override
+    public LongSeries headLong(int len) {
+        return len < size() ? rangeOpenClosedLong(0, len) : this;
+    }
+
+    @Override
+    public LongSeries tailLong(int len) {
+        int size = size();
+        return len < size ? rangeOpenClosedLong(size - len, size) : this;
+    }
+
+    @Override
+    public long max() {
+        long max = Long.MIN_VALUE;
+        for (LongSeries c : chunks) {
+            max = Math.max(max, c.max());
+        }
+        return max;
+    }
+
+    @Override
+    public long min() {
+        long min = Long.MAX_VALUE;
+        for (LongSeries c : chunks) {
+            min = Math.min(min, c.min());
+        }
+        return min;
+    }
+
+    @Override
+    public long sum() {
+        long sum = 0;
+        for (LongSeries c : chunks) {
+            sum += c.sum();
+        }
+        return sum;
+    }
+
+    @Override
+    public double avg() {
+        return sum() / (double) size();
+    }
+
+    @Override
+    public double median() {
+        return materializeLong().median();
+    }
+}
@@ -0,0 +1,35 @@
+package com.nhl.dflib.series;
+
+/**
+ * Controls how lazy Series ({@link IndexedSeries}, {@link ColumnMappedSeries}, {@link RowMappedSeries}) respond to
+ * random access. Individual values requested via "get" are calculated on demand, without materializing the whole
+ * Series, until the number of such values exceeds the "random access threshold". After that the Series is
+ * materialized, and all further reads are done from the materialized data. This makes previews of large derived
+ * DataFrames (printing, "head", "first" aggregates) proportional to the number of the values shown, not to the size
+ * of the data.
+ *
+ * <p>The threshold is read once on startup from the "dflib.randomAccessThreshold" system property, defaulting to
+ * {@link #DEFAULT_RANDOM_ACCESS_THRESHOLD}. Zero means that lazy Series are materialized on the first access.</p>
+ *
+ * @since 0.11
+ */
+public class MaterializationPolicy {
+
+    public static final String RANDOM_ACCESS_THRESHOLD_PROPERTY = "dflib.randomAccessThreshold";
+    public static final int DEFAULT_RANDOM_ACCESS_THRESHOLD = 1024;
+
+    private static final int RANDOM_ACCESS_THRESHOLD = Math.max(0,
+            Integer.getInteger(RANDOM_ACCESS_THRESHOLD_PROPERTY, DEFAULT_RANDOM_ACCESS_THRESHOLD));
+
+    public static int getRandomAccessThreshold() {
+        return RANDOM_ACCESS_THRESHOLD;
+    }
+
+    /**
+     * Returns true if a lazy Series that has already calculated "accesses" values on demand should calculate "len"
+     * more values on demand instead of materializing.
+     */
+    static boolean allowRandomAccess(int accesses, int len) {
+        return (long) accesses + len <= RANDOM_ACCESS_THRESHOLD;
+    }
+}
@@ -4,6 +4,7 @@ import com.nhl.dflib.*;
 import com.nhl.dflib.accumulator.BooleanAccumulator;
 import com.nhl.dflib.accumulator.IntAccumulator;
 import com.nhl.dflib.accumulator.ObjectAccumulator;
+import com.nhl.dflib.collection.ObjectHashSet;
 import com.nhl.dflib.concat.SeriesConcat;
 import com.nhl.dflib.groupby.SeriesGrouper;
 import com.nhl.dflib.map.Mapper;
@@ -16,11 +17,23 @@ public abstract class ObjectSeries<T> implements Series<T> {
 
     protected Class<?> nominalType;
     protected Class<?> inferredType;
+    private SeriesStats<T> stats;
 
     protected ObjectSeries(Class<?> nominalType) {
         this.nominalType = Objects.requireNonNull(nominalType);
     }
 
+    /**
+     * @since 0.11
+     */
+    @Override
+    public SeriesStats<T> getStats() {
+
+        // racy lazy init is fine here, as the stats would be recalculated at worst
+        SeriesStats<T> stats = this.stats;
+        return stats != null ? stats : (this.stats = new SeriesStats<>(this));
+    }
+
     @Override
     public Class<?> getNominalType() {
         return nominalType;
@@ -302,16 +315,18 @@ public abstract class ObjectSeries<T> implements Series<T> {
     public Series<T> unique() {
 
         int size = size();
-        if (size < 2) {
+        if (size < 2 || getStats().isKnownUnique()) {
             return this;
         }
 
-        Set<Object> unique = new LinkedHashSet<>();
+        ObjectHashSet<T> unique = new ObjectHashSet<>();
         for (int i = 0; i < size; i++) {
             unique.add(get(i));
         }
 
-        return unique.size() < size() ? new ArraySeries<>(unique.toArray((T[]) new Object[unique.size()])) : this;
+        Series<T> result = unique.size() < size ? unique.toSeries() : this;
+        result.getStats().markUnique();
+        return result;
     }
 
     @Override
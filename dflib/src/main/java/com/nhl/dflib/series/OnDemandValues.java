@@ -0,0 +1,64 @@
+package com.nhl.dflib.series;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.IntFunction;
+
+/**
+ * Values of a lazy Series calculated on demand before the Series is materialized. They are reused during
+ * materialization, so that each value is calculated only once, and the values returned before and after
+ * materialization are the same, even if the calculation is non-deterministic. The number of stored values is bounded
+ * by {@link MaterializationPolicy}. Not thread-safe, the owning Series is expected to synchronize access.
+ *
+ * @since 0.11
+ */
+class OnDemandValues<T> {
+
+    private final Map<Integer, T> values;
+
+    OnDemandValues() {
+        this.values = new HashMap<>();
+    }
+
+    /**
+     * Returns true if "len" more values can be calculated on demand instead of materializing the Series.
+     */
+    boolean allowCalculation(int len) {
+        return MaterializationPolicy.allowRandomAccess(values.size(), len);
+    }
+
+    /**
+     * Returns true if the value at index is either already calculated, or can be calculated on demand.
+     */
+    boolean allowGet(int index) {
+        return values.containsKey(index) || allowCalculation(1);
+    }
+
+    T get(int index, IntFunction<T> calculator) {
+
+        // nulls are stored as well, so need to distinguish them from missing values
+        T value = values.get(index);
+        if (value == null && !values.containsKey(index)) {
+            value = calculator.apply(index);
+            values.put(index, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Copies the stored values to the materialized data array, returning the positions of the copied values.
+     */
+    BitSet copyTo(Object[] data) {
+
+        BitSet copied = new BitSet(data.length);
+        for (Entry<Integer, T> e : values.entrySet()) {
+            data[e.getKey()] = e.getValue();
+            copied.set(e.getKey());
+        }
+
+        return copied;
+    }
+}
@@ -1,5 +1,6 @@
 package com.nhl.dflib.series;
 
+import com.nhl.dflib.IntSeries;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.range.Range;
 
@@ -31,6 +32,37 @@ public class RangeSeries<T> extends ObjectSeries<T> {
         return delegate.get(from + index);
     }
 
+    @Override
+    public Series<T> rangeOpenClosed(int fromInclusive, int toExclusive) {
+
+        if (fromInclusive == toExclusive) {
+            return new EmptySeries<>();
+        }
+
+        if (fromInclusive == 0 && toExclusive == size) {
+            return this;
+        }
+
+        // a range of a range is a single range of the delegate
+        Range.checkRange(fromInclusive, toExclusive - fromInclusive, size);
+        return new RangeSeries<>(delegate, from + fromInclusive, toExclusive - fromInclusive);
+    }
+
+    @Override
+    public Series<T> select(IntSeries positions) {
+        return select(new RowSelector(positions));
+    }
+
+    /**
+     * Selects the values at the selector positions directly from the delegate, instead of creating an IndexedSeries
+     * over this range.
+     *
+     * @since 0.11
+     */
+    public Series<T> select(RowSelector selector) {
+        return selector.shift(from).select(delegate);
+    }
+
     @Override
     public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
 
@@ -0,0 +1,165 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.agg.PrimitiveSeriesAvg;
+import com.nhl.dflib.agg.PrimitiveSeriesMedian;
+import com.nhl.dflib.agg.PrimitiveSeriesSum;
+import com.nhl.dflib.collection.RowIdSet;
+
+import java.util.Objects;
+
+/**
+ * An {@link IntSeries} of ascending distinct row positions stored in a compressed {@link RowIdSet}. Can be used
+ * anywhere row positions are expected (e.g. {@link com.nhl.dflib.DataFrame#selectRows(IntSeries)}), taking much
+ * less memory than an int array for large dense selections. Selections can be combined with {@link #and(RowIdSeries)},
+ * {@link #or(RowIdSeries)} and {@link #andNot(RowIdSeries)} without converting them to BooleanSeries.
+ *
+ * @since 0.11
+ */
+public class RowIdSeries extends IntBaseSeries {
+
+    /**
+     * Row position Series shorter than this are not worth compressing.
+     */
+    public static final int MIN_COMPACT_SIZE = 1 << 12;
+
+    private final RowIdSet rowIds;
+
+    public RowIdSeries(RowIdSet rowIds) {
+        this.rowIds = Objects.requireNonNull(rowIds);
+
+        // the values are sorted and distinct by definition
+        getStats().markSortedAscending().markUnique();
+    }
+
+    /**
+     * Creates a Series from ascending non-negative positions.
+     */
+    public static RowIdSeries of(IntSeries ascendingPositions) {
+        return ascendingPositions instanceof RowIdSeries
+                ? (RowIdSeries) ascendingPositions
+                : new RowIdSeries(RowIdSet.of(ascendingPositions));
+    }
+
+    /**
+     * Creates a Series of positions of "true" values of the condition.
+     */
+    public static RowIdSeries ofTrue(BooleanSeries condition) {
+        return new RowIdSeries(RowIdSet.ofTrue(condition));
+    }
+
+    /**
+     * Returns a RowIdSeries for the ascending positions, if it takes at most a half of the memory taken by the
+     * positions array. Otherwise returns the positions unchanged.
+     */
+    public static IntSeries compact(IntSeries ascendingPositions) {
+
+        int len = ascendingPositions.size();
+        if (len < MIN_COMPACT_SIZE || ascendingPositions instanceof RowIdSeries) {
+            return ascendingPositions;
+        }
+
+        RowIdSet set = RowIdSet.of(ascendingPositions);
+        return set.sizeInBytes() * 2 <= 4L * len ? new RowIdSeries(set) : ascendingPositions;
+    }
+
+    public RowIdSet getRowIds() {
+        return rowIds;
+    }
+
+    public RowIdSeries and(RowIdSeries another) {
+        return new RowIdSeries(rowIds.and(another.rowIds));
+    }
+
+    public RowIdSeries or(RowIdSeries another) {
+        return new RowIdSeries(rowIds.or(another.rowIds));
+    }
+
+    public RowIdSeries andNot(RowIdSeries another) {
+        return new RowIdSeries(rowIds.andNot(another.rowIds));
+    }
+
+    public boolean contains(int position) {
+        return rowIds.contains(position);
+    }
+
+    @Override
+    public int size() {
+        return rowIds.size();
+    }
+
+    @Override
+    public int getInt(int index) {
+        return rowIds.get(index);
+    }
+
+    @Override
+    public void copyToInt(int[] to, int fromOffset, int toOffset, int len) {
+        rowIds.copyTo(to, fromOffset, toOffset, len);
+    }
+
+    @Override
+    public int[] toIntArray() {
+        return rowIds.toArray();
+    }
+
+    @Override
+    public IntSeries materializeInt() {
+        return this;
+    }
+
+    @Override
+    public IntSeries rangeOpenClosedInt(int fromInclusive, int toExclusive) {
+
+        if (fromInclusive == 0 && toExclusive == size()) {
+            return this;
+        }
+
+        int len = toExclusive - fromInclusive;
+        int[] data = new int[len];
+        copyToInt(data, fromInclusive, 0, len);
+        return new IntArraySeries(data);
+    }
+
+    @Override
+    public IntSeries headInt(int len) {
+        return len < size() ? rangeOpenClosedInt(0, len) : this;
+    }
+
+    @Override
+    public IntSeries tailInt(int len) {
+        int size = size();
+        return len < size ? rangeOpenClosedInt(size - len, size) : this;
+    }
+
+    @Override
+    public int max() {
+        // consistent with the array Series, returning 0 for an empty Series
+        int size = size();
+        return size > 0 ? rowIds.get(size - 1) : 0;
+    }
+
+    @Override
+    public int min() {
+        return size() > 0 ? rowIds.get(0) : 0;
+    }
+
+    @Override
+    public long sum() {
+        int[] data = toIntArray();
+        return PrimitiveSeriesSum.sumOfArray(data, 0, data.length);
+    }
+
+    @Override
+    public double avg() {
+        int[] data = toIntArray();
+        return PrimitiveSeriesAvg.avgOfArray(data, 0, data.length);
+    }
+
+    @Override
+    public double median() {
+        int[] data = toIntArray();
+        return PrimitiveSeriesMedian.medianOfArray(data, 0, data.length);
+    }
+}
@@ -3,14 +3,20 @@ package com.nhl.dflib.series;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.RowToValueMapper;
+import com.nhl.dflib.row.DataFrameRowProxy;
 import com.nhl.dflib.row.RowProxy;
 
+import java.util.BitSet;
+
 public class RowMappedSeries<T> extends ObjectSeries<T> {
 
     private DataFrame source;
     private RowToValueMapper<T> mapper;
     private Series<T> materialized;
 
+    // values calculated on demand before materialization. Guarded by "this"
+    private OnDemandValues<T> onDemand;
+
     public RowMappedSeries(DataFrame source, RowToValueMapper<T> mapper) {
         super(Object.class);
         this.source = source;
@@ -24,14 +30,56 @@ public class RowMappedSeries<T> extends ObjectSeries<T> {
 
     @Override
     public T get(int index) {
+
+        if (materialized == null) {
+            synchronized (this) {
+                if (materialized == null && onDemand().allowGet(index)) {
+
+                    if (index < 0 || index >= source.height()) {
+                        throw new ArrayIndexOutOfBoundsException(index);
+                    }
+
+                    DataFrameRowProxy row = new DataFrameRowProxy(source);
+                    return onDemand.get(index, i -> mapper.map(row.rewind(i)));
+                }
+            }
+        }
+
         return materialize().get(index);
     }
 
     @Override
     public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
+
+        if (materialized == null) {
+            synchronized (this) {
+                if (materialized == null && onDemand().allowCalculation(len)) {
+
+                    if (fromOffset < 0 || fromOffset + len > source.height()) {
+                        throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+                    }
+
+                    DataFrameRowProxy row = new DataFrameRowProxy(source);
+                    for (int i = 0; i < len; i++) {
+                        to[toOffset + i] = onDemand.get(fromOffset + i, j -> mapper.map(row.rewind(j)));
+                    }
+
+                    return;
+                }
+            }
+        }
+
         materialize().copyTo(to, fromOffset, toOffset, len);
     }
 
+    private OnDemandValues<T> onDemand() {
+        if (onDemand == null) {
+            onDemand = new OnDemandValues<>();
+        }
+
+        return onDemand;
+    }
+
     @Override
     public Series<T> materialize() {
         if (materialized == null) {
@@ -48,14 +96,22 @@ public class RowMappedSeries<T> extends ObjectSeries<T> {
     protected Series<T> doMaterialize() {
         Object[] data = new Object[source.height()];
 
+        // reuse the values calculated on demand, so that they are not recalculated and don't change
+        BitSet calculated = onDemand != null ? onDemand.copyTo(data) : new BitSet();
+
         int i = 0;
         for (RowProxy row : source) {
-            data[i++] = mapper.map(row);
+            if (!calculated.get(i)) {
+                data[i] = mapper.map(row);
+            }
+
+            i++;
         }
 
         // reset source reference, allowing to free up memory..
         source = null;
         mapper = null;
+        onDemand = null;
 
         return new ArraySeries(data);
     }
@@ -0,0 +1,129 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Selects rows of one or more Series by position, flattening nested selections. Selecting from an
+ * {@link IndexedSeries} or a {@link RangeSeries} doesn't wrap it in another {@link IndexedSeries}, but composes the
+ * positions into a single index against the original source. So a chain of selections results in a single level of
+ * indirection, and the intermediate index arrays can be garbage-collected. When multiple Series share the same
+ * selection positions (e.g. DataFrame columns after a "selectRows"), the composed positions are calculated once and
+ * shared as well.
+ *
+ * @since 0.11
+ */
+public class RowSelector {
+
+    private final IntSeries positions;
+    private final Map<Key, IntSeries> cache;
+
+    public RowSelector(IntSeries positions) {
+
+        // compressed positions are decoded once for all the selected Series, instead of being accessed by rank
+        this(positions instanceof RowIdSeries ? new IntArraySeries(positions.toIntArray()) : positions, new HashMap<>());
+    }
+
+    private RowSelector(IntSeries positions, Map<Key, IntSeries> cache) {
+        this.positions = positions;
+        this.cache = cache;
+    }
+
+    public IntSeries getPositions() {
+        return positions;
+    }
+
+    public <T> Series<T> select(Series<T> s) {
+
+        if (s instanceof IndexedSeries) {
+            return ((IndexedSeries<T>) s).select(this);
+        } else if (s instanceof RangeSeries) {
+            return ((RangeSeries<T>) s).select(this);
+        }
+
+        return s.select(positions);
+    }
+
+    /**
+     * Returns positions in the "base" coordinates, i.e. "base[positions[i]]", with negative positions (used in joins
+     * to indicate missing rows) carried over as is.
+     */
+    IntSeries composeWith(IntSeries base) {
+        return cache.computeIfAbsent(new Key(base, positions), k -> compose(base, positions));
+    }
+
+    /**
+     * Returns a selector with positions shifted by the offset, with negative positions carried over as is.
+     */
+    RowSelector shift(int offset) {
+
+        if (offset == 0) {
+            return this;
+        }
+
+        IntSeries shifted = cache.computeIfAbsent(new Key(offset, positions), k -> shift(positions, offset));
+        return new RowSelector(shifted, cache);
+    }
+
+    private static IntSeries compose(IntSeries base, IntSeries positions) {
+        int h = positions.size();
+        int[] data = new int[h];
+
+        for (int i = 0; i < h; i++) {
+            int p = positions.getInt(i);
+            data[i] = p < 0 ? -1 : base.getInt(p);
+        }
+
+        return new IntArraySeries(data);
+    }
+
+    private static IntSeries shift(IntSeries positions, int offset) {
+        int h = positions.size();
+        int[] data = new int[h];
+
+        for (int i = 0; i < h; i++) {
+            int p = positions.getInt(i);
+            data[i] = p < 0 ? -1 : p + offset;
+        }
+
+        return new IntArraySeries(data);
+    }
+
+    // a cache key comparing the Series by identity
+    private static class Key {
+
+        private final Object base;
+        private final IntSeries positions;
+
+        Key(Object base, IntSeries positions) {
+            this.base = base;
+            this.positions = positions;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) o;
+
+            // offsets are compared by value, Series by identity
+            return (base instanceof Integer ? base.equals(key.base) : base == key.base)
+                    && positions == key.positions;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = base instanceof Integer ? base.hashCode() : System.identityHashCode(base);
+            return 31 * h + System.identityHashCode(positions);
+        }
+    }
+}
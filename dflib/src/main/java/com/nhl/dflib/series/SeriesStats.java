@@ -0,0 +1,397 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.collection.DoubleHashSet;
+import com.nhl.dflib.collection.IntHashSet;
+import com.nhl.dflib.collection.LongHashSet;
+import com.nhl.dflib.collection.ObjectHashSet;
+import com.nhl.dflib.exp.agg.HyperLogLog;
+import com.nhl.dflib.sort.Comparators;
+import com.nhl.dflib.sort.IntComparator;
+
+/**
+ * Lazily calculated and cached statistics of a Series. As Series are immutable, each statistic is calculated at most
+ * once per Series and stays valid for its lifetime. Operations that produce Series with known properties (e.g. a sort
+ * or "unique") record them in the statistics of the result, so that subsequent operations can skip unneeded work.
+ * <p>Statistics are calculated without locking. Concurrent threads may end up calculating the same value more than
+ * once, but would never see an inconsistent value.</p>
+ *
+ * @since 0.11
+ */
+public class SeriesStats<T> {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte YES = 1;
+    private static final byte NO = 2;
+
+    private final Series<T> series;
+
+    private volatile MinMax<T> minMax;
+    private volatile int nullCount;
+    private volatile long approxDistinctCount;
+    private volatile byte sortedAscending;
+    private volatile byte sortedDescending;
+    private volatile byte unique;
+    private volatile ZoneMap<T> zoneMap;
+
+    public SeriesStats(Series<T> series) {
+        this.series = series;
+        this.nullCount = -1;
+        this.approxDistinctCount = -1;
+    }
+
+    /**
+     * Returns the smallest non-null value of the Series or null if the Series has no non-null values, or the values
+     * are not mutually comparable.
+     */
+    public T getMin() {
+        return getMinMax().min;
+    }
+
+    /**
+     * Returns the largest non-null value of the Series or null if the Series has no non-null values, or the values
+     * are not mutually comparable.
+     */
+    public T getMax() {
+        return getMinMax().max;
+    }
+
+    public int getNullCount() {
+        int nc = this.nullCount;
+        return nc >= 0 ? nc : (this.nullCount = calcNullCount());
+    }
+
+    /**
+     * Returns an estimate of the number of distinct non-null values in the Series, calculated with
+     * {@link HyperLogLog}.
+     */
+    public long getApproxDistinctCount() {
+        long dc = this.approxDistinctCount;
+        return dc >= 0 ? dc : (this.approxDistinctCount = calcApproxDistinctCount());
+    }
+
+    /**
+     * Returns true if the Series values are in the order produced by an ascending sort, with nulls last.
+     */
+    public boolean isSortedAscending() {
+        byte s = this.sortedAscending;
+        if (s == UNKNOWN) {
+            this.sortedAscending = s = calcSorted(true) ? YES : NO;
+        }
+
+        return s == YES;
+    }
+
+    /**
+     * Returns true if the Series values are in the order produced by a descending sort, with nulls first.
+     */
+    public boolean isSortedDescending() {
+        byte s = this.sortedDescending;
+        if (s == UNKNOWN) {
+            this.sortedDescending = s = calcSorted(false) ? YES : NO;
+        }
+
+        return s == YES;
+    }
+
+    /**
+     * Returns true if no two values of the Series are equal. Nulls are treated as values, so a Series with more than
+     * one null is not unique.
+     */
+    public boolean isUnique() {
+        byte u = this.unique;
+        if (u == UNKNOWN) {
+            this.unique = u = calcUnique() ? YES : NO;
+        }
+
+        return u == YES;
+    }
+
+    /**
+     * Returns true if the Series is already known to be unique. Unlike {@link #isUnique()}, never triggers the
+     * calculation, so can be used by operations for which the calculation would cost as much as the work it saves.
+     */
+    public boolean isKnownUnique() {
+        return unique == YES;
+    }
+
+    /**
+     * Records that the Series values are in ascending order. The caller is responsible for this being true.
+     */
+    public SeriesStats<T> markSortedAscending() {
+        this.sortedAscending = YES;
+        return this;
+    }
+
+    /**
+     * Records that the Series values are in descending order. The caller is responsible for this being true.
+     */
+    public SeriesStats<T> markSortedDescending() {
+        this.sortedDescending = YES;
+        return this;
+    }
+
+    /**
+     * Records that the Series values are unique. The caller is responsible for this being true.
+     */
+    public SeriesStats<T> markUnique() {
+        this.unique = YES;
+        return this;
+    }
+
+    /**
+     * Returns per-zone min/max metadata of the Series, calculated once and cached.
+     *
+     * @see ZoneMap
+     */
+    public ZoneMap<T> getZoneMap() {
+        ZoneMap<T> zm = this.zoneMap;
+        return zm != null ? zm : (this.zoneMap = ZoneMap.of(series));
+    }
+
+    private MinMax<T> getMinMax() {
+        MinMax<T> mm = this.minMax;
+        return mm != null ? mm : (this.minMax = calcMinMax());
+    }
+
+    private MinMax<T> calcMinMax() {
+
+        int len = series.size();
+        if (len == 0) {
+            return new MinMax<>(null, null);
+        }
+
+        // sorted Series have min and max at the ends, though nulls have to be skipped
+        if (sortedAscending == YES && series.get(0) != null) {
+            return new MinMax<>(series.get(0), lastNonNull(len));
+        }
+
+        if (series instanceof IntSeries) {
+            return intMinMax((IntSeries) series, len);
+        } else if (series instanceof LongSeries) {
+            return longMinMax((LongSeries) series, len);
+        } else if (series instanceof DoubleSeries) {
+            return doubleMinMax((DoubleSeries) series, len);
+        }
+
+        Comparable min = null;
+        Comparable max = null;
+
+        try {
+            for (int i = 0; i < len; i++) {
+                Object v = series.get(i);
+                if (v == null) {
+                    continue;
+                }
+
+                Comparable c = (Comparable) v;
+                if (min == null) {
+                    min = c;
+                    max = c;
+                } else if (c.compareTo(min) < 0) {
+                    min = c;
+                } else if (c.compareTo(max) > 0) {
+                    max = c;
+                }
+            }
+        } catch (ClassCastException e) {
+            return new MinMax<>(null, null);
+        }
+
+        return new MinMax<>((T) min, (T) max);
+    }
+
+    private MinMax<T> intMinMax(IntSeries s, int len) {
+        int min = s.getInt(0);
+        int max = min;
+        for (int i = 1; i < len; i++) {
+            int v = s.getInt(i);
+            if (v < min) {
+                min = v;
+            } else if (v > max) {
+                max = v;
+            }
+        }
+
+        return new MinMax<>((T) Integer.valueOf(min), (T) Integer.valueOf(max));
+    }
+
+    private MinMax<T> longMinMax(LongSeries s, int len) {
+        long min = s.getLong(0);
+        long max = min;
+        for (int i = 1; i < len; i++) {
+            long v = s.getLong(i);
+            if (v < min) {
+                min = v;
+            } else if (v > max) {
+                max = v;
+            }
+        }
+
+        return new MinMax<>((T) Long.valueOf(min), (T) Long.valueOf(max));
+    }
+
+    private MinMax<T> doubleMinMax(DoubleSeries s, int len) {
+
+        // using Double.compare to order values the same way as the boxed Doubles would be ordered
+        double min = s.getDouble(0);
+        double max = min;
+        for (int i = 1; i < len; i++) {
+            double v = s.getDouble(i);
+            if (Double.compare(v, min) < 0) {
+                min = v;
+            } else if (Double.compare(v, max) > 0) {
+                max = v;
+            }
+        }
+
+        return new MinMax<>((T) Double.valueOf(min), (T) Double.valueOf(max));
+    }
+
+    private T lastNonNull(int len) {
+        for (int i = len - 1; i >= 0; i--) {
+            T v = series.get(i);
+            if (v != null) {
+                return v;
+            }
+        }
+
+        return null;
+    }
+
+    private int calcNullCount() {
+
+        if (series instanceof IntSeries
+                || series instanceof LongSeries
+                || series instanceof DoubleSeries
+                || series instanceof BooleanSeries) {
+            return 0;
+        }
+
+        int len = series.size();
+        int count = 0;
+        for (int i = 0; i < len; i++) {
+            if (series.get(i) == null) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private long calcApproxDistinctCount() {
+
+        if (unique == YES) {
+            return series.size() - getNullCount();
+        }
+
+        int len = series.size();
+        HyperLogLog hll = new HyperLogLog();
+
+        if (series instanceof IntSeries) {
+            IntSeries is = (IntSeries) series;
+            for (int i = 0; i < len; i++) {
+                hll.addInt(is.getInt(i));
+            }
+        } else if (series instanceof LongSeries) {
+            LongSeries ls = (LongSeries) series;
+            for (int i = 0; i < len; i++) {
+                hll.addLong(ls.getLong(i));
+            }
+        } else if (series instanceof DoubleSeries) {
+            DoubleSeries ds = (DoubleSeries) series;
+            for (int i = 0; i < len; i++) {
+                hll.addDouble(ds.getDouble(i));
+            }
+        } else {
+            for (int i = 0; i < len; i++) {
+                hll.add(series.get(i));
+            }
+        }
+
+        return hll.estimate();
+    }
+
+    private boolean calcSorted(boolean ascending) {
+
+        int len = series.size();
+        if (len < 2) {
+            return true;
+        }
+
+        IntComparator comparator = Comparators.of(series, ascending);
+
+        try {
+            for (int i = 1; i < len; i++) {
+                if (comparator.compare(i - 1, i) > 0) {
+                    return false;
+                }
+            }
+        } catch (ClassCastException e) {
+            // not comparable
+            return false;
+        }
+
+        return true;
+    }
+
+    private boolean calcUnique() {
+
+        int len = series.size();
+        if (len < 2) {
+            return true;
+        }
+
+        if (series instanceof BooleanSeries) {
+            return len == 2 && ((BooleanSeries) series).countTrue() == 1;
+        } else if (series instanceof IntSeries) {
+            IntSeries is = (IntSeries) series;
+            IntHashSet set = new IntHashSet(len);
+            for (int i = 0; i < len; i++) {
+                if (!set.add(is.getInt(i))) {
+                    return false;
+                }
+            }
+        } else if (series instanceof LongSeries) {
+            LongSeries ls = (LongSeries) series;
+            LongHashSet set = new LongHashSet(len);
+            for (int i = 0; i < len; i++) {
+                if (!set.add(ls.getLong(i))) {
+                    return false;
+                }
+            }
+        } else if (series instanceof DoubleSeries) {
+            DoubleSeries ds = (DoubleSeries) series;
+            DoubleHashSet set = new DoubleHashSet(len);
+            for (int i = 0; i < len; i++) {
+                if (!set.add(ds.getDouble(i))) {
+                    return false;
+                }
+            }
+        } else {
+            ObjectHashSet<T> set = new ObjectHashSet<>(len);
+            for (int i = 0; i < len; i++) {
+                if (!set.add(series.get(i))) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static class MinMax<T> {
+
+        final T min;
+        final T max;
+
+        MinMax(T min, T max) {
+            this.min = min;
+            this.max = max;
+        }
+    }
+}
@@ -1,28 +1,95 @@
 package com.nhl.dflib.series;
 
 import com.nhl.dflib.DataFrame;
-import com.nhl.dflib.Exp;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
 import com.nhl.dflib.Series;
+import com.nhl.dflib.collection.DoubleValueCounter;
+import com.nhl.dflib.collection.IntValueCounter;
+import com.nhl.dflib.collection.LongValueCounter;
+import com.nhl.dflib.collection.ObjectValueCounter;
+import com.nhl.dflib.sort.IntTimSort;
 
 class ValueCounts {
 
+    public static DataFrame valueCountsInt(IntSeries series) {
+
+        int len = series.size();
+        IntValueCounter counter = new IntValueCounter();
+        for (int i = 0; i < len; i++) {
+            counter.add(series.getInt(i));
+        }
+
+        return toDataFrame(counter.getValues(), counter.getCounts());
+    }
+
+    public static DataFrame valueCountsLong(LongSeries series) {
+
+        int len = series.size();
+        LongValueCounter counter = new LongValueCounter();
+        for (int i = 0; i < len; i++) {
+            counter.add(series.getLong(i));
+        }
+
+        return toDataFrame(counter.getValues(), counter.getCounts());
+    }
+
+    public static DataFrame valueCountsDouble(DoubleSeries series) {
+
+        int len = series.size();
+        DoubleValueCounter counter = new DoubleValueCounter();
+        for (int i = 0; i < len; i++) {
+            counter.add(series.getDouble(i));
+        }
+
+        return toDataFrame(counter.getValues(), counter.getCounts());
+    }
 
     public static <T> DataFrame valueCountsNoNulls(Series<T> series) {
-        return series.group()
-                .aggMultiple(
-                        Exp.$col("").first().as("value"),
-                        Exp.count().as("count")
-                )
-                .sort(1, false);
+
+        int len = series.size();
+        ObjectValueCounter<T> counter = new ObjectValueCounter<>();
+        for (int i = 0; i < len; i++) {
+            counter.add(series.get(i));
+        }
+
+        return toDataFrame(counter.getValues(), counter.getCounts());
+    }
+
+    public static <T> DataFrame valueCountsMaybeNulls(Series<T> series) {
+
+        int len = series.size();
+        ObjectValueCounter<T> counter = new ObjectValueCounter<>();
+        for (int i = 0; i < len; i++) {
+            T value = series.get(i);
+            if (value != null) {
+                counter.add(value);
+            }
+        }
+
+        return toDataFrame(counter.getValues(), counter.getCounts());
     }
 
-    public static DataFrame valueCountsMaybeNulls(Series<?> series) {
-        return series.select(series.index(v -> v != null))
-                .group()
-                .aggMultiple(
-                        Exp.$col("").first().as("value"),
-                        Exp.count().as("count")
-                )
-                .sort(1, false);
+    private static DataFrame toDataFrame(Series<?> values, IntSeries counts) {
+
+        // sort by count descending. The sort is stable, so values with the same count remain in the order of
+        // their first occurrence
+
+        int[] index = new int[counts.size()];
+        for (int i = 0; i < index.length; i++) {
+            index[i] = i;
+        }
+
+        IntTimSort.sort(index, (i1, i2) -> Integer.compare(counts.getInt(i2), counts.getInt(i1)));
+        IntSeries positions = new IntArraySeries(index);
+
+        Series<?> uniqueValues = values.select(positions);
+        uniqueValues.getStats().markUnique();
+
+        Series<Integer> sortedCounts = counts.select(positions);
+        sortedCounts.getStats().markSortedDescending();
+
+        return DataFrame.newFrame("value", "count").columns(uniqueValues, sortedCounts);
     }
 }
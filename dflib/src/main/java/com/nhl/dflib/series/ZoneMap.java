@@ -0,0 +1,130 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.Series;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Min/max metadata of consecutive row ranges ("zones") of a Series. Zones follow the chunk boundaries of chunked
+ * Series (splitting chunks longer than {@link #ZONE_SIZE}), and are of {@link #ZONE_SIZE} rows for all other Series.
+ * Allows to skip or bulk-accept whole zones when evaluating range conditions. Most useful with columns that are
+ * sorted or clustered by value, such as timestamps of the appended data.
+ *
+ * @see SeriesStats#getZoneMap()
+ * @since 0.11
+ */
+public class ZoneMap<T> {
+
+    public static final int ZONE_SIZE = 1 << 12;
+
+    private final int[] offsets;
+    private final Object[] mins;
+    private final Object[] maxs;
+    private final int[] nullCounts;
+
+    protected ZoneMap(int[] offsets, Object[] mins, Object[] maxs, int[] nullCounts) {
+        this.offsets = offsets;
+        this.mins = mins;
+        this.maxs = maxs;
+        this.nullCounts = nullCounts;
+    }
+
+    public static <T> ZoneMap<T> of(Series<T> series) {
+
+        List<Series<?>> zones = new ArrayList<>();
+
+        Series<?>[] chunks = ChunkedSeries.chunksOf(series);
+        if (chunks != null) {
+            for (Series<?> c : chunks) {
+                split(c, zones);
+            }
+        } else {
+            split(series, zones);
+        }
+
+        int len = zones.size();
+        int[] offsets = new int[len + 1];
+        Object[] mins = new Object[len];
+        Object[] maxs = new Object[len];
+        int[] nullCounts = new int[len];
+
+        for (int i = 0; i < len; i++) {
+
+            Series<?> zone = zones.get(i);
+            SeriesStats<?> stats = zone.getStats();
+
+            Object min = stats.getMin();
+            Object max = stats.getMax();
+
+            // NaN is the largest Double per "compareTo", yet it doesn't match any primitive comparison, so the range
+            // of such zone is treated as unknown
+            if (!isNaN(max)) {
+                mins[i] = min;
+                maxs[i] = max;
+            }
+
+            nullCounts[i] = stats.getNullCount();
+            offsets[i + 1] = offsets[i] + zone.size();
+        }
+
+        return new ZoneMap<>(offsets, mins, maxs, nullCounts);
+    }
+
+    private static void split(Series<?> s, List<Series<?>> zones) {
+
+        int len = s.size();
+
+        // keeping short enough chunks whole to reuse their cached stats
+        if (len <= ZONE_SIZE * 2) {
+            if (len > 0) {
+                zones.add(s);
+            }
+            return;
+        }
+
+        for (int i = 0; i < len; i += ZONE_SIZE) {
+            zones.add(s.rangeOpenClosed(i, Math.min(i + ZONE_SIZE, len)));
+        }
+    }
+
+    private static boolean isNaN(Object v) {
+        return (v instanceof Double && ((Double) v).isNaN())
+                || (v instanceof Float && ((Float) v).isNaN());
+    }
+
+    /**
+     * Returns the number of zones.
+     */
+    public int size() {
+        return mins.length;
+    }
+
+    public int getOffset(int zone) {
+        return offsets[zone];
+    }
+
+    public int getLength(int zone) {
+        return offsets[zone + 1] - offsets[zone];
+    }
+
+    /**
+     * Returns the smallest non-null value of the zone, or null if the zone has no non-null values or its range is
+     * unknown.
+     */
+    public T getMin(int zone) {
+        return (T) mins[zone];
+    }
+
+    /**
+     * Returns the largest non-null value of the zone, or null if the zone has no non-null values or its range is
+     * unknown.
+     */
+    public T getMax(int zone) {
+        return (T) maxs[zone];
+    }
+
+    public int getNullCount(int zone) {
+        return nullCounts[zone];
+    }
+}
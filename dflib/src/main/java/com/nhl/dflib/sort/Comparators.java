@@ -3,7 +3,6 @@ package com.nhl.dflib.sort;
 import com.nhl.dflib.*;
 import com.nhl.dflib.Sorter;
 import com.nhl.dflib.row.DataFrameRowProxy;
-import com.nhl.dflib.row.RowProxy;
 
 import java.util.Comparator;
 
@@ -53,6 +52,25 @@ public final class Comparators {
         }
     }
 
+    /**
+     * @since 0.11
+     */
+    public static IntComparator of(Series<?>[] columns, boolean[] ascending) {
+        int w = columns.length;
+
+        if (w == 0) {
+            throw new IllegalArgumentException("No sort columns");
+        }
+
+        IntComparator sorter = null;
+        for (int i = 0; i < w; i++) {
+            IntComparator ci = of(columns[i], ascending[i]);
+            sorter = sorter == null ? ci : sorter.thenComparing(ci);
+        }
+
+        return sorter;
+    }
+
     public static IntComparator of(DataFrame df, String[] columns, boolean[] ascending) {
         int w = columns.length;
 
@@ -133,13 +151,17 @@ public final class Comparators {
 
     public static <V extends Comparable<? super V>> IntComparator of(DataFrame df, RowToValueMapper<V> sortKeyExtractor) {
 
-        // slower row-based comparator
+        // calculate sort keys upfront, instead of mapping the rows on every comparison. This also makes the comparator
+        // stateless and therefore usable in parallel sorts
 
-        Comparator<RowProxy> rowComparator = (c1, c2) -> nullsLastCompare(sortKeyExtractor.map(c1), sortKeyExtractor.map(c2));
+        int h = df.height();
+        Comparable[] keys = new Comparable[h];
+        DataFrameRowProxy proxy = new DataFrameRowProxy(df);
+        for (int i = 0; i < h; i++) {
+            keys[i] = sortKeyExtractor.map(proxy.rewind(i));
+        }
 
-        DataFrameRowProxy p1 = new DataFrameRowProxy(df);
-        DataFrameRowProxy p2 = new DataFrameRowProxy(df);
-        return (i1, i2) -> rowComparator.compare(p1.rewind(i1), p2.rewind(i2));
+        return (i1, i2) -> nullsLastCompare(keys[i1], keys[i2]);
     }
 
     static <V extends Comparable<? super V>> int nullsLastCompare(V a, V b) {
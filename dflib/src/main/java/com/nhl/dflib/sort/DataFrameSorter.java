@@ -3,13 +3,20 @@ package com.nhl.dflib.sort;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.IntSeries;
 import com.nhl.dflib.RowToValueMapper;
+import com.nhl.dflib.Series;
 import com.nhl.dflib.Sorter;
+import com.nhl.dflib.exp.sort.ExpSorter;
 import com.nhl.dflib.series.IntArraySeries;
+import com.nhl.dflib.series.SeriesStats;
 
 import java.util.function.Supplier;
 
 /**
- * Sorting processor for DataFrames.
+ * Sorting processor for DataFrames. Sorts by columns are done with {@link IntRadixSort}, with String and other object
+ * columns converted to int ranks by {@link SortKeys}. Other sorts by columns and expressions use comparators, and are
+ * parallelized for large DataFrames via {@link IntParallelMergeSort}. User-provided comparators and custom
+ * {@link Sorter}s are never called concurrently, so sorts with them are done in the calling thread. All sorts are
+ * stable.
  *
  * @see Comparators
  * @since 0.11
@@ -19,13 +26,18 @@ public class DataFrameSorter {
     private final DataFrame dataFrame;
     private final Supplier<int[]> indexBuilder;
 
+    // true if the sort is done over all the rows of the DataFrame in their original order
+    private final boolean fullRange;
+
     public DataFrameSorter(DataFrame dataFrame) {
         this.dataFrame = dataFrame;
         this.indexBuilder = () -> SeriesSorter.rowNumberSequence(dataFrame.height());
+        this.fullRange = true;
     }
 
     public DataFrameSorter(DataFrame dataFrame, IntSeries rangeToSort) {
         this.dataFrame = dataFrame;
+        this.fullRange = false;
 
         // copy range to avoid modification of the source list
         this.indexBuilder = () -> {
@@ -36,22 +48,161 @@ public class DataFrameSorter {
         };
     }
 
+    /**
+     * Resolves sorters to a list of columns if all of them are column-based expressions. Otherwise returns null.
+     */
+    static Series<?>[] sortColumns(DataFrame df, Sorter[] sorters, boolean[] ascending) {
+        int w = sorters.length;
+        Series<?>[] columns = new Series[w];
+
+        for (int i = 0; i < w; i++) {
+            if (!(sorters[i] instanceof ExpSorter)) {
+                return null;
+            }
+
+            ExpSorter sorter = (ExpSorter) sorters[i];
+            columns[i] = sorter.getExp().eval(df);
+            ascending[i] = sorter.isAscending();
+        }
+
+        return columns;
+    }
+
+    /**
+     * Returns true if all the sorters are DFLib expressions, whose comparators are safe to call from multiple threads.
+     */
+    static boolean isParallelizable(Sorter[] sorters) {
+        for (Sorter s : sorters) {
+            if (!(s instanceof ExpSorter)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    static Series<?>[] sortColumns(DataFrame df, String[] columns) {
+        int w = columns.length;
+        Series<?>[] series = new Series[w];
+        for (int i = 0; i < w; i++) {
+            series[i] = df.getColumn(columns[i]);
+        }
+
+        return series;
+    }
+
+    static Series<?>[] sortColumns(DataFrame df, int[] columns) {
+        int w = columns.length;
+        Series<?>[] series = new Series[w];
+        for (int i = 0; i < w; i++) {
+            series[i] = df.getColumn(columns[i]);
+        }
+
+        return series;
+    }
+
+    /**
+     * Returns true if the rows are already in the order that would be produced by a sort by the columns. Checked via
+     * the cached column statistics for a single column, and by a linear scan that stops at the first out of order
+     * row for multiple columns. Either is much cheaper than a sort.
+     */
+    static boolean isSorted(Series<?>[] columns, boolean[] ascending) {
+
+        SeriesStats<?> stats = columns[0].getStats();
+
+        // since the sort is stable, the rows sorted by the first column are sorted by all columns if either there's
+        // just one column, or the first column values are unique
+        if (columns.length == 1 || stats.isKnownUnique()) {
+            return ascending[0] ? stats.isSortedAscending() : stats.isSortedDescending();
+        }
+
+        int len = columns[0].size();
+        if (len < 2) {
+            return true;
+        }
+
+        IntComparator comparator = Comparators.of(columns, ascending);
+        for (int i = 1; i < len; i++) {
+            if (comparator.compare(i - 1, i) > 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    static void sortIndex(int[] mutableIndex, Series<?>[] columns, boolean[] ascending) {
+
+        if (mutableIndex.length >= IntRadixSort.RADIX_THRESHOLD) {
+
+            // String and other object columns are replaced with int ranks, so the radix sort is always possible
+            IntRadixSort.sort(mutableIndex, SortKeys.normalize(columns, mutableIndex), ascending);
+            return;
+        }
+
+        // a comparator over the column values is safe to call concurrently
+        IntParallelMergeSort.sort(mutableIndex, Comparators.of(columns, ascending));
+    }
+
+    // the comparator may be user code, so it is only called from the calling thread
+    static void sortIndex(int[] mutableIndex, IntComparator comparator) {
+        IntTimSort.sort(mutableIndex, comparator);
+    }
+
     public DataFrame sort(String column, boolean ascending) {
-        return sort(Comparators.of(dataFrame.getColumn(column), ascending));
+        return sort(new Series[]{dataFrame.getColumn(column)}, new boolean[]{ascending});
     }
 
     public DataFrame sort(int column, boolean ascending) {
-        return sort(Comparators.of(dataFrame.getColumn(column), ascending));
+        return sort(new Series[]{dataFrame.getColumn(column)}, new boolean[]{ascending});
     }
 
     public DataFrame sort(String[] columns, boolean[] ascending) {
-        return sort(Comparators.of(dataFrame, columns, ascending));
+        return sort(sortColumns(dataFrame, columns), ascending);
     }
 
     public DataFrame sort(int[] columns, boolean[] ascending) {
-        return sort(Comparators.of(dataFrame, columns, ascending));
+        return sort(sortColumns(dataFrame, columns), ascending);
     }
 
+    /**
+     * @since 0.11
+     */
+    public DataFrame sort(Series<?>[] columns, boolean[] ascending) {
+
+        if (fullRange && isSorted(columns, ascending)) {
+            return dataFrame;
+        }
+
+        int[] mutableIndex = indexBuilder.get();
+        sortIndex(mutableIndex, columns, ascending);
+
+        DataFrame sorted = dataFrame.selectRows(new IntArraySeries(mutableIndex));
+        markSorted(sorted, columns[0], ascending[0]);
+        return sorted;
+    }
+
+    // records the sort order in the stats of the sorted DataFrame first sort column, if it is a DataFrame column
+    private void markSorted(DataFrame sorted, Series<?> column, boolean ascending) {
+
+        int w = dataFrame.width();
+        for (int i = 0; i < w; i++) {
+            if (dataFrame.getColumn(i) == column) {
+                SeriesStats<?> stats = sorted.getColumn(i).getStats();
+                if (ascending) {
+                    stats.markSortedAscending();
+                } else {
+                    stats.markSortedDescending();
+                }
+
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sorts the DataFrame with a custom comparator. The comparator is only called from the calling thread.
+     */
     public DataFrame sort(IntComparator comparator) {
         IntSeries sortIndex = sortIndex(comparator);
         return dataFrame.selectRows(sortIndex);
@@ -62,12 +213,97 @@ public class DataFrameSorter {
     }
 
     public DataFrame sort(Sorter... sorters) {
-        return sorters.length == 0 ? dataFrame : sort(Comparators.of(dataFrame, sorters));
+
+        if (sorters.length == 0) {
+            return dataFrame;
+        }
+
+        boolean[] ascending = new boolean[sorters.length];
+        Series<?>[] columns = sortColumns(dataFrame, sorters, ascending);
+        return columns != null
+                ? sort(columns, ascending)
+                : dataFrame.selectRows(sortIndex(Comparators.of(dataFrame, sorters)));
+    }
+
+    /**
+     * Returns a DataFrame with the first "len" rows of this DataFrame sorted by the sorters, without doing a full sort.
+     * Produces the same result as <code>sort(sorters).head(len)</code>.
+     *
+     * @since 0.11
+     */
+    public DataFrame topN(int len, Sorter... sorters) {
+        if (sorters.length == 0) {
+            return dataFrame.head(len);
+        }
+
+        int[] index = IntTopN.topN(indexBuilder.get(), len, Comparators.of(dataFrame, sorters), isParallelizable(sorters));
+        return dataFrame.selectRows(new IntArraySeries(index));
+    }
+
+    /**
+     * Returns a DataFrame with the last "len" rows of this DataFrame sorted by the sorters, without doing a full sort.
+     * Produces the same result as <code>sort(sorters).tail(len)</code>.
+     *
+     * @since 0.11
+     */
+    public DataFrame bottomN(int len, Sorter... sorters) {
+        if (sorters.length == 0) {
+            return dataFrame.tail(len);
+        }
+
+        int[] index = IntTopN.bottomN(indexBuilder.get(), len, Comparators.of(dataFrame, sorters), isParallelizable(sorters));
+        return dataFrame.selectRows(new IntArraySeries(index));
     }
 
+    /**
+     * @since 0.11
+     */
+    public IntSeries topNIndex(int len, IntComparator comparator) {
+        return new IntArraySeries(IntTopN.topN(indexBuilder.get(), len, comparator));
+    }
+
+    /**
+     * @since 0.11
+     */
+    public IntSeries bottomNIndex(int len, IntComparator comparator) {
+        return new IntArraySeries(IntTopN.bottomN(indexBuilder.get(), len, comparator));
+    }
+
+    /**
+     * @since 0.11
+     */
+    public IntSeries sortIndex(Sorter... sorters) {
+
+        if (sorters.length == 0) {
+            return new IntArraySeries(indexBuilder.get());
+        }
+
+        boolean[] ascending = new boolean[sorters.length];
+        Series<?>[] columns = sortColumns(dataFrame, sorters, ascending);
+        return columns != null
+                ? sortIndex(columns, ascending)
+                : sortIndex(Comparators.of(dataFrame, sorters));
+    }
+
+    /**
+     * @since 0.11
+     */
+    public IntSeries sortIndex(Series<?>[] columns, boolean[] ascending) {
+        int[] mutableIndex = indexBuilder.get();
+
+        if (!fullRange || !isSorted(columns, ascending)) {
+            sortIndex(mutableIndex, columns, ascending);
+        }
+
+        return new IntArraySeries(mutableIndex);
+    }
+
+    /**
+     * Creates a sort index with a custom comparator. The comparator is only called from the calling thread.
+     */
     public IntSeries sortIndex(IntComparator comparator) {
         int[] mutableIndex = indexBuilder.get();
-        IntTimSort.sort(mutableIndex, comparator);
+        sortIndex(mutableIndex, comparator);
         return new IntArraySeries(mutableIndex);
     }
 }
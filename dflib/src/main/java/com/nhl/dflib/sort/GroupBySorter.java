@@ -5,9 +5,11 @@ import com.nhl.dflib.*;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 /**
- * Sorting processor for GroupBy objects.
+ * Sorting processor for GroupBy objects. Groups of large GroupBy objects are sorted in parallel.
  *
  * @see Comparators
  * @since 0.11
@@ -21,19 +23,21 @@ public class GroupBySorter {
     }
 
     public GroupBy sort(String column, boolean ascending) {
-        return sort(Comparators.of(groupBy.getUngrouped().getColumn(column), ascending));
+        DataFrame ungrouped = groupBy.getUngrouped();
+        return sort(new Series[]{ungrouped.getColumn(column)}, new boolean[]{ascending});
     }
 
     public GroupBy sort(int column, boolean ascending) {
-        return sort(Comparators.of(groupBy.getUngrouped().getColumn(column), ascending));
+        DataFrame ungrouped = groupBy.getUngrouped();
+        return sort(new Series[]{ungrouped.getColumn(column)}, new boolean[]{ascending});
     }
 
     public GroupBy sort(String[] columns, boolean[] ascending) {
-        return sort(Comparators.of(groupBy.getUngrouped(), columns, ascending));
+        return sort(DataFrameSorter.sortColumns(groupBy.getUngrouped(), columns), ascending);
     }
 
     public GroupBy sort(int[] columns, boolean[] ascending) {
-        return sort(Comparators.of(groupBy.getUngrouped(), columns, ascending));
+        return sort(DataFrameSorter.sortColumns(groupBy.getUngrouped(), columns), ascending);
     }
 
     public <V extends Comparable<? super V>> GroupBy sort(RowToValueMapper<V> sortKeyExtractor) {
@@ -41,20 +45,105 @@ public class GroupBySorter {
     }
 
     public GroupBy sort(Sorter... sorters) {
-        return sorters.length == 0 ? groupBy : sort(Comparators.of(groupBy.getUngrouped(), sorters));
+
+        if (sorters.length == 0) {
+            return groupBy;
+        }
+
+        boolean[] ascending = new boolean[sorters.length];
+        Series<?>[] columns = DataFrameSorter.sortColumns(groupBy.getUngrouped(), sorters, ascending);
+        return columns != null
+                ? sort(columns, ascending)
+                : sort(Comparators.of(groupBy.getUngrouped(), sorters));
+    }
+
+    /**
+     * @since 0.11
+     */
+    public GroupBy sort(Series<?>[] columns, boolean[] ascending) {
+
+        // normalize object columns to int ranks once for all groups, instead of doing it per group
+        int h = groupBy.getUngrouped().height();
+        Series<?>[] keys = h >= IntRadixSort.RADIX_THRESHOLD
+                ? SortKeys.normalize(columns, SeriesSorter.rowNumberSequence(h))
+                : columns;
+
+        // the comparator is not used for sorting, but is passed to the resulting GroupBy for ranking and such
+        IntComparator sorter = Comparators.of(keys, ascending);
+
+        return sort(sorter, groupIndex -> {
+            int[] mutableIndex = groupIndex.toIntArray();
+            DataFrameSorter.sortIndex(mutableIndex, keys, ascending);
+            return mutableIndex;
+        }, true);
     }
 
+    /**
+     * Sorts each group with a custom comparator. The comparator is only called from the calling thread.
+     */
     public GroupBy sort(IntComparator sorter) {
 
         Objects.requireNonNull(sorter, "Null 'sorter'");
 
+        return sort(sorter, groupIndex -> {
+            int[] mutableIndex = groupIndex.toIntArray();
+            DataFrameSorter.sortIndex(mutableIndex, sorter);
+            return mutableIndex;
+        }, false);
+    }
+
+    /**
+     * Returns a GroupBy with each group containing the first "len" rows of the group sorted by the sorters, without
+     * doing a full sort of the groups. Produces the same result as <code>sort(sorters).head(len)</code>.
+     */
+    public GroupBy topN(int len, Sorter... sorters) {
+
+        if (sorters.length == 0) {
+            return groupBy.head(len);
+        }
+
+        IntComparator sorter = Comparators.of(groupBy.getUngrouped(), sorters);
+        boolean parallel = DataFrameSorter.isParallelizable(sorters);
+        return sort(sorter, groupIndex -> IntTopN.topN(groupIndex.toIntArray(), len, sorter, parallel), parallel);
+    }
+
+    /**
+     * Returns a GroupBy with each group containing the last "len" rows of the group sorted by the sorters, without
+     * doing a full sort of the groups. Produces the same result as <code>sort(sorters).tail(len)</code>.
+     */
+    public GroupBy bottomN(int len, Sorter... sorters) {
+
+        if (sorters.length == 0) {
+            return groupBy.tail(len);
+        }
+
+        IntComparator sorter = Comparators.of(groupBy.getUngrouped(), sorters);
+        boolean parallel = DataFrameSorter.isParallelizable(sorters);
+        return sort(sorter, groupIndex -> IntTopN.bottomN(groupIndex.toIntArray(), len, sorter, parallel), parallel);
+    }
+
+    /**
+     * @param parallel whether the groups of a large GroupBy can be sorted in parallel. The sorter must be safe to call
+     *                 from multiple threads if this is true.
+     */
+    protected GroupBy sort(IntComparator sorter, Function<IntSeries, int[]> groupSorter, boolean parallel) {
+
         DataFrame ungrouped = groupBy.getUngrouped();
-        Map<Object, IntSeries> sorted = new LinkedHashMap<>((int) (groupBy.size() / 0.75));
 
-        for (Object groupKey : groupBy.getGroups()) {
-            IntSeries groupIndex = groupBy.getGroupIndex(groupKey);
-            IntSeries sortedGroup = new DataFrameSorter(ungrouped, groupIndex).sortIndex(sorter);
-            sorted.put(groupKey, sortedGroup);
+        int len = groupBy.size();
+        Object[] keys = groupBy.getGroups().toArray();
+        IntSeries[] sortedGroups = new IntSeries[len];
+
+        IntStream range = IntStream.range(0, len);
+        if (parallel && ungrouped.height() >= IntParallelMergeSort.PARALLEL_THRESHOLD) {
+            range = range.parallel();
+        }
+
+        range.forEach(i -> sortedGroups[i] = IntSeries.forInts(groupSorter.apply(groupBy.getGroupIndex(keys[i]))));
+
+        Map<Object, IntSeries> sorted = new LinkedHashMap<>((int) (len / 0.75));
+        for (int i = 0; i < len; i++) {
+            sorted.put(keys[i], sortedGroups[i]);
         }
 
         return new GroupBy(ungrouped, sorted, sorter);
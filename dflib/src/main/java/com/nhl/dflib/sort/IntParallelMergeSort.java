@@ -0,0 +1,184 @@
+package com.nhl.dflib.sort;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A stable parallel merge sort of an int[] with a comparator. Splits the array into chunks that are sorted with
+ * {@link IntTimSort} in parallel, and then merges them, also in parallel. Falls back to a single-threaded
+ * {@link IntTimSort} for smaller arrays. The comparator must be safe to call from multiple threads.
+ *
+ * @since 0.11
+ */
+public class IntParallelMergeSort {
+
+    /**
+     * Arrays shorter than this will be sorted in the calling thread.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private static final int MIN_CHUNK = 1 << 13;
+
+    public static void sort(int[] a, IntComparator c) {
+        Objects.requireNonNull(c);
+
+        int len = a.length;
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+
+        if (len < PARALLEL_THRESHOLD || parallelism < 2) {
+            IntTimSort.sort(a, c);
+            return;
+        }
+
+        int chunk = Math.max(MIN_CHUNK, len / (parallelism * 4));
+        int[] buffer = new int[len];
+        ForkJoinPool.commonPool().invoke(new SortTask(a, buffer, 0, len, false, chunk, c));
+    }
+
+    // sorts the range of "src", leaving the result either in "src" or in "dst"
+    static class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int[] dst;
+        private final int lo;
+        private final int hi;
+        private final boolean toDst;
+        private final int chunk;
+        private final IntComparator c;
+
+        SortTask(int[] src, int[] dst, int lo, int hi, boolean toDst, int chunk, IntComparator c) {
+            this.src = src;
+            this.dst = dst;
+            this.lo = lo;
+            this.hi = hi;
+            this.toDst = toDst;
+            this.chunk = chunk;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (hi - lo <= chunk) {
+                IntTimSort.sort(src, lo, hi, c);
+                if (toDst) {
+                    System.arraycopy(src, lo, dst, lo, hi - lo);
+                }
+                return;
+            }
+
+            // "ping-pong" between the two arrays, so that the halves end up in the array opposite to the
+            // merge target, and no extra copying is needed
+            int mid = (lo + hi) >>> 1;
+            invokeAll(
+                    new SortTask(src, dst, lo, mid, !toDst, chunk, c),
+                    new SortTask(src, dst, mid, hi, !toDst, chunk, c));
+
+            int[] from = toDst ? src : dst;
+            int[] to = toDst ? dst : src;
+            new MergeTask(from, to, lo, mid, mid, hi, lo, chunk, c).compute();
+        }
+    }
+
+    // merges two adjacent sorted runs of "src" into "dst". For stability, elements of the left run go before the equal
+    // elements of the right run
+    static class MergeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int[] dst;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final int out;
+        private final int chunk;
+        private final IntComparator c;
+
+        MergeTask(int[] src, int[] dst, int lo1, int hi1, int lo2, int hi2, int out, int chunk, IntComparator c) {
+            this.src = src;
+            this.dst = dst;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.out = out;
+            this.chunk = chunk;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+
+            int len1 = hi1 - lo1;
+            int len2 = hi2 - lo2;
+
+            if (len1 + len2 <= chunk) {
+                merge();
+                return;
+            }
+
+            int split1;
+            int split2;
+
+            if (len1 >= len2) {
+                split1 = (lo1 + hi1) >>> 1;
+                split2 = lowerBound(src[split1], lo2, hi2);
+            } else {
+                split2 = (lo2 + hi2) >>> 1;
+                split1 = upperBound(src[split2], lo1, hi1);
+            }
+
+            int out2 = out + (split1 - lo1) + (split2 - lo2);
+            invokeAll(
+                    new MergeTask(src, dst, lo1, split1, lo2, split2, out, chunk, c),
+                    new MergeTask(src, dst, split1, hi1, split2, hi2, out2, chunk, c));
+        }
+
+        private void merge() {
+            int i = lo1;
+            int j = lo2;
+            int k = out;
+
+            while (i < hi1 && j < hi2) {
+                dst[k++] = c.compare(src[j], src[i]) < 0 ? src[j++] : src[i++];
+            }
+
+            if (i < hi1) {
+                System.arraycopy(src, i, dst, k, hi1 - i);
+            } else if (j < hi2) {
+                System.arraycopy(src, j, dst, k, hi2 - j);
+            }
+        }
+
+        // first position in range with the element not less than the key
+        private int lowerBound(int key, int lo, int hi) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (c.compare(src[mid], key) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // first position in range with the element greater than the key
+        private int upperBound(int key, int lo, int hi) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (c.compare(src[mid], key) <= 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+}
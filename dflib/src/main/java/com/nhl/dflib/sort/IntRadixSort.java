@@ -0,0 +1,264 @@
+package com.nhl.dflib.sort;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+
+/**
+ * A stable LSD radix sort of an index array by one or more numeric or boolean columns. Column values are converted to
+ * "normalized" unsigned keys, whose bitwise ordering matches the ordering of {@link Comparators}, including the
+ * placement of nulls (last for ascending sort, first for descending). The index is then sorted with a sequence of
+ * counting sort passes, one byte at a time, starting from the least significant column. Passes over bytes that are the
+ * same for all values (e.g. high bytes of small ints) are skipped.
+ *
+ * @since 0.11
+ */
+public class IntRadixSort {
+
+    /**
+     * Index arrays shorter than this are sorted faster by comparison sorts.
+     */
+    public static final int RADIX_THRESHOLD = 1 << 10;
+
+    private static final int RADIX = 256;
+
+    /**
+     * Returns whether the columns can be sorted by this algorithm without inspecting their values. Object columns
+     * may still be rejected by {@link #sort(int[], Series[], boolean[])} if they contain non-numeric values.
+     */
+    public static boolean supportsPrimitive(Series<?>[] columns) {
+        for (Series<?> c : columns) {
+            if (KeyType.ofPrimitive(c) == null) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts the index of the columns rows. Returns false, leaving the index intact, if any of the columns contain
+     * values that can't be radix-sorted.
+     */
+    public static boolean sort(int[] index, Series<?>[] columns, boolean[] ascending) {
+
+        int w = columns.length;
+        if (w == 0) {
+            throw new IllegalArgumentException("No sort columns");
+        }
+
+        KeyType[] types = new KeyType[w];
+        for (int i = 0; i < w; i++) {
+            types[i] = KeyType.of(columns[i], index);
+            if (types[i] == null) {
+                return false;
+            }
+        }
+
+        int len = index.length;
+        if (len < 2) {
+            return true;
+        }
+
+        long[] keys = new long[len];
+        long[] keysBuffer = new long[len];
+        int[] indexBuffer = new int[len];
+
+        // LSD: the last column is the least significant
+        for (int c = w - 1; c >= 0; c--) {
+
+            Series<?> column = columns[c];
+            KeyType type = types[c];
+            long mask = type.mask();
+            long flip = ascending[c] ? 0L : mask;
+
+            for (int i = 0; i < len; i++) {
+                keys[i] = type.key(column, index[i]) ^ flip;
+            }
+
+            int[][] counts = new int[type.bytes][RADIX];
+            for (int i = 0; i < len; i++) {
+                long k = keys[i];
+                for (int b = 0; b < type.bytes; b++) {
+                    counts[b][(int) (k >>> (b * 8)) & 0xFF]++;
+                }
+            }
+
+            for (int b = 0; b < type.bytes; b++) {
+
+                int[] bucketCounts = counts[b];
+                int shift = b * 8;
+
+                if (bucketCounts[(int) (keys[0] >>> shift) & 0xFF] == len) {
+                    continue;
+                }
+
+                int[] offsets = new int[RADIX];
+                for (int r = 1; r < RADIX; r++) {
+                    offsets[r] = offsets[r - 1] + bucketCounts[r - 1];
+                }
+
+                for (int i = 0; i < len; i++) {
+                    long k = keys[i];
+                    int pos = offsets[(int) (k >>> shift) & 0xFF]++;
+                    indexBuffer[pos] = index[i];
+                    keysBuffer[pos] = k;
+                }
+
+                System.arraycopy(indexBuffer, 0, index, 0, len);
+
+                long[] swap = keys;
+                keys = keysBuffer;
+                keysBuffer = swap;
+            }
+
+            // null flag is more significant than the value, so it is applied after the value passes
+            if (type.nullable) {
+                partitionNulls(index, indexBuffer, column, !ascending[c]);
+            }
+        }
+
+        return true;
+    }
+
+    private static void partitionNulls(int[] index, int[] buffer, Series<?> column, boolean nullsFirst) {
+
+        int len = index.length;
+        int nulls = 0;
+        for (int i = 0; i < len; i++) {
+            if (column.get(index[i]) == null) {
+                nulls++;
+            }
+        }
+
+        if (nulls == 0 || nulls == len) {
+            return;
+        }
+
+        int nullPos = nullsFirst ? 0 : len - nulls;
+        int valuePos = nullsFirst ? nulls : 0;
+
+        for (int i = 0; i < len; i++) {
+            int row = index[i];
+            if (column.get(row) == null) {
+                buffer[nullPos++] = row;
+            } else {
+                buffer[valuePos++] = row;
+            }
+        }
+
+        System.arraycopy(buffer, 0, index, 0, len);
+    }
+
+    enum KeyType {
+
+        INT(4), LONG(8), DOUBLE(8), BOOLEAN(1),
+        INT_OBJECT(4), LONG_OBJECT(8), DOUBLE_OBJECT(8), BOOLEAN_OBJECT(1);
+
+        final int bytes;
+        final boolean nullable;
+
+        KeyType(int bytes) {
+            this.bytes = bytes;
+            this.nullable = name().endsWith("_OBJECT");
+        }
+
+        static KeyType ofPrimitive(Series<?> s) {
+            if (s instanceof IntSeries) {
+                return INT;
+            } else if (s instanceof LongSeries) {
+                return LONG;
+            } else if (s instanceof DoubleSeries) {
+                return DOUBLE;
+            } else if (s instanceof BooleanSeries) {
+                return BOOLEAN;
+            }
+
+            return null;
+        }
+
+        static KeyType of(Series<?> s, int[] index) {
+
+            KeyType primitive = ofPrimitive(s);
+            if (primitive != null) {
+                return primitive;
+            }
+
+            // all non-null values must be of the same supported type
+            Class<?> type = null;
+            for (int row : index) {
+                Object v = s.get(row);
+                if (v == null) {
+                    continue;
+                }
+
+                if (type == null) {
+                    type = v.getClass();
+                } else if (type != v.getClass()) {
+                    return null;
+                }
+            }
+
+            if (type == null || type == Integer.class) {
+                return INT_OBJECT;
+            } else if (type == Long.class) {
+                return LONG_OBJECT;
+            } else if (type == Double.class) {
+                return DOUBLE_OBJECT;
+            } else if (type == Boolean.class) {
+                return BOOLEAN_OBJECT;
+            }
+
+            return null;
+        }
+
+        long mask() {
+            return bytes == 8 ? -1L : (1L << (bytes * 8)) - 1;
+        }
+
+        long key(Series<?> s, int row) {
+            switch (this) {
+                case INT:
+                    return intKey(((IntSeries) s).getInt(row));
+                case LONG:
+                    return longKey(((LongSeries) s).getLong(row));
+                case DOUBLE:
+                    return doubleKey(((DoubleSeries) s).getDouble(row));
+                case BOOLEAN:
+                    return ((BooleanSeries) s).getBoolean(row) ? 1L : 0L;
+                default:
+                    Object v = s.get(row);
+                    if (v == null) {
+                        return 0L;
+                    }
+
+                    switch (this) {
+                        case INT_OBJECT:
+                            return intKey((Integer) v);
+                        case LONG_OBJECT:
+                            return longKey((Long) v);
+                        case DOUBLE_OBJECT:
+                            return doubleKey((Double) v);
+                        default:
+                            return (Boolean) v ? 1L : 0L;
+                    }
+            }
+        }
+
+        private static long intKey(int v) {
+            return (v ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+        }
+
+        private static long longKey(long v) {
+            return v ^ Long.MIN_VALUE;
+        }
+
+        // matches the ordering of Double.compare(..), i.e. -0.0 < 0.0 and NaN is greater than any other value
+        private static long doubleKey(double v) {
+            long bits = Double.doubleToLongBits(v);
+            return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.nhl.dflib.sort;
+
+/**
+ * Selects the first or the last N elements of an index in the order of a comparator without sorting the entire
+ * index. Uses a bounded binary heap of N elements, so the complexity is O(L * log(N)) instead of O(L * log(L)) of a
+ * full sort. The result is the same as that of a stable sort followed by "head" or "tail", i.e. equal elements are
+ * ordered according to their positions in the index. Unless "parallel" is requested explicitly, the comparator is only
+ * called from the calling thread.
+ *
+ * @since 0.11
+ */
+public class IntTopN {
+
+    /**
+     * Returns the first "n" elements of the index in the comparator order. The returned array is sorted.
+     */
+    public static int[] topN(int[] index, int n, IntComparator comparator) {
+        return topN(index, n, comparator, false);
+    }
+
+    /**
+     * Returns the first "n" elements of the index in the comparator order. The returned array is sorted.
+     *
+     * @param parallel whether a full sort of a large index, done when "n" is close to the index length, can be
+     *                 parallelized. The comparator must be safe to call from multiple threads if this is true.
+     */
+    public static int[] topN(int[] index, int n, IntComparator comparator, boolean parallel) {
+
+        if (n < 0) {
+            throw new IllegalArgumentException("Length must be non-negative: " + n);
+        }
+
+        int len = index.length;
+
+        // when most of the elements would survive, a full sort is cheaper than the heap maintenance
+        if (n * 4L >= len) {
+            int[] sorted = index.clone();
+            sort(sorted, comparator, parallel);
+            return n >= len ? sorted : copy(sorted, 0, n);
+        }
+
+        // elements are compared by their position in the index when the comparator deems them equal, so that the
+        // result is stable
+        IntComparator total = (p1, p2) -> {
+            int c = comparator.compare(index[p1], index[p2]);
+            return c != 0 ? c : Integer.compare(p1, p2);
+        };
+
+        int[] positions = selectSmallest(len, n, total);
+        IntTimSort.sort(positions, total);
+
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = index[positions[i]];
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the last "n" elements of the index in the comparator order. The returned array is sorted.
+     */
+    public static int[] bottomN(int[] index, int n, IntComparator comparator) {
+        return bottomN(index, n, comparator, false);
+    }
+
+    /**
+     * Returns the last "n" elements of the index in the comparator order. The returned array is sorted.
+     *
+     * @param parallel whether a full sort of a large index, done when "n" is close to the index length, can be
+     *                 parallelized. The comparator must be safe to call from multiple threads if this is true.
+     */
+    public static int[] bottomN(int[] index, int n, IntComparator comparator, boolean parallel) {
+
+        if (n < 0) {
+            throw new IllegalArgumentException("Length must be non-negative: " + n);
+        }
+
+        int len = index.length;
+
+        if (n * 4L >= len) {
+            int[] sorted = index.clone();
+            sort(sorted, comparator, parallel);
+            return n >= len ? sorted : copy(sorted, len - n, n);
+        }
+
+        IntComparator total = (p1, p2) -> {
+            int c = comparator.compare(index[p1], index[p2]);
+            return c != 0 ? c : Integer.compare(p1, p2);
+        };
+
+        int[] positions = selectSmallest(len, n, (p1, p2) -> total.compare(p2, p1));
+        IntTimSort.sort(positions, total);
+
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = index[positions[i]];
+        }
+
+        return result;
+    }
+
+    private static int[] copy(int[] data, int from, int len) {
+        int[] copy = new int[len];
+        System.arraycopy(data, from, copy, 0, len);
+        return copy;
+    }
+
+    // returns "n" smallest positions in the [0, len) range according to a comparator that defines total order (i.e.
+    // never returns 0 for different positions)
+    private static int[] selectSmallest(int len, int n, IntComparator c) {
+
+        // a max-heap, with the largest of the kept elements at the root
+        int[] heap = new int[n];
+
+        if (n == 0) {
+            return heap;
+        }
+
+        for (int i = 0; i < n; i++) {
+            heap[i] = i;
+            siftUp(heap, i, c);
+        }
+
+        for (int i = n; i < len; i++) {
+            if (c.compare(i, heap[0]) < 0) {
+                heap[0] = i;
+                siftDown(heap, n, c);
+            }
+        }
+
+        return heap;
+    }
+
+    private static void siftUp(int[] heap, int pos, IntComparator c) {
+        int e = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (c.compare(heap[parent], e) >= 0) {
+                break;
+            }
+
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+
+        heap[pos] = e;
+    }
+
+    private static void siftDown(int[] heap, int size, IntComparator c) {
+        int e = heap[0];
+        int pos = 0;
+        int half = size >>> 1;
+
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            int right = child + 1;
+            if (right < size && c.compare(heap[right], heap[child]) > 0) {
+                child = right;
+            }
+
+            if (c.compare(e, heap[child]) >= 0) {
+                break;
+            }
+
+            heap[pos] = heap[child];
+            pos = child;
+        }
+
+        heap[pos] = e;
+    }
+
+    private static void sort(int[] index, IntComparator comparator, boolean parallel) {
+        if (parallel) {
+            IntParallelMergeSort.sort(index, comparator);
+        } else {
+            IntTimSort.sort(index, comparator);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.nhl.dflib.sort;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.series.IntArraySeries;
+import com.nhl.dflib.series.IntBaseSeries;
+
+/**
+ * An IntSeries of the column rows ranks, that only stores the ranks of a range of rows. Rows outside the range have
+ * the rank of zero. Allows to rank a part of a large column without allocating an array of the full column size.
+ *
+ * @since 0.11
+ */
+class RowRanks extends IntBaseSeries {
+
+    private final int[] ranks;
+    private final int offset;
+    private final int size;
+
+    RowRanks(int[] ranks, int offset, int size) {
+        this.ranks = ranks;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int getInt(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        int i = index - offset;
+        return i >= 0 && i < ranks.length ? ranks[i] : 0;
+    }
+
+    @Override
+    public void copyToInt(int[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = getInt(fromOffset + i);
+        }
+    }
+
+    @Override
+    public IntSeries materializeInt() {
+        int[] data = new int[size];
+        System.arraycopy(ranks, 0, data, offset, ranks.length);
+        return new IntArraySeries(data);
+    }
+
+    @Override
+    public IntSeries rangeOpenClosedInt(int fromInclusive, int toExclusive) {
+        return materializeInt().rangeOpenClosedInt(fromInclusive, toExclusive);
+    }
+
+    @Override
+    public IntSeries headInt(int len) {
+        return materializeInt().headInt(len);
+    }
+
+    @Override
+    public IntSeries tailInt(int len) {
+        return materializeInt().tailInt(len);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int max() {
+        return materializeInt().max();
+    }
+
+    @Override
+    public int min() {
+        return materializeInt().min();
+    }
+
+    @Override
+    public long sum() {
+        return materializeInt().sum();
+    }
+
+    @Override
+    public double avg() {
+        return materializeInt().avg();
+    }
+
+    @Override
+    public double median() {
+        return materializeInt().median();
+    }
+}
@@ -3,6 +3,7 @@ package com.nhl.dflib.sort;
 import com.nhl.dflib.IntSeries;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.Sorter;
+import com.nhl.dflib.exp.sort.ExpSorter;
 import com.nhl.dflib.series.ArraySeries;
 import com.nhl.dflib.series.IntArraySeries;
 
@@ -29,9 +30,21 @@ public class SeriesSorter<T> {
         return rn;
     }
 
+    /**
+     * Creates a sort index with a custom comparator. The comparator is only called from the calling thread.
+     */
     public IntSeries sortIndex(IntComparator comparator) {
         int[] mutableIndex = SeriesSorter.rowNumberSequence(s.size());
-        IntTimSort.sort(mutableIndex, comparator);
+        DataFrameSorter.sortIndex(mutableIndex, comparator);
+        return new IntArraySeries(mutableIndex);
+    }
+
+    /**
+     * Creates a sort index using the Series itself as a sort key.
+     */
+    public IntSeries sortIndex(boolean ascending) {
+        int[] mutableIndex = SeriesSorter.rowNumberSequence(s.size());
+        DataFrameSorter.sortIndex(mutableIndex, new Series[]{s}, new boolean[]{ascending});
         return new IntArraySeries(mutableIndex);
     }
 
@@ -40,7 +53,60 @@ public class SeriesSorter<T> {
     }
 
     public IntSeries sortIndex(Sorter... sorters) {
-        return sortIndex(Comparators.of(s, sorters));
+
+        int w = sorters.length;
+        Series<?>[] columns = new Series[w];
+        boolean[] ascending = new boolean[w];
+
+        for (int i = 0; i < w; i++) {
+            if (!(sorters[i] instanceof ExpSorter)) {
+                return sortIndex(Comparators.of(s, sorters));
+            }
+
+            ExpSorter sorter = (ExpSorter) sorters[i];
+            columns[i] = sorter.getExp().eval(s);
+            ascending[i] = sorter.isAscending();
+        }
+
+        int[] mutableIndex = SeriesSorter.rowNumberSequence(s.size());
+        DataFrameSorter.sortIndex(mutableIndex, columns, ascending);
+        return new IntArraySeries(mutableIndex);
+    }
+
+    /**
+     * Returns the first "len" elements of the Series sorted by the sorters, without doing a full sort.
+     */
+    public Series<T> topN(int len, Sorter... sorters) {
+        return sorters.length == 0
+                ? s.head(len)
+                : topN(len, Comparators.of(s, sorters), DataFrameSorter.isParallelizable(sorters));
+    }
+
+    public Series<T> topN(int len, Comparator<? super T> comparator) {
+        return topN(len, Comparators.of(s, comparator), false);
+    }
+
+    /**
+     * Returns the last "len" elements of the Series sorted by the sorters, without doing a full sort.
+     */
+    public Series<T> bottomN(int len, Sorter... sorters) {
+        return sorters.length == 0
+                ? s.tail(len)
+                : bottomN(len, Comparators.of(s, sorters), DataFrameSorter.isParallelizable(sorters));
+    }
+
+    public Series<T> bottomN(int len, Comparator<? super T> comparator) {
+        return bottomN(len, Comparators.of(s, comparator), false);
+    }
+
+    private Series<T> topN(int len, IntComparator comparator, boolean parallel) {
+        int[] index = IntTopN.topN(rowNumberSequence(s.size()), len, comparator, parallel);
+        return s.select(new IntArraySeries(index));
+    }
+
+    private Series<T> bottomN(int len, IntComparator comparator, boolean parallel) {
+        int[] index = IntTopN.bottomN(rowNumberSequence(s.size()), len, comparator, parallel);
+        return s.select(new IntArraySeries(index));
     }
 
     public Series<T> sort(Sorter... sorters) {
@@ -0,0 +1,101 @@
+package com.nhl.dflib.sort;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.collection.ObjectHashSet;
+import com.nhl.dflib.series.ChunkedSeries;
+
+/**
+ * Converts sort columns to "normalized" keys that can be compared as primitives. Columns of Strings and other
+ * Comparable objects are replaced with IntSeries of dense ranks, calculated by sorting the distinct column values
+ * once. A sort by the ranks produces the same order as a sort by the original values, but can be done by
+ * {@link IntRadixSort} or with cheap int comparisons, which matters most for multi-column sorts and for columns with
+ * few distinct values.
+ *
+ * @since 0.11
+ */
+public class SortKeys {
+
+    /**
+     * Returns an array of columns with every column that can't be radix-sorted replaced with an IntSeries of dense
+     * ranks of its values. Only the rows present in the index are ranked, other rows get a rank of zero.
+     */
+    public static Series<?>[] normalize(Series<?>[] columns, int[] index) {
+
+        int w = columns.length;
+        Series<?>[] normalized = new Series[w];
+
+        for (int i = 0; i < w; i++) {
+
+            // chunked columns are materialized once to avoid a chunk lookup on every key access
+            Series<?> column = ChunkedSeries.isChunked(columns[i]) ? columns[i].materialize() : columns[i];
+            normalized[i] = IntRadixSort.KeyType.of(column, index) != null
+                    ? column
+                    : denseRanks(column, index);
+        }
+
+        return normalized;
+    }
+
+    /**
+     * Returns an IntSeries with dense ranks of the Comparable values of the column. Equal values (per "compareTo")
+     * get the same rank. Nulls are ranked after all other values.
+     */
+    public static IntSeries denseRanks(Series<?> column) {
+        return denseRanks(column, SeriesSorter.rowNumberSequence(column.size()));
+    }
+
+    /**
+     * Returns an IntSeries with dense ranks of the Comparable values of the column rows present in the index. Rows not
+     * in the index get a rank of zero.
+     */
+    public static IntSeries denseRanks(Series<?> column, int[] index) {
+
+        int len = index.length;
+
+        ObjectHashSet<Object> distinct = new ObjectHashSet<>();
+        int[] positions = new int[len];
+        for (int i = 0; i < len; i++) {
+            positions[i] = distinct.put(column.get(index[i]));
+        }
+
+        int dlen = distinct.size();
+        int[] order = SeriesSorter.rowNumberSequence(dlen);
+        IntParallelMergeSort.sort(order, (p1, p2) -> Comparators.nullsLastCompare(
+                (Comparable) distinct.get(p1),
+                (Comparable) distinct.get(p2)));
+
+        // values that are not "equal", but compare as such (e.g. BigDecimals of different scale) must share a rank
+        // to keep the sort stable
+        int[] rankOf = new int[dlen];
+        int rank = 0;
+        for (int i = 0; i < dlen; i++) {
+            if (i > 0 && Comparators.nullsLastCompare(
+                    (Comparable) distinct.get(order[i - 1]),
+                    (Comparable) distinct.get(order[i])) != 0) {
+                rank++;
+            }
+
+            rankOf[order[i]] = rank;
+        }
+
+        // only allocating the ranks for the range of rows spanned by the index, which may be a small part of the column
+        int min = 0;
+        int max = -1;
+        if (len > 0) {
+            min = index[0];
+            max = index[0];
+            for (int i = 1; i < len; i++) {
+                min = Math.min(min, index[i]);
+                max = Math.max(max, index[i]);
+            }
+        }
+
+        int[] ranks = new int[max - min + 1];
+        for (int i = 0; i < len; i++) {
+            ranks[index[i] - min] = rankOf[positions[i]];
+        }
+
+        return new RowRanks(ranks, min, column.size());
+    }
+}
@@ -0,0 +1,134 @@
+package com.nhl.dflib;
+
+import com.nhl.dflib.exp.agg.ApproxAggregators;
+import com.nhl.dflib.exp.agg.HyperLogLog;
+import com.nhl.dflib.exp.agg.TDigest;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DataFrame_AggApproxTest {
+
+    @Test
+    public void testApproxCountDistinct() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                1, "z",
+                null, "x",
+                1, "x");
+
+        DataFrame agg = df.agg(
+                Exp.$int("a").approxCountDistinct(),
+                Exp.$str("b").approxCountDistinct());
+
+        new DataFrameAsserts(agg, "approxCountDistinct(a)", "approxCountDistinct(b)")
+                .expectHeight(1)
+                .expectRow(0, 2L, 3L);
+    }
+
+    @Test
+    public void testApproxCountDistinct_Large() {
+        int[] data = new int[200_000];
+        for (int i = 0; i < data.length; i++) {
+            // 150K distinct values, with some repeating
+            data[i] = i < 100_000 ? i : i - 50_000;
+        }
+
+        DataFrame df = DataFrame.newFrame("a").columns(IntSeries.forInts(data));
+        long count = (Long) df.agg(Exp.$int("a").approxCountDistinct()).getColumn(0).get(0);
+
+        // standard error for the default precision is ~0.8%
+        assertEquals(150_000, count, 150_000 * 0.03);
+    }
+
+    @Test
+    public void testApproxQuantile() {
+        DataFrame df = DataFrame.newFrame("a").foldByRow(1, 2, 3, 4, null);
+
+        DataFrame agg = df.agg(
+                Exp.$int("a").approxQuantile(0.5),
+                Exp.$int("a").approxQuantile(0.),
+                Exp.$int("a").approxQuantile(1.));
+
+        new DataFrameAsserts(agg, "approxQuantile(a,0.5)", "approxQuantile(a,0.0)", "approxQuantile(a,1.0)")
+                .expectHeight(1)
+                .expectRow(0, 2.5, 1., 4.);
+    }
+
+    @Test
+    public void testApproxQuantile_Filtered() {
+        DataFrame df = DataFrame.newFrame("a").foldByRow(1, 2, 3, 4, 5);
+
+        DataFrame agg = df.agg(Exp.$int("a").approxQuantile(Exp.$int("a").gt(2), 0.5));
+
+        new DataFrameAsserts(agg, "approxQuantile(a,0.5)")
+                .expectHeight(1)
+                .expectRow(0, 4.);
+    }
+
+    @Test
+    public void testGroupBy() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, 10,
+                2, 5,
+                1, 20,
+                2, 5,
+                1, 30);
+
+        DataFrame agg = df.group("a").agg(
+                Exp.$int("a").first(),
+                Exp.$int("b").approxCountDistinct(),
+                Exp.$int("b").approxQuantile(0.5));
+
+        new DataFrameAsserts(agg, "a", "approxCountDistinct(b)", "approxQuantile(b,0.5)")
+                .expectHeight(2)
+                .expectRow(0, 1, 3L, 20.)
+                .expectRow(1, 2, 1L, 5.);
+    }
+
+    @Test
+    public void testOver() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                1, "z",
+                2, "y");
+
+        DataFrame r = df.over().partitioned("a").agg(Exp.$str("b").approxCountDistinct());
+        new DataFrameAsserts(r, "approxCountDistinct(b)")
+                .expectHeight(4)
+                .expectRow(0, 2L)
+                .expectRow(1, 1L)
+                .expectRow(2, 2L)
+                .expectRow(3, 1L);
+    }
+
+    @Test
+    public void testMergeSketches() {
+        DataFrame batch1 = DataFrame.newFrame("a").foldByRow(1, 2, 3);
+        DataFrame batch2 = DataFrame.newFrame("a").foldByRow(3, 4, 5, 6);
+
+        HyperLogLog hll1 = (HyperLogLog) batch1.agg(Exp.$int("a").hll()).getColumn(0).get(0);
+        HyperLogLog hll2 = (HyperLogLog) batch2.agg(Exp.$int("a").hll()).getColumn(0).get(0);
+        TDigest td1 = (TDigest) batch1.agg(Exp.$int("a").tdigest()).getColumn(0).get(0);
+        TDigest td2 = (TDigest) batch2.agg(Exp.$int("a").tdigest()).getColumn(0).get(0);
+
+        // simulate sketches coming from different processes
+        DataFrame sketches = DataFrame.newFrame("hll", "td").foldByRow(
+                HyperLogLog.fromBytes(hll1.toBytes()), TDigest.fromBytes(td1.toBytes()),
+                HyperLogLog.fromBytes(hll2.toBytes()), TDigest.fromBytes(td2.toBytes()));
+
+        DataFrame merged = sketches.agg(
+                Exp.$col("hll", HyperLogLog.class).agg(ApproxAggregators::mergeHll),
+                Exp.$col("td", TDigest.class).agg(ApproxAggregators::mergeTDigest));
+
+        HyperLogLog hll = (HyperLogLog) merged.getColumn(0).get(0);
+        TDigest td = (TDigest) merged.getColumn(1).get(0);
+
+        assertEquals(6L, hll.estimate());
+        assertEquals(7L, td.size());
+        assertEquals(3., td.quantile(0.5), 0.0001);
+    }
+}
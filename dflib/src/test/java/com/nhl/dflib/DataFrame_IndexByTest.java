@@ -0,0 +1,135 @@
+package com.nhl.dflib;
+
+import com.nhl.dflib.select.ColumnIndex;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import com.nhl.dflib.unit.IntSeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataFrame_IndexByTest {
+
+    private static final DataFrame DF = DataFrame.newFrame("a", "b").foldByRow(
+            "c", 3,
+            "a", 1,
+            null, 7,
+            "b", 2,
+            "a", 5,
+            "d", 4);
+
+    @Test
+    public void testEq() {
+        ColumnIndex<String> index = DF.indexBy("a");
+        assertEquals(6, index.size());
+
+        new IntSeriesAsserts(index.eq("a")).expectData(1, 4);
+        new IntSeriesAsserts(index.eq("x")).expectData();
+        new IntSeriesAsserts(index.eq(null)).expectData();
+
+        new DataFrameAsserts(DF.selectRows(index.eq("a")), "a", "b")
+                .expectHeight(2)
+                .expectRow(0, "a", 1)
+                .expectRow(1, "a", 5);
+    }
+
+    @Test
+    public void testIn() {
+        ColumnIndex<String> index = DF.indexBy(0);
+        new IntSeriesAsserts(index.in("d", "a", "x", "d")).expectData(5, 1, 4);
+    }
+
+    @Test
+    public void testRanges() {
+        ColumnIndex<String> index = DF.indexBy("a");
+
+        new IntSeriesAsserts(index.lt("b")).expectData(1, 4);
+        new IntSeriesAsserts(index.le("b")).expectData(1, 4, 3);
+        new IntSeriesAsserts(index.gt("b")).expectData(0, 5);
+        new IntSeriesAsserts(index.ge("b")).expectData(3, 0, 5);
+        new IntSeriesAsserts(index.between("b", "c")).expectData(3, 0);
+        new IntSeriesAsserts(index.between("c", "b")).expectData();
+        new IntSeriesAsserts(index.between("aa", "cc")).expectData(3, 0);
+    }
+
+    @Test
+    public void testInt() {
+        DataFrame df = DataFrame.newFrame("a").columns(IntSeries.forInts(5, -1, 3, 3, 8));
+        ColumnIndex<Integer> index = df.indexBy("a");
+
+        new IntSeriesAsserts(index.eq(3)).expectData(2, 3);
+        new IntSeriesAsserts(index.between(0, 5)).expectData(2, 3, 0);
+        new IntSeriesAsserts(index.gt(5)).expectData(4);
+        new IntSeriesAsserts(index.lt(-1)).expectData();
+    }
+
+    @Test
+    public void testDecimal_CompareToEquality() {
+        DataFrame df = DataFrame.newFrame("a").foldByRow(
+                new BigDecimal("1.00"),
+                new BigDecimal("0.5"),
+                new BigDecimal("1.0"));
+
+        ColumnIndex<BigDecimal> index = df.indexBy("a");
+        new IntSeriesAsserts(index.eq(BigDecimal.ONE)).expectData(0, 2);
+    }
+
+    @Test
+    public void testIn_MissingValue() {
+        ColumnIndex<String> index = DF.indexBy(0);
+        new IntSeriesAsserts(index.in("bb", "c")).expectData(0);
+    }
+
+    @Test
+    public void testIn_DuplicatesByCompareTo() {
+        DataFrame df = DataFrame.newFrame("a").foldByRow(
+                new BigDecimal("1.00"),
+                new BigDecimal("0.5"),
+                new BigDecimal("1.0"));
+
+        ColumnIndex<BigDecimal> index = df.indexBy("a");
+        new IntSeriesAsserts(index.in(new BigDecimal("1.0"), new BigDecimal("1.00"))).expectData(0, 2);
+    }
+
+    @Test
+    public void testIn_NegativeZero() {
+        DataFrame df = DataFrame.newFrame("a").columns(DoubleSeries.forDoubles(0., -1., -0.));
+        ColumnIndex<Double> index = df.indexBy("a");
+
+        new IntSeriesAsserts(index.in(0., -0.)).expectData(2, 0);
+    }
+
+    @Test
+    public void testDouble_NaN() {
+        DataFrame df = DataFrame.newFrame("a").columns(DoubleSeries.forDoubles(2.5, Double.NaN, -1., 4.));
+        ColumnIndex<Double> index = df.indexBy("a");
+
+        new IntSeriesAsserts(index.gt(0.)).expectData(0, 3);
+        new IntSeriesAsserts(index.ge(-1.)).expectData(2, 0, 3);
+        new IntSeriesAsserts(index.eq(Double.NaN)).expectData();
+        new IntSeriesAsserts(index.gt(Double.NaN)).expectData();
+        new IntSeriesAsserts(index.lt(Double.NaN)).expectData();
+        new IntSeriesAsserts(index.in(Double.NaN, 4.)).expectData(3);
+    }
+
+    @Test
+    public void testDouble_NaNAndNulls() {
+        DataFrame df = DataFrame.newFrame("a").foldByRow(2.5, null, Double.NaN, 4.);
+        ColumnIndex<Double> index = df.indexBy("a");
+
+        new IntSeriesAsserts(index.gt(0.)).expectData(0, 3);
+        new IntSeriesAsserts(index.between(0., Double.NaN)).expectData();
+    }
+
+    @Test
+    public void testDouble_NegativeZero() {
+        DataFrame df = DataFrame.newFrame("a").columns(DoubleSeries.forDoubles(0., -1., -0., 1.));
+        ColumnIndex<Double> index = df.indexBy("a");
+
+        new IntSeriesAsserts(index.eq(0.)).expectData(2, 0);
+        new IntSeriesAsserts(index.eq(-0.)).expectData(2, 0);
+        new IntSeriesAsserts(index.gt(-0.)).expectData(3);
+        new IntSeriesAsserts(index.lt(0.)).expectData(1);
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Objects;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class DataFrame_JoinsTest {
 
     @Test
@@ -406,4 +408,108 @@ public class DataFrame_JoinsTest {
                 .expectRow(2, 2, "y", 2, "b", JoinIndicator.both)
                 .expectRow(3, null, null, 3, "c", JoinIndicator.right_only);
     }
+
+    @Test
+    public void testInner_UniqueRightKeys() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                null, "z",
+                3, "w",
+                2, "v");
+
+        Series<Integer> keys = Series.forData(2, 3, null);
+        keys.getStats().markUnique();
+        DataFrame df2 = DataFrame.newFrame("c", "d").columns(keys, Series.forData("a", "b", "n"));
+
+        DataFrame df = df1.innerJoin()
+                .on("a", "c")
+                .with(df2);
+
+        new DataFrameAsserts(df, "a", "b", "c", "d")
+                .expectHeight(3)
+                .expectRow(0, 2, "y", 2, "a")
+                .expectRow(1, 3, "w", 3, "b")
+                .expectRow(2, 2, "v", 2, "a");
+    }
+
+    @Test
+    public void testInner_UniqueRightKeysFromGroup() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                3, "w",
+                2, "v");
+
+        DataFrame df2 = DataFrame.newFrame("c", "d").foldByRow(
+                2, 10,
+                3, 20,
+                2, 30,
+                4, 40)
+                .group("c")
+                .agg(Exp.$col("c").first(), Exp.$int("d").sum());
+
+        assertTrue(df2.getColumn("c").getStats().isKnownUnique());
+
+        DataFrame df = df1.innerJoin()
+                .on("a", "c")
+                .with(df2);
+
+        new DataFrameAsserts(df, "a", "b", "c", "sum(d)")
+                .expectHeight(3)
+                .expectRow(0, 2, "y", 2, 40)
+                .expectRow(1, 3, "w", 3, 20)
+                .expectRow(2, 2, "v", 2, 40);
+    }
+
+    @Test
+    public void testLeft_UniqueRightKeys() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                null, "z",
+                3, "w");
+
+        Series<Integer> keys = Series.forData(2, 3, null);
+        keys.getStats().markUnique();
+        DataFrame df2 = DataFrame.newFrame("c", "d").columns(keys, Series.forData("a", "b", "n"));
+
+        DataFrame df = df1.leftJoin()
+                .on("a", "c")
+                .with(df2);
+
+        new DataFrameAsserts(df, "a", "b", "c", "d")
+                .expectHeight(4)
+                .expectRow(0, 1, "x", null, null)
+                .expectRow(1, 2, "y", 2, "a")
+                .expectRow(2, null, "z", null, null)
+                .expectRow(3, 3, "w", 3, "b");
+    }
+
+    @Test
+    public void testRight_UniqueLeftKeys() {
+
+        DataFrame df1 = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                2, "z");
+
+        DataFrame df2 = DataFrame.newFrame("c", "d").foldByRow(
+                2, "a",
+                3, "b").sort("c", true);
+        df2.getColumn("c").getStats().markUnique();
+
+        DataFrame df = df2.rightJoin()
+                .on("c", "a")
+                .with(df1);
+
+        new DataFrameAsserts(df, "c", "d", "a", "b")
+                .expectHeight(3)
+                .expectRow(0, null, null, 1, "x")
+                .expectRow(1, 2, "a", 2, "y")
+                .expectRow(2, 2, "a", 2, "z");
+    }
 }
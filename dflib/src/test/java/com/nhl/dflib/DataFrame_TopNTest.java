@@ -0,0 +1,128 @@
+package com.nhl.dflib;
+
+import com.nhl.dflib.series.IntSequenceSeries;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.nhl.dflib.Exp.$int;
+import static com.nhl.dflib.Exp.$str;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DataFrame_TopNTest {
+
+    @Test
+    public void testTopN() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                1, "z",
+                0, "a",
+                2, "b",
+                1, "c",
+                3, "d",
+                1, "e",
+                2, "f");
+
+        new DataFrameAsserts(df.topN(2, $int("a").desc()), "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 3, "d")
+                .expectRow(1, 2, "y");
+
+        // stable ties
+        new DataFrameAsserts(df.topN(3, $int("a").asc()), "a", "b")
+                .expectHeight(3)
+                .expectRow(0, 0, "a")
+                .expectRow(1, 1, "x")
+                .expectRow(2, 1, "z");
+    }
+
+    @Test
+    public void testBottomN() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                1, "z",
+                0, "a",
+                2, "b",
+                1, "c",
+                3, "d",
+                1, "e",
+                2, "f");
+
+        new DataFrameAsserts(df.bottomN(2, $int("a").asc()), "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 2, "f")
+                .expectRow(1, 3, "d");
+    }
+
+    @Test
+    public void testTopN_LenOverHeight() {
+        DataFrame df = DataFrame.newFrame("a").foldByRow(3, 1, 2);
+
+        new DataFrameAsserts(df.topN(5, $int("a").asc()), "a")
+                .expectHeight(3)
+                .expectRow(0, 1)
+                .expectRow(1, 2)
+                .expectRow(2, 3);
+
+        new DataFrameAsserts(df.topN(0, $int("a").asc()), "a").expectHeight(0);
+    }
+
+    @Test
+    public void testTopN_SameAsSortHead() {
+
+        Random random = new Random(7);
+        int h = 10_000;
+        Integer[] a = new Integer[h];
+        String[] b = new String[h];
+        for (int i = 0; i < h; i++) {
+            a[i] = random.nextInt(10) == 0 ? null : random.nextInt(30);
+            b[i] = "s" + random.nextInt(5);
+        }
+
+        DataFrame df = DataFrame.newFrame("a", "b", "c").columns(
+                Series.forData(a),
+                Series.forData(b),
+                new IntSequenceSeries(0, h));
+
+        Sorter[] sorters = {$int("a").desc(), $str("b").asc()};
+        assertEquals(
+                df.sort(sorters).head(25).getColumn("c").toList(),
+                df.topN(25, sorters).getColumn("c").toList());
+
+        assertEquals(
+                df.sort(sorters).tail(25).getColumn("c").toList(),
+                df.bottomN(25, sorters).getColumn("c").toList());
+    }
+
+    @Test
+    public void testGroupBy_TopN() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                1, "y",
+                0, "a",
+                1, "x",
+                1, "z");
+
+        DataFrame top = df.group("a").topN(2, $str("b").desc()).toDataFrame();
+
+        new DataFrameAsserts(top, "a", "b")
+                .expectHeight(4)
+                .expectRow(0, 1, "z")
+                .expectRow(1, 1, "y")
+                .expectRow(2, 2, "y")
+                .expectRow(3, 0, "a");
+
+        DataFrame bottom = df.group("a").bottomN(2, $str("b").desc()).toDataFrame();
+
+        new DataFrameAsserts(bottom, "a", "b")
+                .expectHeight(4)
+                .expectRow(0, 1, "x")
+                .expectRow(1, 1, "x")
+                .expectRow(2, 2, "y")
+                .expectRow(3, 0, "a");
+    }
+}
@@ -2,6 +2,7 @@ package com.nhl.dflib;
 
 import com.nhl.dflib.unit.DataFrameAsserts;
 import com.nhl.dflib.unit.IntSeriesAsserts;
+import com.nhl.dflib.unit.SeriesAsserts;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
@@ -9,7 +10,9 @@ import java.util.HashSet;
 
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class GroupByTest {
 
@@ -43,6 +46,30 @@ public class GroupByTest {
                 .expectRow(0, 2, "y");
     }
 
+    @Test
+    public void testGetGroupKeys() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                1, "z");
+
+        Series<Object> keys = df.group("a").getGroupKeys();
+        new SeriesAsserts(keys).expectData(1, 2);
+        assertTrue(keys.getStats().isKnownUnique());
+    }
+
+    @Test
+    public void testAgg_KeyColumnUnique() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                1, "z");
+
+        DataFrame agg = df.group("a").agg(Exp.$col("a").first(), Exp.$col("b").first());
+        assertTrue(agg.getColumn("a").getStats().isKnownUnique());
+        assertFalse(agg.getColumn("b").getStats().isKnownUnique());
+    }
+
     @Test
     public void testGroup_Empty() {
         DataFrame df = DataFrame.newFrame("a", "b").empty();
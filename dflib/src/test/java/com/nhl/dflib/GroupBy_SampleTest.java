@@ -0,0 +1,54 @@
+package com.nhl.dflib;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GroupBy_SampleTest {
+
+    private static DataFrame frame() {
+        return DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                1, "z",
+                0, "a",
+                1, "m",
+                2, "n",
+                1, "k");
+    }
+
+    @Test
+    public void testSample() {
+        GroupBy gb = frame().group("a").sample(2, new Random(3));
+
+        assertEquals(2, gb.getGroup(1).height());
+        assertEquals(2, gb.getGroup(2).height());
+        assertEquals(1, gb.getGroup(0).height());
+
+        DataFrame g1 = gb.getGroup(1);
+        for (int i = 0; i < g1.height(); i++) {
+            assertEquals(1, g1.getColumn("a").get(i));
+        }
+
+        assertNotEquals(g1.getColumn("b").get(0), g1.getColumn("b").get(1));
+    }
+
+    @Test
+    public void testSample_Seed() {
+        DataFrame s1 = frame().group("a").sample(2, 17L).toDataFrame();
+        DataFrame s2 = frame().group("a").sample(2, 17L).toDataFrame();
+
+        assertEquals(5, s1.height());
+        for (int i = 0; i < s1.height(); i++) {
+            assertEquals(s1.getColumn("a").get(i), s2.getColumn("a").get(i));
+            assertEquals(s1.getColumn("b").get(i), s2.getColumn("b").get(i));
+        }
+    }
+
+    @Test
+    public void testSample_Negative() {
+        assertThrows(IllegalArgumentException.class, () -> frame().group("a").sample(-1));
+    }
+}
@@ -0,0 +1,18 @@
+package com.nhl.dflib;
+
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+public class LongSeries_ValueCountsTest {
+
+    @Test
+    public void testValueCounts() {
+        DataFrame counts = LongSeries.forLongs(5L, 3L, 1L, 3L, 1L, 1L).valueCounts();
+
+        new DataFrameAsserts(counts, "value", "count")
+                .expectHeight(3)
+                .expectRow(0, 1L, 3)
+                .expectRow(1, 3L, 2)
+                .expectRow(2, 5L, 1);
+    }
+}
@@ -0,0 +1,28 @@
+package com.nhl.dflib;
+
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Comparator;
+
+import static com.nhl.dflib.Exp.$str;
+
+public class Series_TopNTest {
+
+    @ParameterizedTest
+    @EnumSource(SeriesType.class)
+    public void testTopN(SeriesType type) {
+        Series<String> s = type.createSeries("x", "b", "c", "a", "y", "a");
+        new SeriesAsserts(s.topN(3, $str(0).asc())).expectData("a", "a", "b");
+        new SeriesAsserts(s.topN(2, Comparator.reverseOrder())).expectData("y", "x");
+    }
+
+    @ParameterizedTest
+    @EnumSource(SeriesType.class)
+    public void testBottomN(SeriesType type) {
+        Series<String> s = type.createSeries("x", "b", "c", "a", "y", "a");
+        new SeriesAsserts(s.bottomN(2, $str(0).asc())).expectData("x", "y");
+        new SeriesAsserts(s.bottomN(1, Comparator.reverseOrder())).expectData("a");
+    }
+}
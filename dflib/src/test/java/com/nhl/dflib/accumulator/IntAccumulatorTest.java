@@ -0,0 +1,102 @@
+package com.nhl.dflib.accumulator;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.series.ChunkedSeries;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntAccumulatorTest {
+
+    private static final int LEN = Accumulator.SEGMENT_SIZE * 3 + 5;
+
+    private static IntAccumulator accumulate(int len) {
+        IntAccumulator accum = new IntAccumulator();
+        for (int i = 0; i < len; i++) {
+            accum.addInt(i);
+        }
+        return accum;
+    }
+
+    private static void assertSequence(IntSeries s, int len) {
+        assertEquals(len, s.size());
+        for (int i = 0; i < len; i++) {
+            assertEquals(i, s.getInt(i));
+        }
+    }
+
+    @Test
+    public void testToSeries() {
+        IntAccumulator accum = accumulate(LEN);
+        assertEquals(LEN, accum.size());
+        assertSequence(accum.toSeries(), LEN);
+    }
+
+    @Test
+    public void testToSeries_Small() {
+        IntSeries s = accumulate(3).toSeries();
+        assertFalse(ChunkedSeries.isChunked(s));
+        assertSequence(s, 3);
+    }
+
+    @Test
+    public void testToChunkedSeries() {
+        IntSeries s = accumulate(LEN).toChunkedSeries();
+        assertTrue(ChunkedSeries.isChunked(s));
+        assertSequence(s, LEN);
+    }
+
+    @Test
+    public void testSetInt() {
+        IntAccumulator accum = accumulate(LEN);
+        accum.setInt(1, -1);
+        accum.setInt(Accumulator.SEGMENT_SIZE + 2, -2);
+        accum.setInt(LEN - 1, -3);
+
+        IntSeries s = accum.toSeries();
+        assertEquals(-1, s.getInt(1));
+        assertEquals(-2, s.getInt(Accumulator.SEGMENT_SIZE + 2));
+        assertEquals(-3, s.getInt(LEN - 1));
+        assertEquals(3, s.getInt(3));
+    }
+
+    @Test
+    public void testSetInt_OutOfBounds() {
+        IntAccumulator accum = accumulate(2);
+        assertThrows(IndexOutOfBoundsException.class, () -> accum.setInt(2, 5));
+    }
+
+    @Test
+    public void testFill() {
+        IntAccumulator accum = accumulate(1);
+        accum.fill(1, LEN, 7);
+
+        IntSeries s = accum.toSeries();
+        assertEquals(LEN, s.size());
+        assertEquals(0, s.getInt(0));
+        assertEquals(7, s.getInt(1));
+        assertEquals(7, s.getInt(LEN - 1));
+    }
+
+    @Test
+    public void testFill_NotAtEnd() {
+        IntAccumulator accum = accumulate(2);
+        assertThrows(IllegalArgumentException.class, () -> accum.fill(1, 5, 7));
+        assertThrows(IllegalArgumentException.class, () -> accum.fill(3, 5, 7));
+        assertEquals(2, accum.size());
+    }
+
+    @Test
+    public void testSizeHint() {
+        IntAccumulator accum = accumulate(3);
+        accum.sizeHint(LEN);
+        for (int i = 3; i < LEN; i++) {
+            accum.addInt(i);
+        }
+
+        // all values fit in the first segment
+        IntSeries s = accum.toChunkedSeries();
+        assertFalse(ChunkedSeries.isChunked(s));
+        assertSequence(s, LEN);
+    }
+}
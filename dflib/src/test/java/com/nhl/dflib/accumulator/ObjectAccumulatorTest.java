@@ -0,0 +1,61 @@
+package com.nhl.dflib.accumulator;
+
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.ChunkedSeries;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObjectAccumulatorTest {
+
+    private static final int LEN = Accumulator.SEGMENT_SIZE * 2 + 5;
+
+    private static ObjectAccumulator<String> accumulate(int len) {
+        ObjectAccumulator<String> accum = new ObjectAccumulator<>();
+        for (int i = 0; i < len; i++) {
+            accum.add("s" + i);
+        }
+        return accum;
+    }
+
+    private static void assertSequence(Series<String> s, int len) {
+        assertEquals(len, s.size());
+        for (int i = 0; i < len; i++) {
+            assertEquals("s" + i, s.get(i));
+        }
+    }
+
+    @Test
+    public void testToSeries() {
+        assertSequence(accumulate(LEN).toSeries(), LEN);
+    }
+
+    @Test
+    public void testToChunkedSeries() {
+        Series<String> s = accumulate(LEN).toChunkedSeries();
+        assertTrue(ChunkedSeries.isChunked(s));
+        assertSequence(s, LEN);
+    }
+
+    @Test
+    public void testSet() {
+        ObjectAccumulator<String> accum = accumulate(LEN);
+        accum.set(Accumulator.SEGMENT_SIZE + 1, "x");
+        accum.set(LEN - 1, null);
+
+        Series<String> s = accum.toSeries();
+        assertEquals("x", s.get(Accumulator.SEGMENT_SIZE + 1));
+        assertNull(s.get(LEN - 1));
+        assertEquals("s0", s.get(0));
+    }
+
+    @Test
+    public void testFill() {
+        ObjectAccumulator<String> accum = new ObjectAccumulator<>(1);
+        accum.fill(0, LEN, "a");
+
+        Series<String> s = accum.toSeries();
+        assertEquals(LEN, s.size());
+        assertEquals("a", s.get(LEN - 1));
+    }
+}
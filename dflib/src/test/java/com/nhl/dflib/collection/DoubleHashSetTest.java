@@ -0,0 +1,26 @@
+package com.nhl.dflib.collection;
+
+import com.nhl.dflib.unit.DoubleSeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoubleHashSetTest {
+
+    @Test
+    public void testAdd() {
+        DoubleHashSet set = new DoubleHashSet();
+
+        assertTrue(set.add(1.5));
+        assertFalse(set.add(1.5));
+        assertTrue(set.add(Double.NaN));
+        assertFalse(set.add(Double.NaN));
+
+        // consistent with Double.equals(..)
+        assertTrue(set.add(0.));
+        assertTrue(set.add(-0.));
+
+        assertEquals(4, set.size());
+        new DoubleSeriesAsserts(set.toSeries()).expectData(1.5, Double.NaN, 0., -0.);
+    }
+}
@@ -0,0 +1,53 @@
+package com.nhl.dflib.collection;
+
+import com.nhl.dflib.unit.IntSeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntHashSetTest {
+
+    @Test
+    public void testAdd() {
+        IntHashSet set = new IntHashSet();
+
+        assertTrue(set.add(5));
+        assertTrue(set.add(0));
+        assertFalse(set.add(5));
+        assertTrue(set.add(-1));
+        assertFalse(set.add(0));
+
+        assertEquals(3, set.size());
+        new IntSeriesAsserts(set.toSeries()).expectData(5, 0, -1);
+    }
+
+    @Test
+    public void testPut_Position() {
+        IntHashSet set = new IntHashSet();
+
+        assertEquals(0, set.put(7));
+        assertEquals(1, set.put(3));
+        assertEquals(0, set.put(7));
+
+        assertEquals(1, set.position(3));
+        assertEquals(-1, set.position(4));
+        assertTrue(set.contains(7));
+        assertFalse(set.contains(0));
+    }
+
+    @Test
+    public void testRehash() {
+        IntHashSet set = new IntHashSet(2);
+
+        for (int i = 0; i < 100_000; i++) {
+            set.add(i * 16);
+            set.add(i * 16);
+        }
+
+        assertEquals(100_000, set.size());
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(i, set.position(i * 16));
+            assertEquals(i * 16, set.get(i));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.nhl.dflib.collection;
+
+import com.nhl.dflib.unit.IntSeriesAsserts;
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ObjectValueCounterTest {
+
+    @Test
+    public void testAdd() {
+        ObjectValueCounter<String> counter = new ObjectValueCounter<>(2);
+
+        counter.add("b");
+        counter.add("a");
+        counter.add(null);
+        counter.add("b");
+        counter.add(new String("a"));
+        counter.add("c");
+        counter.add("b");
+
+        assertEquals(4, counter.size());
+        new SeriesAsserts(counter.getValues()).expectData("b", "a", null, "c");
+        new IntSeriesAsserts(counter.getCounts()).expectData(3, 2, 1, 1);
+    }
+
+    @Test
+    public void testAdd_Large() {
+        ObjectValueCounter<String> counter = new ObjectValueCounter<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            counter.add("s" + (i % 1000));
+        }
+
+        assertEquals(1000, counter.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("s" + i, counter.getValues().get(i));
+            assertEquals(100, counter.getCounts().getInt(i));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.nhl.dflib.collection;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.IntSeries;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RowIdSetTest {
+
+    private static final int MAX = 5 * (1 << 16) + 17;
+
+    // mixes sparse, dense and run-heavy regions, so that all the container types are exercised
+    private static BitSet randomBits(Random random) {
+        BitSet bits = new BitSet();
+
+        for (int i = 0; i < MAX; i++) {
+            int region = (i >>> 16) % 3;
+            switch (region) {
+                case 0:
+                    if (random.nextInt(100) == 0) {
+                        bits.set(i);
+                    }
+                    break;
+                case 1:
+                    if (random.nextBoolean()) {
+                        bits.set(i);
+                    }
+                    break;
+                default:
+                    if ((i / 1000) % 2 == 0) {
+                        bits.set(i);
+                    }
+            }
+        }
+
+        return bits;
+    }
+
+    private static RowIdSet toSet(BitSet bits) {
+        RowIdSet.Builder builder = new RowIdSet.Builder();
+        bits.stream().forEach(builder::add);
+        return builder.build();
+    }
+
+    private static void assertSet(BitSet expected, RowIdSet actual) {
+        int[] expectedArray = expected.stream().toArray();
+        assertEquals(expectedArray.length, actual.size());
+        assertArrayEquals(expectedArray, actual.toArray());
+
+        for (int i = 0; i < expectedArray.length; i += 97) {
+            assertEquals(expectedArray[i], actual.get(i), "at rank " + i);
+        }
+
+        for (int i = 0; i < MAX; i += 31) {
+            assertEquals(expected.get(i), actual.contains(i), "contains " + i);
+        }
+    }
+
+    @Test
+    public void testBuild() {
+        BitSet bits = randomBits(new Random(1));
+        assertSet(bits, toSet(bits));
+    }
+
+    @Test
+    public void testBuild_Compression() {
+        RowIdSet dense = RowIdSet.ofRange(0, 10_000_000);
+        assertEquals(10_000_000, dense.size());
+        assertTrue(dense.sizeInBytes() < 10_000);
+        assertEquals(9_999_999, dense.get(9_999_999));
+    }
+
+    @Test
+    public void testBuild_NotAscending() {
+        RowIdSet.Builder builder = new RowIdSet.Builder().add(5).add(5);
+        assertThrows(IllegalArgumentException.class, () -> builder.add(4));
+        assertThrows(IllegalArgumentException.class, () -> new RowIdSet.Builder().add(-1));
+    }
+
+    @Test
+    public void testOf() {
+        RowIdSet set = RowIdSet.of(IntSeries.forInts(1, 3, 70_000));
+        assertArrayEquals(new int[]{1, 3, 70_000}, set.toArray());
+    }
+
+    @Test
+    public void testOfTrue() {
+        RowIdSet set = RowIdSet.ofTrue(BooleanSeries.forBooleans(false, true, true, false, true));
+        assertArrayEquals(new int[]{1, 2, 4}, set.toArray());
+    }
+
+    @Test
+    public void testOfRange() {
+        RowIdSet set = RowIdSet.ofRange(65_530, 65_540);
+        assertArrayEquals(new int[]{65_530, 65_531, 65_532, 65_533, 65_534, 65_535, 65_536, 65_537, 65_538, 65_539}, set.toArray());
+        assertEquals(0, RowIdSet.ofRange(5, 5).size());
+    }
+
+    @Test
+    public void testCopyTo_Range() {
+        BitSet bits = randomBits(new Random(2));
+        int[] expected = bits.stream().toArray();
+
+        RowIdSet set = toSet(bits);
+        int from = expected.length / 3;
+        int len = expected.length / 2;
+        int[] actual = new int[len + 2];
+        set.copyTo(actual, from, 2, len);
+
+        for (int i = 0; i < len; i++) {
+            assertEquals(expected[from + i], actual[i + 2]);
+        }
+    }
+
+    @Test
+    public void testAndOrAndNot() {
+        Random random = new Random(3);
+        BitSet b1 = randomBits(random);
+        BitSet b2 = randomBits(random);
+
+        RowIdSet s1 = toSet(b1);
+        RowIdSet s2 = toSet(b2);
+
+        BitSet and = (BitSet) b1.clone();
+        and.and(b2);
+        assertSet(and, s1.and(s2));
+
+        BitSet or = (BitSet) b1.clone();
+        or.or(b2);
+        assertSet(or, s1.or(s2));
+
+        BitSet andNot = (BitSet) b1.clone();
+        andNot.andNot(b2);
+        assertSet(andNot, s1.andNot(s2));
+    }
+
+    @Test
+    public void testAndOrAndNot_Empty() {
+        RowIdSet s = RowIdSet.ofRange(3, 100_000);
+        assertEquals(0, s.and(RowIdSet.empty()).size());
+        assertEquals(s.size(), s.or(RowIdSet.empty()).size());
+        assertEquals(0, s.andNot(s).size());
+    }
+}
@@ -0,0 +1,33 @@
+package com.nhl.dflib.concat;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DataFrameAppenderTest {
+
+    @Test
+    public void testAppend() {
+
+        DataFrameAppender appender = new DataFrameAppender(Index.forLabels("a", "b"));
+        appender.append(DataFrame.newFrame("a", "b").foldByRow(1, "x", 2, "y"));
+        appender.append(DataFrame.newFrame("b", "c", "a").foldByRow("z", true, 3));
+
+        assertEquals(3, appender.height());
+
+        new DataFrameAsserts(appender.toDataFrame(), "a", "b")
+                .expectHeight(3)
+                .expectRow(0, 1, "x")
+                .expectRow(1, 2, "y")
+                .expectRow(2, 3, "z");
+    }
+
+    @Test
+    public void testAppend_Empty() {
+        DataFrameAppender appender = new DataFrameAppender(Index.forLabels("a", "b"));
+        new DataFrameAsserts(appender.toDataFrame(), "a", "b").expectHeight(0);
+    }
+}
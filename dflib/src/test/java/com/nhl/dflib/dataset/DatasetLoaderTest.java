@@ -0,0 +1,173 @@
+package com.nhl.dflib.dataset;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.nhl.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DatasetLoaderTest {
+
+    @TempDir
+    Path dir;
+
+    // a file format with one value per line, and the column name in the first line
+    private static DataFrame loadFile(Path file) {
+        try {
+            List<String> lines = Files.readAllLines(file);
+            return DataFrame.newFrame(lines.get(0)).foldByColumn(lines.subList(1, lines.size()).toArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(String path, String... lines) throws IOException {
+        Path file = dir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, String.join("\n", lines).getBytes());
+    }
+
+    private void writePartitionedDataset() throws IOException {
+        write("date=2020-10-02/region=us/part-1", "v", "d", "e");
+        write("date=2020-10-01/region=us/part-1", "v", "c");
+        write("date=2020-10-01/region=eu/part-2", "v", "b");
+        write("date=2020-10-01/region=eu/part-1", "v", "a");
+        write("date=2020-10-02/region=eu/part-1", "v", "f");
+    }
+
+    @Test
+    public void testLoad() throws IOException {
+
+        writePartitionedDataset();
+
+        DataFrame df = new DatasetLoader(DatasetLoaderTest::loadFile).load(dir);
+        new DataFrameAsserts(df, "v", "date", "region")
+                .expectHeight(6)
+                .expectRow(0, "a", "2020-10-01", "eu")
+                .expectRow(1, "b", "2020-10-01", "eu")
+                .expectRow(2, "c", "2020-10-01", "us")
+                .expectRow(3, "f", "2020-10-02", "eu")
+                .expectRow(4, "d", "2020-10-02", "us")
+                .expectRow(5, "e", "2020-10-02", "us");
+    }
+
+    @Test
+    public void testLoad_Parallel() throws IOException {
+
+        writePartitionedDataset();
+
+        DataFrame df = new DatasetLoader(DatasetLoaderTest::loadFile).parallel().load(dir);
+        new DataFrameAsserts(df, "v", "date", "region")
+                .expectHeight(6)
+                .expectRow(0, "a", "2020-10-01", "eu")
+                .expectRow(3, "f", "2020-10-02", "eu")
+                .expectRow(5, "e", "2020-10-02", "us");
+    }
+
+    @Test
+    public void testSelectPartitions() throws IOException {
+
+        writePartitionedDataset();
+
+        AtomicInteger opened = new AtomicInteger();
+        DataFrame df = new DatasetLoader(p -> {
+            opened.incrementAndGet();
+            return loadFile(p);
+        })
+                .datePartitionColumn("date")
+                .selectPartitions($date("date").gt(LocalDate.of(2020, 10, 1)))
+                .selectPartitions($str("region").eq("us"))
+                .load(dir);
+
+        assertEquals(1, opened.get());
+        new DataFrameAsserts(df, "v", "date", "region")
+                .expectHeight(2)
+                .expectRow(0, "d", LocalDate.of(2020, 10, 2), "us")
+                .expectRow(1, "e", LocalDate.of(2020, 10, 2), "us");
+    }
+
+    @Test
+    public void testSelectPartitions_NoMatches() throws IOException {
+
+        writePartitionedDataset();
+
+        DataFrame df = new DatasetLoader(p -> fail("Not expected to load " + p))
+                .selectPartitions($str("region").eq("asia"))
+                .load(dir);
+
+        assertEquals(0, df.height());
+    }
+
+    @Test
+    public void testGlob() throws IOException {
+
+        write("a=1/x.txt", "v", "1");
+        write("a=1/x.bin", "v", "2");
+        write("a=2/b/y.txt", "v", "3");
+
+        DataFrame df = new DatasetLoader(DatasetLoaderTest::loadFile)
+                .glob("**.txt")
+                .intPartitionColumn("a")
+                .load(dir);
+
+        new DataFrameAsserts(df, "v", "a")
+                .expectHeight(2)
+                .expectRow(0, "1", 1)
+                .expectRow(1, "3", 2);
+    }
+
+    @Test
+    public void testLoad_IgnoredFiles() throws IOException {
+
+        write("a=1/x", "v", "1");
+        write("a=1/_SUCCESS", "v", "2");
+        write("a=1/.x.crc", "v", "3");
+        write("_tmp/a=2/x", "v", "4");
+
+        DataFrame df = new DatasetLoader(DatasetLoaderTest::loadFile).load(dir);
+        new DataFrameAsserts(df, "v", "a").expectHeight(1).expectRow(0, "1", "1");
+    }
+
+    @Test
+    public void testLoad_MissingAndNullPartitions() throws IOException {
+
+        write("x", "v", "1");
+        write("a=__HIVE_DEFAULT_PARTITION__/x", "v", "2");
+        write("a=3/x", "w", "3");
+        write("a=x%2Fy%3D/x", "v", "4");
+
+        DataFrame df = new DatasetLoader(DatasetLoaderTest::loadFile).load(dir);
+        new DataFrameAsserts(df, "w", "v", "a")
+                .expectHeight(4)
+                .expectRow(0, "3", null, "3")
+                .expectRow(1, null, "2", null)
+                .expectRow(2, null, "4", "x/y=")
+                .expectRow(3, null, "1", null);
+    }
+
+    @Test
+    public void testLoad_PartitionColumnInFile() throws IOException {
+
+        write("a=1/x", "a", "2");
+
+        DataFrame df = new DatasetLoader(DatasetLoaderTest::loadFile).intPartitionColumn("a").load(dir);
+        new DataFrameAsserts(df, "a").expectHeight(1).expectRow(0, 1);
+    }
+
+    @Test
+    public void testLoad_Empty() {
+
+        DataFrame df = new DatasetLoader(p -> DataFrame.newFrame("v").empty()).load(dir);
+        new DataFrameAsserts(df).expectHeight(0);
+    }
+}
@@ -0,0 +1,57 @@
+package com.nhl.dflib.exp.agg;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HyperLogLogTest {
+
+    @Test
+    public void testEstimate_Small() {
+        HyperLogLog hll = new HyperLogLog();
+        hll.add("a").add("b").add("a").add(null).add(1).add(1L).add(0.).add(-0.);
+
+        assertEquals(4, hll.estimate());
+    }
+
+    @Test
+    public void testEstimate_Large() {
+        HyperLogLog hll = new HyperLogLog();
+        for (int i = 0; i < 1_000_000; i++) {
+            hll.add("s" + i);
+        }
+
+        assertEquals(1_000_000, hll.estimate(), 1_000_000 * 0.03);
+    }
+
+    @Test
+    public void testMerge() {
+        HyperLogLog hll1 = new HyperLogLog(12);
+        HyperLogLog hll2 = new HyperLogLog(12);
+
+        for (long i = 0; i < 10_000; i++) {
+            hll1.addLong(i);
+            hll2.addLong(i + 5_000);
+        }
+
+        assertEquals(15_000, hll1.merge(hll2).estimate(), 15_000 * 0.05);
+    }
+
+    @Test
+    public void testMerge_DifferentPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(12).merge(new HyperLogLog(14)));
+    }
+
+    @Test
+    public void testToBytes_FromBytes() {
+        HyperLogLog hll = new HyperLogLog(10);
+        for (int i = 0; i < 1000; i++) {
+            hll.addInt(i);
+        }
+
+        HyperLogLog restored = HyperLogLog.fromBytes(hll.toBytes());
+        assertEquals(10, restored.getPrecision());
+        assertEquals(hll, restored);
+        assertEquals(hll.estimate(), restored.estimate());
+    }
+}
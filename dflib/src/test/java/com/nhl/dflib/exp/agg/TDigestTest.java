@@ -0,0 +1,73 @@
+package com.nhl.dflib.exp.agg;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TDigestTest {
+
+    @Test
+    public void testEmpty() {
+        TDigest td = new TDigest();
+        assertEquals(0, td.size());
+        assertTrue(Double.isNaN(td.quantile(0.5)));
+    }
+
+    @Test
+    public void testQuantile_Small() {
+        TDigest td = new TDigest();
+        td.add(3.).add(1.).add(2.).add(Double.NaN);
+
+        assertEquals(3, td.size());
+        assertEquals(1., td.quantile(0.), 0.);
+        assertEquals(2., td.quantile(0.5), 0.);
+        assertEquals(3., td.quantile(1.), 0.);
+    }
+
+    @Test
+    public void testQuantile_Large() {
+        TDigest td = new TDigest();
+
+        Random random = new Random(5);
+        for (int i = 0; i < 1_000_000; i++) {
+            td.add(random.nextDouble());
+        }
+
+        assertEquals(0.5, td.quantile(0.5), 0.01);
+        assertEquals(0.95, td.quantile(0.95), 0.005);
+        assertEquals(0.99, td.quantile(0.99), 0.001);
+    }
+
+    @Test
+    public void testMerge() {
+        TDigest td1 = new TDigest();
+        TDigest td2 = new TDigest();
+
+        for (int i = 0; i < 50_000; i++) {
+            td1.add(i);
+            td2.add(i + 50_000);
+        }
+
+        td1.merge(td2);
+        assertEquals(100_000, td1.size());
+        assertEquals(0., td1.getMin(), 0.);
+        assertEquals(99_999., td1.getMax(), 0.);
+        assertEquals(50_000., td1.quantile(0.5), 500.);
+        assertEquals(99_000., td1.quantile(0.99), 100.);
+    }
+
+    @Test
+    public void testToBytes_FromBytes() {
+        TDigest td = new TDigest(50.);
+        for (int i = 0; i < 10_000; i++) {
+            td.add(i);
+        }
+
+        TDigest restored = TDigest.fromBytes(td.toBytes());
+        assertEquals(50., restored.getCompression(), 0.);
+        assertEquals(td.size(), restored.size());
+        assertEquals(td.quantile(0.9), restored.quantile(0.9), 0.);
+    }
+}
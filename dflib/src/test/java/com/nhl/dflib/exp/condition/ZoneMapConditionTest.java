@@ -0,0 +1,127 @@
+package com.nhl.dflib.exp.condition;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.Condition;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.exp.ZoneMapCondition;
+import com.nhl.dflib.series.ZoneMap;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+import static com.nhl.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZoneMapConditionTest {
+
+    private static final int LEN = ZoneMap.ZONE_SIZE * 5 + 7;
+
+    private static void assertMatches(BooleanSeries actual, Series<?> s, Predicate<Object> expected) {
+        assertEquals(s.size(), actual.size());
+        for (int i = 0; i < s.size(); i++) {
+            Object v = s.get(i);
+            assertEquals(v != null && expected.test(v), actual.getBoolean(i), "Mismatch at " + i + ", value: " + v);
+        }
+    }
+
+    @Test
+    public void testCreated() {
+        assertTrue($int("a").gt(5) instanceof ZoneMapCondition);
+        assertTrue($date("a").ge(LocalDate.of(2020, 1, 1)) instanceof ZoneMapCondition);
+
+        // not a column
+        assertFalse($int("a").add(1).gt(5) instanceof ZoneMapCondition);
+    }
+
+    @Test
+    public void testInt_Sorted() {
+        int[] data = new int[LEN];
+        for (int i = 0; i < LEN; i++) {
+            data[i] = i / 3;
+        }
+
+        IntSeries s = IntSeries.forInts(data);
+        int x = LEN / 6;
+
+        assertMatches($int(0).lt(x).eval(s), s, v -> (Integer) v < x);
+        assertMatches($int(0).le(x).eval(s), s, v -> (Integer) v <= x);
+        assertMatches($int(0).gt(x).eval(s), s, v -> (Integer) v > x);
+        assertMatches($int(0).ge(x).eval(s), s, v -> (Integer) v >= x);
+        assertMatches($int(0).eq(x).eval(s), s, v -> (Integer) v == x);
+
+        // mixed numeric types
+        assertMatches($int(0).lt(x + 0.5).eval(s), s, v -> (Integer) v < x + 0.5);
+        assertMatches($int(0).ge((long) x).eval(s), s, v -> (Integer) v >= x);
+    }
+
+    @Test
+    public void testInt_Unsorted() {
+        int[] data = new int[LEN];
+        for (int i = 0; i < LEN; i++) {
+            data[i] = (i * 7919) % 1000;
+        }
+
+        IntSeries s = IntSeries.forInts(data);
+
+        assertMatches($int(0).lt(500).eval(s), s, v -> (Integer) v < 500);
+        assertMatches($int(0).gt(-1).eval(s), s, v -> true);
+        assertMatches($int(0).gt(1000).eval(s), s, v -> false);
+    }
+
+    @Test
+    public void testDouble_NaN() {
+        double[] data = new double[LEN];
+        for (int i = 0; i < LEN; i++) {
+            data[i] = i;
+        }
+        data[10] = Double.NaN;
+        data[LEN - 1] = -0.;
+
+        DoubleSeries s = DoubleSeries.forDoubles(data);
+
+        assertMatches($double(0).gt(-1).eval(s), s, v -> (Double) v > -1);
+        assertMatches($double(0).lt(1.).eval(s), s, v -> (Double) v < 1.);
+        assertMatches($double(0).ge(0.).eval(s), s, v -> (Double) v >= 0.);
+    }
+
+    @Test
+    public void testDate_WithNulls_DataFrame() {
+
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        LocalDate[] data = new LocalDate[LEN];
+        for (int i = 0; i < LEN; i++) {
+            data[i] = i % 100 == 0 ? null : start.plusDays(i / 10);
+        }
+
+        DataFrame df = DataFrame.newFrame("ts").columns(Series.forData(data));
+        LocalDate x = start.plusDays(LEN / 20);
+
+        Condition c = $date("ts").ge(x);
+        assertMatches(c.eval(df), df.getColumn(0), v -> ((LocalDate) v).compareTo(x) >= 0);
+
+        DataFrame filtered = df.selectRows(c.and($date("ts").lt(x.plusDays(3))));
+        assertEquals(30, filtered.height());
+        assertEquals(x, filtered.getColumn(0).get(0));
+    }
+
+    @Test
+    public void testChunked() {
+        int[] d1 = new int[LEN];
+        int[] d2 = new int[LEN];
+        for (int i = 0; i < LEN; i++) {
+            d1[i] = i;
+            d2[i] = LEN + i;
+        }
+
+        DataFrame df = DataFrame.newFrame("a").columns(IntSeries.forInts(d1))
+                .vConcat(DataFrame.newFrame("a").columns(IntSeries.forInts(d2)));
+
+        Series<?> s = df.getColumn(0);
+        assertMatches($int("a").ge(LEN - 3).eval(df), s, v -> (Integer) v >= LEN - 3);
+        assertMatches($int("a").lt(LEN + 3).eval(df), s, v -> (Integer) v < LEN + 3);
+    }
+}
@@ -3,6 +3,7 @@ package com.nhl.dflib.exp.date;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.DateExp;
 import com.nhl.dflib.Series;
+import com.nhl.dflib.unit.BooleanSeriesAsserts;
 import com.nhl.dflib.unit.SeriesAsserts;
 import org.junit.jupiter.api.Test;
 
@@ -60,4 +61,21 @@ public class DateColumnTest {
         Series<LocalDate> s = Series.forData(LocalDate.of(2007, 1, 8), LocalDate.of(2011, 12, 31));
         new SeriesAsserts(exp.eval(s)).expectData(LocalDate.of(2007, 1, 19), LocalDate.of(2012, 1, 11));
     }
+
+    @Test
+    public void testComparisons() {
+        Series<LocalDate> s = Series.forData(
+                LocalDate.of(2007, 1, 8),
+                null,
+                LocalDate.of(2011, 12, 31),
+                LocalDate.of(2009, 5, 1));
+
+        LocalDate d = LocalDate.of(2009, 5, 1);
+
+        new BooleanSeriesAsserts($date(0).lt(d).eval(s)).expectData(true, false, false, false);
+        new BooleanSeriesAsserts($date(0).le(d).eval(s)).expectData(true, false, false, true);
+        new BooleanSeriesAsserts($date(0).gt(d).eval(s)).expectData(false, false, true, false);
+        new BooleanSeriesAsserts($date(0).ge(d).eval(s)).expectData(false, false, true, true);
+        new BooleanSeriesAsserts($date(0).eq(d).eval(s)).expectData(false, false, false, true);
+    }
 }
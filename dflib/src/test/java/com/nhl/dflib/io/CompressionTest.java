@@ -0,0 +1,132 @@
+package com.nhl.dflib.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressionTest {
+
+    @TempDir
+    Path dir;
+
+    static byte[] compress(Compression compression, byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = compression.compress(bytes)) {
+            out.write(data);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1000];
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+        }
+
+        return out.toByteArray();
+    }
+
+    static byte[] randomText(int len) {
+        Random random = new Random(5);
+        byte[] data = new byte[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = (byte) ('a' + random.nextInt(10));
+        }
+
+        return data;
+    }
+
+    @Test
+    public void testOfFileName() {
+        assertEquals(Compression.GZIP, Compression.ofFileName("a.csv.gz"));
+        assertEquals(Compression.GZIP, Compression.ofFileName("A.JSON.GZ"));
+        assertEquals(Compression.DEFLATE, Compression.ofFileName("a.csv.deflate"));
+        assertEquals(Compression.DEFLATE, Compression.ofFileName("a.zz"));
+        assertEquals(Compression.NONE, Compression.ofFileName("a.csv"));
+        assertEquals(Compression.NONE, Compression.ofFileName("gz"));
+    }
+
+    @Test
+    public void testOfHeader() throws IOException {
+        assertEquals(Compression.GZIP, Compression.ofHeader(compress(Compression.GZIP, new byte[1]), 2));
+        assertEquals(Compression.DEFLATE, Compression.ofHeader(compress(Compression.DEFLATE, new byte[1]), 2));
+        assertEquals(Compression.NONE, Compression.ofHeader("x^,y".getBytes(), 2));
+        assertEquals(Compression.NONE, Compression.ofHeader(new byte[]{0x1F}, 1));
+    }
+
+    @Test
+    public void testOf() throws IOException {
+
+        Path gzipped = dir.resolve("gzipped.csv");
+        Files.write(gzipped, compress(Compression.GZIP, "a,b".getBytes()));
+        assertEquals(Compression.GZIP, Compression.of(gzipped));
+
+        Path deflated = dir.resolve("deflated.csv.deflate");
+        Files.write(deflated, compress(Compression.DEFLATE, "a,b".getBytes()));
+        assertEquals(Compression.DEFLATE, Compression.of(deflated));
+
+        Path plain = dir.resolve("plain.csv");
+        Files.write(plain, "a,b".getBytes());
+        assertEquals(Compression.NONE, Compression.of(plain));
+
+        Path empty = dir.resolve("empty.csv");
+        Files.write(empty, new byte[0]);
+        assertEquals(Compression.NONE, Compression.of(empty));
+    }
+
+    @Test
+    public void testOf_HeaderOverridesFileName() throws IOException {
+
+        Path plainGz = dir.resolve("plain.csv.gz");
+        Files.write(plainGz, "a,b".getBytes());
+        assertEquals(Compression.NONE, Compression.of(plainGz));
+
+        Path plainZz = dir.resolve("plain.csv.zz");
+        Files.write(plainZz, "a,b".getBytes());
+        assertEquals(Compression.NONE, Compression.of(plainZz));
+
+        Path shortGz = dir.resolve("short.csv.gz");
+        Files.write(shortGz, "a".getBytes());
+        assertEquals(Compression.GZIP, Compression.of(shortGz));
+    }
+
+    @Test
+    public void testOf_UncommonZlibHeader() throws IOException {
+
+        // "x^" is a valid zlib header, only trusted for files with "deflate" extensions
+        Path deflated = dir.resolve("deflated.zz");
+        Files.write(deflated, "x^,y".getBytes());
+        assertEquals(Compression.DEFLATE, Compression.of(deflated));
+
+        Path plain = dir.resolve("plain.csv");
+        Files.write(plain, "x^,y".getBytes());
+        assertEquals(Compression.NONE, Compression.of(plain));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    public void testCompressDecompress(Compression compression) throws IOException {
+
+        byte[] data = randomText(200_000);
+        byte[] compressed = compress(compression, data);
+
+        try (InputStream in = compression.decompress(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(data, readAll(in));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.nhl.dflib.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadAheadInputStreamTest {
+
+    @Test
+    public void testRead() throws IOException {
+
+        byte[] data = CompressionTest.randomText(10_003);
+
+        try (InputStream in = new ReadAheadInputStream(new ByteArrayInputStream(data), 100, 3)) {
+            assertArrayEquals(data, CompressionTest.readAll(in));
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void testRead_SingleBytes() throws IOException {
+
+        byte[] data = {1, -1, 0, 127, -128};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (InputStream in = new ReadAheadInputStream(new ByteArrayInputStream(data), 2, 2)) {
+            int b;
+            while ((b = in.read()) >= 0) {
+                out.write(b);
+            }
+        }
+
+        assertArrayEquals(data, out.toByteArray());
+    }
+
+    @Test
+    public void testRead_Empty() throws IOException {
+        try (InputStream in = new ReadAheadInputStream(new ByteArrayInputStream(new byte[0]))) {
+            assertEquals(-1, in.read(new byte[10], 0, 10));
+        }
+    }
+
+    @Test
+    public void testRead_SourceError() throws IOException {
+
+        InputStream failing = new InputStream() {
+            int count;
+
+            @Override
+            public int read() throws IOException {
+                if (count++ >= 250) {
+                    throw new IOException("test");
+                }
+
+                return 'a';
+            }
+        };
+
+        try (InputStream in = new ReadAheadInputStream(failing, 100, 2)) {
+            IOException e = assertThrows(IOException.class, () -> CompressionTest.readAll(in));
+            assertEquals("test", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testClose_BeforeEnd() throws IOException {
+
+        // an endless source
+        InputStream source = new InputStream() {
+            @Override
+            public int read() {
+                return 'a';
+            }
+        };
+
+        InputStream in = new ReadAheadInputStream(source, 100, 2);
+        assertEquals('a', in.read());
+        in.close();
+
+        assertThrows(IOException.class, in::read);
+    }
+
+    @Test
+    public void testInvalidBuffers() {
+        InputStream source = new ByteArrayInputStream(new byte[0]);
+        assertThrows(IllegalArgumentException.class, () -> new ReadAheadInputStream(source, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new ReadAheadInputStream(source, 10, 1));
+    }
+}
@@ -0,0 +1,81 @@
+package com.nhl.dflib.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteBehindOutputStreamTest {
+
+    @Test
+    public void testWrite() throws IOException {
+
+        byte[] data = CompressionTest.randomText(10_003);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        try (OutputStream out = new WriteBehindOutputStream(target, 100, 3)) {
+            out.write(data, 0, 5_000);
+            out.write(data[5_000]);
+            out.write(data, 5_001, data.length - 5_001);
+        }
+
+        assertArrayEquals(data, target.toByteArray());
+    }
+
+    @Test
+    public void testFlush() throws IOException {
+
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        try (OutputStream out = new WriteBehindOutputStream(target, 100, 2)) {
+            out.write(new byte[]{1, 2, 3});
+            out.flush();
+            assertArrayEquals(new byte[]{1, 2, 3}, target.toByteArray());
+
+            out.write(4);
+        }
+
+        assertArrayEquals(new byte[]{1, 2, 3, 4}, target.toByteArray());
+    }
+
+    @Test
+    public void testClose_ClosesTarget() throws IOException {
+
+        boolean[] closed = new boolean[1];
+        OutputStream target = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        OutputStream out = new WriteBehindOutputStream(target);
+        out.close();
+        assertTrue(closed[0]);
+        assertThrows(IOException.class, () -> out.write(1));
+    }
+
+    @Test
+    public void testWrite_TargetError() {
+
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("test");
+            }
+        };
+
+        IOException e = assertThrows(IOException.class, () -> {
+            try (OutputStream out = new WriteBehindOutputStream(failing, 10, 2)) {
+                for (int i = 0; i < 1000; i++) {
+                    out.write(i);
+                }
+            }
+        });
+
+        assertEquals("test", e.getCause().getMessage());
+    }
+}
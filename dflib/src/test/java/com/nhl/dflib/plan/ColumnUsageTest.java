@@ -0,0 +1,63 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.exp.Exp0;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import static com.nhl.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnUsageTest {
+
+    private static final DataFrame EMPTY = DataFrame.newFrame("a", "b", "c").empty();
+
+    @Test
+    public void testByLabel() {
+        ColumnUsage usage = ColumnUsage.of(EMPTY, $int("b").gt(1), $str("a"));
+        assertTrue(usage.isKnown());
+        assertTrue(usage.isKnownRowWise());
+        assertEquals(new LinkedHashSet<>(Arrays.asList("b", "a")), usage.getLabels());
+    }
+
+    @Test
+    public void testByPosition() {
+        ColumnUsage usage = ColumnUsage.of(EMPTY, $int(2).gt(1));
+        assertFalse(usage.isKnown());
+        assertTrue(usage.isResolved());
+        assertEquals(new LinkedHashSet<>(Arrays.asList("c")), usage.getLabels());
+    }
+
+    @Test
+    public void testRowSelections() {
+
+        // the branches are evaluated over the row selections of the input
+        ColumnUsage usage = ColumnUsage.of(EMPTY, ifExp($int("a").gt(1), $str("b"), $str("c")));
+        assertTrue(usage.isKnown());
+        assertEquals(new LinkedHashSet<>(Arrays.asList("a", "b", "c")), usage.getLabels());
+    }
+
+    @Test
+    public void testRowIteration() {
+
+        Exp0<Object> rowExp = new Exp0<Object>("rowExp", Object.class) {
+            @Override
+            public Series<Object> eval(DataFrame df) {
+                return df.mapColumn(r -> r.get("a"));
+            }
+
+            @Override
+            public Series<Object> eval(Series<?> s) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        ColumnUsage usage = ColumnUsage.of(EMPTY, rowExp);
+        assertFalse(usage.isResolved());
+        assertFalse(usage.isKnown());
+        assertNull(usage.getLabels());
+    }
+}
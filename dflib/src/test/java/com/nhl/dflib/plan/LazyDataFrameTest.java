@@ -0,0 +1,193 @@
+package com.nhl.dflib.plan;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import static com.nhl.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyDataFrameTest {
+
+    private static final DataFrame EMPLOYEES = DataFrame.newFrame("id", "name", "dept", "salary").foldByRow(
+            1, "Ann", 10, 100,
+            2, "Bob", 20, 80,
+            3, "Cid", 10, 120,
+            4, "Dee", 30, 90,
+            5, "Eve", 20, 110);
+
+    private static final DataFrame DEPTS = DataFrame.newFrame("id", "name").foldByRow(
+            10, "Sales",
+            20, "IT",
+            40, "Legal");
+
+    @Test
+    public void testSelectRows_SelectColumns() {
+        DataFrame df = EMPLOYEES.lazy()
+                .selectRows($int("salary").gt(95))
+                .selectColumns("name", "salary")
+                .collect();
+
+        new DataFrameAsserts(df, "name", "salary")
+                .expectHeight(3)
+                .expectRow(0, "Ann", 100)
+                .expectRow(1, "Cid", 120)
+                .expectRow(2, "Eve", 110);
+    }
+
+    @Test
+    public void testSelectRows_Fused() {
+        LazyDataFrame lazy = EMPLOYEES.lazy()
+                .selectRows($int("salary").gt(85))
+                .selectRows($int("dept").eq(20));
+
+        new DataFrameAsserts(lazy.collect(), "id", "name", "dept", "salary")
+                .expectHeight(1)
+                .expectRow(0, 5, "Eve", 20, 110);
+
+        assertEquals(1, count(lazy.explain(), "Filter"));
+    }
+
+    @Test
+    public void testAddColumns_FilterPushedDown() {
+        LazyDataFrame lazy = EMPLOYEES.lazy()
+                .addColumns($int("salary").mul(2).as("double"))
+                .selectRows($int("dept").eq(10));
+
+        new DataFrameAsserts(lazy.collect(), "id", "name", "dept", "salary", "double")
+                .expectHeight(2)
+                .expectRow(0, 1, "Ann", 10, 100, 200)
+                .expectRow(1, 3, "Cid", 10, 120, 240);
+
+        String plan = lazy.explain();
+        assertTrue(plan.indexOf("AddColumns") < plan.indexOf("Filter"), plan);
+    }
+
+    @Test
+    public void testAddColumns_FilterOnAddedColumn() {
+        LazyDataFrame lazy = EMPLOYEES.lazy()
+                .addColumns($int("salary").mul(2).as("double"))
+                .selectRows($int("double").gt(210));
+
+        new DataFrameAsserts(lazy.collect(), "id", "name", "dept", "salary", "double")
+                .expectHeight(2)
+                .expectRow(0, 3, "Cid", 10, 120, 240)
+                .expectRow(1, 5, "Eve", 20, 110, 220);
+
+        String plan = lazy.explain();
+        assertTrue(plan.indexOf("Filter") < plan.indexOf("AddColumns"), plan);
+    }
+
+    @Test
+    public void testAddColumns_Pruned() {
+        LazyDataFrame lazy = EMPLOYEES.lazy()
+                .addColumns($int("salary").mul(2).as("double"), $str("name").mapVal(String::length).as("len"))
+                .selectColumns("name", "len");
+
+        new DataFrameAsserts(lazy.collect(), "name", "len")
+                .expectHeight(5)
+                .expectRow(0, "Ann", 3)
+                .expectRow(4, "Eve", 3);
+
+        assertFalse(lazy.explain().contains("double"), lazy.explain());
+    }
+
+    @Test
+    public void testJoin_FilterPushedDown_ColumnsPruned() {
+        LazyDataFrame lazy = EMPLOYEES.lazy()
+                .innerJoin(DEPTS.lazy(), "dept", "id")
+                .selectRows($int("salary").ge(100))
+                .selectColumns("name", "name_");
+
+        new DataFrameAsserts(lazy.collect(), "name", "name_")
+                .expectHeight(3)
+                .expectRow(0, "Ann", "Sales")
+                .expectRow(1, "Cid", "Sales")
+                .expectRow(2, "Eve", "IT");
+
+        String plan = lazy.explain();
+        assertTrue(plan.indexOf("Join") < plan.indexOf("Filter"), plan);
+    }
+
+    @Test
+    public void testJoin_FilterOnRightSide() {
+
+        DataFrame eager = EMPLOYEES.innerJoin().on("dept", "id").with(DEPTS)
+                .selectRows($str("name_").eq("IT"));
+
+        DataFrame lazy = EMPLOYEES.lazy()
+                .innerJoin(DEPTS.lazy(), "dept", "id")
+                .selectRows($str("name_").eq("IT"))
+                .collect();
+
+        new DataFrameAsserts(lazy, eager.getColumnsIndex())
+                .expectHeight(2)
+                .expectRow(0, 2, "Bob", 20, 80, 20, "IT")
+                .expectRow(1, 5, "Eve", 20, 110, 20, "IT");
+    }
+
+    @Test
+    public void testLeftJoin_FilterOnRightSideNotPushed() {
+        LazyDataFrame lazy = EMPLOYEES.lazy()
+                .leftJoin(DEPTS.lazy(), "dept", "id")
+                .selectRows($str("name_").isNull())
+                .selectColumns("name");
+
+        new DataFrameAsserts(lazy.collect(), "name")
+                .expectHeight(1)
+                .expectRow(0, "Dee");
+    }
+
+    @Test
+    public void testGroupAgg() {
+        DataFrame df = EMPLOYEES.lazy()
+                .selectRows($int("salary").gt(85))
+                .group("dept")
+                .agg($int("dept").first(), $int("salary").sum().as("total"))
+                .sort($int("total").desc())
+                .head(2)
+                .collect();
+
+        new DataFrameAsserts(df, "dept", "total")
+                .expectHeight(2)
+                .expectRow(0, 10, 220)
+                .expectRow(1, 20, 110);
+    }
+
+    @Test
+    public void testSort_Head() {
+        DataFrame df = EMPLOYEES.lazy()
+                .sort($int("salary").desc())
+                .selectRows($int("dept").ne(10))
+                .head(2)
+                .selectColumns("id")
+                .collect();
+
+        new DataFrameAsserts(df, "id")
+                .expectHeight(2)
+                .expectRow(0, 5)
+                .expectRow(1, 4);
+    }
+
+    @Test
+    public void testPositionalReferences() {
+        DataFrame df = EMPLOYEES.lazy()
+                .addColumns($int(3).add(1).as("s1"))
+                .selectRows($int(0).gt(3))
+                .selectColumns("s1")
+                .collect();
+
+        new DataFrameAsserts(df, "s1")
+                .expectHeight(2)
+                .expectRow(0, 91)
+                .expectRow(1, 111);
+    }
+
+    private static int count(String s, String token) {
+        int count = 0;
+        for (int i = s.indexOf(token); i >= 0; i = s.indexOf(token, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -76,4 +76,41 @@ public class SamplerTest {
 
         assertTrue(hasDifferences);
     }
+
+    @Test
+    public void testSampleIndex_Sparse() {
+        IntSeries sample = Sampler.sampleIndex(100, 1_000_000, new Random(5));
+        assertEquals(100, sample.size());
+
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 0; i < sample.size(); i++) {
+            int p = sample.getInt(i);
+            assertTrue(p >= 0 && p < 1_000_000, "out of range: " + p);
+            assertTrue(seen.add(p), p + " is present at least twice");
+        }
+    }
+
+    @Test
+    public void testSampleIndex_Sparse_Reproducible() {
+        IntSeries s1 = Sampler.sampleIndex(10, 1000, new Random(8));
+        IntSeries s2 = Sampler.sampleIndex(10, 1000, new Random(8));
+        assertArrayEquals(s1.toIntArray(), s2.toIntArray());
+    }
+
+    @Test
+    public void testSampleIndices() {
+        int[] sizes = {5, 1000, 0, 2};
+        IntSeries[] samples = Sampler.sampleIndices(3, sizes, 11L, false);
+
+        assertEquals(4, samples.length);
+        assertEquals(3, samples[0].size());
+        assertEquals(3, samples[1].size());
+        assertEquals(0, samples[2].size());
+        assertEquals(2, samples[3].size());
+
+        IntSeries[] parallelSamples = Sampler.sampleIndices(3, sizes, 11L, true);
+        for (int i = 0; i < samples.length; i++) {
+            assertArrayEquals(samples[i].toIntArray(), parallelSamples[i].toIntArray());
+        }
+    }
 }
@@ -0,0 +1,171 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkedSeriesTest {
+
+    private static final int CHUNK = ChunkedSeries.MIN_CHUNK_SIZE;
+
+    private static int[] sequence(int from, int len) {
+        int[] data = new int[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = from + i;
+        }
+        return data;
+    }
+
+    private static String[] strings(int from, int len) {
+        String[] data = new String[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = "s" + (from + i);
+        }
+        return data;
+    }
+
+    @Test
+    public void testOf_Empty() {
+        assertEquals(0, ChunkedSeries.of().size());
+        assertEquals(0, ChunkedSeries.of(Series.forData(), Series.forData()).size());
+    }
+
+    @Test
+    public void testOf_Single() {
+        Series<String> s = Series.forData(strings(0, 5));
+        assertSame(s, ChunkedSeries.of(Series.forData(), s));
+    }
+
+    @Test
+    public void testOf_SmallChunksCoalesced() {
+        Series<String> s = ChunkedSeries.of(Series.forData("a", "b"), Series.forData("c"));
+        assertFalse(ChunkedSeries.isChunked(s));
+        new SeriesAsserts(s).expectData("a", "b", "c");
+    }
+
+    @Test
+    public void testOf_Nested() {
+        Series<String> s1 = ChunkedSeries.of(Series.forData(strings(0, CHUNK)), Series.forData(strings(CHUNK, CHUNK)));
+        Series<String> s2 = ChunkedSeries.of(s1, Series.forData(strings(2 * CHUNK, CHUNK)));
+
+        assertTrue(s2 instanceof ChunkedSeries);
+        assertEquals(3, ((ChunkedSeries<String>) s2).getChunks().length);
+        new SeriesAsserts(s2).expectData(strings(0, 3 * CHUNK));
+    }
+
+    @Test
+    public void testGet_CopyTo() {
+        Series<String> s = ChunkedSeries.of(
+                Series.forData(strings(0, CHUNK)),
+                Series.forData(strings(CHUNK, 3)),
+                Series.forData(strings(CHUNK + 3, 2)),
+                Series.forData(strings(CHUNK + 5, CHUNK + 1)));
+
+        assertTrue(ChunkedSeries.isChunked(s));
+        assertEquals(2 * CHUNK + 6, s.size());
+
+        new SeriesAsserts(s).expectData(strings(0, 2 * CHUNK + 6));
+
+        Object[] copy = new Object[CHUNK + 2];
+        s.copyTo(copy, CHUNK - 1, 1, CHUNK + 1);
+        assertNull(copy[0]);
+        assertArrayEquals(strings(CHUNK - 1, CHUNK + 1), java.util.Arrays.copyOfRange(copy, 1, CHUNK + 2));
+    }
+
+    @Test
+    public void testRange() {
+        Series<String> s = ChunkedSeries.of(
+                Series.forData(strings(0, CHUNK)),
+                Series.forData(strings(CHUNK, CHUNK)),
+                Series.forData(strings(2 * CHUNK, CHUNK)));
+
+        new SeriesAsserts(s.rangeOpenClosed(CHUNK - 2, 2 * CHUNK + 3)).expectData(strings(CHUNK - 2, CHUNK + 5));
+        new SeriesAsserts(s.rangeOpenClosed(5, 8)).expectData("s5", "s6", "s7");
+        new SeriesAsserts(s.tail(2)).expectData(strings(3 * CHUNK - 2, 2));
+    }
+
+    @Test
+    public void testInt() {
+        Series<Integer> s = ChunkedSeries.of(
+                new IntArraySeries(sequence(0, CHUNK)),
+                new IntArraySeries(sequence(CHUNK, CHUNK + 5)));
+
+        assertTrue(s instanceof IntChunkedSeries);
+
+        IntSeries is = (IntSeries) s;
+        assertEquals(2 * CHUNK + 5, is.size());
+        assertEquals(CHUNK + 1, is.getInt(CHUNK + 1));
+        assertArrayEquals(sequence(0, 2 * CHUNK + 5), is.toIntArray());
+        assertArrayEquals(sequence(CHUNK - 3, 10), is.rangeOpenClosedInt(CHUNK - 3, CHUNK + 7).toIntArray());
+        assertEquals(0, is.min());
+        assertEquals(2 * CHUNK + 4, is.max());
+        assertEquals((2 * CHUNK + 5) * (2 * CHUNK + 4) / 2, is.sum());
+    }
+
+    @Test
+    public void testLong() {
+        long[] d1 = new long[CHUNK];
+        long[] d2 = new long[CHUNK];
+        d1[3] = -5L;
+        d2[7] = 11L;
+
+        Series<Long> s = ChunkedSeries.of(new LongArraySeries(d1), new LongArraySeries(d2));
+        assertTrue(s instanceof LongChunkedSeries);
+
+        LongSeries ls = (LongSeries) s;
+        assertEquals(11L, ls.getLong(CHUNK + 7));
+        assertEquals(-5L, ls.min());
+        assertEquals(11L, ls.max());
+        assertEquals(6L, ls.sum());
+    }
+
+    @Test
+    public void testDouble() {
+        double[] d1 = new double[CHUNK];
+        double[] d2 = new double[CHUNK];
+        d1[3] = 1.5;
+        d2[7] = 2.5;
+
+        Series<Double> s = ChunkedSeries.of(new DoubleArraySeries(d1), new DoubleArraySeries(d2));
+        assertTrue(s instanceof DoubleChunkedSeries);
+
+        DoubleSeries ds = (DoubleSeries) s;
+        assertEquals(2.5, ds.getDouble(CHUNK + 7), 0.0001);
+        assertEquals(2.5, ds.max(), 0.0001);
+        assertEquals(4., ds.sum(), 0.0001);
+    }
+
+    @Test
+    public void testBoolean() {
+        boolean[] d1 = new boolean[CHUNK];
+        boolean[] d2 = new boolean[CHUNK];
+        d2[7] = true;
+        d2[8] = true;
+
+        Series<Boolean> s = ChunkedSeries.of(new BooleanArraySeries(d1), new BooleanArraySeries(d2));
+        assertTrue(s instanceof BooleanChunkedSeries);
+
+        BooleanSeries bs = (BooleanSeries) s;
+        assertEquals(CHUNK + 7, bs.firstTrue());
+        assertEquals(2, bs.countTrue());
+        assertEquals(2 * CHUNK - 2, bs.countFalse());
+    }
+
+    @Test
+    public void testMixedTypes() {
+        Series<Object> s = ChunkedSeries.of(
+                new IntArraySeries(sequence(0, CHUNK)),
+                Series.forData(strings(0, CHUNK)));
+
+        assertTrue(s instanceof ChunkedSeries);
+        assertEquals(Object.class, s.getNominalType());
+        assertEquals(CHUNK - 1, s.get(CHUNK - 1));
+        assertEquals("s0", s.get(CHUNK));
+    }
+}
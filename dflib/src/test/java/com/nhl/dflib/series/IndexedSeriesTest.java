@@ -0,0 +1,81 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedSeriesTest {
+
+    @Test
+    public void testSelect_Flattened() {
+        Series<String> source = Series.forData("a", "b", "c", "d", "e");
+
+        Series<String> s1 = new IndexedSeries<>(source, IntSeries.forInts(4, 3, 2, 1, 0));
+        Series<String> s2 = s1.select(IntSeries.forInts(0, 2, 4));
+        Series<String> s3 = s2.select(IntSeries.forInts(2, 1));
+
+        new SeriesAsserts(s3).expectData("a", "c");
+        assertTrue(s3 instanceof IndexedSeries);
+    }
+
+    @Test
+    public void testSelect_NegativePositions() {
+        Series<String> source = Series.forData("a", "b", "c");
+
+        Series<String> s1 = new IndexedSeries<>(source, IntSeries.forInts(2, -1, 0));
+        Series<String> s2 = s1.select(IntSeries.forInts(1, 0, -1, 2));
+
+        new SeriesAsserts(s2).expectData(null, "c", null, "a");
+    }
+
+    @Test
+    public void testSelect_Materialized() {
+        Series<String> source = Series.forData("a", "b", "c");
+
+        Series<String> s1 = new IndexedSeries<>(source, IntSeries.forInts(2, 1, 0));
+        s1.materialize();
+
+        new SeriesAsserts(s1.select(IntSeries.forInts(0, 2))).expectData("c", "a");
+    }
+
+    @Test
+    public void testSelect_Range() {
+        Series<String> source = Series.forData("a", "b", "c", "d", "e");
+
+        Series<String> range = source.rangeOpenClosed(1, 5).rangeOpenClosed(1, 4);
+        new SeriesAsserts(range).expectData("c", "d", "e");
+
+        Series<String> selected = range.select(IntSeries.forInts(2, 0));
+        new SeriesAsserts(selected).expectData("e", "c");
+    }
+
+    @Test
+    public void testSelect_RangeOfIndexed() {
+        Series<String> source = Series.forData("a", "b", "c", "d", "e");
+
+        Series<String> s = new IndexedSeries<>(source, IntSeries.forInts(4, 3, 2, 1, 0))
+                .head(4)
+                .tail(3)
+                .select(IntSeries.forInts(2, 0));
+
+        new SeriesAsserts(s).expectData("b", "d");
+    }
+
+    @Test
+    public void testRowSelector_SharedPositions() {
+        Series<String> source1 = Series.forData("a", "b", "c");
+        Series<Integer> source2 = Series.forData(1, 2, 3);
+        IntSeries positions = IntSeries.forInts(2, 0);
+
+        RowSelector selector = new RowSelector(IntSeries.forInts(1));
+        Series<String> s1 = selector.select(new IndexedSeries<>(source1, positions));
+        Series<Integer> s2 = selector.select(new IndexedSeries<>(source2, positions));
+
+        new SeriesAsserts(s1).expectData("a");
+        new SeriesAsserts(s2).expectData(1);
+        assertSame(selector.composeWith(positions), selector.composeWith(positions));
+    }
+}
@@ -0,0 +1,118 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MaterializationPolicyTest {
+
+    private static Series<Integer> source(int size) {
+        return new IntSequenceSeries(0, size);
+    }
+
+    @Test
+    public void testColumnMapped_OnDemand() {
+        AtomicInteger calls = new AtomicInteger();
+        Series<Integer> s = new ColumnMappedSeries<>(source(10_000), i -> {
+            calls.incrementAndGet();
+            return i * 2;
+        });
+
+        assertEquals(200, s.get(100));
+        assertEquals(19998, s.get(9999));
+        assertEquals(2, calls.get());
+
+        Series<Integer> head = s.head(3);
+        new SeriesAsserts(head).expectData(0, 2, 4);
+        assertEquals(5, calls.get());
+    }
+
+    @Test
+    public void testColumnMapped_MaterializedPastThreshold() {
+        int threshold = MaterializationPolicy.getRandomAccessThreshold();
+
+        AtomicInteger calls = new AtomicInteger();
+        Series<Integer> s = new ColumnMappedSeries<>(source(threshold * 2), i -> {
+            calls.incrementAndGet();
+            return i + 1;
+        });
+
+        for (int i = 0; i < threshold; i++) {
+            assertEquals(i + 1, s.get(i));
+        }
+        assertEquals(threshold, calls.get());
+
+        // repeated reads are not recalculated
+        assertEquals(1, s.get(0));
+        assertEquals(threshold, calls.get());
+
+        // on-demand values are reused by materialization
+        assertEquals(threshold + 1, s.get(threshold));
+        assertEquals(threshold * 2, calls.get());
+
+        assertEquals(4, s.get(3));
+        assertEquals(threshold * 2, calls.get());
+    }
+
+    @Test
+    public void testColumnMapped_SameValuesAfterMaterialization() {
+        AtomicInteger counter = new AtomicInteger();
+        Series<Integer> s = new ColumnMappedSeries<>(source(10), i -> counter.incrementAndGet());
+
+        int v3 = s.get(3);
+        int v7 = s.get(7);
+
+        s.materialize();
+        assertEquals(v3, s.get(3));
+        assertEquals(v7, s.get(7));
+        assertEquals(10, counter.get());
+    }
+
+    @Test
+    public void testRowMapped_SameValuesAfterMaterialization() {
+        AtomicInteger counter = new AtomicInteger();
+        DataFrame df = DataFrame.newFrame("a").columns(source(10));
+        Series<Integer> s = new RowMappedSeries<>(df, r -> counter.incrementAndGet());
+
+        Object[] head = new Object[2];
+        s.copyTo(head, 4, 0, 2);
+
+        s.materialize();
+        assertEquals(head[0], s.get(4));
+        assertEquals(head[1], s.get(5));
+        assertEquals(10, counter.get());
+    }
+
+    @Test
+    public void testRowMapped_OnDemand() {
+        AtomicInteger calls = new AtomicInteger();
+        DataFrame df = DataFrame.newFrame("a").columns(source(10_000));
+
+        Series<Integer> s = new RowMappedSeries<>(df, r -> {
+            calls.incrementAndGet();
+            return (Integer) r.get(0) + 1;
+        });
+
+        assertEquals(5001, s.get(5000));
+        assertEquals(1, calls.get());
+
+        new SeriesAsserts(s.tail(2)).expectData(9999, 10000);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testIndexed_OnDemand() {
+        Series<String> s = new IndexedSeries<>(Series.forData("a", "b", "c"), IntSeries.forInts(2, -1, 0));
+
+        assertEquals("c", s.get(0));
+        assertNull(s.get(1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> s.get(3));
+        new SeriesAsserts(s).expectData("c", null, "a");
+    }
+}
@@ -0,0 +1,100 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.GroupBy;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import com.nhl.dflib.unit.IntSeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RowIdSeriesTest {
+
+    @Test
+    public void testOf() {
+        RowIdSeries s = RowIdSeries.of(IntSeries.forInts(0, 2, 3, 70_000));
+        new IntSeriesAsserts(s).expectData(0, 2, 3, 70_000);
+        assertTrue(s.getStats().isKnownUnique());
+        assertTrue(s.getStats().isSortedAscending());
+        assertEquals(0, s.min());
+        assertEquals(70_000, s.max());
+    }
+
+    @Test
+    public void testAndOrAndNot() {
+        RowIdSeries s1 = RowIdSeries.ofTrue(BooleanSeries.forBooleans(true, true, false, true));
+        RowIdSeries s2 = RowIdSeries.ofTrue(BooleanSeries.forBooleans(false, true, true, true));
+
+        new IntSeriesAsserts(s1.and(s2)).expectData(1, 3);
+        new IntSeriesAsserts(s1.or(s2)).expectData(0, 1, 2, 3);
+        new IntSeriesAsserts(s1.andNot(s2)).expectData(0);
+    }
+
+    @Test
+    public void testRange() {
+        RowIdSeries s = RowIdSeries.of(IntSeries.forInts(1, 5, 7, 9));
+        new IntSeriesAsserts(s.rangeOpenClosedInt(1, 3)).expectData(5, 7);
+        new IntSeriesAsserts(s.headInt(2)).expectData(1, 5);
+        new IntSeriesAsserts(s.tailInt(1)).expectData(9);
+    }
+
+    @Test
+    public void testCompact() {
+        IntSeries sparse = IntSeries.forInts(1, 5, 7);
+        assertSame(sparse, RowIdSeries.compact(sparse));
+
+        int[] dense = new int[100_000];
+        for (int i = 0; i < dense.length; i++) {
+            dense[i] = i * 2;
+        }
+
+        IntSeries compacted = RowIdSeries.compact(IntSeries.forInts(dense));
+        assertTrue(compacted instanceof RowIdSeries);
+        assertArrayEquals(dense, compacted.toIntArray());
+    }
+
+    @Test
+    public void testSelectRows() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                2, "y",
+                3, "z");
+
+        new DataFrameAsserts(df.selectRows(RowIdSeries.of(IntSeries.forInts(0, 2))), "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 1, "x")
+                .expectRow(1, 3, "z");
+    }
+
+    @Test
+    public void testIndexedSeries() {
+        Series<String> s = new IndexedSeries<>(
+                Series.forData("a", "b", "c", "d"),
+                RowIdSeries.of(IntSeries.forInts(1, 3)));
+
+        assertEquals("b", s.get(0));
+        assertEquals("d", s.materialize().get(1));
+    }
+
+    @Test
+    public void testGroupBy_Compacted() {
+        int h = 200_000;
+        int[] keys = new int[h];
+        for (int i = 0; i < h; i++) {
+            keys[i] = i % 2;
+        }
+
+        DataFrame df = DataFrame.newFrame("k", "v").columns(IntSeries.forInts(keys), new IntSequenceSeries(0, h));
+        GroupBy gb = df.group("k");
+
+        assertTrue(gb.getGroupIndex(0) instanceof RowIdSeries);
+
+        DataFrame odd = gb.getGroup(1);
+        assertEquals(h / 2, odd.height());
+        assertEquals(1, odd.getColumn("v").get(0));
+        assertEquals(h - 1, odd.getColumn("v").get(h / 2 - 1));
+    }
+}
@@ -0,0 +1,132 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeriesStatsTest {
+
+    @Test
+    public void testMinMax() {
+        SeriesStats<String> stats = Series.forData("b", null, "a", "c").getStats();
+        assertEquals("a", stats.getMin());
+        assertEquals("c", stats.getMax());
+    }
+
+    @Test
+    public void testMinMax_Int() {
+        SeriesStats<Integer> stats = IntSeries.forInts(3, -1, 8).getStats();
+        assertEquals(-1, stats.getMin());
+        assertEquals(8, stats.getMax());
+    }
+
+    @Test
+    public void testMinMax_Empty() {
+        SeriesStats<Object> stats = Series.forData().getStats();
+        assertNull(stats.getMin());
+        assertNull(stats.getMax());
+    }
+
+    @Test
+    public void testMinMax_NotComparable() {
+        SeriesStats<Object> stats = Series.<Object>forData("a", 1).getStats();
+        assertNull(stats.getMin());
+        assertNull(stats.getMax());
+    }
+
+    @Test
+    public void testNullCount() {
+        assertEquals(2, Series.forData("b", null, "a", null).getStats().getNullCount());
+        assertEquals(0, IntSeries.forInts(1, 2).getStats().getNullCount());
+    }
+
+    @Test
+    public void testSorted() {
+        SeriesStats<String> s1 = Series.forData("a", "b", "b", null).getStats();
+        assertTrue(s1.isSortedAscending());
+        assertFalse(s1.isSortedDescending());
+
+        SeriesStats<String> s2 = Series.forData(null, "c", "b", "b").getStats();
+        assertFalse(s2.isSortedAscending());
+        assertTrue(s2.isSortedDescending());
+
+        SeriesStats<Integer> s3 = IntSeries.forInts(1, 3, 2).getStats();
+        assertFalse(s3.isSortedAscending());
+        assertFalse(s3.isSortedDescending());
+    }
+
+    @Test
+    public void testUnique() {
+        assertTrue(Series.forData("a", "b", null).getStats().isUnique());
+        assertFalse(Series.forData("a", null, null).getStats().isUnique());
+        assertTrue(IntSeries.forInts(3, 1, 2).getStats().isUnique());
+        assertFalse(IntSeries.forInts(3, 1, 3).getStats().isUnique());
+    }
+
+    @Test
+    public void testKnownUnique() {
+        Series<String> s = Series.forData("a", "b", "a");
+        assertFalse(s.getStats().isKnownUnique());
+
+        Series<String> u = s.unique();
+        assertTrue(u.getStats().isKnownUnique());
+    }
+
+    @Test
+    public void testApproxDistinctCount() {
+        int[] data = new int[10_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i % 1000;
+        }
+
+        long count = IntSeries.forInts(data).getStats().getApproxDistinctCount();
+        assertTrue(count > 950 && count < 1050, "Unexpected estimate: " + count);
+    }
+
+    @Test
+    public void testSortInt_Propagated() {
+        IntSeries sorted = IntSeries.forInts(3, 1, 2).sortInt();
+        assertTrue(sorted.getStats().isSortedAscending());
+        assertSame(sorted, sorted.sortInt());
+    }
+
+    @Test
+    public void testDataFrameSort_Propagated() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                2, "x",
+                1, "y",
+                3, "z");
+
+        DataFrame sorted = df.sort("a", true);
+        assertTrue(sorted.getColumn("a").getStats().isSortedAscending());
+
+        // sorting an already sorted DataFrame is a noop
+        assertSame(sorted, sorted.sort("a", true));
+
+        new DataFrameAsserts(sorted.sort("a", false), "a", "b")
+                .expectHeight(3)
+                .expectRow(0, 3, "z")
+                .expectRow(1, 2, "x")
+                .expectRow(2, 1, "y");
+    }
+
+    @Test
+    public void testDataFrameSort_MultiColumn_AlreadySorted() {
+        DataFrame df = DataFrame.newFrame("a", "b").foldByRow(
+                1, "x",
+                1, "y",
+                3, "a");
+
+        assertSame(df, df.sort(new String[]{"a", "b"}, new boolean[]{true, true}));
+
+        new DataFrameAsserts(df.sort(new String[]{"a", "b"}, new boolean[]{true, false}), "a", "b")
+                .expectHeight(3)
+                .expectRow(0, 1, "y")
+                .expectRow(1, 1, "x")
+                .expectRow(2, 3, "a");
+    }
+}
@@ -0,0 +1,68 @@
+package com.nhl.dflib.series;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZoneMapTest {
+
+    @Test
+    public void testOf_Small() {
+        ZoneMap<String> zm = ZoneMap.of(Series.forData("b", null, "a"));
+        assertEquals(1, zm.size());
+        assertEquals(0, zm.getOffset(0));
+        assertEquals(3, zm.getLength(0));
+        assertEquals("a", zm.getMin(0));
+        assertEquals("b", zm.getMax(0));
+        assertEquals(1, zm.getNullCount(0));
+    }
+
+    @Test
+    public void testOf_Split() {
+        int len = ZoneMap.ZONE_SIZE * 2 + 5;
+        int[] data = new int[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = len - i;
+        }
+
+        ZoneMap<Integer> zm = ZoneMap.of(IntSeries.forInts(data));
+        assertEquals(3, zm.size());
+
+        assertEquals(0, zm.getOffset(0));
+        assertEquals(ZoneMap.ZONE_SIZE, zm.getLength(0));
+        assertEquals(len, zm.getMax(0));
+        assertEquals(len - ZoneMap.ZONE_SIZE + 1, zm.getMin(0));
+
+        assertEquals(ZoneMap.ZONE_SIZE * 2, zm.getOffset(2));
+        assertEquals(5, zm.getLength(2));
+        assertEquals(5, zm.getMax(2));
+        assertEquals(1, zm.getMin(2));
+    }
+
+    @Test
+    public void testOf_Chunked() {
+        int[] d1 = new int[ChunkedSeries.MIN_CHUNK_SIZE];
+        int[] d2 = new int[ChunkedSeries.MIN_CHUNK_SIZE + 1];
+        d1[5] = -3;
+        d2[7] = 8;
+
+        ZoneMap<Integer> zm = ZoneMap.of(ChunkedSeries.of(IntSeries.forInts(d1), IntSeries.forInts(d2)));
+        assertEquals(2, zm.size());
+        assertEquals(d1.length, zm.getOffset(1));
+        assertEquals(d2.length, zm.getLength(1));
+
+        assertEquals(-3, zm.getMin(0));
+        assertEquals(0, zm.getMax(0));
+        assertEquals(0, zm.getMin(1));
+        assertEquals(8, zm.getMax(1));
+    }
+
+    @Test
+    public void testOf_NaN() {
+        ZoneMap<Double> zm = ZoneMap.of(Series.forData(1., Double.NaN));
+        assertNull(zm.getMin(0));
+        assertNull(zm.getMax(0));
+    }
+}
@@ -2,9 +2,12 @@ package com.nhl.dflib.sort;
 
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.series.IntSequenceSeries;
 import com.nhl.dflib.unit.IntSeriesAsserts;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 public class DataFrameSorterTest {
 
     @Test
@@ -19,4 +22,21 @@ public class DataFrameSorterTest {
         IntSeries sortIndex = new DataFrameSorter(df).sortIndex(Comparators.of(df.getColumn(1), true));
         new IntSeriesAsserts(sortIndex).expectData(3, 0, 4, 1, 2);
     }
+
+    @Test
+    public void testSortIndex_CustomComparatorInCallingThread() {
+
+        int len = IntParallelMergeSort.PARALLEL_THRESHOLD * 2;
+        DataFrame df = DataFrame.newFrame("a").columns(new IntSequenceSeries(0, len));
+
+        Thread caller = Thread.currentThread();
+        IntComparator comparator = (i1, i2) -> {
+            assertSame(caller, Thread.currentThread());
+            return Integer.compare(i2, i1);
+        };
+
+        IntSeries sortIndex = new DataFrameSorter(df).sortIndex(comparator);
+        assertEquals(len - 1, sortIndex.getInt(0));
+        assertEquals(0, sortIndex.getInt(len - 1));
+    }
 }
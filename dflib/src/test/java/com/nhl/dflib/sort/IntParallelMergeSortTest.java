@@ -0,0 +1,44 @@
+package com.nhl.dflib.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntParallelMergeSortTest {
+
+    @Test
+    public void testSort_Small() {
+        int[] ints = {1, 2, 3, 4, 5};
+        IntParallelMergeSort.sort(ints, (i1, i2) -> Integer.compare(i2, i1));
+        assertArrayEquals(new int[]{5, 4, 3, 2, 1}, ints);
+    }
+
+    @Test
+    public void testSort_Large_Stable() {
+
+        int len = IntParallelMergeSort.PARALLEL_THRESHOLD * 5 + 17;
+
+        // sorting an index by keys with lots of duplicates to check stability
+        Random random = new Random(1);
+        int[] keys = new int[len];
+        int[] index = new int[len];
+        for (int i = 0; i < len; i++) {
+            keys[i] = random.nextInt(100);
+            index[i] = i;
+        }
+
+        IntParallelMergeSort.sort(index, (i1, i2) -> Integer.compare(keys[i1], keys[i2]));
+
+        for (int i = 1; i < len; i++) {
+            int k1 = keys[index[i - 1]];
+            int k2 = keys[index[i]];
+
+            assertTrue(k1 <= k2, "Not sorted at " + i);
+            if (k1 == k2) {
+                assertTrue(index[i - 1] < index[i], "Not stable at " + i);
+            }
+        }
+    }
+}
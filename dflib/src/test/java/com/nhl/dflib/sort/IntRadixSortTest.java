@@ -0,0 +1,104 @@
+package com.nhl.dflib.sort;
+
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntRadixSortTest {
+
+    private static final int LEN = 5000;
+
+    private final Random random = new Random(3);
+
+    private IntSeries randomInts() {
+        int[] data = new int[LEN];
+        for (int i = 0; i < LEN; i++) {
+            data[i] = random.nextInt(50) - 25;
+        }
+        return IntSeries.forInts(data);
+    }
+
+    private LongSeries randomLongs() {
+        long[] data = new long[LEN];
+        for (int i = 0; i < LEN; i++) {
+            data[i] = random.nextBoolean() ? random.nextLong() : random.nextInt(10);
+        }
+        return LongSeries.forLongs(data);
+    }
+
+    private DoubleSeries randomDoubles() {
+        double[] data = new double[LEN];
+        double[] specials = {0., -0., Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -1.5};
+        for (int i = 0; i < LEN; i++) {
+            data[i] = random.nextInt(5) == 0 ? specials[random.nextInt(specials.length)] : random.nextGaussian();
+        }
+        return DoubleSeries.forDoubles(data);
+    }
+
+    private Series<Integer> randomIntegersWithNulls() {
+        Integer[] data = new Integer[LEN];
+        for (int i = 0; i < LEN; i++) {
+            data[i] = random.nextInt(4) == 0 ? null : random.nextInt(20);
+        }
+        return Series.forData(data);
+    }
+
+    private void assertSameAsComparatorSort(Series<?>[] columns, boolean[] ascending) {
+        int[] expected = SeriesSorter.rowNumberSequence(LEN);
+        IntTimSort.sort(expected, Comparators.of(columns, ascending));
+
+        int[] index = SeriesSorter.rowNumberSequence(LEN);
+        assertTrue(IntRadixSort.sort(index, columns, ascending));
+        assertArrayEquals(expected, index);
+    }
+
+    @Test
+    public void testSort_Int() {
+        IntSeries s = randomInts();
+        assertSameAsComparatorSort(new Series[]{s}, new boolean[]{true});
+        assertSameAsComparatorSort(new Series[]{s}, new boolean[]{false});
+    }
+
+    @Test
+    public void testSort_Long() {
+        LongSeries s = randomLongs();
+        assertSameAsComparatorSort(new Series[]{s}, new boolean[]{true});
+        assertSameAsComparatorSort(new Series[]{s}, new boolean[]{false});
+    }
+
+    @Test
+    public void testSort_Double() {
+        DoubleSeries s = randomDoubles();
+        assertSameAsComparatorSort(new Series[]{s}, new boolean[]{true});
+        assertSameAsComparatorSort(new Series[]{s}, new boolean[]{false});
+    }
+
+    @Test
+    public void testSort_ObjectWithNulls() {
+        Series<Integer> s = randomIntegersWithNulls();
+        assertSameAsComparatorSort(new Series[]{s}, new boolean[]{true});
+        assertSameAsComparatorSort(new Series[]{s}, new boolean[]{false});
+    }
+
+    @Test
+    public void testSort_MultiColumn() {
+        Series<?>[] columns = {randomIntegersWithNulls(), randomInts(), randomDoubles()};
+        assertSameAsComparatorSort(columns, new boolean[]{true, false, true});
+        assertSameAsComparatorSort(columns, new boolean[]{false, true, false});
+    }
+
+    @Test
+    public void testSort_Unsupported() {
+        int[] index = {0, 1, 2};
+        assertFalse(IntRadixSort.sort(index, new Series[]{Series.forData("c", "b", "a")}, new boolean[]{true}));
+        assertArrayEquals(new int[]{0, 1, 2}, index);
+
+        assertFalse(IntRadixSort.sort(index, new Series[]{Series.forData(1, 2L, 3)}, new boolean[]{true}));
+    }
+}
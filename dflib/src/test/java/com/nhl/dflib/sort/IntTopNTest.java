@@ -0,0 +1,44 @@
+package com.nhl.dflib.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntTopNTest {
+
+    @Test
+    public void testTopN_BottomN_SameAsSort() {
+
+        Random random = new Random(11);
+        int len = 1000;
+        int[] keys = new int[len];
+        for (int i = 0; i < len; i++) {
+            keys[i] = random.nextInt(20);
+        }
+
+        IntComparator c = (i1, i2) -> Integer.compare(keys[i1], keys[i2]);
+        int[] sorted = SeriesSorter.rowNumberSequence(len);
+        IntTimSort.sort(sorted, c);
+
+        for (int n : new int[]{0, 1, 7, 100, 249, 250, 999, 1000, 1500}) {
+            int expectedLen = Math.min(n, len);
+            assertArrayEquals(
+                    Arrays.copyOfRange(sorted, 0, expectedLen),
+                    IntTopN.topN(SeriesSorter.rowNumberSequence(len), n, c),
+                    "topN mismatch for " + n);
+
+            assertArrayEquals(
+                    Arrays.copyOfRange(sorted, len - expectedLen, len),
+                    IntTopN.bottomN(SeriesSorter.rowNumberSequence(len), n, c),
+                    "bottomN mismatch for " + n);
+        }
+    }
+
+    @Test
+    public void testTopN_Negative() {
+        assertThrows(IllegalArgumentException.class, () -> IntTopN.topN(new int[]{1, 2}, -1, Integer::compare));
+    }
+}
@@ -0,0 +1,88 @@
+package com.nhl.dflib.sort;
+
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.unit.IntSeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SortKeysTest {
+
+    private static final int LEN = 5000;
+
+    @Test
+    public void testDenseRanks() {
+        IntSeries ranks = SortKeys.denseRanks(Series.forData("b", null, "a", "c", "a", "b"));
+        new IntSeriesAsserts(ranks).expectData(1, 3, 0, 2, 0, 1);
+    }
+
+    @Test
+    public void testDenseRanks_EqualByCompareTo() {
+        IntSeries ranks = SortKeys.denseRanks(Series.forData(
+                new BigDecimal("1.00"),
+                new BigDecimal("0.5"),
+                new BigDecimal("1.0")));
+
+        new IntSeriesAsserts(ranks).expectData(1, 0, 1);
+    }
+
+    @Test
+    public void testDenseRanks_Index() {
+        IntSeries ranks = SortKeys.denseRanks(Series.forData("c", "x", "a", "b"), new int[]{0, 2, 3});
+        new IntSeriesAsserts(ranks).expectData(2, 0, 0, 1);
+    }
+
+    @Test
+    public void testDenseRanks_IndexSubRange() {
+        IntSeries ranks = SortKeys.denseRanks(Series.forData("c", "x", "a", "b", "y"), new int[]{3, 1, 2});
+        new IntSeriesAsserts(ranks).expectData(0, 2, 0, 1, 0);
+        new IntSeriesAsserts(ranks.materializeInt()).expectData(0, 2, 0, 1, 0);
+    }
+
+    @Test
+    public void testDenseRanks_EmptyIndex() {
+        IntSeries ranks = SortKeys.denseRanks(Series.forData("c", "x"), new int[0]);
+        new IntSeriesAsserts(ranks).expectData(0, 0);
+    }
+
+    @Test
+    public void testNormalize() {
+        Series<?>[] columns = {
+                Series.forData("b", "a"),
+                IntSeries.forInts(3, 4),
+                Series.forData(1, null)
+        };
+
+        Series<?>[] normalized = SortKeys.normalize(columns, new int[]{0, 1});
+        assertTrue(normalized[0] instanceof IntSeries);
+        assertSame(columns[1], normalized[1]);
+        assertSame(columns[2], normalized[2]);
+    }
+
+    @Test
+    public void testSortIndex_MultiColumn() {
+
+        Random random = new Random(5);
+        String[] strings = new String[LEN];
+        Integer[] ints = new Integer[LEN];
+        for (int i = 0; i < LEN; i++) {
+            strings[i] = random.nextInt(6) == 0 ? null : "s" + random.nextInt(40);
+            ints[i] = random.nextInt(10);
+        }
+
+        Series<?>[] columns = {Series.forData(strings), Series.forData(ints)};
+
+        for (boolean[] ascending : new boolean[][]{{true, true}, {false, true}, {true, false}, {false, false}}) {
+            int[] expected = SeriesSorter.rowNumberSequence(LEN);
+            IntTimSort.sort(expected, Comparators.of(columns, ascending));
+
+            int[] index = SeriesSorter.rowNumberSequence(LEN);
+            DataFrameSorter.sortIndex(index, columns, ascending);
+            assertArrayEquals(expected, index);
+        }
+    }
+}